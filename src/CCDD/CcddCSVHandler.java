@@ -28,9 +28,11 @@ import javax.swing.JOptionPane;
 import CCDD.CcddClasses.CCDDException;
 import CCDD.CcddClasses.FieldInformation;
 import CCDD.CcddClasses.TableDefinition;
+import CCDD.CcddClasses.TableDefinitionQueue;
 import CCDD.CcddClasses.TableInformation;
 import CCDD.CcddClasses.TableTypeDefinition;
 import CCDD.CcddConstants.DialogOption;
+import CCDD.CcddConstants.FileExtension;
 import CCDD.CcddConstants.InputDataType;
 import CCDD.CcddConstants.InternalTable.DataTypesColumn;
 import CCDD.CcddConstants.InternalTable.FieldsColumn;
@@ -62,6 +64,10 @@ public class CcddCSVHandler implements CcddImportExportInterface
     // definitions
     private List<TableDefinition> tableDefinitions;
 
+    // Queue to which each table definition is handed off as it's read; null
+    // if the table definitions are stored in the list
+    private TableDefinitionQueue tableDefnQueue;
+
     /**************************************************************************
      * CSV data type tags
      *************************************************************************/
@@ -99,6 +105,21 @@ public class CcddCSVHandler implements CcddImportExportInterface
         {
             return tag;
         }
+
+        /**********************************************************************
+         * Check if the tag marks a table type, data type, macro, or reserved
+         * message ID definition
+         * 
+         * @return true if the tag marks a definition that isn't part of a
+         *         table
+         *********************************************************************/
+        protected boolean isDefinition()
+        {
+            return this == TABLE_TYPE
+                   || this == DATA_TYPE
+                   || this == MACRO
+                   || this == RESERVED_MSG_IDS;
+        }
     }
 
     /**************************************************************************
@@ -140,6 +161,20 @@ public class CcddCSVHandler implements CcddImportExportInterface
         return tableDefinitions;
     }
 
+    /**************************************************************************
+     * Set the queue to which each table definition is handed off as soon as
+     * the table's data is read
+     * 
+     * @param tableDefnQueue
+     *            queue to receive the table definitions; null to store all of
+     *            the table definitions
+     *************************************************************************/
+    @Override
+    public void setTableDefinitionQueue(TableDefinitionQueue tableDefnQueue)
+    {
+        this.tableDefnQueue = tableDefnQueue;
+    }
+
     /**************************************************************************
      * Build the information from the table definition(s) in the current file
      * 
@@ -168,15 +203,51 @@ public class CcddCSVHandler implements CcddImportExportInterface
             List<String[]> reservedMsgIDDefns = new ArrayList<String[]>();
             tableDefinitions = new ArrayList<TableDefinition>();
 
-            // Make two passes through the file, first to get the table types,
-            // data types, and macros, then a second pass to read the table
-            // data and fields
+            // Flags indicating if a table type, data type, macro, or reserved
+            // message ID definition has been read, if a table has been read,
+            // and if the tables are read as the file is parsed
+            boolean isDefinitionRead = false;
+            boolean isTableRead = false;
+            boolean isStreaming = false;
+
+            // Number of tables read as the file is parsed
+            int numStreamedTables = 0;
+
+            // The table type, data type, macro, and reserved message ID
+            // definitions are read in the first pass. If these precede the
+            // first table (as in the files created by the CSV export) then
+            // each table is read (and handed off to the table definition
+            // queue, if set) as it's parsed, and the file is read only once.
+            // Definitions that follow a table are applied before the next
+            // table is read. Otherwise, or if a table references a table type
+            // that isn't yet defined, the file is read again in a second pass
+            // to get the tables not already read, after all of the definitions
+            // are applied. The table rows aren't stored between passes so
+            // that memory use is bounded by the largest table
             for (int loop = 1; loop <= 2; loop++)
             {
                 int columnNumber = 0;
+                int tableIndex = 0;
 
-                // Create a buffered reader to read the file
-                br = new BufferedReader(new FileReader(importFile));
+                // Check if this is the first pass
+                if (loop == 1)
+                {
+                    // Create a buffered reader to read the file
+                    br = new BufferedReader(new FileReader(importFile));
+                }
+                // Check if the file contains no tables or if all of the
+                // tables were read during the first pass
+                else if (!isTableRead || isStreaming)
+                {
+                    // All of the tables have been read
+                    break;
+                }
+                // One or more tables weren't read during the first pass
+                else
+                {
+                    // Create a buffered reader to read the file again
+                    br = new BufferedReader(new FileReader(importFile));
+                }
 
                 // Flags indicating if importing should continue after an input
                 // error is detected
@@ -223,6 +294,10 @@ public class CcddCSVHandler implements CcddImportExportInterface
                     // and description or a column definition
                     boolean isTypeName = false;
 
+                    // Flag that indicates if the table's data is read in this
+                    // pass
+                    boolean isTableDataRead = false;
+
                     // Continue to read the file until EOF is reached or an
                     // error is detected. This inner while loop reads the
                     // information for a single table in the file
@@ -247,17 +322,55 @@ public class CcddCSVHandler implements CcddImportExportInterface
                                 // name and table type
                                 importTag = CSVTags.NAME_TYPE;
 
-                                // Check if this is the second pass and if the
-                                // name and type are already set; if so, this
-                                // is the beginning of another table's
-                                // information
-                                if (loop == 2 && !tablePath.isEmpty())
+                                // Check if the name and type are already set;
+                                // if so, this is the beginning of another
+                                // table's information
+                                if (!tablePath.isEmpty())
                                 {
                                     // Stop processing the file in order to
                                     // create the table prior to beginning
                                     // another one
                                     break;
                                 }
+
+                                // Check if this is the first pass
+                                if (loop == 1)
+                                {
+                                    // Check if this is the first table read
+                                    if (!isTableRead)
+                                    {
+                                        isTableRead = true;
+
+                                        // The tables are read as the file is
+                                        // parsed only if the definitions
+                                        // precede the first table
+                                        isStreaming = isDefinitionRead;
+                                    }
+
+                                    // Check if the tables are read as the file
+                                    // is parsed
+                                    if (isStreaming)
+                                    {
+                                        // Apply the definitions read since the
+                                        // previous table so that the table can
+                                        // reference them
+                                        applyDefinitions(tableTypeDefns,
+                                                         dataTypeDefns,
+                                                         macroDefns,
+                                                         reservedMsgIDDefns,
+                                                         importType);
+                                    }
+
+                                    isTableDataRead = isStreaming;
+                                }
+                                // This is the second pass
+                                else
+                                {
+                                    // Read the table's data only if it wasn't
+                                    // read during the first pass
+                                    isTableDataRead = tableIndex >= numStreamedTables;
+                                    tableIndex++;
+                                }
                             }
                             // Check if this is the table column name tag and
                             // that a table name and type are defined
@@ -702,8 +815,9 @@ public class CcddCSVHandler implements CcddImportExportInterface
                                                                     + "<b>' information missing");
                                     }
                                 }
-                                // This is the second pass
-                                else
+
+                                // Check if the table data is read in this pass
+                                if (isTableDataRead)
                                 {
                                     switch (importTag)
                                     {
@@ -729,20 +843,40 @@ public class CcddCSVHandler implements CcddImportExportInterface
                                                 typeDefn = tableTypeHandler.getTypeDefinition(tableDefn.getType());
 
                                                 // Check if the table type
-                                                // doesn't exist
-                                                if (typeDefn == null)
+                                                // exists
+                                                if (typeDefn != null)
+                                                {
+                                                    // Get the number of
+                                                    // expected columns (the
+                                                    // hidden columns, primary
+                                                    // key and row index,
+                                                    // should not be included
+                                                    // in the CSV file)
+                                                    numColumns = typeDefn.getColumnCountVisible();
+                                                }
+                                                // Check if this is the first
+                                                // pass; the table type may be
+                                                // defined later in the file
+                                                else if (loop == 1)
+                                                {
+                                                    // Stop reading the tables
+                                                    // as the file is parsed.
+                                                    // This table and the ones
+                                                    // following it are read in
+                                                    // the second pass, after
+                                                    // all of the definitions
+                                                    // are applied
+                                                    isStreaming = false;
+                                                    isTableDataRead = false;
+                                                    tablePath = "";
+                                                }
+                                                // The table type doesn't exist
+                                                else
                                                 {
                                                     throw new CCDDException("Unknown table type '"
                                                                             + tableDefn.getType()
                                                                             + "'");
                                                 }
-
-                                                // Get the number of expected
-                                                // columns (the hidden columns,
-                                                // primary key and row index,
-                                                // should not be included in
-                                                // the CSV file)
-                                                numColumns = typeDefn.getColumnCountVisible();
                                             }
                                             // Incorrect number of inputs
                                             else
@@ -968,17 +1102,52 @@ public class CcddCSVHandler implements CcddImportExportInterface
                                     }
                                 }
                             }
+
+                            // Check if this is the first pass
+                            if (loop == 1)
+                            {
+                                // Check if the row belongs to a table type,
+                                // data type, macro, or reserved message ID
+                                // definition
+                                if (importTag != null
+                                    && importTag.isDefinition())
+                                {
+                                    isDefinitionRead = true;
+                                }
+                            }
                         }
 
                         // Read next line in file
                         line = br.readLine();
                     }
 
-                    // Check if this is the second pass
-                    if (loop == 2)
+                    // Check if the table data is read in this pass
+                    if (isTableDataRead)
                     {
-                        // Add the table's definition to the list
-                        tableDefinitions.add(tableDefn);
+                        // Check if this is the first pass
+                        if (loop == 1)
+                        {
+                            // Count the table so that it isn't read again in
+                            // the second pass
+                            numStreamedTables++;
+                        }
+
+                        // Check if a table definition queue is set and all of
+                        // the table definitions are to be read
+                        if (tableDefnQueue != null
+                            && importType == ImportType.IMPORT_ALL)
+                        {
+                            // Hand off the table's definition so that the
+                            // table can be created while the remainder of the
+                            // file is read
+                            tableDefnQueue.put(tableDefn);
+                        }
+                        // The table definitions are stored
+                        else
+                        {
+                            // Add the table's definition to the list
+                            tableDefinitions.add(tableDefn);
+                        }
 
                         // Check if only the data from the first table is to be
                         // read
@@ -990,56 +1159,19 @@ public class CcddCSVHandler implements CcddImportExportInterface
                     }
                 }
 
+                // Close the file
+                br.close();
+
                 // Check if this is the first pass
                 if (loop == 1)
                 {
-                    // Add the table type if it's new or match it to an
-                    // existing one with the same name if the type definitions
-                    // are the same
-                    String badDefn = tableTypeHandler.updateTableTypes(tableTypeDefns);
-
-                    // Check if a table type isn't new and doesn't match an
-                    // existing one with the same name
-                    if (badDefn != null)
-                    {
-                        throw new CCDDException("Imported table type '"
-                                                + badDefn
-                                                + "' doesn't match the existing definition");
-                    }
-
-                    // Check if all definitions are to be loaded
-                    if (importType == ImportType.IMPORT_ALL)
-                    {
-                        // Add the data type if it's new or match it to an
-                        // existing one with the same name if the type
-                        // definitions are the same
-                        badDefn = dataTypeHandler.updateDataTypes(dataTypeDefns);
-
-                        // Check if a data type isn't new and doesn't match an
-                        // existing one with the same name
-                        if (badDefn != null)
-                        {
-                            throw new CCDDException("Imported data type '"
-                                                    + badDefn
-                                                    + "' doesn't match the existing definition");
-                        }
-
-                        // Add the macro if it's new or match it to an existing
-                        // one with the same name if the values are the same
-                        badDefn = macroHandler.updateMacros(macroDefns);
-
-                        // Check if a macro isn't new and doesn't match an
-                        // existing one with the same name
-                        if (badDefn != null)
-                        {
-                            throw new CCDDException("Imported macro '"
-                                                    + badDefn
-                                                    + "' doesn't match the existing definition");
-                        }
-
-                        // Add the reserved message ID if it's new
-                        msgIDHandler.updateReservedMsgIDs(reservedMsgIDDefns);
-                    }
+                    // Apply the definitions not yet applied so that the tables
+                    // read in the second pass can reference them
+                    applyDefinitions(tableTypeDefns,
+                                     dataTypeDefns,
+                                     macroDefns,
+                                     reservedMsgIDDefns,
+                                     importType);
                 }
             }
         }
@@ -1068,6 +1200,111 @@ public class CcddCSVHandler implements CcddImportExportInterface
         }
     }
 
+    /**************************************************************************
+     * Add the imported table type, data type, macro, and reserved message ID
+     * definitions if these are new, or match them to existing ones with the
+     * same name if the definitions are the same. The lists are emptied once
+     * the definitions are applied so that definitions read later in the file
+     * can be applied in turn. Any tables already handed off to the table
+     * definition queue are created before the definitions are applied
+     * 
+     * @param tableTypeDefns
+     *            list of imported table type definitions
+     * 
+     * @param dataTypeDefns
+     *            list of imported data type definitions
+     * 
+     * @param macroDefns
+     *            list of imported macro definitions
+     * 
+     * @param reservedMsgIDDefns
+     *            list of imported reserved message ID definitions
+     * 
+     * @param importType
+     *            ImportType.IMPORT_ALL to apply all of the definitions;
+     *            ImportType.FIRST_DATA_ONLY to apply only the table type
+     *            definitions
+     *************************************************************************/
+    private void applyDefinitions(List<TableTypeDefinition> tableTypeDefns,
+                                  List<String[]> dataTypeDefns,
+                                  List<String[]> macroDefns,
+                                  List<String[]> reservedMsgIDDefns,
+                                  ImportType importType) throws CCDDException,
+                                                                InterruptedException
+    {
+        // Check if no definitions were read since the definitions were last
+        // applied
+        if (tableTypeDefns.isEmpty()
+            && dataTypeDefns.isEmpty()
+            && macroDefns.isEmpty()
+            && reservedMsgIDDefns.isEmpty())
+        {
+            return;
+        }
+
+        // Check if a table definition queue is set
+        if (tableDefnQueue != null)
+        {
+            // Wait for the tables already handed off to be created so that the
+            // definitions aren't altered while the tables reference them
+            tableDefnQueue.awaitProcessed();
+        }
+
+        // Add the table type if it's new or match it to an
+        // existing one with the same name if the type definitions
+        // are the same
+        String badDefn = tableTypeHandler.updateTableTypes(tableTypeDefns);
+
+        // Check if a table type isn't new and doesn't match an
+        // existing one with the same name
+        if (badDefn != null)
+        {
+            throw new CCDDException("Imported table type '"
+                                    + badDefn
+                                    + "' doesn't match the existing definition");
+        }
+
+        // Check if all definitions are to be loaded
+        if (importType == ImportType.IMPORT_ALL)
+        {
+            // Add the data type if it's new or match it to an
+            // existing one with the same name if the type
+            // definitions are the same
+            badDefn = dataTypeHandler.updateDataTypes(dataTypeDefns);
+
+            // Check if a data type isn't new and doesn't match an
+            // existing one with the same name
+            if (badDefn != null)
+            {
+                throw new CCDDException("Imported data type '"
+                                        + badDefn
+                                        + "' doesn't match the existing definition");
+            }
+
+            // Add the macro if it's new or match it to an existing
+            // one with the same name if the values are the same
+            badDefn = macroHandler.updateMacros(macroDefns);
+
+            // Check if a macro isn't new and doesn't match an
+            // existing one with the same name
+            if (badDefn != null)
+            {
+                throw new CCDDException("Imported macro '"
+                                        + badDefn
+                                        + "' doesn't match the existing definition");
+            }
+
+            // Add the reserved message ID if it's new
+            msgIDHandler.updateReservedMsgIDs(reservedMsgIDDefns);
+        }
+
+        // Remove the applied definitions
+        tableTypeDefns.clear();
+        dataTypeDefns.clear();
+        macroDefns.clear();
+        reservedMsgIDDefns.clear();
+    }
+
     /**************************************************************************
      * Export the project in CSV format to the specified file
      * 
@@ -1099,10 +1336,13 @@ public class CcddCSVHandler implements CcddImportExportInterface
                                 String... extraInfo)
     {
         boolean errorFlag = false;
-        boolean addLineFeed = false;
+        boolean isTableOutput = false;
         FileWriter fw = null;
         BufferedWriter bw = null;
         PrintWriter pw = null;
+        File tableFile = null;
+        PrintWriter tablePw = null;
+        BufferedReader tableReader = null;
 
         systemFieldName = extraInfo[0];
 
@@ -1112,11 +1352,13 @@ public class CcddCSVHandler implements CcddImportExportInterface
             List<String> referencedDataTypes = new ArrayList<String>();
             List<String> referencedMacros = new ArrayList<String>();
 
-            // Output the table data to the selected file. Multiple writers are
-            // needed in case tables are appended to an existing file
-            fw = new FileWriter(exportFile, true);
-            bw = new BufferedWriter(fw);
-            pw = new PrintWriter(bw);
+            // Output the table data to a temporary file. The table data is
+            // copied to the selected file after the table type, data type,
+            // macro, and reserved message ID definitions referenced by the
+            // tables; this allows the tables to be imported as the file is
+            // read
+            tableFile = File.createTempFile("ccdd", "." + FileExtension.CSV.getExtension());
+            tablePw = new PrintWriter(new BufferedWriter(new FileWriter(tableFile)));
 
             // Step through each table
             for (String tblName : tableNames)
@@ -1133,20 +1375,8 @@ public class CcddCSVHandler implements CcddImportExportInterface
                 // Check if the table's data successfully loaded
                 if (!tableInfo.isErrorFlag())
                 {
-                    // Output the file creation information (for the first pass
-                    // only)
-                    pw.printf((!addLineFeed
-                                           ? "# Created "
-                                             + new Date().toString()
-                                             + " : project = "
-                                             + dbControl.getDatabase()
-                                             + " : host = "
-                                             + dbControl.getServer()
-                                             + " : user = "
-                                             + dbControl.getUser()
-                                             + "\n"
-                                           : "")
-                              + "\n");
+                    // Separate the table from the preceding information
+                    tablePw.printf("\n");
 
                     // Get the table type definition based on the type name
                     TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
@@ -1186,22 +1416,22 @@ public class CcddCSVHandler implements CcddImportExportInterface
 
                     // Output the table path (if applicable) and name, table
                     // type, and system name (if provided)
-                    pw.printf(CSVTags.NAME_TYPE.getTag()
-                              + "\n\"%s\",\"%s\",\"%s\"\n",
-                              tableInfo.getTablePath(),
-                              tableInfo.getType(),
-                              systemName);
+                    tablePw.printf(CSVTags.NAME_TYPE.getTag()
+                                   + "\n\"%s\",\"%s\",\"%s\"\n",
+                                   tableInfo.getTablePath(),
+                                   tableInfo.getType(),
+                                   systemName);
 
                     // Check if the table has a description
                     if (!tableInfo.getDescription().isEmpty())
                     {
                         // Output the table description header and description
-                        pw.printf(CSVTags.DESCRIPTION.getTag() + "\n\"%s\"\n",
-                                  tableInfo.getDescription());
+                        tablePw.printf(CSVTags.DESCRIPTION.getTag() + "\n\"%s\"\n",
+                                       tableInfo.getDescription());
                     }
 
                     // Output the column data tag
-                    pw.printf(CSVTags.COLUMN_NAMES.getTag() + "\n");
+                    tablePw.printf(CSVTags.COLUMN_NAMES.getTag() + "\n");
 
                     // Step through each row in the table
                     for (int row = -1; row < tableInfo.getData().length; row++)
@@ -1214,7 +1444,7 @@ public class CcddCSVHandler implements CcddImportExportInterface
                             {
                                 // Append a comma to separate the data
                                 // values
-                                pw.printf(",");
+                                tablePw.printf(",");
                             }
 
                             // Store the column name (if the first row) or
@@ -1222,10 +1452,10 @@ public class CcddCSVHandler implements CcddImportExportInterface
                             // text with quotes; during file import the
                             // quotes are necessary in the event the text
                             // contains a comma
-                            pw.printf("\"%s\"",
-                                      (row == -1)
-                                                 ? columnNames[column]
-                                                 : tableInfo.getData()[row][column]);
+                            tablePw.printf("\"%s\"",
+                                           (row == -1)
+                                                      ? columnNames[column]
+                                                      : tableInfo.getData()[row][column]);
 
                             // Check if this is not the column name row
                             if (row != -1)
@@ -1261,7 +1491,7 @@ public class CcddCSVHandler implements CcddImportExportInterface
                         }
 
                         // Append a line feed to end the row
-                        pw.println();
+                        tablePw.println();
                     }
 
                     // Get the table's data field information
@@ -1271,27 +1501,53 @@ public class CcddCSVHandler implements CcddImportExportInterface
                     if (!fieldInformation.isEmpty())
                     {
                         // Output the data field marker
-                        pw.printf(CSVTags.DATA_FIELD.getTag() + "\n");
+                        tablePw.printf(CSVTags.DATA_FIELD.getTag() + "\n");
 
                         // Step through each data field
                         for (FieldInformation fieldInfo : fieldInformation)
                         {
                             // Output the field information
-                            pw.printf("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\"\n",
-                                      fieldInfo.getFieldName(),
-                                      fieldInfo.getDescription(),
-                                      fieldInfo.getSize(),
-                                      fieldInfo.getInputType().getInputName(),
-                                      fieldInfo.isRequired(),
-                                      fieldInfo.getApplicabilityType(),
-                                      fieldInfo.getValue());
+                            tablePw.printf("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\"\n",
+                                           fieldInfo.getFieldName(),
+                                           fieldInfo.getDescription(),
+                                           fieldInfo.getSize(),
+                                           fieldInfo.getInputType().getInputName(),
+                                           fieldInfo.isRequired(),
+                                           fieldInfo.getApplicabilityType(),
+                                           fieldInfo.getValue());
                         }
                     }
 
-                    addLineFeed = true;
+                    isTableOutput = true;
                 }
             }
 
+            // Close the temporary file
+            tablePw.close();
+            tablePw = null;
+
+            // Output the definitions and table data to the selected file.
+            // Multiple writers are needed in case tables are appended to an
+            // existing file
+            fw = new FileWriter(exportFile, true);
+            bw = new BufferedWriter(fw);
+            pw = new PrintWriter(bw);
+
+            // Check if any table's data was output
+            if (isTableOutput)
+            {
+                // Output the file creation information
+                pw.printf("# Created "
+                          + new Date().toString()
+                          + " : project = "
+                          + dbControl.getDatabase()
+                          + " : host = "
+                          + dbControl.getServer()
+                          + " : user = "
+                          + dbControl.getUser()
+                          + "\n");
+            }
+
             // Check if any table types are referenced
             if (!referencedTableTypes.isEmpty())
             {
@@ -1383,6 +1639,19 @@ public class CcddCSVHandler implements CcddImportExportInterface
 
                 }
             }
+
+            // Copy the table data from the temporary file to the selected
+            // file
+            tableReader = new BufferedReader(new FileReader(tableFile));
+            char[] buffer = new char[8192];
+            int count;
+
+            // Continue to copy the table data until the end of the temporary
+            // file is reached
+            while ((count = tableReader.read(buffer)) != -1)
+            {
+                pw.write(buffer, 0, count);
+            }
         }
         catch (IOException ioe)
         {
@@ -1404,6 +1673,13 @@ public class CcddCSVHandler implements CcddImportExportInterface
         }
         finally
         {
+            // Check if the temporary file's PrintWriter is still open
+            if (tablePw != null)
+            {
+                // Close the temporary file
+                tablePw.close();
+            }
+
             // Check if the PrintWriter was opened
             if (pw != null)
             {
@@ -1426,6 +1702,13 @@ public class CcddCSVHandler implements CcddImportExportInterface
                     // Close the file
                     fw.close();
                 }
+
+                // Check if the temporary file reader was opened
+                if (tableReader != null)
+                {
+                    // Close the temporary file
+                    tableReader.close();
+                }
             }
             catch (IOException ioe)
             {
@@ -1438,6 +1721,13 @@ public class CcddCSVHandler implements CcddImportExportInterface
                                                           JOptionPane.WARNING_MESSAGE,
                                                           DialogOption.OK_OPTION);
             }
+
+            // Check if the temporary file was created
+            if (tableFile != null)
+            {
+                // Delete the temporary file
+                tableFile.delete();
+            }
         }
 
         return errorFlag;
@@ -24,6 +24,7 @@ import java.awt.Font;
 import java.awt.Insets;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -1228,6 +1229,141 @@ public class CcddClasses
         }
     }
 
+    /**************************************************************************
+     * Table definition queue class. Hands off the table definitions from the
+     * import file parser to the thread that creates the tables. The parser
+     * waits for the tables already handed off to be created before it alters
+     * the table type, data type, macro, or reserved message ID definitions
+     * the tables reference
+     *************************************************************************/
+    protected static class TableDefinitionQueue
+    {
+        private final ArrayDeque<TableDefinition> queue;
+        private final int capacity;
+        private int numPending;
+        private boolean isEnded;
+        private boolean isClosed;
+
+        /**********************************************************************
+         * Table definition queue class constructor
+         * 
+         * @param capacity
+         *            maximum number of table definitions held in the queue
+         *********************************************************************/
+        TableDefinitionQueue(int capacity)
+        {
+            this.capacity = capacity;
+            queue = new ArrayDeque<TableDefinition>(capacity);
+            numPending = 0;
+            isEnded = false;
+            isClosed = false;
+        }
+
+        /**********************************************************************
+         * Add a table definition to the queue, waiting for space to become
+         * available if the queue is full. The definition is discarded if the
+         * queue is closed
+         * 
+         * @param tableDefn
+         *            table definition
+         *********************************************************************/
+        protected synchronized void put(TableDefinition tableDefn) throws InterruptedException
+        {
+            // Wait while the queue is full and the table creation hasn't
+            // stopped
+            while (queue.size() == capacity && !isClosed)
+            {
+                wait();
+            }
+
+            // Check if the table creation hasn't stopped
+            if (!isClosed)
+            {
+                // Add the definition to the queue and count it as pending
+                // until the table is created
+                queue.add(tableDefn);
+                numPending++;
+                notifyAll();
+            }
+        }
+
+        /**********************************************************************
+         * Remove the next table definition from the queue, waiting for one to
+         * become available if the queue is empty. Once the definition is
+         * processed setProcessed() must be called
+         * 
+         * @return Next table definition; null if no more table definitions
+         *         follow
+         *********************************************************************/
+        protected synchronized TableDefinition take() throws InterruptedException
+        {
+            // Wait while the queue is empty and more definitions may follow
+            while (queue.isEmpty() && !isEnded && !isClosed)
+            {
+                wait();
+            }
+
+            // Get the next definition, if any
+            TableDefinition tableDefn = queue.poll();
+
+            // Check if a definition was removed
+            if (tableDefn != null)
+            {
+                // Let the parser know that space is available
+                notifyAll();
+            }
+
+            return tableDefn;
+        }
+
+        /**********************************************************************
+         * Indicate that the table definition last removed from the queue is
+         * processed
+         *********************************************************************/
+        protected synchronized void setProcessed()
+        {
+            numPending--;
+            notifyAll();
+        }
+
+        /**********************************************************************
+         * Wait until every table definition added to the queue is processed.
+         * This is used before altering the definitions that the tables
+         * reference
+         *********************************************************************/
+        protected synchronized void awaitProcessed() throws InterruptedException
+        {
+            // Wait while any table definition remains to be processed and the
+            // table creation hasn't stopped
+            while (numPending != 0 && !isClosed)
+            {
+                wait();
+            }
+        }
+
+        /**********************************************************************
+         * Indicate that no more table definitions follow. This doesn't wait
+         * for space in the queue
+         *********************************************************************/
+        protected synchronized void end()
+        {
+            isEnded = true;
+            notifyAll();
+        }
+
+        /**********************************************************************
+         * Stop accepting table definitions and discard any in the queue. This
+         * is used when the table creation stops before the file is parsed so
+         * that the parser doesn't wait on the queue
+         *********************************************************************/
+        protected synchronized void close()
+        {
+            isClosed = true;
+            queue.clear();
+            notifyAll();
+        }
+    }
+
     /**************************************************************************
      * Table type definition class. Contains the information necessary to
      * construct a table type from information derived from a CSV or XTCE/EDS
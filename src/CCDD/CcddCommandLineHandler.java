@@ -394,6 +394,42 @@ public class CcddCommandLineHandler
             }
         });
 
+        // Command event log message length command
+        argument.add(new CommandHandler("commandLogLength",
+                                        "Set logged command message length",
+                                        "0 (no limit) - 1000000",
+                                        CommandLineType.MINMAX,
+                                        4,
+                                        new Object[] {0, 1000000})
+        {
+            /******************************************************************
+             * Set the maximum number of characters of a command message to log
+             *****************************************************************/
+            @Override
+            protected void doCommand(Object parmVal)
+            {
+                ccddMain.getSessionEventLog().setCommandLogLength((Integer) parmVal);
+            }
+        });
+
+        // Command event log message sample rate command
+        argument.add(new CommandHandler("commandLogSample",
+                                        "Log every Nth command message",
+                                        "1 - 1000000",
+                                        CommandLineType.MINMAX,
+                                        4,
+                                        new Object[] {1, 1000000})
+        {
+            /******************************************************************
+             * Set the rate at which command messages are logged
+             *****************************************************************/
+            @Override
+            protected void doCommand(Object parmVal)
+            {
+                ccddMain.getSessionEventLog().setCommandLogSampleRate((Integer) parmVal);
+            }
+        });
+
         // 'All' event log filter
         argument.add(new CommandHandler("events",
                                         "Show events",
@@ -584,6 +620,25 @@ public class CcddCommandLineHandler
             }
         });
 
+        // Script association execution thread count command
+        argument.add(new CommandHandler("scriptThreads",
+                                        "Set number of script associations to execute concurrently",
+                                        "1 - 64",
+                                        CommandLineType.MINMAX,
+                                        9,
+                                        new Object[] {1, 64})
+        {
+            /******************************************************************
+             * Set the maximum number of script associations to execute
+             * concurrently
+             *****************************************************************/
+            @Override
+            protected void doCommand(Object parmVal)
+            {
+                ccddMain.getScriptHandler().setScriptThreads((Integer) parmVal);
+            }
+        });
+
         // Execute script command
         argument.add(new CommandHandler("execute",
                                         "Execute script(s)",
@@ -136,8 +136,9 @@ public class CcddCommonTreeHandler extends JTree
     }
 
     /**************************************************************************
-     * Collapse the specified tree path and all of its child paths. This is a
-     * recursive method
+     * Collapse the specified tree path and all of its child paths. The child
+     * paths of a path that has never been expanded are skipped since none of
+     * these can have been expanded. This is a recursive method
      * 
      * @param path
      *            tree path to collapse
@@ -147,8 +148,10 @@ public class CcddCommonTreeHandler extends JTree
         // Get the node for this path
         TreeNode node = (TreeNode) path.getLastPathComponent();
 
-        // Check if the node has any child nodes
-        if (node.getChildCount() >= 0)
+        // Check if the path has been expanded and if the node has any child
+        // nodes
+        if ((path.getParentPath() == null || hasBeenExpanded(path))
+            && node.getChildCount() >= 0)
         {
             // Step through each child node
             for (Enumeration<?> e = node.children(); e.hasMoreElements();)
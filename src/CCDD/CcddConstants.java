@@ -50,6 +50,22 @@ public class CcddConstants
     // Maximum number of characters to display for an event log message entry
     protected static final int MAX_LOG_MESSAGE_LENGTH = 250;
 
+    // Maximum number of entries displayed in the session event log table. The
+    // oldest entries are removed from the table (but not from the log file)
+    // when the limit is exceeded
+    protected static final int MAX_LOG_TABLE_ROWS = 10000;
+
+    // Interval, in milliseconds, at which pending session event log entries
+    // are written to the log file and added to the log table
+    protected static final int LOG_WRITE_INTERVAL = 250;
+
+    // Number of entries displayed per page in the event log viewer table
+    protected static final int LOG_PAGE_ROWS = 10000;
+
+    // Extension appended to an event log file name to create the name of the
+    // file containing the log's line index
+    protected static final String LOG_INDEX_EXTENSION = ".idx";
+
     // String used as a comment on the database to identify it as a CCDD
     // project
     protected static final String DATABASE_TYPE_IDENTIFIER = "Core Flight Software Command and Data Dictionary";
@@ -78,6 +94,16 @@ public class CcddConstants
     // Prefix assigned to internally created CCDD database tables
     protected static final String INTERNAL_TABLE_PREFIX = "__";
 
+    // Expression that extracts the parent table path from a custom values
+    // table variable path (i.e., the path minus the final data type and
+    // variable name). The custom values table is indexed on this expression,
+    // so queries must use it verbatim in order for the index to be applied
+    protected static final String VALUES_PARENT_PATH = "regexp_replace(table_path, ',[^,]+$', '')";
+
+    // Name of the custom values table parent path index
+    protected static final String VALUES_PARENT_INDEX = INTERNAL_TABLE_PREFIX
+                                                        + "values_parent_idx";
+
     // Name of the database save point
     protected static final String DB_SAVE_POINT_NAME = "ccdd_savepoint";
 
@@ -2137,7 +2163,27 @@ public class CcddConstants
                                {ValuesColumn.VALUE.columnName,
                                 ValuesColumn.VALUE.dataType}},
                "",
-               "");
+
+               // Index the table on the variable path (the pattern operator
+               // class allows prefix matches to use the index), the parent
+               // table path (used to find an instance's values), and the
+               // column name (used to find values such as rates and
+               // enumerations)
+               "CREATE INDEX "
+                   + INTERNAL_TABLE_PREFIX
+                   + "values_path_idx ON "
+                   + INTERNAL_TABLE_PREFIX
+                   + "values (table_path text_pattern_ops); CREATE INDEX "
+                   + VALUES_PARENT_INDEX
+                   + " ON "
+                   + INTERNAL_TABLE_PREFIX
+                   + "values (("
+                   + VALUES_PARENT_PATH
+                   + ")); CREATE INDEX "
+                   + INTERNAL_TABLE_PREFIX
+                   + "values_column_idx ON "
+                   + INTERNAL_TABLE_PREFIX
+                   + "values (column_name)");
 
         /**********************************************************************
          * Application scheduler table columns
@@ -2791,6 +2837,17 @@ public class CcddConstants
                                                ? " " + initCommand + "; "
                                                : " ");
         }
+
+        /**********************************************************************
+         * Get the command(s) used to initialize the internal table after it's
+         * created
+         * 
+         * @return Internal table initialization command(s); blank if none
+         *********************************************************************/
+        protected String getInitCommand()
+        {
+            return initCommand;
+        }
     }
 
     /**************************************************************************
@@ -4248,6 +4305,12 @@ public class CcddConstants
                        + INTERNAL_TABLE_PREFIX
                        + "') alias1) alias2 ORDER BY description ASC;"),
 
+        // Get the comment for the specified data table. Nothing is returned if
+        // the table doesn't exist
+        SPECIFIC_TABLE_COMMENT("SELECT obj_description(oid) FROM pg_class "
+                               + "WHERE relkind = 'r' AND relname = '_table_name_' "
+                               + "AND obj_description(oid) != '';"),
+
         // Get the list of stored scripts, sorted alphabetically
         SCRIPTS("SELECT script_name FROM (SELECT obj_description AS "
                 + "script_name FROM (SELECT obj_description(oid) FROM "
@@ -4258,20 +4321,6 @@ public class CcddConstants
                 + InternalTable.SCRIPT.getTableName()
                 + "') alias1) alias2 ORDER BY script_name ASC;"),
 
-        // Get the list of table and column names that contain the specified
-        // search text. '___' should be replaced by the text for which to
-        // search
-        SEARCH("SELECT table_name::text || E'"
-               + TABLE_DESCRIPTION_SEPARATOR
-               + "' || column_name || E'"
-               + TABLE_DESCRIPTION_SEPARATOR
-               + "' || table_description || E'"
-               + TABLE_DESCRIPTION_SEPARATOR
-               + "' || column_value AS search_result FROM "
-               + "search_tables(E'_search_text_', "
-               + "_case_insensitive_, '_selected_tables_') "
-               + "ORDER BY table_name, column_name ASC;"),
-
         // ////////////////////////////////////////////////////////////////////
         // THE REMAINING COMMANDS ARE NOT USED BUT ARE RETAINED AS EXAMPLES
         // ////////////////////////////////////////////////////////////////////
@@ -23,7 +23,9 @@ import java.awt.event.WindowEvent;
 import java.awt.event.WindowFocusListener;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.swing.JComboBox;
 import javax.swing.JDialog;
@@ -35,7 +37,6 @@ import javax.swing.text.BadLocationException;
 
 import CCDD.CcddClasses.PaddedComboBox;
 import CCDD.CcddConstants.BaseDataTypeInfo;
-import CCDD.CcddConstants.DatabaseListCommand;
 import CCDD.CcddConstants.InputDataType;
 import CCDD.CcddConstants.InternalTable;
 import CCDD.CcddConstants.InternalTable.DataTypesColumn;
@@ -62,8 +63,55 @@ public class CcddDataTypeHandler
     // Array containing the prototype structure table names
     private String[] structures;
 
-    // List containing the data type names and associated data type definitions
-    private List<String[]> dataTypes;
+    // List containing the data type names and associated data type
+    // definitions. The list is shared by the threads using this handler, so
+    // an update replaces the list rather than altering it
+    private volatile List<String[]> dataTypes;
+
+    // Map containing the data type information, keyed by the data type name
+    // in lower case. The map is shared by the threads using this handler, so
+    // it's never altered once published; a change replaces the map
+    private volatile Map<String, DataTypeInfo> dataTypeMap;
+
+    /**************************************************************************
+     * Data type information class. Contains a data type definition along with
+     * its base type and size, which are extracted from the definition when the
+     * data type is added to the lookup map
+     *************************************************************************/
+    private class DataTypeInfo
+    {
+        private final String[] dataType;
+        private final BaseDataTypeInfo baseType;
+        private final Integer sizeInBytes;
+
+        /**********************************************************************
+         * Data type information class constructor
+         * 
+         * @param dataType
+         *            string array containing data type name and the
+         *            corresponding data type definition
+         *********************************************************************/
+        DataTypeInfo(String[] dataType)
+        {
+            Integer size = null;
+
+            this.dataType = dataType;
+            baseType = BaseDataTypeInfo.getBaseType(dataType[DataTypesColumn.BASE_TYPE.ordinal()]);
+
+            try
+            {
+                // Convert the data type size to an integer
+                size = Integer.valueOf(dataType[DataTypesColumn.SIZE.ordinal()]);
+            }
+            catch (NumberFormatException nfe)
+            {
+                // The size isn't a valid integer; it's converted when
+                // requested so that the error is reported to the caller
+            }
+
+            sizeInBytes = size;
+        }
+    }
 
     /**************************************************************************
      * Data type handler class constructor used when setting the data types
@@ -76,6 +124,9 @@ public class CcddDataTypeHandler
     CcddDataTypeHandler(List<String[]> dataTypes)
     {
         this.dataTypes = dataTypes;
+
+        // Create the data type lookup map
+        buildDataTypeMap();
     }
 
     /**************************************************************************
@@ -118,6 +169,75 @@ public class CcddDataTypeHandler
     protected void setDataTypeData(List<String[]> dataTypes)
     {
         this.dataTypes = new ArrayList<String[]>(dataTypes);
+
+        // Update the data type lookup map to match the new data types
+        buildDataTypeMap();
+
+        // Check if this is the project's data type handler
+        if (dbTable != null)
+        {
+            // Discard the stored table members since a change in the
+            // primitive data types alters the members
+            dbTable.invalidateTableMembers();
+        }
+    }
+
+    /**************************************************************************
+     * Create the map used to look up a data type's information by name (case
+     * insensitive). If more than one data type has the same name then the
+     * first one in the list is used
+     *************************************************************************/
+    private void buildDataTypeMap()
+    {
+        Map<String, DataTypeInfo> typeMap = new HashMap<String, DataTypeInfo>();
+
+        // Step through each defined data type
+        for (String[] dataType : dataTypes)
+        {
+            // Add the data type to the map
+            addToDataTypeMap(typeMap, dataType);
+        }
+
+        // Replace the data type lookup map once it's complete
+        dataTypeMap = typeMap;
+    }
+
+    /**************************************************************************
+     * Add the specified data type to a data type lookup map if a data type
+     * with the same name (case insensitive) isn't already present
+     * 
+     * @param typeMap
+     *            data type lookup map to which to add the data type
+     * 
+     * @param dataType
+     *            string array containing data type name and the corresponding
+     *            data type definition
+     *************************************************************************/
+    private void addToDataTypeMap(Map<String, DataTypeInfo> typeMap,
+                                  String[] dataType)
+    {
+        String key = getDataTypeName(dataType).toLowerCase();
+
+        // Check if the data type name isn't already in the map
+        if (!typeMap.containsKey(key))
+        {
+            // Add the data type to the map
+            typeMap.put(key, new DataTypeInfo(dataType));
+        }
+    }
+
+    /**************************************************************************
+     * Get the data type information for the specified data type name
+     * 
+     * @param dataTypeName
+     *            data type name
+     * 
+     * @return Data type information for the specified data type name; returns
+     *         null if the data type doesn't exist
+     *************************************************************************/
+    private DataTypeInfo getDataTypeMapEntry(String dataTypeName)
+    {
+        return dataTypeMap.get(dataTypeName.toLowerCase());
     }
 
     /**************************************************************************
@@ -182,16 +302,14 @@ public class CcddDataTypeHandler
     {
         String[] dataType = null;
 
-        // Step through each defined data type
-        for (String[] type : dataTypes)
+        // Get the data type information based on the type name
+        DataTypeInfo typeInfo = getDataTypeMapEntry(dataTypeName);
+
+        // Check if the data type exists
+        if (typeInfo != null)
         {
-            // Check if the supplied name matches this data type's name
-            if (dataTypeName.equalsIgnoreCase(getDataTypeName(type)))
-            {
-                // Store the data type information and stop searching
-                dataType = type;
-                break;
-            }
+            // Store the data type definition
+            dataType = typeInfo.dataType;
         }
 
         return dataType;
@@ -211,13 +329,13 @@ public class CcddDataTypeHandler
         BaseDataTypeInfo baseDataType = null;
 
         // Get the data type information based on the type name
-        String[] dataType = getDataTypeInfo(dataTypeName);
+        DataTypeInfo typeInfo = getDataTypeMapEntry(dataTypeName);
 
         // Check if the data type exists
-        if (dataType != null)
+        if (typeInfo != null)
         {
             // Get the associated base data type
-            baseDataType = BaseDataTypeInfo.getBaseType(dataType[DataTypesColumn.BASE_TYPE.ordinal()]);
+            baseDataType = typeInfo.baseType;
         }
 
         return baseDataType;
@@ -237,13 +355,16 @@ public class CcddDataTypeHandler
         int dataTypeSize = 0;
 
         // Get the data type information based on the type name
-        String[] dataType = getDataTypeInfo(dataTypeName);
+        DataTypeInfo typeInfo = getDataTypeMapEntry(dataTypeName);
 
         // Check if the data type exists
-        if (dataType != null)
+        if (typeInfo != null)
         {
-            // Get the associated data type size
-            dataTypeSize = Integer.valueOf(dataType[DataTypesColumn.SIZE.ordinal()]);
+            // Get the associated data type size. If the size isn't a valid
+            // integer then convert it here so that the error is reported
+            dataTypeSize = typeInfo.sizeInBytes != null
+                                                        ? typeInfo.sizeInBytes
+                                                        : Integer.valueOf(typeInfo.dataType[DataTypesColumn.SIZE.ordinal()]);
         }
 
         return dataTypeSize;
@@ -275,11 +396,8 @@ public class CcddDataTypeHandler
     {
         boolean isPrimitive = false;
 
-        // Get the data type information based on the type name
-        String[] dataType = getDataTypeInfo(dataTypeName);
-
         // Check if the data type exists
-        if (dataType != null)
+        if (getDataTypeMapEntry(dataTypeName) != null)
         {
             // Set the flag to indicate the data type is a primitive
             isPrimitive = true;
@@ -481,14 +599,10 @@ public class CcddDataTypeHandler
     {
         // Get the references in the prototype tables that match the specified
         // data type name
-        List<String> matches = new ArrayList<String>(Arrays.asList(dbCommand.getList(DatabaseListCommand.SEARCH,
-                                                                                     new String[][] { {"_search_text_",
-                                                                                                       dataTypeName},
-                                                                                                     {"_case_insensitive_",
-                                                                                                      "true"},
-                                                                                                     {"_selected_tables_",
-                                                                                                      SearchType.PROTO.toString()}},
-                                                                                     parent)));
+        List<String> matches = new ArrayList<String>(Arrays.asList(dbCommand.getSearchIndex().search(dataTypeName,
+                                                                                                     true,
+                                                                                                     SearchType.PROTO,
+                                                                                                     parent)));
 
         // Step through each match (in reverse since an entry in the list may
         // need to be removed)
@@ -555,18 +669,27 @@ public class CcddDataTypeHandler
     {
         String badType = null;
 
+        // Create copies of the data type list and lookup map to which to add
+        // the new data types
+        List<String[]> typeList = new ArrayList<String[]>(dataTypes);
+        Map<String, DataTypeInfo> typeMap = new HashMap<String, DataTypeInfo>(dataTypeMap);
+
         // Step through each imported data type definition
         for (String[] typeDefn : dataTypeDefinitions)
         {
             // Get the data type information associated with this data type
-            // name
-            String[] dataType = getDataTypeInfo(CcddDataTypeHandler.getDataTypeName(typeDefn));
+            // name, including any data type added by this update
+            DataTypeInfo typeInfo = typeMap.get(CcddDataTypeHandler.getDataTypeName(typeDefn).toLowerCase());
+            String[] dataType = typeInfo == null
+                                                 ? null
+                                                 : typeInfo.dataType;
 
             // Check if the data type doesn't already exist
             if (dataType == null)
             {
                 // Add the data type
-                dataTypes.add(typeDefn);
+                typeList.add(typeDefn);
+                addToDataTypeMap(typeMap, typeDefn);
             }
             // The data type exists; check if the type information provided
             // matches the existing type information
@@ -582,6 +705,10 @@ public class CcddDataTypeHandler
             }
         }
 
+        // Replace the data type list and lookup map with the updated copies
+        dataTypes = typeList;
+        dataTypeMap = typeMap;
+
         return badType;
     }
 
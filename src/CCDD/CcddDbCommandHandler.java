@@ -10,12 +10,22 @@ import static CCDD.CcddConstants.DB_SAVE_POINT_NAME;
 import static CCDD.CcddConstants.EventLogMessageType.COMMAND_MSG;
 
 import java.awt.Component;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
 
 import CCDD.CcddConstants.DatabaseListCommand;
 import CCDD.CcddConstants.DbCommandType;
@@ -28,6 +38,7 @@ public class CcddDbCommandHandler
     // Class references
     private final CcddMain ccddMain;
     private CcddEventLogDialog eventLog;
+    private final CcddSearchIndexHandler searchIndex;
 
     // PostgreSQL database connection
     private Connection connection;
@@ -45,6 +56,38 @@ public class CcddDbCommandHandler
     // block
     private boolean isSavePointCreated;
 
+    // Maximum number of prepared statements retained for reuse
+    private static final int MAX_PREPARED_STATEMENTS = 50;
+
+    // Prepared statements for the main database connection, keyed by the
+    // parameterized command, in order of least to most recently used. Reusing
+    // a statement allows the JDBC driver to keep it prepared on the server so
+    // that the command isn't parsed and planned each time it's executed
+    private final Map<String, PreparedStatement> preparedStatements;
+
+    // Maximum number of pooled database connections that can be in use
+    // concurrently by the request threads
+    private static final int MAX_POOLED_CONNECTIONS = Math.max(2,
+                                                               Runtime.getRuntime().availableProcessors());
+
+    // Pooled database connections not currently in use by a request thread
+    private final ConcurrentLinkedQueue<Connection> idleConnections;
+
+    // Permits limiting the number of pooled connections in use
+    private final Semaphore connectionPermits;
+
+    // Number of times the pooled connections have been discarded. A connection
+    // obtained prior to discarding the pool is closed rather than returned to
+    // the pool
+    private volatile int poolGeneration;
+
+    // Pooled database connection, its pool generation, and the statements
+    // created using the connection for the request executing in the current
+    // thread
+    private final ThreadLocal<Connection> requestConnection;
+    private final ThreadLocal<Integer> requestGeneration;
+    private final ThreadLocal<List<Statement>> requestStatements;
+
     /**************************************************************************
      * Database command handler class constructor
      * 
@@ -55,8 +98,54 @@ public class CcddDbCommandHandler
     {
         this.ccddMain = ccddMain;
 
+        // Create the table contents search index
+        searchIndex = new CcddSearchIndexHandler(ccddMain, this);
+
         // Initialize the save point flags
         setSavePointEnable(false);
+
+        // Create the prepared statement cache. When the cache is full the
+        // least recently used statement is closed and removed
+        preparedStatements = new LinkedHashMap<String, PreparedStatement>(16,
+                                                                         0.75f,
+                                                                         true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            /******************************************************************
+             * Remove the least recently used statement if the cache is full
+             *****************************************************************/
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest)
+            {
+                boolean isRemove = size() > MAX_PREPARED_STATEMENTS;
+
+                // Check if the cache is full
+                if (isRemove)
+                {
+                    try
+                    {
+                        // Close the least recently used statement
+                        eldest.getValue().close();
+                    }
+                    catch (SQLException se)
+                    {
+                        // Ignore the error since the statement is being
+                        // discarded
+                    }
+                }
+
+                return isRemove;
+            }
+        };
+
+        // Create the storage for the pooled database connections
+        idleConnections = new ConcurrentLinkedQueue<Connection>();
+        connectionPermits = new Semaphore(MAX_POOLED_CONNECTIONS, true);
+        poolGeneration = 0;
+        requestConnection = new ThreadLocal<Connection>();
+        requestGeneration = new ThreadLocal<Integer>();
+        requestStatements = new ThreadLocal<List<Statement>>();
     }
 
     /**************************************************************************
@@ -78,6 +167,215 @@ public class CcddDbCommandHandler
     protected void setConnection(Connection connection)
     {
         this.connection = connection;
+
+        // Discard the search index, prepared statements, and pooled
+        // connections since these apply to the previous database
+        searchIndex.clear();
+        closePreparedStatements();
+        closePooledConnections();
+    }
+
+    /**************************************************************************
+     * Close the prepared statements for the main database connection
+     *************************************************************************/
+    protected void closePreparedStatements()
+    {
+        // Step through each prepared statement
+        for (PreparedStatement prepStmt : preparedStatements.values())
+        {
+            try
+            {
+                // Close the statement
+                prepStmt.close();
+            }
+            catch (SQLException se)
+            {
+                // Ignore the error since the statement is being discarded
+            }
+        }
+
+        preparedStatements.clear();
+    }
+
+    /**************************************************************************
+     * Get the prepared statement for the specified parameterized command. The
+     * statement is created if it isn't already in the prepared statement cache
+     * 
+     * @param command
+     *            parameterized SQL command
+     * 
+     * @return Prepared statement for the command, with no parameters set
+     * 
+     * @throws SQLException
+     *             If the statement cannot be created
+     *************************************************************************/
+    private PreparedStatement getPreparedStatement(String command) throws SQLException
+    {
+        // Get the statement from the cache
+        PreparedStatement prepStmt = preparedStatements.get(command);
+
+        // Check if the statement isn't in the cache
+        if (prepStmt == null)
+        {
+            // Create the statement and add it to the cache
+            prepStmt = connection.prepareStatement(command);
+            preparedStatements.put(command, prepStmt);
+        }
+
+        return prepStmt;
+    }
+
+    /**************************************************************************
+     * Obtain a pooled database connection for the request executing in the
+     * current thread. Until the connection is released the database commands
+     * executed by this thread use the pooled connection, with a separate
+     * statement for each command, instead of the main database connection.
+     * This allows requests (e.g., from the web server) to execute concurrently
+     * with each other and with the main application. If the maximum number of
+     * pooled connections are in use then this waits until one is released
+     * 
+     * @throws SQLException
+     *             If a connection to the database cannot be made
+     *************************************************************************/
+    protected void obtainRequestConnection() throws SQLException
+    {
+        // Check if the thread doesn't already have a pooled connection
+        if (requestConnection.get() == null)
+        {
+            // Wait until the number of connections in use is below the limit
+            connectionPermits.acquireUninterruptibly();
+
+            try
+            {
+                // Get the pool generation before getting the connection so
+                // that a connection created from a database that's
+                // subsequently closed isn't returned to the pool
+                int generation = poolGeneration;
+
+                // Get an idle connection from the pool, if one is available
+                Connection poolConnection = idleConnections.poll();
+
+                // Check if no idle connection is available
+                if (poolConnection == null)
+                {
+                    // Create a new connection to the database
+                    poolConnection = ccddMain.getDbControlHandler().createPooledConnection();
+                }
+
+                // Store the connection and statement list for this thread
+                requestConnection.set(poolConnection);
+                requestGeneration.set(generation);
+                requestStatements.set(new ArrayList<Statement>());
+            }
+            catch (SQLException se)
+            {
+                // Release the connection permit and pass the exception to the
+                // caller
+                connectionPermits.release();
+                throw se;
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Release the pooled database connection obtained for the request
+     * executing in the current thread. The statements created by the request
+     * are closed and the connection is returned to the pool for use by another
+     * request
+     *************************************************************************/
+    protected void releaseRequestConnection()
+    {
+        Connection poolConnection = requestConnection.get();
+
+        // Check if the thread has a pooled connection
+        if (poolConnection != null)
+        {
+            // Step through each statement created by the request
+            for (Statement poolStatement : requestStatements.get())
+            {
+                try
+                {
+                    // Close the statement (and its result set)
+                    poolStatement.close();
+                }
+                catch (SQLException se)
+                {
+                    // Ignore the error; the connection is checked below
+                }
+            }
+
+            try
+            {
+                // Check if the pool hasn't been discarded since the connection
+                // was obtained and that the connection is still usable
+                if (requestGeneration.get() == poolGeneration
+                    && !poolConnection.isClosed())
+                {
+                    // Return the connection to the pool
+                    idleConnections.offer(poolConnection);
+
+                    // Check if the pool was discarded while the connection
+                    // was being returned
+                    if (requestGeneration.get() != poolGeneration
+                        && idleConnections.remove(poolConnection))
+                    {
+                        poolConnection.close();
+                    }
+                }
+                // The connection can't be reused
+                else
+                {
+                    // Close the connection
+                    poolConnection.close();
+                }
+            }
+            catch (SQLException se)
+            {
+                // Ignore the error; the connection isn't returned to the pool
+            }
+
+            // Remove the connection and statements from the thread and release
+            // the connection permit
+            requestConnection.remove();
+            requestGeneration.remove();
+            requestStatements.remove();
+            connectionPermits.release();
+        }
+    }
+
+    /**************************************************************************
+     * Close the idle pooled database connections. Connections in use by a
+     * request are closed when the request releases the connection
+     *************************************************************************/
+    protected void closePooledConnections()
+    {
+        // Update the pool generation so that connections currently in use
+        // aren't returned to the pool
+        poolGeneration++;
+
+        // Step through each idle connection
+        for (Connection poolConnection = idleConnections.poll(); poolConnection != null; poolConnection = idleConnections.poll())
+        {
+            try
+            {
+                // Close the connection
+                poolConnection.close();
+            }
+            catch (SQLException se)
+            {
+                // Ignore the error since the connection is being discarded
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Get the table contents search index
+     * 
+     * @return The table contents search index
+     *************************************************************************/
+    protected CcddSearchIndexHandler getSearchIndex()
+    {
+        return searchIndex;
     }
 
     /**************************************************************************
@@ -186,6 +484,134 @@ public class CcddDbCommandHandler
     {
         Object result = null;
 
+        // Check if the command is issued by a request that has a pooled
+        // connection
+        if (requestConnection.get() != null)
+        {
+            // Execute the command using the request's pooled connection
+            result = executeRequestStatement(commandType, command);
+        }
+        // The command uses the main database connection
+        else
+        {
+            // Check if creation of a save point is enabled and a save point
+            // hasn't already been created
+            if (savePointEnabled && !isSavePointCreated)
+            {
+                // Execute the command to create a save point
+                statement.execute(SAVE_POINT_COMMAND);
+
+                // Log the save point command
+                eventLog.logEvent(COMMAND_MSG, SAVE_POINT_COMMAND);
+
+                // Set the flag to indicate the save point command has been
+                // created
+                isSavePointCreated = true;
+            }
+
+            // Log the command
+            eventLog.logEvent(COMMAND_MSG, command);
+
+            // Check if no valid database connection exists
+            if (statement == null)
+            {
+                throw new SQLException("no database connection");
+            }
+
+            try
+            {
+                switch (commandType)
+                {
+                    case QUERY:
+                        // Execute the query command
+                        result = statement.executeQuery(command);
+                        break;
+
+                    case COMMAND:
+                        // Execute the command
+                        result = statement.execute(command);
+                        break;
+
+                    case UPDATE:
+                        // Execute the update command
+                        result = statement.executeUpdate(command);
+                        break;
+                }
+
+                // Check if auto-commit is disabled and a save point isn't
+                // established
+                if (connection.getAutoCommit() == false && !savePointEnabled)
+                {
+                    // Commit the change to the database
+                    connection.commit();
+                }
+            }
+            catch (SQLException se)
+            {
+                // Check if auto-commit is disabled and a save point isn't
+                // established
+                if (connection.getAutoCommit() == false && !savePointEnabled)
+                {
+                    try
+                    {
+                        // The command failed to complete successfully; revert
+                        // the change to the database
+                        connection.rollback();
+
+                        // Discard the search index since it may contain changes
+                        // that were reverted
+                        searchIndex.clear();
+                    }
+                    catch (SQLException se2)
+                    {
+                        // Inform the user that rolling back the changes failed
+                        eventLog.logFailEvent(component,
+                                              "Cannot revert changes project; cause '"
+                                                  + se2.getMessage()
+                                                  + "'",
+                                              "<html><b>Cannot revert changes to project");
+                    }
+                }
+
+                // Re-throw the exception so that the caller can handle it
+                throw new SQLException(se.getMessage());
+            }
+        }
+
+        return result;
+    }
+
+    /**************************************************************************
+     * Execute one or more parameterized database commands as batches in a
+     * single transaction and log the commands to the session log. Each
+     * command is prepared once and executed for every set of parameters
+     * supplied for it, so that the parameter values aren't embedded in the
+     * command text
+     * 
+     * @param commands
+     *            map containing the parameterized SQL commands, in the order
+     *            in which they're to be executed, and the list of parameter
+     *            value arrays for each command. A command with an empty
+     *            parameter list is executed once as is. String parameter
+     *            values are converted to the type of the column to which
+     *            they're assigned. A COPY command reading from standard input
+     *            in CSV format copies each value array as a row
+     * 
+     * @param component
+     *            GUI component over which to center any error dialog
+     * 
+     * @throws SQLException
+     *             If no connection exists to the server or a command fails
+     *************************************************************************/
+    protected void executeDbBatch(Map<String, List<Object[]>> commands,
+                                  Component component) throws SQLException
+    {
+        // Check if no valid database connection exists
+        if (statement == null)
+        {
+            throw new SQLException("no database connection");
+        }
+
         // Check if creation of a save point is enabled and a save point hasn't
         // already been created
         if (savePointEnabled && !isSavePointCreated)
@@ -200,40 +626,97 @@ public class CcddDbCommandHandler
             isSavePointCreated = true;
         }
 
-        // Log the command
-        eventLog.logEvent(COMMAND_MSG, command);
-
-        // Check if no valid database connection exists
-        if (statement == null)
-        {
-            throw new SQLException("no database connection");
-        }
-
         try
         {
-            switch (commandType)
+            // Step through each command
+            for (Map.Entry<String, List<Object[]>> command : commands.entrySet())
             {
-                case QUERY:
-                    // Execute the query command
-                    result = statement.executeQuery(command);
-                    break;
-
-                case COMMAND:
-                    // Execute the command
-                    result = statement.execute(command);
-                    break;
-
-                case UPDATE:
-                    // Execute the update command
-                    result = statement.executeUpdate(command);
-                    break;
+                // Check if the command has no parameters
+                if (command.getValue().isEmpty())
+                {
+                    // Log and execute the command
+                    eventLog.logEvent(COMMAND_MSG, command.getKey());
+                    statement.execute(command.getKey());
+                }
+                // The command has parameters
+                else
+                {
+                    // Log the command and the number of times it's executed
+                    eventLog.logEvent(COMMAND_MSG,
+                                      command.getKey()
+                                          + " ["
+                                          + command.getValue().size()
+                                          + " parameter set(s)]");
+
+                    // Check if this is a bulk copy command
+                    if (command.getKey().startsWith("COPY "))
+                    {
+                        // Copy the rows into the table
+                        copyRows(command.getKey(), command.getValue());
+                    }
+                    // This is a parameterized command
+                    else
+                    {
+                        // Get the prepared statement for the command
+                        PreparedStatement prepStmt = getPreparedStatement(command.getKey());
+
+                        try
+                        {
+                            // Step through each set of parameters
+                            for (Object[] parameters : command.getValue())
+                            {
+                                // Step through each parameter
+                                for (int index = 0; index < parameters.length; index++)
+                                {
+                                    // Check if the parameter is a string
+                                    if (parameters[index] instanceof String)
+                                    {
+                                        // Set the parameter without specifying
+                                        // a type so that the server converts
+                                        // the text to the column's type. Note
+                                        // that the first parameter's index is
+                                        // 1, not 0
+                                        prepStmt.setObject(index + 1,
+                                                           parameters[index],
+                                                           Types.OTHER);
+                                    }
+                                    // Check if the parameter is null
+                                    else if (parameters[index] == null)
+                                    {
+                                        // Set the parameter to a null value
+                                        prepStmt.setNull(index + 1, Types.OTHER);
+                                    }
+                                    // The parameter isn't a string or null
+                                    else
+                                    {
+                                        // Set the parameter using its own type
+                                        prepStmt.setObject(index + 1,
+                                                           parameters[index]);
+                                    }
+                                }
+
+                                // Add the parameters to the batch
+                                prepStmt.addBatch();
+                            }
+
+                            // Execute the command for every set of parameters
+                            prepStmt.executeBatch();
+                        }
+                        finally
+                        {
+                            // Remove any unexecuted parameters so that the
+                            // statement can be reused
+                            prepStmt.clearBatch();
+                        }
+                    }
+                }
             }
 
             // Check if auto-commit is disabled and a save point isn't
             // established
             if (connection.getAutoCommit() == false && !savePointEnabled)
             {
-                // Commit the change to the database
+                // Commit the changes to the database
                 connection.commit();
             }
         }
@@ -245,9 +728,13 @@ public class CcddDbCommandHandler
             {
                 try
                 {
-                    // The command failed to complete successfully; revert the
-                    // change to the database
+                    // The commands failed to complete successfully; revert the
+                    // changes to the database
                     connection.rollback();
+
+                    // Discard the search index since it may contain changes
+                    // that were reverted
+                    searchIndex.clear();
                 }
                 catch (SQLException se2)
                 {
@@ -260,8 +747,129 @@ public class CcddDbCommandHandler
                 }
             }
 
-            // Re-throw the exception so that the caller can handle it
-            throw new SQLException(se.getMessage());
+            // Re-throw the exception so that the caller can handle it. The
+            // batch exception's cause is more descriptive, so use it if
+            // present
+            throw new SQLException(se.getNextException() != null
+                                                                  ? se.getNextException().getMessage()
+                                                                  : se.getMessage());
+        }
+    }
+
+    /**************************************************************************
+     * Copy rows into a table using the PostgreSQL COPY protocol. The rows are
+     * sent to the server in CSV format as they're converted, so that no SQL
+     * command containing the row values is built or parsed
+     * 
+     * @param command
+     *            COPY command specifying the table and columns, and reading
+     *            from standard input in CSV format
+     * 
+     * @param rows
+     *            list of column value arrays, one per row. A null value is
+     *            stored as a null; any other value is stored as its string
+     *            representation
+     * 
+     * @throws SQLException
+     *             If the rows cannot be copied
+     *************************************************************************/
+    private void copyRows(String command, List<Object[]> rows) throws SQLException
+    {
+        // Start the copy operation
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(command);
+
+        try
+        {
+            // Step through each row
+            for (Object[] row : rows)
+            {
+                StringBuilder line = new StringBuilder();
+
+                // Step through each column value
+                for (Object value : row)
+                {
+                    // Check if the value isn't null (a null is represented by
+                    // an unquoted empty value)
+                    if (value != null)
+                    {
+                        // Add the value to the line, enclosed in quotes and
+                        // with any embedded quotes doubled
+                        line.append("\""
+                                    + value.toString().replace("\"", "\"\"")
+                                    + "\"");
+                    }
+
+                    line.append(",");
+                }
+
+                // Replace the trailing comma with the end of line and send the
+                // line to the server
+                line.setCharAt(line.length() - 1, '\n');
+                byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            }
+
+            // Complete the copy operation
+            copyIn.endCopy();
+        }
+        finally
+        {
+            // Check if the copy operation didn't complete
+            if (copyIn.isActive())
+            {
+                // Cancel the copy operation
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Execute a database statement using the pooled connection of the request
+     * executing in the current thread and log the command to the session log.
+     * A new statement is created for each command so that the result sets of
+     * earlier commands in the request remain valid; the statements are closed
+     * when the request releases the connection
+     * 
+     * @param commandType
+     *            command type (DbCommandType)
+     * 
+     * @param command
+     *            SQL command to execute
+     * 
+     * @return Command result (content is dependent on the command type)
+     * 
+     * @throws SQLException
+     *             If the command fails
+     *************************************************************************/
+    private Object executeRequestStatement(DbCommandType commandType,
+                                           String command) throws SQLException
+    {
+        Object result = null;
+
+        // Log the command
+        eventLog.logEvent(COMMAND_MSG, command);
+
+        // Create a statement for this command and add it to the request's
+        // list so that it's closed when the request completes
+        Statement poolStatement = requestConnection.get().createStatement();
+        requestStatements.get().add(poolStatement);
+
+        switch (commandType)
+        {
+            case QUERY:
+                // Execute the query command
+                result = poolStatement.executeQuery(command);
+                break;
+
+            case COMMAND:
+                // Execute the command
+                result = poolStatement.execute(command);
+                break;
+
+            case UPDATE:
+                // Execute the update command
+                result = poolStatement.executeUpdate(command);
+                break;
         }
 
         return result;
@@ -53,7 +53,6 @@ import CCDD.CcddConstants.DialogOption;
 import CCDD.CcddConstants.InputDataType;
 import CCDD.CcddConstants.InternalTable;
 import CCDD.CcddConstants.InternalTable.ValuesColumn;
-import CCDD.CcddConstants.SearchType;
 import CCDD.CcddConstants.ServerPropertyDialogType;
 import CCDD.CcddTableTypeHandler.TypeDefinition;
 
@@ -917,75 +916,10 @@ public class CcddDbControlHandler
                 }
             }
 
-            // Create function to search all tables for the input text with
-            // case sensitivity determined by an input flag. A second flag
-            // determines if all tables or only the data tables (including
-            // entries in the custom values table) are searched. All
-            // non-alphanumeric and non-space characters are escaped so that
-            // these characters can be detected correctly. Return a table
-            // giving the unique schema, table, column name, table comment, and
-            // contents of the columns in the table row where the text is found
-            dbCommand.executeDbCommand(deleteFunction("search_tables")
-                                       + "CREATE OR REPLACE FUNCTION search_tables("
-                                       + "search_text text, no_case boolean, selected_tables "
-                                       + "text, all_schema name[] DEFAULT '{public}') "
-                                       + "RETURNS table(schema_name text, table_name "
-                                       + "text, column_name text, table_description text, "
-                                       + "column_value text) AS $$ DECLARE search_text "
-                                       + "text := regexp_replace(search_text, "
-                                       + "E'([^a-zA-Z0-9 ])', E'\\\\\\\\\\\\1'); "
-                                       + "BEGIN FOR schema_name, table_name, "
-                                       + "table_description, column_name IN SELECT "
-                                       + "c.table_schema, c.table_name, "
-                                       + "coalesce(d.description,''), c.column_name "
-                                       + "FROM information_schema.columns c JOIN "
-                                       + "information_schema.tables AS t ON "
-                                       + "(t.table_name = c.table_name AND "
-                                       + "t.table_schema = c.table_schema), "
-                                       + "pg_description AS d RIGHT JOIN pg_class "
-                                       + "ON d.objoid = pg_class.oid RIGHT JOIN "
-                                       + "pg_namespace ON pg_class.relnamespace = "
-                                       + "pg_namespace.oid WHERE (selected_tables ~* '"
-                                       + SearchType.ALL.toString()
-                                       + "' OR (selected_tables ~* '"
-                                       + SearchType.PROTO.toString()
-                                       + "' AND c.table_name !~ E'^"
-                                       + INTERNAL_TABLE_PREFIX
-                                       + ".*$') OR (selected_tables ~* '"
-                                       + SearchType.DATA.toString()
-                                       + "' AND c.table_name !~ E'^"
-                                       + INTERNAL_TABLE_PREFIX
-                                       + "((?!"
-                                       + InternalTable.VALUES.getTableName().replaceFirst("^"
-                                                                                          + INTERNAL_TABLE_PREFIX, "")
-                                       + ").)*$') OR (selected_tables ~* '"
-                                       + SearchType.SCRIPT.toString()
-                                       + "' AND c.table_name ~ E'^"
-                                       + InternalTable.SCRIPT.getTableName()
-                                       + ".*')) AND c.table_schema = ANY(all_schema) "
-                                       + "AND t.table_type = 'BASE TABLE' AND "
-                                       + "relname = t.table_name AND nspname = "
-                                       + "t.table_schema AND (d.objsubid = '0' OR "
-                                       + "d.objsubid IS NULL) LOOP DECLARE the_row "
-                                       + "RECORD; BEGIN FOR the_row IN EXECUTE "
-                                       + "'SELECT * FROM ' || quote_ident(schema_name) "
-                                       + "|| '.' || quote_ident(table_name) || ' WHERE "
-                                       + "(' || quote_nullable(no_case) || ' = ''true'' "
-                                       + "AND cast(' || quote_ident(column_name) || ' AS "
-                                       + "text) ~* ' || quote_nullable(search_text) || "
-                                       + "') OR (' || quote_nullable(no_case) || ' = "
-                                       + "''false'' AND cast(' || "
-                                       + "quote_ident(column_name) || ' AS text) ~ ' || "
-                                       + "quote_nullable(search_text) || ')' LOOP "
-                                       + " SELECT * FROM regexp_replace(the_row::text, "
-                                       + "E'^\\\\(|(\\\\)$)', '', 'g') INTO "
-                                       + "column_value; RETURN NEXT; END LOOP; END; "
-                                       + "END LOOP; END; $$ language plpgsql; "
-                                       + buildOwnerCommand(DatabaseObject.FUNCTION,
-                                                           "search_tables(search_text "
-                                                               + "text, no_case boolean, "
-                                                               + "selected_tables text, "
-                                                               + "all_schema name[])"),
+            // Remove the function to search all tables for the input text, if
+            // present. Table searches are performed using the search index
+            // handler
+            dbCommand.executeDbCommand(deleteFunction("search_tables"),
                                        ccddMain.getMainFrame());
 
             // Create function to retrieve all rate values for the specified
@@ -1462,6 +1396,36 @@ public class CcddDbControlHandler
                                    intTable.getTableName());
     }
 
+    /**************************************************************************
+     * Create an additional connection to the currently open database for use
+     * by the database command handler's connection pool. The connection uses
+     * the active user's credentials, is read-only, and commits each command
+     * automatically
+     * 
+     * @return New connection to the currently open database
+     * 
+     * @throws SQLException
+     *             If no database is open or the connection cannot be made
+     *************************************************************************/
+    protected Connection createPooledConnection() throws SQLException
+    {
+        // Check if no database is open
+        if (connectionStatus != TO_DATABASE)
+        {
+            throw new SQLException("no database connection");
+        }
+
+        // Connect the user to the database
+        Connection poolConnection = DriverManager.getConnection(getDatabaseURL(activeDatabase),
+                                                                activeUser,
+                                                                activePassword);
+
+        // The pooled connections are used only for queries
+        poolConnection.setReadOnly(true);
+
+        return poolConnection;
+    }
+
     /**************************************************************************
      * Connect to a database
      * 
@@ -2181,8 +2145,11 @@ public class CcddDbControlHandler
                     }
                 }
 
-                // Close the database
+                // Close the database, its prepared statements, and any pooled
+                // connections to it
+                dbCommand.closePreparedStatements();
                 connection.close();
+                dbCommand.closePooledConnections();
                 connectionStatus = NO_CONNECTION;
 
                 // Inform the user that closing the database succeeded
@@ -16,6 +16,7 @@ import static CCDD.CcddConstants.TABLE_DESCRIPTION_SEPARATOR;
 import static CCDD.CcddConstants.TLM_SCH_SEPARATOR;
 import static CCDD.CcddConstants.TYPE_COMMAND;
 import static CCDD.CcddConstants.TYPE_STRUCTURE;
+import static CCDD.CcddConstants.VALUES_PARENT_PATH;
 import static CCDD.CcddConstants.EventLogMessageType.SUCCESS_MSG;
 
 import java.awt.Component;
@@ -25,7 +26,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import javax.swing.JOptionPane;
@@ -77,6 +83,14 @@ public class CcddDbTableCommandHandler
     private CcddRateParameterHandler rateHandler;
     private CcddDataTypeHandler dataTypeHandler;
 
+    // Map containing the table members loaded from the database. The key is
+    // the table member type and sort order used to load the members
+    private final Map<String, List<TableMembers>> tableMembersMap;
+
+    // Minimum number of rows added to a table for which the rows are copied
+    // into the table instead of inserted
+    private static final int COPY_ROW_THRESHOLD = 100;
+
     /**************************************************************************
      * Database table command handler class constructor
      * 
@@ -91,6 +105,7 @@ public class CcddDbTableCommandHandler
         dbCommand = ccddMain.getDbCommandHandler();
         dbControl = ccddMain.getDbControlHandler();
         eventLog = ccddMain.getSessionEventLog();
+        tableMembersMap = new HashMap<String, List<TableMembers>>();
     }
 
     /**************************************************************************
@@ -103,6 +118,9 @@ public class CcddDbTableCommandHandler
         macroHandler = ccddMain.getMacroHandler();
         dataTypeHandler = ccddMain.getDataTypeHandler();
         rateHandler = ccddMain.getRateParameterHandler();
+
+        // Discard any table members stored for the previous database
+        invalidateTableMembers();
     }
 
     /**************************************************************************
@@ -1052,6 +1070,14 @@ public class CcddDbTableCommandHandler
             // Execute the database update
             dbCommand.executeDbUpdate(command, parent);
 
+            // Discard the stored table members since these may have changed
+            invalidateTableMembers();
+
+            // Flag the new table(s) and the data fields table so that these
+            // are reindexed prior to the next search
+            dbCommand.getSearchIndex().invalidate(tableNames);
+            dbCommand.getSearchIndex().invalidate(InternalTable.FIELDS.getTableName());
+
             // Inform the user that the update succeeded
             eventLog.logEvent(SUCCESS_MSG,
                               "Table(s) '"
@@ -1257,6 +1283,14 @@ public class CcddDbTableCommandHandler
                     // to all lower case) that's stored as a comment
                     dbCommand.executeDbCommand(command, tableDialog);
 
+                    // Discard the stored table members since these may
+                    // have changed
+                    invalidateTableMembers();
+
+                    // Discard the search index since references to the table
+                    // in any other table may have changed
+                    dbCommand.getSearchIndex().clear();
+
                     // Log that renaming the table succeeded
                     eventLog.logEvent(SUCCESS_MSG,
                                       "Table '"
@@ -1469,6 +1503,15 @@ public class CcddDbTableCommandHandler
                     // case) that's stored as a comment
                     dbCommand.executeDbCommand(command, tableDialog);
 
+                    // Discard the stored table members since these may
+                    // have changed
+                    invalidateTableMembers();
+
+                    // Flag the new table and the internal tables so that
+                    // these are reindexed prior to the next search
+                    dbCommand.getSearchIndex().invalidate(newName);
+                    dbCommand.getSearchIndex().invalidateInternalTables();
+
                     // Log that renaming the table succeeded
                     eventLog.logEvent(SUCCESS_MSG,
                                       "Table '"
@@ -1612,6 +1655,15 @@ public class CcddDbTableCommandHandler
                                                          dialog != null),
                                       parent);
 
+            // Discard the stored table members since these may have changed
+            invalidateTableMembers();
+
+            // Flag the deleted table(s) and the internal tables (which may
+            // reference the deleted tables) so that these are reindexed prior
+            // to the next search
+            dbCommand.getSearchIndex().invalidate(tableNames);
+            dbCommand.getSearchIndex().invalidateInternalTables();
+
             // Log that the table deletion succeeded
             eventLog.logEvent(SUCCESS_MSG,
                               "Table(s) '"
@@ -1819,6 +1871,9 @@ public class CcddDbTableCommandHandler
                 // Get the list of root structure tables
                 List<String> rootStructure = getRootStructures(parent);
 
+                // Create storage for the paths of the tables to load
+                List<String> loadPaths = new ArrayList<String>();
+
                 // Step through each table
                 for (int index = 0; index < tablePaths.length; index++)
                 {
@@ -1854,19 +1909,24 @@ public class CcddDbTableCommandHandler
                     // Check if the table is not already open in an editor
                     if (!isOpen)
                     {
-                        // Get the prototype + variable name
-                        String protoVarName = TableInformation.getProtoVariableName(tablePaths[index]);
-
-                        // Get the information from the database for the
-                        // specified table
-                        TableInformation tableInfo = loadTableData(tablePaths[index],
-                                                                   rootStructure.contains(protoVarName),
-                                                                   true,
-                                                                   true,
-                                                                   true,
-                                                                   parent);
-
-                        // Check if the table failed to load successfully
+                        // Add the table to the list of those to load
+                        loadPaths.add(tablePaths[index]);
+                    }
+                }
+
+                // Check if any table isn't already open in an editor
+                if (!loadPaths.isEmpty())
+                {
+                    // Get the information from the database for the specified
+                    // tables and step through each table
+                    for (TableInformation tableInfo : loadTableData(loadPaths,
+                                                                    rootStructure,
+                                                                    true,
+                                                                    true,
+                                                                    true,
+                                                                    parent))
+                    {
+                        // Check if the table loaded successfully
                         if (!tableInfo.isErrorFlag())
                         {
                             // Store the table information in the list
@@ -1970,60 +2030,447 @@ public class CcddDbTableCommandHandler
                                              boolean loadFieldInfo,
                                              Component parent)
     {
-        // Create an empty table information class
-        TableInformation tableInfo = new TableInformation(tablePath);
+        return loadTableData(Arrays.asList(tablePath),
+                             (isParentStructure
+                                                ? Arrays.asList(TableInformation.getProtoVariableName(tablePath))
+                                                : null),
+                             loadDescription,
+                             loadColumnOrder,
+                             loadFieldInfo,
+                             parent).get(0);
+    }
 
-        // Strip the variable name, if present, from the table name
-        String tableName = tableInfo.getPrototypeName();
+    /**************************************************************************
+     * Perform the database queries to load the contents of a list of database
+     * tables. See loadTableData(List, List, boolean, boolean, boolean, Map,
+     * Map, Component) for details
+     * 
+     * @param tablePaths
+     *            list of table paths in the format
+     *            rootTable[,dataType1.variable1[,dataType2 .variable2[,...]]].
+     *            The table path for a non-structure table is simply the root
+     *            table name. For a structure table the root table is the top
+     *            level structure table from which this table descends. The
+     *            first data type/variable name pair is from the root table,
+     *            with each succeeding pair coming from the next level down in
+     *            the structure's hierarchy
+     * 
+     * @param rootStructures
+     *            list of root structure table names; a table is flagged as a
+     *            parent structure if its prototype + variable name is in the
+     *            list. null if none of the tables is a parent structure
+     * 
+     * @param loadDescription
+     *            true to load the tables' descriptions
+     * 
+     * @param loadColumnOrder
+     *            true to load the tables' column orders
+     * 
+     * @param loadFieldInfo
+     *            true to retrieve the data field information to include with
+     *            the table information; false to not load the field
+     *            information
+     * 
+     * @param parent
+     *            GUI component calling this method
+     * 
+     * @return List of TableInformation classes containing the table data from
+     *         the database, in the same order as the table paths. If the error
+     *         flag is set for a table then an error occurred and the data for
+     *         that table is invalid
+     *************************************************************************/
+    protected List<TableInformation> loadTableData(List<String> tablePaths,
+                                                   List<String> rootStructures,
+                                                   boolean loadDescription,
+                                                   boolean loadColumnOrder,
+                                                   boolean loadFieldInfo,
+                                                   Component parent)
+    {
+        return loadTableData(tablePaths,
+                             rootStructures,
+                             loadDescription,
+                             loadColumnOrder,
+                             loadFieldInfo,
+                             new HashMap<String, List<String[]>>(),
+                             new HashMap<String, String[]>(),
+                             parent);
+    }
 
-        // Convert the table name to lower case. PostgreSQL automatically does
-        // this, so it's done here just to differentiate the table name from
-        // the database commands in the event log
-        String dbTableName = tableName.toLowerCase();
+    /**************************************************************************
+     * Perform the database queries to load the contents of a list of database
+     * tables. The prototype data for every table in the list is retrieved with
+     * a single query, as are the custom values for every table instance in
+     * the list; the custom values are then applied to copies of the prototype
+     * data in memory. The number of database round trips is therefore
+     * independent of the number of table instances loaded. If the combined
+     * queries fail (e.g., due to a single malformed table) then each table is
+     * loaded separately so that only the tables in error are flagged. The
+     * data for each table is sorted in ascending numerical order based on the
+     * index (primary key) column
+     * 
+     * @param tablePaths
+     *            list of table paths in the format
+     *            rootTable[,dataType1.variable1[,dataType2 .variable2[,...]]].
+     *            The table path for a non-structure table is simply the root
+     *            table name. For a structure table the root table is the top
+     *            level structure table from which this table descends. The
+     *            first data type/variable name pair is from the root table,
+     *            with each succeeding pair coming from the next level down in
+     *            the structure's hierarchy
+     * 
+     * @param rootStructures
+     *            list of root structure table names; a table is flagged as a
+     *            parent structure if its prototype + variable name is in the
+     *            list. null if none of the tables is a parent structure
+     * 
+     * @param loadDescription
+     *            true to load the tables' descriptions
+     * 
+     * @param loadColumnOrder
+     *            true to load the tables' column orders
+     * 
+     * @param loadFieldInfo
+     *            true to retrieve the data field information to include with
+     *            the table information; false to not load the field
+     *            information
+     * 
+     * @param prototypeData
+     *            map of prototype tables' rows, keyed by the table's database
+     *            name. Only prototypes not already in the map are queried,
+     *            and these are added to the map. A caller loading the tables
+     *            in several steps (e.g., a structure hierarchy level by level)
+     *            can supply the same map to each call so that a prototype's
+     *            rows are retrieved only once. The rows in the map aren't
+     *            altered
+     * 
+     * @param tableComments
+     *            map of data table comments, keyed by the table's database
+     *            name. Only the comments for tables not already in the map are
+     *            queried, and these are added to the map. As with the
+     *            prototype data, a caller loading tables in several steps can
+     *            supply the same map to each call
+     * 
+     * @param parent
+     *            GUI component calling this method
+     * 
+     * @return List of TableInformation classes containing the table data from
+     *         the database, in the same order as the table paths. If the error
+     *         flag is set for a table then an error occurred and the data for
+     *         that table is invalid
+     *************************************************************************/
+    protected List<TableInformation> loadTableData(List<String> tablePaths,
+                                                   List<String> rootStructures,
+                                                   boolean loadDescription,
+                                                   boolean loadColumnOrder,
+                                                   boolean loadFieldInfo,
+                                                   Map<String, List<String[]>> prototypeData,
+                                                   Map<String, String[]> tableComments,
+                                                   Component parent)
+    {
+        List<TableInformation> tableInformation = new ArrayList<TableInformation>(tablePaths.size());
 
-        // Check if the table exists in the database
-        if (isTableExists(dbTableName, parent))
+        try
         {
-            try
+            // Get the comments for the referenced tables not already loaded.
+            // The comment is used both to determine if a table exists and to
+            // obtain its type
+            loadTableComments(tablePaths, tableComments, parent);
+
+            // Get the rows for every referenced prototype table not already
+            // loaded and the custom values for every referenced table instance
+            loadPrototypeData(tablePaths, tableComments, prototypeData, parent);
+            Map<String, List<String[]>> instanceValues = loadInstanceValues(tablePaths,
+                                                                            parent);
+
+            // Get the data field definitions, if requested. These are shared by
+            // all of the tables being loaded
+            Object[][] fieldDefinitions = loadFieldInfo
+                                                       ? retrieveInformationTable(InternalTable.FIELDS,
+                                                                                  parent).toArray(new String[0][0])
+                                                       : null;
+
+            // Step through each table path
+            for (String tablePath : tablePaths)
             {
-                // Get the table comment
-                String[] comment = queryDataTableComment(tableName, parent);
+                // Strip the variable name, if present, from the table name
+                // and convert it to the database form
+                String dbTableName = TableInformation.getPrototypeName(tablePath).toLowerCase();
+
+                // Get the table's comment and row data
+                String[] comment = tableComments.get(dbTableName);
+                List<String[]> protoRows = prototypeData.get(dbTableName);
+
+                // Check if the table doesn't exist in the database
+                if (comment == null || protoRows == null)
+                {
+                    // Create an empty table information class with the error
+                    // flag set
+                    tableInformation.add(new TableInformation(tablePath));
+                    continue;
+                }
 
                 // Get the table type definition for this table
                 TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(comment[TableCommentIndex.TYPE.ordinal()]);
 
-                // Get a comma-separated list of the columns for this table's
-                // type
-                String columnNames = CcddUtilities.convertArrayToString(typeDefn.getColumnNamesDatabase());
-
-                // Get the table's row information for the specified columns.
-                // The table must have all of its table type's columns or else
-                // it fails to load
-                ResultSet rowData = dbCommand.executeDbQuery("SELECT "
-                                                             + columnNames
-                                                             + " FROM "
-                                                             + dbTableName
-                                                             + " ORDER BY "
-                                                             + DefaultColumn.ROW_INDEX.getDbName()
-                                                             + ";",
-                                                             parent);
+                // Copy the prototype's rows so that the instance values don't
+                // alter the data shared with other instances of the prototype
+                String[][] tableData = new String[protoRows.size()][];
+
+                for (int row = 0; row < tableData.length; row++)
+                {
+                    tableData[row] = protoRows.get(row).clone();
+                }
+
+                // Create the table information handler for this table
+                TableInformation tableInfo = new TableInformation(comment[TableCommentIndex.TYPE.ordinal()],
+                                                                  tablePath,
+                                                                  tableData,
+                                                                  (loadColumnOrder
+                                                                                  ? queryColumnOrder(tablePath,
+                                                                                                     comment[TableCommentIndex.TYPE.ordinal()],
+                                                                                                     parent)
+                                                                                  : ""),
+                                                                  (loadDescription
+                                                                                  ? queryTableDescription(tablePath,
+                                                                                                          parent)
+                                                                                  : ""),
+                                                                  rootStructures != null
+                                                                      && rootStructures.contains(TableInformation.getProtoVariableName(tablePath)),
+                                                                  fieldDefinitions);
+
+                // Get the custom values for this table instance, if any
+                List<String[]> values = instanceValues.get(tablePath);
+
+                // Check if the table is an instance with custom values
+                if (values != null)
+                {
+                    // Replace the prototype's values with the instance's
+                    applyInstanceValues(typeDefn, tableData, values);
+                }
 
-                // Create a list to contain the database table rows
-                List<String[]> dbRows = new ArrayList<String[]>();
+                tableInformation.add(tableInfo);
+            }
+        }
+        catch (SQLException se)
+        {
+            tableInformation.clear();
+
+            // Check if more than one table is being loaded
+            if (tablePaths.size() > 1)
+            {
+                // Step through each table path
+                for (String tablePath : tablePaths)
+                {
+                    // Load the table by itself so that an error in one table
+                    // doesn't prevent loading the others. Any error is
+                    // reported for the table in error
+                    tableInformation.add(loadTableData(Arrays.asList(tablePath),
+                                                       rootStructures,
+                                                       loadDescription,
+                                                       loadColumnOrder,
+                                                       loadFieldInfo,
+                                                       prototypeData,
+                                                       tableComments,
+                                                       parent).get(0));
+                }
+            }
+            // Only a single table is being loaded
+            else
+            {
+                // Inform the user that loading the table failed
+                eventLog.logFailEvent(parent,
+                                      "Cannot load table '"
+                                          + tablePaths.get(0)
+                                          + "'; cause '"
+                                          + se.getMessage()
+                                          + "'",
+                                      "<html><b>Cannot load table '</b>"
+                                          + tablePaths.get(0)
+                                          + "<b>'");
+
+                // Flag the table as failing to load
+                tableInformation.add(new TableInformation(tablePaths.get(0)));
+            }
+        }
+
+        return tableInformation;
+    }
+
+    /**************************************************************************
+     * Load the comment for each data table referenced by the supplied table
+     * paths, and not already loaded. If only a single table's comment is
+     * needed then only that table's comment is queried; otherwise the
+     * comments for all of the data tables are retrieved with a single query
+     * 
+     * @param tablePaths
+     *            list of table paths
+     * 
+     * @param tableComments
+     *            map of data table comments, keyed by the table's database
+     *            name. The comment of each table loaded, broken into its
+     *            separate elements, is added to the map. A table that doesn't
+     *            exist isn't included in the map
+     * 
+     * @param parent
+     *            GUI component calling this method
+     *************************************************************************/
+    private void loadTableComments(List<String> tablePaths,
+                                   Map<String, String[]> tableComments,
+                                   Component parent)
+    {
+        Set<String> dbTableNames = new HashSet<String>();
+        String[] comments = new String[0];
+
+        // Step through each table path
+        for (String tablePath : tablePaths)
+        {
+            // Get the prototype table's name as used in the database
+            String dbTableName = TableInformation.getPrototypeName(tablePath).toLowerCase();
+
+            // Check if the table's comment hasn't already been loaded
+            if (!tableComments.containsKey(dbTableName))
+            {
+                // Add the table to the list of those needing a comment
+                dbTableNames.add(dbTableName);
+            }
+        }
+
+        // Check if only a single table's comment is needed
+        if (dbTableNames.size() == 1)
+        {
+            // Get the comment for the table
+            comments = dbCommand.getList(DatabaseListCommand.SPECIFIC_TABLE_COMMENT,
+                                         new String[][] {{"_table_name_",
+                                                          dbTableNames.iterator().next()}},
+                                         parent);
+        }
+        // Check if the comments for more than one table are needed
+        else if (!dbTableNames.isEmpty())
+        {
+            // Get the comment for every data table
+            comments = dbCommand.getList(DatabaseListCommand.TABLE_COMMENTS,
+                                         null,
+                                         parent);
+        }
+
+        // Step through each comment
+        for (String comment : comments)
+        {
+            // Parse the comment into its separate elements
+            String[] elements = comment.split(",");
+
+            // Create an array to contain the data table comment elements and
+            // initialize each to a blank
+            String[] parts = new String[TableCommentIndex.values().length];
+            Arrays.fill(parts, "");
+            System.arraycopy(elements,
+                             0,
+                             parts,
+                             0,
+                             Math.min(elements.length, parts.length));
+
+            // Store the comment, keyed by the table's database name
+            tableComments.put(parts[TableCommentIndex.NAME.ordinal()].toLowerCase(),
+                              parts);
+        }
+    }
+
+    /**************************************************************************
+     * Load the rows for each prototype table referenced by the supplied table
+     * paths, and not already loaded, using a single database query. The
+     * columns of each table are retrieved as a text array so that tables of
+     * differing types can be combined in the query's result set
+     * 
+     * @param tablePaths
+     *            list of table paths
+     * 
+     * @param comments
+     *            map of data table comments, keyed by the table's database
+     *            name
+     * 
+     * @param prototypeData
+     *            map of the prototype tables' rows, keyed by the table's
+     *            database name. The rows of each prototype loaded are added
+     *            to the map, in row index order. A prototype that doesn't
+     *            exist, or that isn't loaded due to an error, isn't included
+     *            in the map
+     * 
+     * @param parent
+     *            GUI component calling this method
+     * 
+     * @throws SQLException
+     *             If an error occurs executing the query
+     *************************************************************************/
+    private void loadPrototypeData(List<String> tablePaths,
+                                   Map<String, String[]> comments,
+                                   Map<String, List<String[]>> prototypeData,
+                                   Component parent) throws SQLException
+    {
+        StringBuilder command = new StringBuilder();
+        List<String> queriedTables = new ArrayList<String>();
+
+        // Step through each table path
+        for (String tablePath : tablePaths)
+        {
+            // Get the prototype table's name as used in the database
+            String dbTableName = TableInformation.getPrototypeName(tablePath).toLowerCase();
+
+            // Check if the prototype hasn't already been added to the query
+            // and that the table exists
+            if (!prototypeData.containsKey(dbTableName)
+                && comments.containsKey(dbTableName))
+            {
+                // Get the table type definition for this table
+                TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(comments.get(dbTableName)[TableCommentIndex.TYPE.ordinal()]);
+
+                // Check if the table's type is defined
+                if (typeDefn != null)
+                {
+                    // Create the storage for the prototype's rows. This also
+                    // prevents adding the prototype to the query more than once
+                    prototypeData.put(dbTableName, new ArrayList<String[]>());
+                    queriedTables.add(dbTableName);
+
+                    // Check if this isn't the first table in the query
+                    if (command.length() != 0)
+                    {
+                        command.append(" UNION ALL ");
+                    }
+
+                    // Add the query for the table's rows. The table must have
+                    // all of its table type's columns or else it fails to load
+                    command.append("SELECT "
+                                   + delimitText(dbTableName)
+                                   + "::text, "
+                                   + DefaultColumn.ROW_INDEX.getDbName()
+                                   + ", ARRAY["
+                                   + CcddUtilities.convertArrayToString(typeDefn.getColumnNamesDatabase()).replaceAll(",",
+                                                                                                                      "::text,")
+                                   + "::text] FROM "
+                                   + dbTableName);
+                }
+            }
+        }
+
+        // Check if any prototype table exists
+        if (command.length() != 0)
+        {
+            try
+            {
+                // Get the rows for all of the prototype tables
+                ResultSet rowData = dbCommand.executeDbQuery(command.toString()
+                                                             + " ORDER BY 1, 2;",
+                                                             parent);
 
                 // Step through each of the query results
                 while (rowData.next())
                 {
-                    // Create an array to contain the column values
-                    String[] columnValues = new String[typeDefn.getColumnCountDatabase()];
+                    // Get the column values for this row
+                    String[] columnValues = (String[]) rowData.getArray(3).getArray();
 
                     // Step through each column in the row
-                    for (int column = 0; column < typeDefn.getColumnCountDatabase(); column++)
+                    for (int column = 0; column < columnValues.length; column++)
                     {
-                        // Add the column value to the array. Note that the
-                        // first column's index in the database is 1, not 0
-                        columnValues[column] = rowData.getString(column + 1);
-
                         // Check if the value is null
                         if (columnValues[column] == null)
                         {
@@ -2032,126 +2479,183 @@ public class CcddDbTableCommandHandler
                         }
                     }
 
-                    // Add the row data to the list
-                    dbRows.add(columnValues);
+                    // Add the row data to the prototype's list
+                    prototypeData.get(rowData.getString(1)).add(columnValues);
                 }
 
                 rowData.close();
+            }
+            catch (SQLException se)
+            {
+                // Step through each prototype included in the query
+                for (String dbTableName : queriedTables)
+                {
+                    // Remove the prototype's incomplete rows so that the
+                    // prototype is queried again if subsequently referenced
+                    prototypeData.remove(dbTableName);
+                }
 
-                // Create the table information handler for this table
-                tableInfo = new TableInformation(comment[TableCommentIndex.TYPE.ordinal()],
-                                                 tablePath,
-                                                 dbRows.toArray(new String[0][0]),
-                                                 (loadColumnOrder
-                                                                 ? queryColumnOrder(tablePath,
-                                                                                    comment[TableCommentIndex.TYPE.ordinal()],
-                                                                                    parent)
-                                                                 : ""),
-                                                 (loadDescription
-                                                                 ? queryTableDescription(tablePath,
-                                                                                         parent)
-                                                                 : ""),
-                                                 isParentStructure,
-                                                 (loadFieldInfo
-                                                               ? retrieveInformationTable(InternalTable.FIELDS,
-                                                                                          parent).toArray(new String[0][0])
-                                                               : null));
-
-                // Get the index of the variable name and data type columns
-                int varNameIndex = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE);
-                int dataTypeIndex = typeDefn.getColumnIndexByInputType(InputDataType.PRIM_AND_STRUCT);
-
-                // Check if the variable name and data type columns exist, and
-                // if the table has a path. If so it may have values in the
-                // custom values table that must be loaded
-                if (varNameIndex != -1
-                    && dataTypeIndex != -1
-                    && tablePath.contains(","))
+                throw se;
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Load the custom values for each table instance in the supplied list of
+     * table paths using a single database query
+     * 
+     * @param tablePaths
+     *            list of table paths
+     * 
+     * @param parent
+     *            GUI component calling this method
+     * 
+     * @return Map of the custom values (variable path, column name, and value)
+     *         for the table instances, keyed by the instance's table path
+     * 
+     * @throws SQLException
+     *             If an error occurs executing the query
+     *************************************************************************/
+    private Map<String, List<String[]>> loadInstanceValues(List<String> tablePaths,
+                                                           Component parent) throws SQLException
+    {
+        Map<String, List<String[]>> instanceValues = new HashMap<String, List<String[]>>();
+        StringBuilder paths = new StringBuilder();
+
+        // Step through each table path
+        for (String tablePath : tablePaths)
+        {
+            // Check if the table is an instance (i.e., has a path) that hasn't
+            // already been added to the query. Only instances may have values
+            // in the custom values table
+            if (tablePath.contains(",") && !instanceValues.containsKey(tablePath))
+            {
+                // Create the storage for the instance's values and add the
+                // path to the query
+                instanceValues.put(tablePath, new ArrayList<String[]>());
+                paths.append(delimitText(tablePath)).append(", ");
+            }
+        }
+
+        // Check if any table instance is referenced
+        if (paths.length() != 0)
+        {
+            // Get the rows from the custom values table that have a parent
+            // path matching one of the table instances. The parent path
+            // expression is indexed, so only the matching rows are read.
+            // These values replace those loaded for the prototype of the
+            // instance
+            ResultSet rowData = dbCommand.executeDbQuery("SELECT * FROM "
+                                                         + InternalTable.VALUES.getTableName()
+                                                         + " WHERE "
+                                                         + VALUES_PARENT_PATH
+                                                         + " IN ("
+                                                         + CcddUtilities.removeTrailer(paths, ", ")
+                                                         + ") AND "
+                                                         + ValuesColumn.COLUMN_NAME.getColumnName()
+                                                         + " != '';",
+                                                         parent);
+
+            // Step through each of the query results
+            while (rowData.next())
+            {
+                // Get the variable path that will have its value replaced
+                String variablePath = rowData.getString(ValuesColumn.TABLE_PATH.getColumnName());
+
+                // Add the value to the list for the instance to which the
+                // variable belongs
+                List<String[]> values = instanceValues.get(variablePath.substring(0,
+                                                                                  variablePath.lastIndexOf(",")));
+
+                if (values != null)
                 {
-                    // Place double back slashes before each square brace
-                    // character in an array index so that the brackets are
-                    // interpreted correctly in the query's regular
-                    // expression comparisons
-                    tablePath = tablePath.replaceAll("\\[(\\d+)\\]",
-                                                     "\\\\\\\\[$1\\\\\\\\]");
-
-                    // Get the rows from the custom values table that match
-                    // the specified parent table and variable path. These
-                    // values replace those loaded for the prototype of
-                    // this table
-                    rowData = dbCommand.executeDbQuery("SELECT * FROM "
-                                                       + InternalTable.VALUES.getTableName()
-                                                       + " WHERE "
-                                                       + ValuesColumn.TABLE_PATH.getColumnName()
-                                                       + " ~ E'^"
-                                                       + tablePath
-                                                       + ",[^,]+$' AND "
-                                                       + ValuesColumn.COLUMN_NAME.getColumnName()
-                                                       + " != '';",
-                                                       parent);
-
-                    // Step through each of the query results
-                    while (rowData.next())
+                    values.add(new String[] {variablePath,
+                                             rowData.getString(ValuesColumn.COLUMN_NAME.getColumnName()),
+                                             rowData.getString(ValuesColumn.VALUE.getColumnName())});
+                }
+            }
+
+            rowData.close();
+        }
+
+        return instanceValues;
+    }
+
+    /**************************************************************************
+     * Replace the prototype values in a table instance's data with those from
+     * the custom values table
+     * 
+     * @param typeDefn
+     *            table type definition for the instance
+     * 
+     * @param tableData
+     *            table instance data, initialized with the prototype's values
+     * 
+     * @param values
+     *            list of custom values for the instance; each entry contains
+     *            the variable path, column name, and value
+     *************************************************************************/
+    private void applyInstanceValues(TypeDefinition typeDefn,
+                                     String[][] tableData,
+                                     List<String[]> values)
+    {
+        // Get the index of the variable name and data type columns
+        int varNameIndex = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE);
+        int dataTypeIndex = typeDefn.getColumnIndexByInputType(InputDataType.PRIM_AND_STRUCT);
+
+        // Check if the variable name and data type columns exist. If not then
+        // the table can't have values in the custom values table
+        if (varNameIndex != -1 && dataTypeIndex != -1 && !values.isEmpty())
+        {
+            // Create a map of the table's variable names to their row indices.
+            // If a variable name appears more than once the first occurrence
+            // is used
+            Map<String, Integer> variableRows = new HashMap<String, Integer>();
+
+            for (int row = tableData.length - 1; row >= 0; row--)
+            {
+                variableRows.put(tableData[row][varNameIndex], row);
+            }
+
+            // Step through each custom value for the instance
+            for (String[] value : values)
+            {
+                // Get the variable path that will have its value replaced
+                String variablePath = value[0];
+
+                // Get the index of the last data type/variable name separator
+                // character (if present)
+                int varIndex = variablePath.lastIndexOf(".");
+
+                // Check if a variable name exists
+                if (varIndex != -1)
+                {
+                    // Get the row index for the referenced variable
+                    Integer row = variableRows.get(variablePath.substring(varIndex + 1));
+
+                    // Check if the table contains the variable and if the data
+                    // type of the variable in the table matches the data type
+                    // in the path from the custom values table
+                    if (row != null
+                        && tableData[row][dataTypeIndex].equals(variablePath.substring(variablePath.lastIndexOf(",")
+                                                                                       + 1,
+                                                                                       varIndex)))
                     {
-                        // Get the variable name that will have its value
+                        // Get the index of the column that will have its data
                         // replaced
-                        String variableName = rowData.getString(ValuesColumn.TABLE_PATH.getColumnName());
-
-                        // Get the index of the last data type/variable name
-                        // separator character (if present)
-                        int varIndex = variableName.lastIndexOf(".");
+                        int column = typeDefn.getColumnIndexByUserName(value[1]);
 
-                        // Check if a variable name exists
-                        if (varIndex != -1)
+                        // Check if the table contains the column
+                        if (column != -1)
                         {
-                            // Get the row index for the referenced variable
-                            int row = typeDefn.getRowIndexByColumnValue(tableInfo.getData(),
-                                                                        variableName.substring(varIndex + 1),
-                                                                        varNameIndex);
-
-                            // Check if the table contains the variable and if
-                            // the data type of the variable in the table
-                            // matches the data type in the path from the
-                            // custom values table
-                            if (row != -1
-                                && tableInfo.getData()[row][dataTypeIndex].equals(variableName.subSequence(variableName.lastIndexOf(",")
-                                                                                                           + 1,
-                                                                                                           varIndex)))
-                            {
-                                // Get the index of the column that will have
-                                // its data replaced
-                                int column = typeDefn.getColumnIndexByUserName(rowData.getString(ValuesColumn.COLUMN_NAME.getColumnName()));
-
-                                // Check if the table contains the column
-                                if (column != -1)
-                                {
-                                    // Replace the value in the table with the
-                                    // one from the custom values table
-                                    tableInfo.getData()[row][column] = rowData.getString(ValuesColumn.VALUE.getColumnName());
-                                }
-                            }
+                            // Replace the value in the table with the one from
+                            // the custom values table
+                            tableData[row][column] = value[2];
                         }
                     }
-
-                    rowData.close();
                 }
             }
-            catch (SQLException se)
-            {
-                // Inform the user that loading the table failed
-                eventLog.logFailEvent(parent,
-                                      "Cannot load table '"
-                                          + tableInfo.getProtoVariableName()
-                                          + "'; cause '"
-                                          + se.getMessage()
-                                          + "'",
-                                      "<html><b>Cannot load table '</b>"
-                                          + tableInfo.getProtoVariableName()
-                                          + "<b>'");
-            }
         }
-
-        return tableInfo;
     }
 
     /**************************************************************************
@@ -2260,14 +2764,92 @@ public class CcddDbTableCommandHandler
         setTableComment(InternalTable.TLM_SCHEDULER.getTableName(),
                         comment,
                         parent);
+
+        // Discard the stored table members since these may have changed
+        invalidateTableMembers();
     }
 
     /**************************************************************************
-     * Create a list of all prototype tables with their child tables
-     * (prototypes and instances), and primitive variables (if specified). The
-     * table must contain all of the protected columns defined for a structure
-     * in order for its members to be determined. Non-structure tables are
-     * included in the returned list, but by definition have no members
+     * Discard the stored table members so that these are reloaded from the
+     * database the next time these are requested. This must be called whenever
+     * a change is made to the database that affects the tables, their
+     * members, or their types
+     *************************************************************************/
+    protected void invalidateTableMembers()
+    {
+        synchronized (tableMembersMap)
+        {
+            tableMembersMap.clear();
+        }
+    }
+
+    /**************************************************************************
+     * Get a list of all prototype tables with their child tables (prototypes
+     * and instances), and primitive variables (if specified). The table
+     * members are loaded from the database the first time these are requested
+     * for the specified member type and sort order; subsequent requests use
+     * the stored members until these are invalidated by a change to the
+     * tables
+     * 
+     * @param memberType
+     *            Type of table members to load: TABLES_ONLY to exclude
+     *            primitive variables, INCLUDE_PRIMITIVES to include tables and
+     *            primitive variables
+     * 
+     * @param sortByName
+     *            true to return the table members in alphabetical order (e.g.,
+     *            for use in a tree); false to return the members sorted by row
+     *            index (e.g., for use in determining the variable offsets in
+     *            the structure)
+     * 
+     * @param parent
+     *            GUI component calling this method
+     * 
+     * @return List containing the table member information; null if an error
+     *         occurs loading the members. The table member information is
+     *         shared, and therefore must not be altered
+     *************************************************************************/
+    protected List<TableMembers> loadTableMembers(TableMemberType memberType,
+                                                  boolean sortByName,
+                                                  Component parent)
+    {
+        List<TableMembers> tableMembers;
+
+        // Build the key for the member type and sort order
+        String key = memberType.toString() + "," + sortByName;
+
+        synchronized (tableMembersMap)
+        {
+            // Get the stored members for this member type and sort order
+            tableMembers = tableMembersMap.get(key);
+
+            // Check if the members haven't been loaded
+            if (tableMembers == null)
+            {
+                // Load the table members from the database
+                tableMembers = queryTableMembers(memberType, sortByName, parent);
+
+                // Check if the table members loaded successfully
+                if (tableMembers != null)
+                {
+                    // Store the members for subsequent requests
+                    tableMembersMap.put(key, tableMembers);
+                }
+            }
+        }
+
+        return tableMembers == null
+                                   ? null
+                                   : new ArrayList<TableMembers>(tableMembers);
+    }
+
+    /**************************************************************************
+     * Load a list of all prototype tables with their child tables
+     * (prototypes and instances), and primitive variables (if specified) from
+     * the database. The table must contain all of the protected columns
+     * defined for a structure in order for its members to be determined.
+     * Non-structure tables are included in the returned list, but by
+     * definition have no members
      * 
      * @param memberType
      *            Type of table members to load: TABLES_ONLY to exclude
@@ -2289,9 +2871,9 @@ public class CcddDbTableCommandHandler
      *         variables (if specified), sorted by variable name or row index
      *         as specified
      *************************************************************************/
-    protected List<TableMembers> loadTableMembers(TableMemberType memberType,
-                                                  boolean sortByName,
-                                                  final Component parent)
+    private List<TableMembers> queryTableMembers(TableMemberType memberType,
+                                                 boolean sortByName,
+                                                 final Component parent)
     {
         List<TableMembers> tableMembers = new ArrayList<TableMembers>();
 
@@ -2597,11 +3179,13 @@ public class CcddDbTableCommandHandler
                                                      parent);
             }
 
-            // Build the commands to add, modify, and delete table rows
-            String command = buildAdditionCommand(tableInfo,
-                                                  additions,
-                                                  dbTableName)
-                             + buildModificationCommand(tableInfo,
+            Map<String, List<Object[]>> commands = new LinkedHashMap<String, List<Object[]>>();
+
+            // Build the command to add table rows
+            buildAdditionCommand(tableInfo, additions, dbTableName, commands);
+
+            // Build the commands to modify and delete table rows
+            String command = buildModificationCommand(tableInfo,
                                                         typeDefinition.isStructure(),
                                                         modifications,
                                                         typeDefinition,
@@ -2629,15 +3213,28 @@ public class CcddDbTableCommandHandler
             }
 
             // Combine the table, data fields table, table description, and
-            // column order update commands, then execute the commands
-            dbCommand.executeDbUpdate(command
-                                      + modifyFieldsCommand(tableInfo.getTablePath(),
-                                                            tableInfo.getFieldHandler().getFieldInformation())
-                                      + buildTableDescription(tableInfo.getTablePath(),
-                                                              description)
-                                      + buildColumnOrder(tableInfo.getTablePath(),
-                                                         tableInfo.getColumnOrder()),
-                                      parent);
+            // column order update commands
+            commands.put(command
+                         + modifyFieldsCommand(tableInfo.getTablePath(),
+                                               tableInfo.getFieldHandler().getFieldInformation())
+                         + buildTableDescription(tableInfo.getTablePath(),
+                                                 description)
+                         + buildColumnOrder(tableInfo.getTablePath(),
+                                            tableInfo.getColumnOrder()),
+                         new ArrayList<Object[]>());
+
+            // Execute the row addition command for each added row, then the
+            // combined update commands
+            dbCommand.executeDbBatch(commands, parent);
+
+            // Discard the stored table members since these may have changed
+            invalidateTableMembers();
+
+            // Flag the prototype table and the internal tables (which store
+            // instance values and references to the table's variables) so
+            // that these are reindexed prior to the next search
+            dbCommand.getSearchIndex().invalidate(tableInfo.getPrototypeName());
+            dbCommand.getSearchIndex().invalidateInternalTables();
 
             // Check if this is a prototype table and that new rows were added.
             // New rows have database-generated primary key values that aren't
@@ -2705,8 +3302,10 @@ public class CcddDbTableCommandHandler
     }
 
     /**************************************************************************
-     * Build the command to add table rows. Only prototype tables can have a
-     * row added
+     * Build the parameterized command to add table rows and the list of column
+     * values for each added row. If a large number of rows are added (e.g.,
+     * when importing a table) then a bulk copy command is used in place of
+     * the insert command. Only prototype tables can have a row added
      * 
      * @param tableInfo
      *            table information
@@ -2717,29 +3316,26 @@ public class CcddDbTableCommandHandler
      * @param dbTableName
      *            name of the table to which to add rows
      * 
-     * @return Table row addition command
+     * @param commands
+     *            map to which the table row addition command and the column
+     *            values for each added row are added; unchanged if there are
+     *            no additions
      *************************************************************************/
-    private String buildAdditionCommand(TableInformation tableInfo,
-                                        List<TableAddition> additions,
-                                        String dbTableName)
+    private void buildAdditionCommand(TableInformation tableInfo,
+                                      List<TableAddition> additions,
+                                      String dbTableName,
+                                      Map<String, List<Object[]>> commands)
     {
-        StringBuilder addCmd = new StringBuilder("");
-
         // Check if there are any table additions
         if (!additions.isEmpty())
         {
-            // Create the insert table data command. The array of column names
-            // is converted to a string
-            addCmd.append("INSERT INTO "
-                          + dbTableName
-                          + " ("
-                          + CcddUtilities.convertArrayToString(tableTypeHandler.getColumnNamesDb(tableInfo.getType()))
-                          + ") VALUES ");
+            List<Object[]> rowValues = new ArrayList<Object[]>();
+            StringBuilder addCmd;
 
             // Step through each addition
             for (TableAddition add : additions)
             {
-                addCmd.append("(DEFAULT, ");
+                List<Object> values = new ArrayList<Object>();
 
                 // For each column in the matching row
                 for (int column = 0; column < add.getRowData().length; column++)
@@ -2747,24 +3343,67 @@ public class CcddDbTableCommandHandler
                     // Check that this isn't the primary key column
                     if (column != DefaultColumn.PRIMARY_KEY.ordinal())
                     {
-                        // Append the column value
-                        addCmd.append(delimitText(add.getRowData()[column]) + ", ");
+                        // Store the column value
+                        values.add(add.getRowData()[column]);
+                    }
+                }
+
+                // Add the row's values to the list
+                rowValues.add(values.toArray());
+            }
+
+            // Check if the number of rows added is large enough to use a bulk
+            // copy
+            if (additions.size() >= COPY_ROW_THRESHOLD)
+            {
+                // Create the copy table data command. The primary key column
+                // is omitted so that its value is generated by the database
+                addCmd = new StringBuilder("COPY " + dbTableName + " (");
+
+                // Step through each column name
+                for (String columnName : tableTypeHandler.getColumnNamesDb(tableInfo.getType()))
+                {
+                    // Check that this isn't the primary key column
+                    if (!columnName.equals(DefaultColumn.PRIMARY_KEY.getDbName()))
+                    {
+                        // Add the column name to the command
+                        addCmd.append(columnName + ", ");
                     }
                 }
 
-                // Remove the ending comma and space, append the closing
-                // parenthesis, and add the command to add this row
+                // Remove the ending comma and space, and append the input
+                // source and format
                 addCmd = CcddUtilities.removeTrailer(addCmd, ", ");
-                addCmd.append("), ");
+                addCmd.append(") FROM STDIN WITH (FORMAT csv)");
             }
+            // Insert the rows
+            else
+            {
+                // Create the insert table data command. The array of column
+                // names is converted to a string. The primary key value is
+                // generated by the database
+                addCmd = new StringBuilder("INSERT INTO "
+                                           + dbTableName
+                                           + " ("
+                                           + CcddUtilities.convertArrayToString(tableTypeHandler.getColumnNamesDb(tableInfo.getType()))
+                                           + ") VALUES (DEFAULT, ");
+
+                // Step through each column value in a row
+                for (int index = 0; index < rowValues.get(0).length; index++)
+                {
+                    // Add the column value placeholder to the command
+                    addCmd.append("?, ");
+                }
 
-            // Remove the ending comma and space, and append the command's
-            // closing semi-colon
-            addCmd = CcddUtilities.removeTrailer(addCmd, ", ");
-            addCmd.append("; ");
-        }
+                // Remove the ending comma and space, and append the closing
+                // parenthesis and semi-colon
+                addCmd = CcddUtilities.removeTrailer(addCmd, ", ");
+                addCmd.append(");");
+            }
 
-        return addCmd.toString();
+            // Add the command and the values for each added row
+            commands.put(addCmd.toString(), rowValues);
+        }
     }
 
     /**************************************************************************
@@ -3787,6 +4426,7 @@ public class CcddDbTableCommandHandler
                 try
                 {
                     String command = "";
+                    Map<String, List<Object[]>> deltaCommands = null;
 
                     switch (intTable)
                     {
@@ -3820,12 +4460,25 @@ public class CcddDbTableCommandHandler
                         case RESERVED_MSG_IDS:
                         case SCRIPT:
                         case TLM_SCHEDULER:
-                            // Build the command for storing the script
-                            // configurations, groups, or links table
-                            command += storeNonTableTypesInfoTableCommand(intTable,
-                                                                          tableData,
-                                                                          tableComment,
-                                                                          parent);
+                            // Build the commands to update only the rows of
+                            // the stored table that differ from the table data
+                            deltaCommands = storeNonTableTypesInfoTableDelta(intTable,
+                                                                             tableData,
+                                                                             tableComment,
+                                                                             parent);
+
+                            // Check if the stored table can't be updated in
+                            // place (e.g., it doesn't exist)
+                            if (deltaCommands == null)
+                            {
+                                // Build the command for storing the script
+                                // configurations, groups, or links table
+                                command += storeNonTableTypesInfoTableCommand(intTable,
+                                                                              tableData,
+                                                                              tableComment,
+                                                                              parent);
+                            }
+
                             break;
 
                         case TABLE_TYPES:
@@ -3838,8 +4491,37 @@ public class CcddDbTableCommandHandler
                             break;
                     }
 
-                    // Execute the database update
-                    dbCommand.executeDbUpdate(command, parent);
+                    // Check if the table is stored by replacing its contents
+                    if (deltaCommands == null)
+                    {
+                        // Execute the database update
+                        dbCommand.executeDbUpdate(command, parent);
+                    }
+                    // The table is stored by updating the changed rows
+                    else
+                    {
+                        Map<String, List<Object[]>> batchCommands = new LinkedHashMap<String, List<Object[]>>();
+
+                        // Check if there are any other commands to execute
+                        // (e.g., group data field updates)
+                        if (!command.isEmpty())
+                        {
+                            // Execute these commands first
+                            batchCommands.put(command,
+                                              new ArrayList<Object[]>());
+                        }
+
+                        // Execute the commands, along with those to update the
+                        // changed rows, in a single transaction
+                        batchCommands.putAll(deltaCommands);
+                        dbCommand.executeDbBatch(batchCommands, parent);
+                    }
+
+                    // Flag the internal table, and the data fields table
+                    // (which is updated along with the groups table), so
+                    // that these are reindexed prior to the next search
+                    dbCommand.getSearchIndex().invalidate(intTableName,
+                                                          InternalTable.FIELDS.getTableName());
 
                     // Inform the user that the update succeeded
                     eventLog.logEvent(SUCCESS_MSG,
@@ -4061,6 +4743,294 @@ public class CcddDbTableCommandHandler
         return command.toString();
     }
 
+    /**************************************************************************
+     * Build the commands for storing the groups, script associations, links
+     * table, data fields, or script by altering only the rows of the stored
+     * table that differ from the supplied table data. The rows in common at
+     * the beginning and end of the stored and supplied data are left
+     * untouched, the differing rows between these are updated in place, and
+     * any remaining rows are deleted or appended. Since the internal tables
+     * are read in OID order, and updating a row doesn't change its OID, the
+     * row order is preserved
+     * 
+     * @param intTable
+     *            type of internal table to store
+     * 
+     * @param tableData
+     *            list containing the table data to store
+     * 
+     * @param tableComment
+     *            table comment; null if unchanged
+     * 
+     * @param parent
+     *            GUI component calling this method
+     * 
+     * @return Map containing the parameterized commands, in execution order,
+     *         and the list of parameters for each; null if the table doesn't
+     *         exist or its columns don't match the table data, in which case
+     *         the table must be replaced in its entirety
+     * 
+     * @throws SQLException
+     *             If an error occurs reading the stored table
+     *************************************************************************/
+    private Map<String, List<Object[]>> storeNonTableTypesInfoTableDelta(InternalTable intTable,
+                                                                         List<String[]> tableData,
+                                                                         String tableComment,
+                                                                         Component parent) throws SQLException
+    {
+        Map<String, List<Object[]>> commands = null;
+
+        // Get the internal table's name
+        String tableName = intTable.getTableName(tableComment);
+
+        // Check that the internal table exists in the database
+        if (isTableExists(tableName, parent))
+        {
+            List<String[]> storedData = new ArrayList<String[]>();
+            String[] columnNames;
+
+            // Get the stored table's contents and the OID for each row
+            ResultSet infoData = dbCommand.executeDbQuery("SELECT *, OID FROM "
+                                                          + tableName
+                                                          + " ORDER BY OID;",
+                                                          parent);
+
+            // Get the names of the table's columns, excluding the OID column
+            columnNames = new String[infoData.getMetaData().getColumnCount() - 1];
+
+            // Step through each column
+            for (int column = 0; column < columnNames.length; column++)
+            {
+                // Store the column name. Note that the first column's index in
+                // the database is 1, not 0
+                columnNames[column] = infoData.getMetaData().getColumnName(column + 1);
+            }
+
+            // Step through each of the query results
+            while (infoData.next())
+            {
+                // Create an array to contain the column values and the OID
+                String[] columnValues = new String[columnNames.length + 1];
+
+                // Step through each column in the row
+                for (int column = 0; column < columnValues.length; column++)
+                {
+                    // Add the column value to the array
+                    columnValues[column] = infoData.getString(column + 1);
+
+                    // Check if the value is null
+                    if (columnValues[column] == null)
+                    {
+                        // Replace the null with a blank
+                        columnValues[column] = "";
+                    }
+                }
+
+                // Add the row data to the list
+                storedData.add(columnValues);
+            }
+
+            infoData.close();
+
+            boolean isColumnMatch = true;
+
+            // Step through each row in the table data
+            for (String[] row : tableData)
+            {
+                // Check if the number of columns in the row doesn't match the
+                // stored table
+                if (row.length != columnNames.length)
+                {
+                    // Set the flag to indicate the table can't be updated in
+                    // place and stop searching
+                    isColumnMatch = false;
+                    break;
+                }
+            }
+
+            // Check if the table data columns match the stored table
+            if (isColumnMatch)
+            {
+                List<Object[]> deletes = new ArrayList<Object[]>();
+                List<Object[]> updates = new ArrayList<Object[]>();
+                List<Object[]> inserts = new ArrayList<Object[]>();
+                int prefix = 0;
+                int suffix = 0;
+
+                // Count the rows at the beginning of the stored and supplied
+                // data that are identical
+                while (prefix < storedData.size()
+                       && prefix < tableData.size()
+                       && isRowMatch(storedData.get(prefix),
+                                     tableData.get(prefix)))
+                {
+                    prefix++;
+                }
+
+                // Check if the table data has no more rows than the stored
+                // table. If the table data has more rows then any rows matched
+                // at the end would have to be moved after the inserted rows,
+                // so the rows following the identical beginning rows are
+                // updated instead
+                if (tableData.size() <= storedData.size())
+                {
+                    // Count the rows at the end of the stored and supplied
+                    // data, following the identical beginning rows, that are
+                    // identical
+                    while (suffix < tableData.size() - prefix
+                           && isRowMatch(storedData.get(storedData.size() - 1 - suffix),
+                                         tableData.get(tableData.size() - 1 - suffix)))
+                    {
+                        suffix++;
+                    }
+                }
+
+                // Step through each stored row between the identical
+                // beginning and ending rows
+                for (int row = prefix; row < storedData.size() - suffix; row++)
+                {
+                    // Get the stored row's OID
+                    String oid = storedData.get(row)[columnNames.length];
+
+                    // Check if the table data has a row in this position
+                    if (row < tableData.size() - suffix)
+                    {
+                        // Check if the row differs from the stored row
+                        if (!isRowMatch(storedData.get(row), tableData.get(row)))
+                        {
+                            // Store the row's values followed by the OID of
+                            // the stored row to update
+                            Object[] parameters = Arrays.copyOf(tableData.get(row),
+                                                                columnNames.length + 1,
+                                                                Object[].class);
+                            parameters[columnNames.length] = oid;
+                            updates.add(parameters);
+                        }
+                    }
+                    // The table data has fewer rows
+                    else
+                    {
+                        // Store the OID of the stored row to delete
+                        deletes.add(new Object[] {oid});
+                    }
+                }
+
+                // Step through each table data row beyond the stored rows
+                for (int row = storedData.size() - suffix; row < tableData.size() - suffix; row++)
+                {
+                    // Store the row's values to append
+                    inserts.add(Arrays.copyOf(tableData.get(row),
+                                              columnNames.length,
+                                              Object[].class));
+                }
+
+                commands = new LinkedHashMap<String, List<Object[]>>();
+
+                // Check if a comment is provided
+                if (tableComment != null)
+                {
+                    // Build the command to update the table's comment
+                    commands.put("COMMENT ON TABLE "
+                                 + tableName
+                                 + " IS "
+                                 + delimitText(tableComment)
+                                 + ";",
+                                 new ArrayList<Object[]>());
+                }
+
+                // Check if any rows are to be deleted
+                if (!deletes.isEmpty())
+                {
+                    // Build the command to delete a row
+                    commands.put("DELETE FROM "
+                                 + tableName
+                                 + " WHERE OID = ?;",
+                                 deletes);
+                }
+
+                // Check if any rows are to be updated
+                if (!updates.isEmpty())
+                {
+                    StringBuilder command = new StringBuilder("UPDATE "
+                                                              + tableName
+                                                              + " SET ");
+
+                    // Step through each column
+                    for (String columnName : columnNames)
+                    {
+                        // Add the column assignment to the command
+                        command.append(columnName + " = ?, ");
+                    }
+
+                    // Remove the trailing comma and space, then add the row
+                    // selection to the command
+                    command = CcddUtilities.removeTrailer(command, ", ");
+                    command.append(" WHERE OID = ?;");
+                    commands.put(command.toString(), updates);
+                }
+
+                // Check if any rows are to be appended
+                if (!inserts.isEmpty())
+                {
+                    StringBuilder command = new StringBuilder("INSERT INTO "
+                                                              + tableName
+                                                              + " VALUES (");
+
+                    // Step through each column
+                    for (int column = 0; column < columnNames.length; column++)
+                    {
+                        // Add the column value placeholder to the command
+                        command.append("?, ");
+                    }
+
+                    // Remove the trailing comma and space, then terminate the
+                    // command
+                    command = CcddUtilities.removeTrailer(command, ", ");
+                    command.append(");");
+                    commands.put(command.toString(), inserts);
+                }
+            }
+        }
+
+        return commands;
+    }
+
+    /**************************************************************************
+     * Determine if a row read from an internal table contains the same values
+     * as a row of table data to be stored. A null table data value matches a
+     * blank stored value
+     * 
+     * @param storedRow
+     *            array of values read from the internal table. Any columns
+     *            beyond the number in the table data row (e.g., the OID) are
+     *            ignored
+     * 
+     * @param dataRow
+     *            array of table data values
+     * 
+     * @return true if the column values in the two rows are identical
+     *************************************************************************/
+    private boolean isRowMatch(String[] storedRow, String[] dataRow)
+    {
+        boolean isMatch = true;
+
+        // Step through each column in the table data row
+        for (int column = 0; column < dataRow.length; column++)
+        {
+            // Check if the values differ
+            if (!storedRow[column].equals(dataRow[column] == null
+                                                                  ? ""
+                                                                  : dataRow[column]))
+            {
+                // Set the flag to indicate the rows differ and stop searching
+                isMatch = false;
+                break;
+            }
+        }
+
+        return isMatch;
+    }
+
     /**************************************************************************
      * Build the command for storing the table type definitions table
      * 
@@ -4268,6 +5238,15 @@ public class CcddDbTableCommandHandler
                     // Execute the command to change the table's type name
                     dbCommand.executeDbCommand(command.toString(), typeDialog);
 
+                    // Discard the stored table members since these may
+                    // have changed
+                    invalidateTableMembers();
+
+                    // Flag the internal tables (which store the type
+                    // definitions and references to the type name) so that
+                    // these are reindexed prior to the next search
+                    dbCommand.getSearchIndex().invalidateInternalTables();
+
                     // Log that renaming the table succeeded
                     eventLog.logEvent(SUCCESS_MSG,
                                       "Table '"
@@ -4364,6 +5343,11 @@ public class CcddDbTableCommandHandler
                     // Execute the command to change the table's type name
                     dbCommand.executeDbCommand(command, typeDialog);
 
+                    // Flag the internal tables (which store the type
+                    // definitions) so that these are reindexed prior to the
+                    // next search
+                    dbCommand.getSearchIndex().invalidateInternalTables();
+
                     // Log that renaming the table succeeded
                     eventLog.logEvent(SUCCESS_MSG,
                                       "Table type '"
@@ -4514,6 +5498,14 @@ public class CcddDbTableCommandHandler
                         // Delete the table(s)
                         dbCommand.executeDbUpdate(command, parent);
 
+                        // Discard the stored table members since these may
+                        // have changed
+                        invalidateTableMembers();
+
+                        // Discard the search index since the tables of this
+                        // type and any references to them have changed
+                        dbCommand.getSearchIndex().clear();
+
                         // Log that the table deletion succeeded
                         eventLog.logEvent(SUCCESS_MSG,
                                           "Table type '"
@@ -5271,6 +6263,13 @@ public class CcddDbTableCommandHandler
             // this type
             dbCommand.executeDbCommand(command.toString(), editorDialog);
 
+            // Discard the stored table members since these may have changed
+            invalidateTableMembers();
+
+            // Discard the search index since every table of this type may
+            // have changed
+            dbCommand.getSearchIndex().clear();
+
             // Log that updating the table type succeeded
             eventLog.logEvent(SUCCESS_MSG,
                               "Table type '"
@@ -5676,6 +6675,10 @@ public class CcddDbTableCommandHandler
                     // Execute the command to change the data fields
                     dbCommand.executeDbCommand(command.toString(), editorWindow);
 
+                    // Flag the data fields table so that it's reindexed prior
+                    // to the next search
+                    dbCommand.getSearchIndex().invalidate(InternalTable.FIELDS.getTableName());
+
                     // Log that updating the data fields succeeded
                     eventLog.logEvent(SUCCESS_MSG,
                                       "Table data fields updated");
@@ -6179,6 +7182,14 @@ public class CcddDbTableCommandHandler
                     // Commit the change(s) to the database
                     dbCommand.getConnection().commit();
 
+                    // Discard the search index since any table that
+                    // references the data types or macros may have changed
+                    dbCommand.getSearchIndex().clear();
+
+                    // Discard the stored table members since these may
+                    // have changed
+                    invalidateTableMembers();
+
                     // Inform the user that the update succeeded
                     eventLog.logEvent(SUCCESS_MSG,
                                       changeName
@@ -6204,6 +7215,12 @@ public class CcddDbTableCommandHandler
                                                    + DB_SAVE_POINT_NAME
                                                    + ";",
                                                    dialog);
+
+                        // Discard the search index and the stored table
+                        // members since these may contain changes that were
+                        // reverted
+                        dbCommand.getSearchIndex().clear();
+                        invalidateTableMembers();
                     }
                     catch (SQLException se2)
                     {
@@ -15,21 +15,39 @@ import static CCDD.CcddConstants.TYPE_COMMAND;
 import static CCDD.CcddConstants.TYPE_STRUCTURE;
 
 import java.awt.Component;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigInteger;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import javax.swing.JOptionPane;
+import javax.xml.XMLConstants;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 
 import org.ccsds.schema.sois.seds.CommandArgumentType;
 import org.ccsds.schema.sois.seds.DataSheetType;
@@ -58,6 +76,7 @@ import CCDD.CcddClasses.AssociatedColumns;
 import CCDD.CcddClasses.CCDDException;
 import CCDD.CcddClasses.FieldInformation;
 import CCDD.CcddClasses.TableDefinition;
+import CCDD.CcddClasses.TableDefinitionQueue;
 import CCDD.CcddClasses.TableInformation;
 import CCDD.CcddClasses.TableTypeDefinition;
 import CCDD.CcddConstants.BaseDataTypeInfo;
@@ -92,14 +111,49 @@ public class CcddEDSHandler implements CcddImportExportInterface
     // definitions
     private List<TableDefinition> tableDefinitions;
 
+    // Queue to which each table definition is handed off as it's read; null
+    // if the table definitions are stored in the list
+    private TableDefinitionQueue tableDefnQueue;
+
+    // Lists containing the imported data type, macro, and reserved message ID
+    // definitions
+    private List<String[]> dataTypeDefns;
+    private List<String[]> macroDefns;
+    private List<String[]> reservedMsgIDDefns;
+
+    // Flags indicating if importing should continue after an input error is
+    // detected
+    private boolean continueOnTableTypeError;
+    private boolean continueOnDataTypeError;
+    private boolean continueOnMacroError;
+    private boolean continueOnReservedMsgIDError;
+    private boolean continueOnColumnError;
+    private boolean continueOnDataFieldError;
+
     // JAXB and EDS object references
     private JAXBElement<DataSheetType> project;
     private Marshaller marshaller;
+    private Marshaller fragmentMarshaller;
     private Unmarshaller unmarshaller;
     private ObjectFactory factory;
     private DeviceType device;
     private DataSheetType dataSheet;
 
+    // Name spaces added to the data sheet, indexed by name space name
+    private Map<String, NamespaceType> nameSpaceIndex;
+
+    // Temporary file, and its output stream and XML writer, to which the
+    // table name spaces are written as the tables are converted; null if the
+    // export isn't streamed
+    private File tableFragmentFile;
+    private OutputStream tableFragmentStream;
+    private XMLStreamWriter tableFragmentWriter;
+
+    // Minimum number of exported tables for which the table name spaces are
+    // written as each table is converted instead of building the entire
+    // document before it's output
+    private static final int STREAM_EXPORT_TABLE_COUNT = 100;
+
     // Name of the data field containing the system name
     private String systemFieldName;
 
@@ -228,6 +282,12 @@ public class CcddEDSHandler implements CcddImportExportInterface
             marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT,
                                    new Boolean(true));
 
+            // Create the XML marshaller used to output the individual
+            // elements of a streamed export
+            fragmentMarshaller = context.createMarshaller();
+            fragmentMarshaller.setProperty(Marshaller.JAXB_FRAGMENT,
+                                           new Boolean(true));
+
             // Create the factory for building the data sheet objects
             factory = new ObjectFactory();
 
@@ -271,6 +331,19 @@ public class CcddEDSHandler implements CcddImportExportInterface
         return tableDefinitions;
     }
 
+    /**************************************************************************
+     * Set the queue to which each table definition is handed off as it's read
+     * 
+     * @param tableDefnQueue
+     *            queue to receive the table definitions; null to store all of
+     *            the table definitions
+     *************************************************************************/
+    @Override
+    public void setTableDefinitionQueue(TableDefinitionQueue tableDefnQueue)
+    {
+        this.tableDefnQueue = tableDefnQueue;
+    }
+
     /**************************************************************************
      * Import the the table definitions from an EDS XML formatted file
      * 
@@ -289,36 +362,191 @@ public class CcddEDSHandler implements CcddImportExportInterface
                                                      IOException,
                                                      Exception
     {
+        InputStream inputStream = null;
+        XMLStreamReader reader = null;
+
         try
         {
-            // Import the XML from the specified file
-            JAXBElement<?> jaxbElement = (JAXBElement<?>) unmarshaller.unmarshal(importFile);
+            tableDefinitions = new ArrayList<TableDefinition>();
+            dataTypeDefns = new ArrayList<String[]>();
+            macroDefns = new ArrayList<String[]>();
+            reservedMsgIDDefns = new ArrayList<String[]>();
+            continueOnTableTypeError = false;
+            continueOnDataTypeError = false;
+            continueOnMacroError = false;
+            continueOnReservedMsgIDError = false;
+            continueOnColumnError = false;
+            continueOnDataFieldError = false;
+
+            // Storage for the table name spaces read before the definitions
+            // are applied
+            List<NamespaceType> deferredNameSpaces = new ArrayList<NamespaceType>();
+
+            // Flags indicating if a table type, data type, macro, or reserved
+            // message ID name space has been read, if a table name space has
+            // been read, and if the tables are read as the file is parsed
+            boolean isDefinitionRead = false;
+            boolean isTableRead = false;
+            boolean isStreaming = false;
+
+            // Read the XML from the specified file as a stream so that the
+            // entire document isn't held in memory
+            inputStream = new BufferedInputStream(new FileInputStream(importFile));
+            reader = XMLInputFactory.newInstance().createXMLStreamReader(inputStream);
+
+            // Check if the file contains the data sheet
+            if (CcddUtilities.nextXMLTag(reader) == XMLStreamConstants.START_ELEMENT)
+            {
+                // Step past the data sheet's start tag
+                reader.next();
+
+                // Step through each of the data sheet's child elements. The
+                // name spaces are read one at a time. If the definition name
+                // spaces precede the first table name space then the
+                // definitions are applied when the first table is reached and
+                // each table is read (and handed off to the table definition
+                // queue, if set) as it's parsed. Otherwise the table name
+                // spaces are stored and read after the definitions are
+                // applied
+                while (CcddUtilities.nextXMLTag(reader) == XMLStreamConstants.START_ELEMENT)
+                {
+                    // Check if this is a name space
+                    if (reader.getLocalName().equals("Namespace"))
+                    {
+                        // Read the name space
+                        NamespaceType nameSpace = unmarshaller.unmarshal(reader,
+                                                                         NamespaceType.class).getValue();
+
+                        // Check if this is a table's name space
+                        if (nameSpace.getName().startsWith(EDSTags.TABLE.getTag() + ":"))
+                        {
+                            // Check if this is the first table
+                            if (!isTableRead)
+                            {
+                                isTableRead = true;
 
-            // Get the project's data sheet
-            dataSheet = (DataSheetType) jaxbElement.getValue();
+                                // The tables are read as the file is parsed
+                                // only if the definitions precede the first
+                                // table
+                                isStreaming = isDefinitionRead;
 
-            // Step through the EDS-formatted data and extract the telemetry
-            // and command information
-            unbuildDataSheets(importType, importFile.getAbsolutePath());
+                                // Check if the tables are read as the file is
+                                // parsed
+                                if (isStreaming)
+                                {
+                                    // Apply the definitions so that the tables
+                                    // can reference them
+                                    applyDefinitions(importType);
+                                }
+                            }
+
+                            // Check if the tables are read as the file is
+                            // parsed
+                            if (isStreaming)
+                            {
+                                // Extract the table's telemetry and command
+                                // information
+                                unbuildNameSpace(nameSpace,
+                                                 importType,
+                                                 importFile.getAbsolutePath());
+
+                                // Check if only the data from the first table
+                                // is to be read and the table has been read
+                                if (importType == ImportType.FIRST_DATA_ONLY
+                                    && !tableDefinitions.isEmpty())
+                                {
+                                    // Stop reading the file
+                                    break;
+                                }
+                            }
+                            // The tables are read after the definitions are
+                            // applied
+                            else
+                            {
+                                // Store the table's name space
+                                deferredNameSpaces.add(nameSpace);
+                            }
+                        }
+                        // This is a definition name space
+                        else
+                        {
+                            // Check if the tables are read as the file is
+                            // parsed; if so, then the definitions have
+                            // already been applied
+                            if (isStreaming)
+                            {
+                                throw new CCDDException("Import file '"
+                                                        + importFile.getAbsolutePath()
+                                                        + "' table type, data type, macro, and "
+                                                        + "reserved message ID definitions must "
+                                                        + "precede the table definitions");
+                            }
+
+                            isDefinitionRead = true;
+
+                            // Extract the definitions
+                            unbuildNameSpace(nameSpace,
+                                             importType,
+                                             importFile.getAbsolutePath());
+                        }
+                    }
+                    // The element isn't used by the import
+                    else
+                    {
+                        // Skip the element and its children
+                        CcddUtilities.skipXMLElement(reader);
+                    }
+                }
+            }
+
+            // Check if the tables weren't read as the file was parsed
+            if (!isStreaming)
+            {
+                // Apply the definitions so that the stored tables can
+                // reference them
+                applyDefinitions(importType);
+
+                // Step through each stored table name space
+                for (NamespaceType nameSpace : deferredNameSpaces)
+                {
+                    // Extract the table's telemetry and command information
+                    unbuildNameSpace(nameSpace,
+                                     importType,
+                                     importFile.getAbsolutePath());
+                }
+            }
         }
-        catch (JAXBException je)
+        catch (JAXBException | XMLStreamException xe)
         {
-            // Inform the user that the database import failed
-            new CcddDialogHandler().showMessageDialog(parent,
-                                                      "<html><b>Cannot import EDS XML from file<br>'</b>" +
-                                                          importFile.getAbsolutePath()
-                                                          + "<b>'; cause '"
-                                                          + je.getMessage()
-                                                          + "'",
-                                                      "File Error",
-                                                      JOptionPane.ERROR_MESSAGE,
-                                                      DialogOption.OK_OPTION);
+            // Re-throw the error so that the caller informs the user and
+            // discards any tables created before the parse error occurred
+            throw new CCDDException("Cannot import EDS XML from file<br>'</b>"
+                                    + importFile.getAbsolutePath()
+                                    + "<b>'; cause '"
+                                    + xe.getMessage()
+                                    + "'");
         }
         catch (CCDDException ce)
         {
             // Re-throw the error so it can be handled by the caller
             throw new CCDDException(ce.getMessage());
         }
+        finally
+        {
+            // Check if the XML stream reader was created
+            if (reader != null)
+            {
+                // Close the XML stream reader
+                reader.close();
+            }
+
+            // Check if the file was opened
+            if (inputStream != null)
+            {
+                // Close the file
+                inputStream.close();
+            }
+        }
     }
 
     /**************************************************************************
@@ -353,45 +581,64 @@ public class CcddEDSHandler implements CcddImportExportInterface
     {
         boolean errorFlag = false;
 
+        // Stream the export if the number of tables is large enough that
+        // holding the entire document in memory is impractical
+        boolean isStreamed = tableNames.length >= STREAM_EXPORT_TABLE_COUNT;
+
         try
         {
             // Convert the table data into EDS format
             convertTablesToEDS(tableNames,
+                               isStreamed,
                                replaceMacros,
                                includeReservedMsgIDs,
                                extraInfo[0]);
 
-            try
+            // Build the file creation information
+            String comment = " Created "
+                             + new Date().toString()
+                             + " : project = "
+                             + dbControl.getDatabase()
+                             + " : host = "
+                             + dbControl.getServer()
+                             + " : user = "
+                             + dbControl.getUser()
+                             + " ";
+
+            // Check if the export is streamed
+            if (isStreamed)
             {
-                // Output the file creation information
-                marshaller.setProperty("com.sun.xml.internal.bind.xmlHeaders",
-                                       "\n<!-- Created "
-                                           + new Date().toString()
-                                           + " : project = "
-                                           + dbControl.getDatabase()
-                                           + " : host = "
-                                           + dbControl.getServer()
-                                           + " : user = "
-                                           + dbControl.getUser()
-                                           + " -->");
+                // Output the XML to the specified file, copying in the table
+                // name spaces already written to the temporary file
+                writeStreamedDataSheet(exportFile, comment);
             }
-            catch (JAXBException je)
+            // The entire document is built in memory
+            else
             {
-                // Ignore the error if setting this property fails; the comment
-                // is not included
-            }
+                try
+                {
+                    // Output the file creation information
+                    marshaller.setProperty("com.sun.xml.internal.bind.xmlHeaders",
+                                           "\n<!--" + comment + "-->");
+                }
+                catch (JAXBException je)
+                {
+                    // Ignore the error if setting this property fails; the
+                    // comment is not included
+                }
 
-            // Output the XML to the specified file
-            marshaller.marshal(project, exportFile);
+                // Output the XML to the specified file
+                marshaller.marshal(project, exportFile);
+            }
         }
-        catch (JAXBException je)
+        catch (JAXBException | XMLStreamException | IOException e)
         {
             // Inform the user that the database export failed
             new CcddDialogHandler().showMessageDialog(parent,
                                                       "<html><b>Cannot export as EDS XML to file<br>'</b>" +
                                                           exportFile.getAbsolutePath()
                                                           + "<b>'; cause '"
-                                                          + je.getMessage()
+                                                          + e.getMessage()
                                                           + "'",
                                                       "File Error",
                                                       JOptionPane.ERROR_MESSAGE,
@@ -404,16 +651,165 @@ public class CcddEDSHandler implements CcddImportExportInterface
             CcddUtilities.displayException(e, parent);
             errorFlag = true;
         }
+        finally
+        {
+            // Check if the export was streamed
+            if (tableFragmentFile != null)
+            {
+                // Close and remove the temporary file
+                closeTableFragmentFile();
+                tableFragmentFile.delete();
+                tableFragmentFile = null;
+            }
+
+            // Release the name space references
+            nameSpaceIndex = null;
+        }
 
         return errorFlag;
     }
 
+    /**************************************************************************
+     * Output the converted project to the specified file when the export is
+     * streamed. The data sheet's device and definition name spaces are written
+     * directly, and the table name spaces are copied from the temporary file
+     * to which they were written as the tables were converted
+     * 
+     * @param exportFile
+     *            reference to the user-specified output file
+     * 
+     * @param comment
+     *            file creation information comment text
+     * 
+     * @throws JAXBException
+     *             If an error occurs marshalling the device or a name space
+     * 
+     * @throws XMLStreamException
+     *             If an error occurs writing the XML
+     * 
+     * @throws IOException
+     *             If an error occurs writing the file or copying the temporary
+     *             file
+     *************************************************************************/
+    private void writeStreamedDataSheet(File exportFile,
+                                        String comment) throws JAXBException,
+                                                        XMLStreamException,
+                                                        IOException
+    {
+        OutputStream outputStream = null;
+        XMLStreamWriter writer = null;
+
+        try
+        {
+            // Create the XML writer for the output file
+            outputStream = new BufferedOutputStream(new FileOutputStream(exportFile));
+            writer = XMLOutputFactory.newInstance().createXMLStreamWriter(outputStream,
+                                                                          "UTF-8");
+
+            // Get the EDS namespace
+            String namespace = project.getName().getNamespaceURI();
+
+            // Output the XML declaration and the file creation information
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.writeCharacters("\n");
+            writer.writeComment(comment);
+            writer.writeCharacters("\n");
+
+            // Output the data sheet's start tag, namespace declarations, and
+            // schema location
+            writer.setDefaultNamespace(namespace);
+            writer.writeStartElement(namespace, "DataSheet");
+            writer.writeDefaultNamespace(namespace);
+            writer.writeNamespace("xsi",
+                                  XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI);
+            writer.writeAttribute(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI,
+                                  "schemaLocation",
+                                  "http://www.ccsds.org/schema/sois/seds");
+
+            // Output the device
+            fragmentMarshaller.marshal(new JAXBElement<DeviceType>(new QName(namespace,
+                                                                             "Device"),
+                                                                   DeviceType.class,
+                                                                   device),
+                                       writer);
+
+            // Step through each name space remaining in the data sheet (the
+            // table type, data type, macro, and reserved message ID
+            // definitions)
+            for (NamespaceType nameSpace : dataSheet.getNamespace())
+            {
+                // Output the name space
+                fragmentMarshaller.marshal(new JAXBElement<NamespaceType>(new QName(namespace,
+                                                                                    "Namespace"),
+                                                                          NamespaceType.class,
+                                                                          nameSpace),
+                                           writer);
+            }
+
+            // Write any buffered output so that the table name spaces are
+            // copied following it
+            writer.writeCharacters("\n");
+            writer.flush();
+
+            // Close the temporary file and copy its contents to the output
+            // file
+            closeTableFragmentFile();
+            Files.copy(tableFragmentFile.toPath(), outputStream);
+
+            // Output the data sheet's end tag
+            writer.writeEndElement();
+            writer.writeEndDocument();
+        }
+        finally
+        {
+            // Check if the XML writer was created
+            if (writer != null)
+            {
+                // Close the XML writer
+                writer.close();
+            }
+
+            // Check if the output file was opened
+            if (outputStream != null)
+            {
+                // Close the output file
+                outputStream.close();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Close the temporary file containing the table name spaces
+     *************************************************************************/
+    private void closeTableFragmentFile()
+    {
+        try
+        {
+            // Check if the XML writer is open
+            if (tableFragmentWriter != null)
+            {
+                // Close the XML writer and the temporary file
+                tableFragmentWriter.close();
+                tableFragmentStream.close();
+                tableFragmentWriter = null;
+            }
+        }
+        catch (XMLStreamException | IOException e)
+        {
+            // Ignore the error; the file is deleted once closed
+        }
+    }
+
     /**************************************************************************
      * Convert the project database contents to EDS XML format
      * 
      * @param tableNames
      *            array of table names to convert to EDS format
      * 
+     * @param isStreamed
+     *            true to write each table's name space to a temporary file as
+     *            it's converted instead of retaining it in memory
+     * 
      * @param replaceMacros
      *            true to replace any embedded macros with their corresponding
      *            values
@@ -424,11 +820,24 @@ public class CcddEDSHandler implements CcddImportExportInterface
      * 
      * @param system
      *            name of the data field containing the system name
+     * 
+     * @throws JAXBException
+     *             If an error occurs marshalling a table name space to the
+     *             temporary file
+     * 
+     * @throws XMLStreamException
+     *             If the temporary file's XML writer can't be created
+     * 
+     * @throws IOException
+     *             If the temporary file can't be created
      *************************************************************************/
     private void convertTablesToEDS(String[] tableNames,
+                                    boolean isStreamed,
                                     boolean replaceMacros,
                                     boolean includeReservedMsgIDs,
-                                    String system)
+                                    String system) throws JAXBException,
+                                                   XMLStreamException,
+                                                   IOException
     {
         referencedTableTypes = new ArrayList<String>();
         referencedDataTypes = new ArrayList<String>();
@@ -446,9 +855,28 @@ public class CcddEDSHandler implements CcddImportExportInterface
         device.setShortDescription(dbControl.getDatabaseDescription(dbControl.getDatabase()));
         dataSheet.setDevice(device);
 
+        // Create the name space index
+        nameSpaceIndex = new HashMap<String, NamespaceType>();
+
+        // Check if the export is streamed
+        if (isStreamed)
+        {
+            // Create the temporary file to which the table name spaces are
+            // written as they're converted
+            tableFragmentFile = File.createTempFile("ccdd", ".xml");
+            tableFragmentStream = new BufferedOutputStream(new FileOutputStream(tableFragmentFile));
+            tableFragmentWriter = XMLOutputFactory.newInstance().createXMLStreamWriter(tableFragmentStream,
+                                                                                       "UTF-8");
+        }
+
         // Add the project's name spaces, parameters, and commands
         buildNameSpaces(tableNames);
 
+        // Store the number of table name spaces. If the export is streamed
+        // then the table name spaces have already been removed from the data
+        // sheet
+        int numTableNameSpaces = dataSheet.getNamespace().size();
+
         // Build a name space for the table types
         buildTableTypesNameSpace();
 
@@ -468,13 +896,22 @@ public class CcddEDSHandler implements CcddImportExportInterface
             // Build a name space for the reserved message IDs
             buildReservedMsgIDNameSpace();
         }
+
+        // Move the definition name spaces ahead of the table name spaces so
+        // that the definitions are read first when the file is imported
+        Collections.rotate(dataSheet.getNamespace(),
+                           dataSheet.getNamespace().size() - numTableNameSpaces);
     }
 
     /**************************************************************************
-     * Step through the EDS-formatted data and extract the telemetry and
-     * command information
+     * Extract the table type, data type, macro, reserved message ID,
+     * telemetry, or command information from a name space read from the
+     * import file
      * 
-     * @param importAll
+     * @param nameSpace
+     *            name space
+     * 
+     * @param importType
      *            ImportType.IMPORT_ALL to import the table type, data type,
      *            and macro definitions, and the data from all the table
      *            definitions; ImportType.FIRST_DATA_ONLY to load only the data
@@ -483,8 +920,10 @@ public class CcddEDSHandler implements CcddImportExportInterface
      * @param importFileName
      *            import file name
      *************************************************************************/
-    private void unbuildDataSheets(ImportType importType,
-                                   String importFileName) throws CCDDException
+    private void unbuildNameSpace(NamespaceType nameSpace,
+                                  ImportType importType,
+                                  String importFileName) throws CCDDException,
+                                                         InterruptedException
     {
         int variableNameIndex = -1;
         int dataTypeIndex = -1;
@@ -494,1179 +933,1178 @@ public class CcddEDSHandler implements CcddImportExportInterface
         int cmdDescriptionIndex = -1;
         int numColumns = 0;
         List<AssociatedColumns> commandArguments = null;
-        tableDefinitions = new ArrayList<TableDefinition>();
-        List<String[]> dataTypeDefns = new ArrayList<String[]>();
-        List<String[]> macroDefns = new ArrayList<String[]>();
-        List<String[]> reservedMsgIDDefns = new ArrayList<String[]>();
-
-        // Flags indicating if importing should continue after an input
-        // error is detected
-        boolean continueOnTableTypeError = false;
-        boolean continueOnDataTypeError = false;
-        boolean continueOnMacroError = false;
-        boolean continueOnReservedMsgIDError = false;
-        boolean continueOnColumnError = false;
-        boolean continueOnDataFieldError = false;
-
-        // Get a list of defined name spaces
-        List<NamespaceType> nameSpaces = dataSheet.getNamespace();
-
-        // Check if a name space exists
-        if (nameSpaces != null)
+        // Check if this is the table type definitions name space and
+        // if an interface set exists
+        if (nameSpace.getName().equals(EDSTags.TABLE_TYPE.getTag())
+            && nameSpace.getDeclaredInterfaceSet() != null)
         {
-            // Step through each name space
-            for (NamespaceType nameSpace : nameSpaces)
+            // Step through the interfaces in order to locate the name
+            // space's parameter and command sets
+            for (InterfaceDeclarationType intfcDecType : nameSpace.getDeclaredInterfaceSet().getInterface())
             {
-                // Check if this is the table type definitions name space and
-                // if an interface set exists
-                if (nameSpace.getName().equals(EDSTags.TABLE_TYPE.getTag())
-                    && nameSpace.getDeclaredInterfaceSet() != null)
+                // Check if this interface contains a generic type set
+                if (intfcDecType.getGenericTypeSet() != null
+                    && !intfcDecType.getGenericTypeSet().getGenericType().isEmpty()
+                    && intfcDecType.getName().startsWith(EDSTags.TABLE_TYPE.getTag()))
                 {
-                    // Step through the interfaces in order to locate the name
-                    // space's parameter and command sets
-                    for (InterfaceDeclarationType intfcDecType : nameSpace.getDeclaredInterfaceSet().getInterface())
+                    // Step through each generic type data
+                    for (GenericTypeType genType : intfcDecType.getGenericTypeSet().getGenericType())
                     {
-                        // Check if this interface contains a generic type set
-                        if (intfcDecType.getGenericTypeSet() != null
-                            && !intfcDecType.getGenericTypeSet().getGenericType().isEmpty()
-                            && intfcDecType.getName().startsWith(EDSTags.TABLE_TYPE.getTag()))
+                        // Check if the table type inputs are present
+                        if (genType.getName() != null
+                            && genType.getShortDescription() != null)
                         {
-                            // Step through each generic type data
-                            for (GenericTypeType genType : intfcDecType.getGenericTypeSet().getGenericType())
+                            // Get the table type inputs. If not
+                            // present use a blank to prevent an error
+                            // when separating the inputs
+                            String inputs = genType.getShortDescription() != null
+                                                                                 ? genType.getShortDescription()
+                                                                                 : "";
+
+                            // Extract the table type information
+                            String[] definition = CcddUtilities.splitAndRemoveQuotes(("\""
+                                                                                      + genType.getName()
+                                                                                      + "\","
+                                                                                      + inputs));
+
+                            // Check if the expected number of inputs
+                            // is present
+                            if ((definition.length - 2) % TableTypeEditorColumnInfo.values().length != 0)
                             {
-                                // Check if the table type inputs are present
-                                if (genType.getName() != null
-                                    && genType.getShortDescription() != null)
+                                // Create the table type definition,
+                                // supplying the name and description
+                                TableTypeDefinition tableTypeDefn = new TableTypeDefinition(definition[0],
+                                                                                            definition[1]);
+
+                                // Step through each column definition
+                                // (ignoring the primary key and row
+                                // index columns)
+                                for (int columnNumber = NUM_HIDDEN_COLUMNS, index = 2; index < definition.length; columnNumber++, index += TableTypeEditorColumnInfo.values().length - 1)
                                 {
-                                    // Get the table type inputs. If not
-                                    // present use a blank to prevent an error
-                                    // when separating the inputs
-                                    String inputs = genType.getShortDescription() != null
-                                                                                         ? genType.getShortDescription()
-                                                                                         : "";
-
-                                    // Extract the table type information
-                                    String[] definition = CcddUtilities.splitAndRemoveQuotes(("\""
-                                                                                              + genType.getName()
-                                                                                              + "\","
-                                                                                              + inputs));
-
-                                    // Check if the expected number of inputs
-                                    // is present
-                                    if ((definition.length - 2) % TableTypeEditorColumnInfo.values().length != 0)
-                                    {
-                                        // Create the table type definition,
-                                        // supplying the name and description
-                                        TableTypeDefinition tableTypeDefn = new TableTypeDefinition(definition[0],
-                                                                                                    definition[1]);
-
-                                        // Step through each column definition
-                                        // (ignoring the primary key and row
-                                        // index columns)
-                                        for (int columnNumber = NUM_HIDDEN_COLUMNS, index = 2; index < definition.length; columnNumber++, index += TableTypeEditorColumnInfo.values().length - 1)
-                                        {
-                                            // Add the column definition to the
-                                            // table type definition
-                                            tableTypeDefn.addColumn(new Object[] {columnNumber,
-                                                                                  definition[TableTypeEditorColumnInfo.NAME.ordinal() + index - 1],
-                                                                                  definition[TableTypeEditorColumnInfo.DESCRIPTION.ordinal() + index - 1],
-                                                                                  definition[TableTypeEditorColumnInfo.INPUT_TYPE.ordinal() + index - 1],
-                                                                                  Boolean.valueOf(definition[TableTypeEditorColumnInfo.UNIQUE.ordinal() + index - 1]),
-                                                                                  Boolean.valueOf(definition[TableTypeEditorColumnInfo.REQUIRED.ordinal() + index - 1]),
-                                                                                  Boolean.valueOf(definition[TableTypeEditorColumnInfo.STRUCTURE_ALLOWED.ordinal() + index - 1]),
-                                                                                  Boolean.valueOf(definition[TableTypeEditorColumnInfo.POINTER_ALLOWED.ordinal() + index - 1])});
-                                        }
-
-                                        // Check if the table type isn't new
-                                        // and doesn't match an existing one
-                                        // with the same name
-                                        if (tableTypeHandler.updateTableTypes(tableTypeDefn, true) == TableTypeUpdate.MISMATCH)
-                                        {
-                                            throw new CCDDException("table type '"
-                                                                    + tableTypeDefn.getTypeName()
-                                                                    + "' already exists and doesn't match the import definition");
-                                        }
-                                    }
-                                    // Check if the user hasn't already elected
-                                    // to ignore table type errors
-                                    else if (!continueOnTableTypeError)
-                                    {
-                                        // Inform the user that the table type
-                                        // name is incorrect
-                                        int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
-                                                                                                            "<html><b>Table type '"
-                                                                                                                + genType.getName()
-                                                                                                                + "' definition has missing or extra "
-                                                                                                                + "input(s) in import file '</b>"
-                                                                                                                + importFileName
-                                                                                                                + "<b>'; continue?",
-                                                                                                            "Table Type Error",
-                                                                                                            "Ignore this table type",
-                                                                                                            "Ignore this and any remaining invalid table types",
-                                                                                                            "Stop importing");
+                                    // Add the column definition to the
+                                    // table type definition
+                                    tableTypeDefn.addColumn(new Object[] {columnNumber,
+                                                                          definition[TableTypeEditorColumnInfo.NAME.ordinal() + index - 1],
+                                                                          definition[TableTypeEditorColumnInfo.DESCRIPTION.ordinal() + index - 1],
+                                                                          definition[TableTypeEditorColumnInfo.INPUT_TYPE.ordinal() + index - 1],
+                                                                          Boolean.valueOf(definition[TableTypeEditorColumnInfo.UNIQUE.ordinal() + index - 1]),
+                                                                          Boolean.valueOf(definition[TableTypeEditorColumnInfo.REQUIRED.ordinal() + index - 1]),
+                                                                          Boolean.valueOf(definition[TableTypeEditorColumnInfo.STRUCTURE_ALLOWED.ordinal() + index - 1]),
+                                                                          Boolean.valueOf(definition[TableTypeEditorColumnInfo.POINTER_ALLOWED.ordinal() + index - 1])});
+                                }
 
-                                        // Check if the Ignore All button was
-                                        // pressed
-                                        if (buttonSelected == IGNORE_BUTTON)
-                                        {
-                                            // Set the flag to ignore
-                                            // subsequent column name errors
-                                            continueOnTableTypeError = true;
-                                        }
-                                        // Check if the Cancel button was
-                                        // pressed
-                                        else if (buttonSelected == CANCEL_BUTTON)
-                                        {
-                                            // No error message is provided
-                                            // since the user chose this action
-                                            throw new CCDDException();
-                                        }
-                                    }
+                                // Check if the table type isn't new
+                                // and doesn't match an existing one
+                                // with the same name
+                                if (tableTypeHandler.updateTableTypes(tableTypeDefn, true) == TableTypeUpdate.MISMATCH)
+                                {
+                                    throw new CCDDException("table type '"
+                                                            + tableTypeDefn.getTypeName()
+                                                            + "' already exists and doesn't match the import definition");
                                 }
-                                // Check if the user hasn't already elected to
-                                // ignore table type errors
-                                else if (!continueOnTableTypeError)
+                            }
+                            // Check if the user hasn't already elected
+                            // to ignore table type errors
+                            else if (!continueOnTableTypeError)
+                            {
+                                // Inform the user that the table type
+                                // name is incorrect
+                                int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
+                                                                                                    "<html><b>Table type '"
+                                                                                                        + genType.getName()
+                                                                                                        + "' definition has missing or extra "
+                                                                                                        + "input(s) in import file '</b>"
+                                                                                                        + importFileName
+                                                                                                        + "<b>'; continue?",
+                                                                                                    "Table Type Error",
+                                                                                                    "Ignore this table type",
+                                                                                                    "Ignore this and any remaining invalid table types",
+                                                                                                    "Stop importing");
+
+                                // Check if the Ignore All button was
+                                // pressed
+                                if (buttonSelected == IGNORE_BUTTON)
                                 {
-                                    // Inform the user that the table type name
-                                    // is missing
-                                    int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
-                                                                                                        "<html><b>Missing table type "
-                                                                                                            + "name in import file '</b>"
-                                                                                                            + importFileName
-                                                                                                            + "<b>'; continue?",
-                                                                                                        "Table Type Error",
-                                                                                                        "Ignore this table type",
-                                                                                                        "Ignore this and any remaining invalid table types",
-                                                                                                        "Stop importing");
-
-                                    // Check if the Ignore All button was
-                                    // pressed
-                                    if (buttonSelected == IGNORE_BUTTON)
-                                    {
-                                        // Set the flag to ignore subsequent
-                                        // column name errors
-                                        continueOnTableTypeError = true;
-                                    }
-                                    // Check if the Cancel button was pressed
-                                    else if (buttonSelected == CANCEL_BUTTON)
-                                    {
-                                        // No error message is provided since
-                                        // the user chose this action
-                                        throw new CCDDException();
-                                    }
+                                    // Set the flag to ignore
+                                    // subsequent column name errors
+                                    continueOnTableTypeError = true;
+                                }
+                                // Check if the Cancel button was
+                                // pressed
+                                else if (buttonSelected == CANCEL_BUTTON)
+                                {
+                                    // No error message is provided
+                                    // since the user chose this action
+                                    throw new CCDDException();
                                 }
                             }
                         }
-                    }
-                }
-                // Check if all definitions are to be loaded, this is the
-                // primitive data type definitions name space, and an interface
-                // set exists
-                else if (importType == ImportType.IMPORT_ALL
-                         && nameSpace.getName().equals(EDSTags.DATA_TYPE.getTag())
-                         && nameSpace.getDataTypeSet() != null)
-                {
-                    // Get the data types defined in the data set
-                    List<RootDataType> dataTypes = nameSpace.getDataTypeSet().getArrayDataTypeOrBinaryDataTypeOrBooleanDataType();
-
-                    // Step through each data type
-                    for (RootDataType rDataType : dataTypes)
-                    {
-                        // Set the data type name and initialize the size and
-                        // base type values
-                        String dataType = rDataType.getName();
-                        String sizeInBytes = "";
-                        String baseType = "";
-
-                        // Check if this is an integer data type
-                        if (rDataType instanceof IntegerDataType)
+                        // Check if the user hasn't already elected to
+                        // ignore table type errors
+                        else if (!continueOnTableTypeError)
                         {
-                            IntegerDataType iDataType = (IntegerDataType) rDataType;
-                            IntegerDataEncodingType intEncode = iDataType.getIntegerDataEncoding();
-
-                            // Check if the size exists
-                            if (intEncode.getSizeInBits() != null)
+                            // Inform the user that the table type name
+                            // is missing
+                            int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
+                                                                                                "<html><b>Missing table type "
+                                                                                                    + "name in import file '</b>"
+                                                                                                    + importFileName
+                                                                                                    + "<b>'; continue?",
+                                                                                                "Table Type Error",
+                                                                                                "Ignore this table type",
+                                                                                                "Ignore this and any remaining invalid table types",
+                                                                                                "Stop importing");
+
+                            // Check if the Ignore All button was
+                            // pressed
+                            if (buttonSelected == IGNORE_BUTTON)
                             {
-                                // Get the integer's size in bytes
-                                sizeInBytes = String.valueOf(intEncode.getSizeInBits().intValue() / 8);
+                                // Set the flag to ignore subsequent
+                                // column name errors
+                                continueOnTableTypeError = true;
                             }
-
-                            // Check if the integer is unsigned
-                            if (intEncode.getEncoding() == IntegerEncodingType.UNSIGNED)
+                            // Check if the Cancel button was pressed
+                            else if (buttonSelected == CANCEL_BUTTON)
                             {
-                                // Set the base type to indicate an unsigned
-                                // integer
-                                baseType = BaseDataTypeInfo.UNSIGNED_INT.getName();
+                                // No error message is provided since
+                                // the user chose this action
+                                throw new CCDDException();
                             }
-                            // The integer is signed
-                            else
-                            {
-                                // Set the base type to indicate a signed
-                                // integer
-                                baseType = BaseDataTypeInfo.SIGNED_INT.getName();
-                            }
-                        }
-                        // Check if this is a floating point data type
-                        else if (rDataType instanceof FloatDataType)
-                        {
-                            // Set the base type to indicate a floating point
-                            baseType = BaseDataTypeInfo.FLOATING_POINT.getName();
-                        }
-                        // Check if this is a string data type
-                        else if (rDataType instanceof StringDataType)
-                        {
-                            // Set the base type to indicate a character
-                            baseType = BaseDataTypeInfo.CHARACTER.getName();
                         }
+                    }
+                }
+            }
+        }
+        // Check if all definitions are to be loaded, this is the
+        // primitive data type definitions name space, and an interface
+        // set exists
+        else if (importType == ImportType.IMPORT_ALL
+                 && nameSpace.getName().equals(EDSTags.DATA_TYPE.getTag())
+                 && nameSpace.getDataTypeSet() != null)
+        {
+            // Get the data types defined in the data set
+            List<RootDataType> dataTypes = nameSpace.getDataTypeSet().getArrayDataTypeOrBinaryDataTypeOrBooleanDataType();
 
-                        // Add the data type definition to the list (add a
-                        // blank for the OID column)
-                        dataTypeDefns.add(new String[] {dataType,
-                                                        dataType,
-                                                        sizeInBytes,
-                                                        baseType,
-                                                        ""});
+            // Step through each data type
+            for (RootDataType rDataType : dataTypes)
+            {
+                // Set the data type name and initialize the size and
+                // base type values
+                String dataType = rDataType.getName();
+                String sizeInBytes = "";
+                String baseType = "";
+
+                // Check if this is an integer data type
+                if (rDataType instanceof IntegerDataType)
+                {
+                    IntegerDataType iDataType = (IntegerDataType) rDataType;
+                    IntegerDataEncodingType intEncode = iDataType.getIntegerDataEncoding();
+
+                    // Check if the size exists
+                    if (intEncode.getSizeInBits() != null)
+                    {
+                        // Get the integer's size in bytes
+                        sizeInBytes = String.valueOf(intEncode.getSizeInBits().intValue() / 8);
                     }
 
-                    // Step through the interfaces in order to locate the
-                    // name space's parameter and command sets
-                    for (InterfaceDeclarationType intfcDecType : nameSpace.getDeclaredInterfaceSet().getInterface())
+                    // Check if the integer is unsigned
+                    if (intEncode.getEncoding() == IntegerEncodingType.UNSIGNED)
                     {
-                        // Check if this interface contains a generic type
-                        // set
-                        if (intfcDecType.getGenericTypeSet() != null
-                            && !intfcDecType.getGenericTypeSet().getGenericType().isEmpty())
+                        // Set the base type to indicate an unsigned
+                        // integer
+                        baseType = BaseDataTypeInfo.UNSIGNED_INT.getName();
+                    }
+                    // The integer is signed
+                    else
+                    {
+                        // Set the base type to indicate a signed
+                        // integer
+                        baseType = BaseDataTypeInfo.SIGNED_INT.getName();
+                    }
+                }
+                // Check if this is a floating point data type
+                else if (rDataType instanceof FloatDataType)
+                {
+                    // Set the base type to indicate a floating point
+                    baseType = BaseDataTypeInfo.FLOATING_POINT.getName();
+                }
+                // Check if this is a string data type
+                else if (rDataType instanceof StringDataType)
+                {
+                    // Set the base type to indicate a character
+                    baseType = BaseDataTypeInfo.CHARACTER.getName();
+                }
+
+                // Add the data type definition to the list (add a
+                // blank for the OID column)
+                dataTypeDefns.add(new String[] {dataType,
+                                                dataType,
+                                                sizeInBytes,
+                                                baseType,
+                                                ""});
+            }
+
+            // Step through the interfaces in order to locate the
+            // name space's parameter and command sets
+            for (InterfaceDeclarationType intfcDecType : nameSpace.getDeclaredInterfaceSet().getInterface())
+            {
+                // Check if this interface contains a generic type
+                // set
+                if (intfcDecType.getGenericTypeSet() != null
+                    && !intfcDecType.getGenericTypeSet().getGenericType().isEmpty())
+                {
+                    // Step through each generic type data
+                    for (GenericTypeType genType : intfcDecType.getGenericTypeSet().getGenericType())
+                    {
+                        // Check if the expected inputs are present
+                        if (genType.getName() != null
+                            && genType.getShortDescription() != null)
                         {
-                            // Step through each generic type data
-                            for (GenericTypeType genType : intfcDecType.getGenericTypeSet().getGenericType())
+                            boolean isFound = false;
+
+                            // Build the data type definition from the
+                            // generic type data
+                            String[] typeDefn = (genType.getName()
+                                                 + ","
+                                                 + genType.getShortDescription()
+                                                 + ",\"\"").split(",", -1);
+
+                            // Step through the data type definitions
+                            // already added
+                            for (int index = 0; index < dataTypeDefns.size(); index++)
                             {
-                                // Check if the expected inputs are present
-                                if (genType.getName() != null
-                                    && genType.getShortDescription() != null)
+                                // Check if the data type in the
+                                // generic set matches an existing one
+                                // from the data set
+                                if (CcddDataTypeHandler.getDataTypeName(typeDefn).equals(CcddDataTypeHandler.getDataTypeName(dataTypeDefns.get(index))))
                                 {
-                                    boolean isFound = false;
-
-                                    // Build the data type definition from the
-                                    // generic type data
-                                    String[] typeDefn = (genType.getName()
-                                                         + ","
-                                                         + genType.getShortDescription()
-                                                         + ",\"\"").split(",", -1);
-
-                                    // Step through the data type definitions
-                                    // already added
-                                    for (int index = 0; index < dataTypeDefns.size(); index++)
+                                    // Set the flag to indicate a match
+                                    // exists
+                                    isFound = true;
+
+                                    // Check if the user name is empty
+                                    // in either the data set or
+                                    // generic type set. This accounts
+                                    // for definitions with a blank
+                                    // user name (i.e., the C name is
+                                    // used as the data type name)
+                                    if (dataTypeDefns.get(index)[DataTypesColumn.USER_NAME.ordinal()].isEmpty()
+                                        || typeDefn[DataTypesColumn.USER_NAME.ordinal()].isEmpty())
                                     {
-                                        // Check if the data type in the
-                                        // generic set matches an existing one
-                                        // from the data set
-                                        if (CcddDataTypeHandler.getDataTypeName(typeDefn).equals(CcddDataTypeHandler.getDataTypeName(dataTypeDefns.get(index))))
-                                        {
-                                            // Set the flag to indicate a match
-                                            // exists
-                                            isFound = true;
-
-                                            // Check if the user name is empty
-                                            // in either the data set or
-                                            // generic type set. This accounts
-                                            // for definitions with a blank
-                                            // user name (i.e., the C name is
-                                            // used as the data type name)
-                                            if (dataTypeDefns.get(index)[DataTypesColumn.USER_NAME.ordinal()].isEmpty()
-                                                || typeDefn[DataTypesColumn.USER_NAME.ordinal()].isEmpty())
-                                            {
-                                                // Set the user name to the one
-                                                // from the generic set
-                                                dataTypeDefns.get(index)[DataTypesColumn.USER_NAME.ordinal()] = typeDefn[DataTypesColumn.USER_NAME.ordinal()];
-                                            }
-
-                                            // Check if the data set C name is
-                                            // blank
-                                            if (dataTypeDefns.get(index)[DataTypesColumn.C_NAME.ordinal()].isEmpty())
-                                            {
-                                                // Set the C name to the one
-                                                // from the generic set
-                                                dataTypeDefns.get(index)[DataTypesColumn.C_NAME.ordinal()] = typeDefn[DataTypesColumn.C_NAME.ordinal()];
-                                            }
-
-                                            // Check if the data set size is
-                                            // blank
-                                            if (dataTypeDefns.get(index)[DataTypesColumn.SIZE.ordinal()].isEmpty())
-                                            {
-                                                // Set the size to the one from
-                                                // the generic set
-                                                dataTypeDefns.get(index)[DataTypesColumn.SIZE.ordinal()] = typeDefn[DataTypesColumn.SIZE.ordinal()];
-                                            }
-
-                                            // Check if the data set base type
-                                            // is blank
-                                            if (dataTypeDefns.get(index)[DataTypesColumn.BASE_TYPE.ordinal()].isEmpty())
-                                            {
-                                                // Set the base type to the one
-                                                // from the generic set
-                                                dataTypeDefns.get(index)[DataTypesColumn.BASE_TYPE.ordinal()] = typeDefn[DataTypesColumn.BASE_TYPE.ordinal()];
-                                            }
-
-                                            break;
-                                        }
+                                        // Set the user name to the one
+                                        // from the generic set
+                                        dataTypeDefns.get(index)[DataTypesColumn.USER_NAME.ordinal()] = typeDefn[DataTypesColumn.USER_NAME.ordinal()];
                                     }
 
-                                    // Check if the data type doesn't match one
-                                    // already added from the data set
-                                    if (!isFound)
+                                    // Check if the data set C name is
+                                    // blank
+                                    if (dataTypeDefns.get(index)[DataTypesColumn.C_NAME.ordinal()].isEmpty())
                                     {
-                                        // Add the data type definition to the
-                                        // list (add a blank for the OID
-                                        // column)
-                                        dataTypeDefns.add(typeDefn);
+                                        // Set the C name to the one
+                                        // from the generic set
+                                        dataTypeDefns.get(index)[DataTypesColumn.C_NAME.ordinal()] = typeDefn[DataTypesColumn.C_NAME.ordinal()];
                                     }
-                                }
-                                // Incorrect number of inputs. Check if the
-                                // user hasn't already elected to ignore data
-                                // type errors
-                                else if (!continueOnDataTypeError)
-                                {
-                                    // Inform the user that the data type
-                                    // inputs are incorrect
-                                    int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
-                                                                                                        "<html><b>Missing or extra data type definition input(s) in import file '</b>"
-                                                                                                            + importFileName
-                                                                                                            + "<b>'; continue?",
-                                                                                                        "Data Type Error",
-                                                                                                        "Ignore this data type",
-                                                                                                        "Ignore this and any remaining invalid data types",
-                                                                                                        "Stop importing");
-
-                                    // Check if the Ignore All button was
-                                    // pressed
-                                    if (buttonSelected == IGNORE_BUTTON)
+
+                                    // Check if the data set size is
+                                    // blank
+                                    if (dataTypeDefns.get(index)[DataTypesColumn.SIZE.ordinal()].isEmpty())
                                     {
-                                        // Set the flag to ignore subsequent
-                                        // column name errors
-                                        continueOnDataTypeError = true;
+                                        // Set the size to the one from
+                                        // the generic set
+                                        dataTypeDefns.get(index)[DataTypesColumn.SIZE.ordinal()] = typeDefn[DataTypesColumn.SIZE.ordinal()];
                                     }
-                                    // Check if the Cancel button was pressed
-                                    else if (buttonSelected == CANCEL_BUTTON)
+
+                                    // Check if the data set base type
+                                    // is blank
+                                    if (dataTypeDefns.get(index)[DataTypesColumn.BASE_TYPE.ordinal()].isEmpty())
                                     {
-                                        // No error message is provided since
-                                        // the user chose this action
-                                        throw new CCDDException();
+                                        // Set the base type to the one
+                                        // from the generic set
+                                        dataTypeDefns.get(index)[DataTypesColumn.BASE_TYPE.ordinal()] = typeDefn[DataTypesColumn.BASE_TYPE.ordinal()];
                                     }
+
+                                    break;
                                 }
                             }
+
+                            // Check if the data type doesn't match one
+                            // already added from the data set
+                            if (!isFound)
+                            {
+                                // Add the data type definition to the
+                                // list (add a blank for the OID
+                                // column)
+                                dataTypeDefns.add(typeDefn);
+                            }
+                        }
+                        // Incorrect number of inputs. Check if the
+                        // user hasn't already elected to ignore data
+                        // type errors
+                        else if (!continueOnDataTypeError)
+                        {
+                            // Inform the user that the data type
+                            // inputs are incorrect
+                            int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
+                                                                                                "<html><b>Missing or extra data type definition input(s) in import file '</b>"
+                                                                                                    + importFileName
+                                                                                                    + "<b>'; continue?",
+                                                                                                "Data Type Error",
+                                                                                                "Ignore this data type",
+                                                                                                "Ignore this and any remaining invalid data types",
+                                                                                                "Stop importing");
+
+                            // Check if the Ignore All button was
+                            // pressed
+                            if (buttonSelected == IGNORE_BUTTON)
+                            {
+                                // Set the flag to ignore subsequent
+                                // column name errors
+                                continueOnDataTypeError = true;
+                            }
+                            // Check if the Cancel button was pressed
+                            else if (buttonSelected == CANCEL_BUTTON)
+                            {
+                                // No error message is provided since
+                                // the user chose this action
+                                throw new CCDDException();
+                            }
                         }
                     }
                 }
-                // Check if all definitions are to be loaded, this is the macro
-                // definitions name space, and an interface set exists
-                else if (importType == ImportType.IMPORT_ALL
-                         && nameSpace.getName().equals(EDSTags.MACRO.getTag())
-                         && nameSpace.getDeclaredInterfaceSet() != null)
+            }
+        }
+        // Check if all definitions are to be loaded, this is the macro
+        // definitions name space, and an interface set exists
+        else if (importType == ImportType.IMPORT_ALL
+                 && nameSpace.getName().equals(EDSTags.MACRO.getTag())
+                 && nameSpace.getDeclaredInterfaceSet() != null)
+        {
+            // Step through the interfaces in order to locate the name
+            // space's parameter and command sets
+            for (InterfaceDeclarationType intfcDecType : nameSpace.getDeclaredInterfaceSet().getInterface())
+            {
+                // Check if this interface contains a generic type set
+                if (intfcDecType.getGenericTypeSet() != null
+                    && !intfcDecType.getGenericTypeSet().getGenericType().isEmpty()
+                    && intfcDecType.getName().startsWith(EDSTags.MACRO.getTag()))
                 {
-                    // Step through the interfaces in order to locate the name
-                    // space's parameter and command sets
-                    for (InterfaceDeclarationType intfcDecType : nameSpace.getDeclaredInterfaceSet().getInterface())
+                    // Step through each generic type data
+                    for (GenericTypeType genType : intfcDecType.getGenericTypeSet().getGenericType())
                     {
-                        // Check if this interface contains a generic type set
-                        if (intfcDecType.getGenericTypeSet() != null
-                            && !intfcDecType.getGenericTypeSet().getGenericType().isEmpty()
-                            && intfcDecType.getName().startsWith(EDSTags.MACRO.getTag()))
+                        // Check that the macro name is present
+                        if (genType.getName() != null)
+                        {
+                            // Add the macro definition to the list
+                            // (add a blank for the OID column)
+                            macroDefns.add(new String[] {genType.getName(),
+                                                         (genType.getShortDescription() != null
+                                                                                               ? genType.getShortDescription()
+                                                                                               : ""),
+                                                         ""});
+                        }
+                        // Incorrect number of inputs. Check if the
+                        // user hasn't already elected to ignore macro
+                        // errors
+                        else if (!continueOnMacroError)
                         {
-                            // Step through each generic type data
-                            for (GenericTypeType genType : intfcDecType.getGenericTypeSet().getGenericType())
+                            // Inform the user that the macro inputs
+                            // are incorrect
+                            int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
+                                                                                                "<html><b>Missing or extra macro definition "
+                                                                                                    + "input(s) in import file '</b>"
+                                                                                                    + importFileName
+                                                                                                    + "<b>'; continue?",
+                                                                                                "Macro Error",
+                                                                                                "Ignore this macro",
+                                                                                                "Ignore this and any remaining invalid macros",
+                                                                                                "Stop importing");
+
+                            // Check if the Ignore All button was
+                            // pressed
+                            if (buttonSelected == IGNORE_BUTTON)
                             {
-                                // Check that the macro name is present
-                                if (genType.getName() != null)
-                                {
-                                    // Add the macro definition to the list
-                                    // (add a blank for the OID column)
-                                    macroDefns.add(new String[] {genType.getName(),
-                                                                 (genType.getShortDescription() != null
-                                                                                                       ? genType.getShortDescription()
-                                                                                                       : ""),
-                                                                 ""});
-                                }
-                                // Incorrect number of inputs. Check if the
-                                // user hasn't already elected to ignore macro
-                                // errors
-                                else if (!continueOnMacroError)
-                                {
-                                    // Inform the user that the macro inputs
-                                    // are incorrect
-                                    int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
-                                                                                                        "<html><b>Missing or extra macro definition "
-                                                                                                            + "input(s) in import file '</b>"
-                                                                                                            + importFileName
-                                                                                                            + "<b>'; continue?",
-                                                                                                        "Macro Error",
-                                                                                                        "Ignore this macro",
-                                                                                                        "Ignore this and any remaining invalid macros",
-                                                                                                        "Stop importing");
-
-                                    // Check if the Ignore All button was
-                                    // pressed
-                                    if (buttonSelected == IGNORE_BUTTON)
-                                    {
-                                        // Set the flag to ignore subsequent
-                                        // macro errors
-                                        continueOnMacroError = true;
-                                    }
-                                    // Check if the Cancel button was pressed
-                                    else if (buttonSelected == CANCEL_BUTTON)
-                                    {
-                                        // No error message is provided since
-                                        // the user chose this action
-                                        throw new CCDDException();
-                                    }
-                                }
+                                // Set the flag to ignore subsequent
+                                // macro errors
+                                continueOnMacroError = true;
+                            }
+                            // Check if the Cancel button was pressed
+                            else if (buttonSelected == CANCEL_BUTTON)
+                            {
+                                // No error message is provided since
+                                // the user chose this action
+                                throw new CCDDException();
                             }
                         }
                     }
                 }
-                // Check if all definitions are to be loaded, this is the
-                // reserved message ID definitions name space, and an interface
-                // set exists
-                else if (importType == ImportType.IMPORT_ALL
-                         && nameSpace.getName().equals(EDSTags.RESERVED_MSG_ID.getTag())
-                         && nameSpace.getDeclaredInterfaceSet() != null)
+            }
+        }
+        // Check if all definitions are to be loaded, this is the
+        // reserved message ID definitions name space, and an interface
+        // set exists
+        else if (importType == ImportType.IMPORT_ALL
+                 && nameSpace.getName().equals(EDSTags.RESERVED_MSG_ID.getTag())
+                 && nameSpace.getDeclaredInterfaceSet() != null)
+        {
+            // Step through the interfaces in order to locate the name
+            // space's parameter and command sets
+            for (InterfaceDeclarationType intfcDecType : nameSpace.getDeclaredInterfaceSet().getInterface())
+            {
+                // Check if this interface contains a generic type set
+                if (intfcDecType.getGenericTypeSet() != null
+                    && !intfcDecType.getGenericTypeSet().getGenericType().isEmpty()
+                    && intfcDecType.getName().startsWith(EDSTags.RESERVED_MSG_ID.getTag()))
                 {
-                    // Step through the interfaces in order to locate the name
-                    // space's parameter and command sets
-                    for (InterfaceDeclarationType intfcDecType : nameSpace.getDeclaredInterfaceSet().getInterface())
+                    // Step through each generic type data
+                    for (GenericTypeType genType : intfcDecType.getGenericTypeSet().getGenericType())
                     {
-                        // Check if this interface contains a generic type set
-                        if (intfcDecType.getGenericTypeSet() != null
-                            && !intfcDecType.getGenericTypeSet().getGenericType().isEmpty()
-                            && intfcDecType.getName().startsWith(EDSTags.RESERVED_MSG_ID.getTag()))
+                        // Check that the reserved message ID is
+                        // present
+                        if (genType.getName() != null)
+                        {
+                            // Add the reserved message ID definition
+                            // to the list (add a blank for the OID
+                            // column)
+                            reservedMsgIDDefns.add(new String[] {genType.getName(),
+                                                              (genType.getShortDescription() != null
+                                                                                                    ? genType.getShortDescription()
+                                                                                                    : ""),
+                                                              ""});
+                        }
+                        // Incorrect number of inputs. Check if the
+                        // user hasn't already elected to ignore
+                        // reserved message ID errors
+                        else if (!continueOnReservedMsgIDError)
                         {
-                            // Step through each generic type data
-                            for (GenericTypeType genType : intfcDecType.getGenericTypeSet().getGenericType())
+                            // Inform the user that the reserved
+                            // message ID inputs are incorrect
+                            int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
+                                                                                                "<html><b>Missing or extra reserved message ID "
+                                                                                                    + "definition input(s) in import file '</b>"
+                                                                                                    + importFileName
+                                                                                                    + "<b>'; continue?",
+                                                                                                "Reserved Message ID Error",
+                                                                                                "Ignore this reserved message ID",
+                                                                                                "Ignore this and any remaining invalid reserved message IDs",
+                                                                                                "Stop importing");
+
+                            // Check if the Ignore All button was
+                            // pressed
+                            if (buttonSelected == IGNORE_BUTTON)
                             {
-                                // Check that the reserved message ID is
-                                // present
-                                if (genType.getName() != null)
-                                {
-                                    // Add the reserved message ID definition
-                                    // to the list (add a blank for the OID
-                                    // column)
-                                    reservedMsgIDDefns.add(new String[] {genType.getName(),
-                                                                      (genType.getShortDescription() != null
-                                                                                                            ? genType.getShortDescription()
-                                                                                                            : ""),
-                                                                      ""});
-                                }
-                                // Incorrect number of inputs. Check if the
-                                // user hasn't already elected to ignore
+                                // Set the flag to ignore subsequent
                                 // reserved message ID errors
-                                else if (!continueOnReservedMsgIDError)
+                                continueOnReservedMsgIDError = true;
+                            }
+                            // Check if the Cancel button was pressed
+                            else if (buttonSelected == CANCEL_BUTTON)
+                            {
+                                // No error message is provided since
+                                // the user chose this action
+                                throw new CCDDException();
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        // Check if all definitions are to be loaded or that this is
+        // the first table, this is a table definition name space, an
+        // interface set exists, and that the name space name is in the
+        // correct format for a table (table identifier : table name< :
+        // system name>)
+        else if ((importType == ImportType.IMPORT_ALL
+                 || tableDefinitions.size() == 0)
+                 && nameSpace.getName().startsWith(EDSTags.TABLE.getTag() + ":")
+                 && nameSpace.getDeclaredInterfaceSet() != null
+                 && nameSpace.getName().matches("[^:]+?:[^:]+?(?::[^:]*)?$"))
+        {
+            int cmdArgIndex = -1;
+            String command = "";
+            TableDefinition tableDefn = null;
+
+            // Separate the name space name into the tag, table name,
+            // and (optional) system name
+            String[] nameParts = nameSpace.getName().split(":");
+
+            // Create a table definition for this table. The
+            // nameSpace name begins with the table identifier followed
+            // by the system and the table name, separated by colons
+            tableDefn = new TableDefinition(nameParts[1].trim(),
+                                            nameSpace.getShortDescription());
+
+            // Make three passes through the name space interface. The
+            // first pass processes the telemetry and command
+            // interfaces, and the generic types not associated with
+            // table column data. The second pass processes the
+            // enumerations in the data set. The third pass processes
+            // the generic type column data, only using it if a cell
+            // value is still empty after being populated by the
+            // telemetry or command interface data
+            for (int loop = 1; loop <= 3; loop++)
+            {
+                // Check if this is the second pass, a data set exists,
+                // and the command name column is present in the data
+                // type
+                if (loop == 2
+                    && nameSpace.getDataTypeSet() != null
+                    && commandNameIndex != -1)
+                {
+                    // Get the reference to the data type sets
+                    List<RootDataType> dataTypes = nameSpace.getDataTypeSet().getArrayDataTypeOrBinaryDataTypeOrBooleanDataType();
+
+                    // Step through each data type set
+                    for (RootDataType rDataType : dataTypes)
+                    {
+                        // Check if this is an enumerated data type set
+                        if (rDataType instanceof EnumeratedDataType)
+                        {
+                            EnumeratedDataType eDataType = (EnumeratedDataType) rDataType;
+
+                            // Get the list of enumerated values and
+                            // associated labels
+                            EnumerationListType enumList = eDataType.getEnumerationList();
+
+                            // Check if any enumerations exist
+                            if (enumList != null)
+                            {
+                                String enumeration = null;
+
+                                // Step through each enumeration
+                                for (ValueEnumerationType enumType : enumList.getEnumeration())
                                 {
-                                    // Inform the user that the reserved
-                                    // message ID inputs are incorrect
-                                    int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
-                                                                                                        "<html><b>Missing or extra reserved message ID "
-                                                                                                            + "definition input(s) in import file '</b>"
-                                                                                                            + importFileName
-                                                                                                            + "<b>'; continue?",
-                                                                                                        "Reserved Message ID Error",
-                                                                                                        "Ignore this reserved message ID",
-                                                                                                        "Ignore this and any remaining invalid reserved message IDs",
-                                                                                                        "Stop importing");
-
-                                    // Check if the Ignore All button was
-                                    // pressed
-                                    if (buttonSelected == IGNORE_BUTTON)
+                                    // Check if this is the first value
+                                    if (enumeration == null)
                                     {
-                                        // Set the flag to ignore subsequent
-                                        // reserved message ID errors
-                                        continueOnReservedMsgIDError = true;
+                                        enumeration = "";
                                     }
-                                    // Check if the Cancel button was pressed
-                                    else if (buttonSelected == CANCEL_BUTTON)
+                                    // Not the first value
+                                    else
+                                    {
+                                        enumeration += ", ";
+                                    }
+
+                                    // Build the enumeration
+                                    enumeration += enumType.getValue()
+                                                   + " | "
+                                                   + enumType.getLabel();
+                                }
+
+                                // Check if the command name changed
+                                if (!eDataType.getShortDescription().equals(command))
+                                {
+                                    // Reset the argument index
+                                    cmdArgIndex = -1;
+                                }
+
+                                // Increment the argument index and
+                                // store the command name for which
+                                // this argument is a member
+                                cmdArgIndex++;
+                                command = eDataType.getShortDescription();
+
+                                // Step through each row of table data
+                                for (int row = 0; row < tableDefn.getData().size(); row += numColumns)
+                                {
+                                    // Check if the command name
+                                    // matches the one in the table
+                                    // data for this row
+                                    if (tableDefn.getData().get(row + commandNameIndex) != null
+                                        && tableDefn.getData().get(row + commandNameIndex).equals(command)
+                                        && cmdArgIndex < commandArguments.size())
                                     {
-                                        // No error message is provided since
-                                        // the user chose this action
-                                        throw new CCDDException();
+                                        // Get the command argument
+                                        // reference
+                                        AssociatedColumns cmdArg = commandArguments.get(cmdArgIndex);
+
+                                        // Check if the command
+                                        // argument enumeration is
+                                        // present
+                                        if (cmdArg.getEnumeration() != -1
+                                            && enumeration != null)
+                                        {
+                                            // Store the command
+                                            // argument enumeration
+                                            tableDefn.getData().set(row
+                                                                    + cmdArg.getEnumeration(),
+                                                                    enumeration);
+                                        }
                                     }
                                 }
                             }
                         }
                     }
                 }
-                // Check if all definitions are to be loaded or that this is
-                // the first table, this is a table definition name space, an
-                // interface set exists, and that the name space name is in the
-                // correct format for a table (table identifier : table name< :
-                // system name>)
-                else if ((importType == ImportType.IMPORT_ALL
-                         || tableDefinitions.size() == 0)
-                         && nameSpace.getName().startsWith(EDSTags.TABLE.getTag() + ":")
-                         && nameSpace.getDeclaredInterfaceSet() != null
-                         && nameSpace.getName().matches("[^:]+?:[^:]+?(?::[^:]*)?$"))
+
+                // Step through the interfaces in order to locate the
+                // name space's parameter, command, and generic sets
+                for (InterfaceDeclarationType intfcDecType : nameSpace.getDeclaredInterfaceSet().getInterface())
                 {
-                    int cmdArgIndex = -1;
-                    String command = "";
-                    TableDefinition tableDefn = null;
-
-                    // Separate the name space name into the tag, table name,
-                    // and (optional) system name
-                    String[] nameParts = nameSpace.getName().split(":");
-
-                    // Create a table definition for this table. The
-                    // nameSpace name begins with the table identifier followed
-                    // by the system and the table name, separated by colons
-                    tableDefn = new TableDefinition(nameParts[1].trim(),
-                                                    nameSpace.getShortDescription());
-
-                    // Make three passes through the name space interface. The
-                    // first pass processes the telemetry and command
-                    // interfaces, and the generic types not associated with
-                    // table column data. The second pass processes the
-                    // enumerations in the data set. The third pass processes
-                    // the generic type column data, only using it if a cell
-                    // value is still empty after being populated by the
-                    // telemetry or command interface data
-                    for (int loop = 1; loop <= 3; loop++)
+                    // Check if this is the first pass
+                    if (loop == 1)
                     {
-                        // Check if this is the second pass, a data set exists,
-                        // and the command name column is present in the data
-                        // type
-                        if (loop == 2
-                            && nameSpace.getDataTypeSet() != null
-                            && commandNameIndex != -1)
+                        /**********************************************
+                         * Telemetry processing
+                         * *******************************************/
+                        // Check if the interface contains a parameter
+                        // set
+                        if (intfcDecType.getParameterSet() != null
+                            && !intfcDecType.getParameterSet().getParameter().isEmpty())
                         {
-                            // Get the reference to the data type sets
-                            List<RootDataType> dataTypes = nameSpace.getDataTypeSet().getArrayDataTypeOrBinaryDataTypeOrBooleanDataType();
-
-                            // Step through each data type set
-                            for (RootDataType rDataType : dataTypes)
+                            // Step through each parameter
+                            for (InterfaceParameterType parmType : intfcDecType.getParameterSet().getParameter())
                             {
-                                // Check if this is an enumerated data type set
-                                if (rDataType instanceof EnumeratedDataType)
+                                // Create a new row of data in the
+                                // table definition to contain this
+                                // structure's information. Initialize
+                                // all columns to blanks except for the
+                                // variable name
+                                String[] newRow = new String[typeDefn.getColumnCountVisible()];
+                                Arrays.fill(newRow, "");
+                                newRow[variableNameIndex] = parmType.getName();
+
+                                // Check if a data type exists
+                                if (parmType.getType() != null
+                                    && !parmType.getType().isEmpty())
                                 {
-                                    EnumeratedDataType eDataType = (EnumeratedDataType) rDataType;
+                                    // Store the data type for this
+                                    // variable
+                                    newRow[dataTypeIndex] = parmType.getType().replaceFirst("^[^/]*/",
+                                                                                            "");
+                                }
 
-                                    // Get the list of enumerated values and
-                                    // associated labels
-                                    EnumerationListType enumList = eDataType.getEnumerationList();
+                                // Check if the description column
+                                // exists in the table type definition
+                                // and that a description exists
+                                if (descriptionIndex != -1
+                                    && parmType.getShortDescription() != null)
+                                {
+                                    // Store the description for this
+                                    // variable
+                                    newRow[descriptionIndex] = parmType.getShortDescription();
+                                }
 
-                                    // Check if any enumerations exist
-                                    if (enumList != null)
-                                    {
-                                        String enumeration = null;
+                                // Add the new row to the table
+                                // definition
+                                tableDefn.addData(newRow);
+                            }
+                        }
 
-                                        // Step through each enumeration
-                                        for (ValueEnumerationType enumType : enumList.getEnumeration())
-                                        {
-                                            // Check if this is the first value
-                                            if (enumeration == null)
-                                            {
-                                                enumeration = "";
-                                            }
-                                            // Not the first value
-                                            else
-                                            {
-                                                enumeration += ", ";
-                                            }
+                        /**********************************************
+                         * Command processing
+                         * *******************************************/
+                        // Check if the interface contains a command
+                        // set
+                        if (intfcDecType.getCommandSet() != null
+                            && !intfcDecType.getCommandSet().getCommand().isEmpty())
+                        {
+                            // Step through each command
+                            for (InterfaceCommandType cmdType : intfcDecType.getCommandSet().getCommand())
+                            {
+                                // Create a new row of data in the
+                                // table definition to contain this
+                                // command's information. Initialize
+                                // all columns to blanks except for the
+                                // command name
+                                String[] newRow = new String[typeDefn.getColumnCountVisible()];
+                                Arrays.fill(newRow, "");
+                                newRow[commandNameIndex] = cmdType.getName();
+
+                                // Check if the command description is
+                                // present and the description column
+                                // exists in the table type definition
+                                if (cmdType.getShortDescription() != null
+                                    && cmdDescriptionIndex != -1)
+                                {
+                                    // Store the command description in
+                                    // the row's description column
+                                    newRow[cmdDescriptionIndex] = cmdType.getShortDescription();
+                                }
 
-                                            // Build the enumeration
-                                            enumeration += enumType.getValue()
-                                                           + " | "
-                                                           + enumType.getLabel();
-                                        }
+                                // Step through each command argument
+                                for (int index = 0; index < commandArguments.size(); index++)
+                                {
+                                    // Check if this argument is
+                                    // applicable to this command (not
+                                    // all commands may have the same
+                                    // number of arguments)
+                                    if (index < cmdType.getArgument().size())
+                                    {
+                                        // Store the command argument
+                                        // name and data types
+                                        newRow[commandArguments.get(index).getName()] = cmdType.getArgument().get(index).getName();
 
-                                        // Check if the command name changed
-                                        if (!eDataType.getShortDescription().equals(command))
+                                        // Check if a data type exists
+                                        if (cmdType.getArgument().get(index).getType() != null)
                                         {
-                                            // Reset the argument index
-                                            cmdArgIndex = -1;
+                                            newRow[commandArguments.get(index).getDataType()] = cmdType.getArgument().get(index).getType();
                                         }
 
-                                        // Increment the argument index and
-                                        // store the command name for which
-                                        // this argument is a member
-                                        cmdArgIndex++;
-                                        command = eDataType.getShortDescription();
-
-                                        // Step through each row of table data
-                                        for (int row = 0; row < tableDefn.getData().size(); row += numColumns)
+                                        // Step through the other
+                                        // associated command argument
+                                        // columns
+                                        for (Integer column : commandArguments.get(index).getOther())
                                         {
-                                            // Check if the command name
-                                            // matches the one in the table
-                                            // data for this row
-                                            if (tableDefn.getData().get(row + commandNameIndex) != null
-                                                && tableDefn.getData().get(row + commandNameIndex).equals(command)
-                                                && cmdArgIndex < commandArguments.size())
+                                            // Check if a command
+                                            // argument description
+                                            // exists and if this is
+                                            // the command argument
+                                            // description column
+                                            if (cmdType.getArgument().get(index).getShortDescription() != null
+                                                && typeDefn.getColumnNamesVisible()[column].matches(CONTAINS_DESCRIPTION))
                                             {
-                                                // Get the command argument
-                                                // reference
-                                                AssociatedColumns cmdArg = commandArguments.get(cmdArgIndex);
-
-                                                // Check if the command
-                                                // argument enumeration is
-                                                // present
-                                                if (cmdArg.getEnumeration() != -1
-                                                    && enumeration != null)
-                                                {
-                                                    // Store the command
-                                                    // argument enumeration
-                                                    tableDefn.getData().set(row
-                                                                            + cmdArg.getEnumeration(),
-                                                                            enumeration);
-                                                }
+                                                // Store the command
+                                                // argument description
+                                                // and stop searching
+                                                newRow[column] = cmdType.getArgument().get(index).getShortDescription();
+                                                break;
                                             }
                                         }
                                     }
                                 }
+
+                                // Add the new row to the table
+                                // definition
+                                tableDefn.addData(newRow);
                             }
                         }
+                    }
 
-                        // Step through the interfaces in order to locate the
-                        // name space's parameter, command, and generic sets
-                        for (InterfaceDeclarationType intfcDecType : nameSpace.getDeclaredInterfaceSet().getInterface())
+                    /**************************************************
+                     * Generic type processing
+                     * ***********************************************/
+                    // Check if this interface contains a generic type
+                    // set. The generic type set is used to column
+                    // data, data fields, and enumeration parameters
+                    // for tables that aren't structure or command
+                    // tables, and to store extra columns, data fields,
+                    // and extra enumeration parameters for structure
+                    // and command tables
+                    if (intfcDecType.getGenericTypeSet() != null
+                        && !intfcDecType.getGenericTypeSet().getGenericType().isEmpty())
+                    {
+                        // Step through each generic type data
+                        for (GenericTypeType genType : intfcDecType.getGenericTypeSet().getGenericType())
                         {
                             // Check if this is the first pass
                             if (loop == 1)
                             {
-                                /**********************************************
-                                 * Telemetry processing
-                                 * *******************************************/
-                                // Check if the interface contains a parameter
-                                // set
-                                if (intfcDecType.getParameterSet() != null
-                                    && !intfcDecType.getParameterSet().getParameter().isEmpty())
+                                // Check if this is the table type
+                                if (intfcDecType.getName().equals(EDSTags.TABLE_TYPE.getTag()))
                                 {
-                                    // Step through each parameter
-                                    for (InterfaceParameterType parmType : intfcDecType.getParameterSet().getParameter())
-                                    {
-                                        // Create a new row of data in the
-                                        // table definition to contain this
-                                        // structure's information. Initialize
-                                        // all columns to blanks except for the
-                                        // variable name
-                                        String[] newRow = new String[typeDefn.getColumnCountVisible()];
-                                        Arrays.fill(newRow, "");
-                                        newRow[variableNameIndex] = parmType.getName();
+                                    // Store the table's type name
+                                    tableDefn.setType(genType.getShortDescription());
 
-                                        // Check if a data type exists
-                                        if (parmType.getType() != null
-                                            && !parmType.getType().isEmpty())
-                                        {
-                                            // Store the data type for this
-                                            // variable
-                                            newRow[dataTypeIndex] = parmType.getType().replaceFirst("^[^/]*/",
-                                                                                                    "");
-                                        }
-
-                                        // Check if the description column
-                                        // exists in the table type definition
-                                        // and that a description exists
-                                        if (descriptionIndex != -1
-                                            && parmType.getShortDescription() != null)
-                                        {
-                                            // Store the description for this
-                                            // variable
-                                            newRow[descriptionIndex] = parmType.getShortDescription();
-                                        }
+                                    // Get the table's type
+                                    // definition based on the type
+                                    // name
+                                    typeDefn = tableTypeHandler.getTypeDefinition(tableDefn.getType());
 
-                                        // Add the new row to the table
-                                        // definition
-                                        tableDefn.addData(newRow);
+                                    // Check if the table type
+                                    // isn't recognized
+                                    if (typeDefn == null)
+                                    {
+                                        throw new CCDDException("unknown table type '"
+                                                                + tableDefn.getType()
+                                                                + "'");
                                     }
-                                }
 
-                                /**********************************************
-                                 * Command processing
-                                 * *******************************************/
-                                // Check if the interface contains a command
-                                // set
-                                if (intfcDecType.getCommandSet() != null
-                                    && !intfcDecType.getCommandSet().getCommand().isEmpty())
-                                {
-                                    // Step through each command
-                                    for (InterfaceCommandType cmdType : intfcDecType.getCommandSet().getCommand())
+                                    // Get the number of visible
+                                    // columns for this table type
+                                    numColumns = typeDefn.getColumnCountVisible();
+
+                                    // Get the array of visible column
+                                    // names
+                                    String[] columnNames = typeDefn.getColumnNamesVisible();
+
+                                    // Check if this is a structure
+                                    // type table
+                                    if (typeDefn.isStructure())
                                     {
-                                        // Create a new row of data in the
-                                        // table definition to contain this
-                                        // command's information. Initialize
-                                        // all columns to blanks except for the
-                                        // command name
-                                        String[] newRow = new String[typeDefn.getColumnCountVisible()];
-                                        Arrays.fill(newRow, "");
-                                        newRow[commandNameIndex] = cmdType.getName();
-
-                                        // Check if the command description is
-                                        // present and the description column
-                                        // exists in the table type definition
-                                        if (cmdType.getShortDescription() != null
-                                            && cmdDescriptionIndex != -1)
+                                        String descColName;
+
+                                        // Get the structure column
+                                        // indices, if this is a
+                                        // structure type
+                                        variableNameIndex = typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.VARIABLE));
+                                        dataTypeIndex = typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.PRIM_AND_STRUCT));
+
+                                        // Get the description column
+                                        // name
+                                        if ((descColName = typeDefn.getColumnNameByInputType(InputDataType.DESCRIPTION)) != null)
                                         {
-                                            // Store the command description in
-                                            // the row's description column
-                                            newRow[cmdDescriptionIndex] = cmdType.getShortDescription();
+                                            // Get the variable
+                                            // description column, if
+                                            // present
+                                            descriptionIndex = typeDefn.getVisibleColumnIndexByUserName(descColName);
                                         }
 
-                                        // Step through each command argument
-                                        for (int index = 0; index < commandArguments.size(); index++)
+                                        // Check if the column by the
+                                        // default name isn't present
+                                        if (descriptionIndex == -1)
                                         {
-                                            // Check if this argument is
-                                            // applicable to this command (not
-                                            // all commands may have the same
-                                            // number of arguments)
-                                            if (index < cmdType.getArgument().size())
+                                            // Step through each column
+                                            for (int column = 0; column < numColumns; column++)
                                             {
-                                                // Store the command argument
-                                                // name and data types
-                                                newRow[commandArguments.get(index).getName()] = cmdType.getArgument().get(index).getName();
-
-                                                // Check if a data type exists
-                                                if (cmdType.getArgument().get(index).getType() != null)
+                                                // Check if the column
+                                                // name contain
+                                                // 'description'
+                                                if (columnNames[column].matches(CONTAINS_DESCRIPTION))
                                                 {
-                                                    newRow[commandArguments.get(index).getDataType()] = cmdType.getArgument().get(index).getType();
+                                                    // Set this column
+                                                    // as the
+                                                    // description
+                                                    // column and stop
+                                                    // searching
+                                                    descriptionIndex = column;
+                                                    break;
                                                 }
+                                            }
+                                        }
 
-                                                // Step through the other
-                                                // associated command argument
-                                                // columns
-                                                for (Integer column : commandArguments.get(index).getOther())
+                                        // Get the units column. If the
+                                        // default units column name
+                                        // isn't used then the first
+                                        // column containing 'units' is
+                                        // selected
+                                        unitsIndex = typeDefn.getVisibleColumnIndexByUserName(DefaultColumn.UNITS.getName());
+
+                                        // Check if the column by the
+                                        // default name isn't present
+                                        if (unitsIndex == -1)
+                                        {
+                                            // Step through each column
+                                            for (int column = 0; column < numColumns; column++)
+                                            {
+                                                // Check if the column
+                                                // name contain 'units'
+                                                if (columnNames[column].matches(CONTAINS_UNITS))
                                                 {
-                                                    // Check if a command
-                                                    // argument description
-                                                    // exists and if this is
-                                                    // the command argument
-                                                    // description column
-                                                    if (cmdType.getArgument().get(index).getShortDescription() != null
-                                                        && typeDefn.getColumnNamesVisible()[column].matches(CONTAINS_DESCRIPTION))
-                                                    {
-                                                        // Store the command
-                                                        // argument description
-                                                        // and stop searching
-                                                        newRow[column] = cmdType.getArgument().get(index).getShortDescription();
-                                                        break;
-                                                    }
+                                                    // Set this column
+                                                    // as the units
+                                                    // column and stop
+                                                    // searching
+                                                    unitsIndex = column;
+                                                    break;
                                                 }
                                             }
                                         }
-
-                                        // Add the new row to the table
-                                        // definition
-                                        tableDefn.addData(newRow);
                                     }
-                                }
-                            }
-
-                            /**************************************************
-                             * Generic type processing
-                             * ***********************************************/
-                            // Check if this interface contains a generic type
-                            // set. The generic type set is used to column
-                            // data, data fields, and enumeration parameters
-                            // for tables that aren't structure or command
-                            // tables, and to store extra columns, data fields,
-                            // and extra enumeration parameters for structure
-                            // and command tables
-                            if (intfcDecType.getGenericTypeSet() != null
-                                && !intfcDecType.getGenericTypeSet().getGenericType().isEmpty())
-                            {
-                                // Step through each generic type data
-                                for (GenericTypeType genType : intfcDecType.getGenericTypeSet().getGenericType())
-                                {
-                                    // Check if this is the first pass
-                                    if (loop == 1)
+                                    // Check if this is a command type
+                                    // table
+                                    else if (typeDefn.isCommand())
                                     {
-                                        // Check if this is the table type
-                                        if (intfcDecType.getName().equals(EDSTags.TABLE_TYPE.getTag()))
+                                        // Get the list containing
+                                        // command argument name, data
+                                        // type, enumeration, minimum,
+                                        // maximum, and other
+                                        // associated column indices
+                                        // for each argument grouping
+                                        commandArguments = typeDefn.getAssociatedCommandColumns(true);
+
+                                        // Get the command name column
+                                        commandNameIndex = typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.COMMAND_NAME));
+
+                                        // Get the command description
+                                        // column. If the default
+                                        // command description column
+                                        // name isn't used then the
+                                        // first column containing
+                                        // 'description' is selected
+                                        // that doesn't refer to a
+                                        // command argument
+                                        cmdDescriptionIndex = typeDefn.getVisibleColumnIndexByUserName(DefaultColumn.DESCRIPTION_CMD.getName());
+
+                                        // Check if the column by the
+                                        // default name isn't present
+                                        if (cmdDescriptionIndex == -1)
                                         {
-                                            // Store the table's type name
-                                            tableDefn.setType(genType.getShortDescription());
-
-                                            // Get the table's type
-                                            // definition based on the type
-                                            // name
-                                            typeDefn = tableTypeHandler.getTypeDefinition(tableDefn.getType());
-
-                                            // Check if the table type
-                                            // isn't recognized
-                                            if (typeDefn == null)
+                                            // Step through each column
+                                            for (int column = 0; column < numColumns; column++)
                                             {
-                                                throw new CCDDException("unknown table type '"
-                                                                        + tableDefn.getType()
-                                                                        + "'");
-                                            }
-
-                                            // Get the number of visible
-                                            // columns for this table type
-                                            numColumns = typeDefn.getColumnCountVisible();
-
-                                            // Get the array of visible column
-                                            // names
-                                            String[] columnNames = typeDefn.getColumnNamesVisible();
-
-                                            // Check if this is a structure
-                                            // type table
-                                            if (typeDefn.isStructure())
-                                            {
-                                                String descColName;
-
-                                                // Get the structure column
-                                                // indices, if this is a
-                                                // structure type
-                                                variableNameIndex = typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.VARIABLE));
-                                                dataTypeIndex = typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.PRIM_AND_STRUCT));
-
-                                                // Get the description column
-                                                // name
-                                                if ((descColName = typeDefn.getColumnNameByInputType(InputDataType.DESCRIPTION)) != null)
+                                                // Check if the column
+                                                // name contain
+                                                // 'description'
+                                                if (columnNames[column].matches(CONTAINS_DESCRIPTION))
                                                 {
-                                                    // Get the variable
-                                                    // description column, if
-                                                    // present
-                                                    descriptionIndex = typeDefn.getVisibleColumnIndexByUserName(descColName);
-                                                }
+                                                    boolean isArgDesc = false;
 
-                                                // Check if the column by the
-                                                // default name isn't present
-                                                if (descriptionIndex == -1)
-                                                {
-                                                    // Step through each column
-                                                    for (int column = 0; column < numColumns; column++)
+                                                    // Step through the
+                                                    // command argument
+                                                    // columns
+                                                    for (AssociatedColumns argCols : commandArguments)
                                                     {
-                                                        // Check if the column
-                                                        // name contain
-                                                        // 'description'
-                                                        if (columnNames[column].matches(CONTAINS_DESCRIPTION))
+                                                        // Check if
+                                                        // this column
+                                                        // is the
+                                                        // description
+                                                        // for a
+                                                        // command
+                                                        // argument
+                                                        if (argCols.getOther().contains(column))
                                                         {
-                                                            // Set this column
-                                                            // as the
+                                                            // Set the
+                                                            // flag
+                                                            // indicating
+                                                            // this is
+                                                            // a
+                                                            // command
+                                                            // argument
                                                             // description
-                                                            // column and stop
+                                                            // and stop
                                                             // searching
-                                                            descriptionIndex = column;
+                                                            isArgDesc = true;
                                                             break;
                                                         }
                                                     }
-                                                }
 
-                                                // Get the units column. If the
-                                                // default units column name
-                                                // isn't used then the first
-                                                // column containing 'units' is
-                                                // selected
-                                                unitsIndex = typeDefn.getVisibleColumnIndexByUserName(DefaultColumn.UNITS.getName());
-
-                                                // Check if the column by the
-                                                // default name isn't present
-                                                if (unitsIndex == -1)
-                                                {
-                                                    // Step through each column
-                                                    for (int column = 0; column < numColumns; column++)
-                                                    {
-                                                        // Check if the column
-                                                        // name contain 'units'
-                                                        if (columnNames[column].matches(CONTAINS_UNITS))
-                                                        {
-                                                            // Set this column
-                                                            // as the units
-                                                            // column and stop
-                                                            // searching
-                                                            unitsIndex = column;
-                                                            break;
-                                                        }
-                                                    }
-                                                }
-                                            }
-                                            // Check if this is a command type
-                                            // table
-                                            else if (typeDefn.isCommand())
-                                            {
-                                                // Get the list containing
-                                                // command argument name, data
-                                                // type, enumeration, minimum,
-                                                // maximum, and other
-                                                // associated column indices
-                                                // for each argument grouping
-                                                commandArguments = typeDefn.getAssociatedCommandColumns(true);
-
-                                                // Get the command name column
-                                                commandNameIndex = typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.COMMAND_NAME));
-
-                                                // Get the command description
-                                                // column. If the default
-                                                // command description column
-                                                // name isn't used then the
-                                                // first column containing
-                                                // 'description' is selected
-                                                // that doesn't refer to a
-                                                // command argument
-                                                cmdDescriptionIndex = typeDefn.getVisibleColumnIndexByUserName(DefaultColumn.DESCRIPTION_CMD.getName());
-
-                                                // Check if the column by the
-                                                // default name isn't present
-                                                if (cmdDescriptionIndex == -1)
-                                                {
-                                                    // Step through each column
-                                                    for (int column = 0; column < numColumns; column++)
+                                                    // Check if the
+                                                    // column isn't a
+                                                    // command argument
+                                                    // description
+                                                    if (!isArgDesc)
                                                     {
-                                                        // Check if the column
-                                                        // name contain
-                                                        // 'description'
-                                                        if (columnNames[column].matches(CONTAINS_DESCRIPTION))
-                                                        {
-                                                            boolean isArgDesc = false;
-
-                                                            // Step through the
-                                                            // command argument
-                                                            // columns
-                                                            for (AssociatedColumns argCols : commandArguments)
-                                                            {
-                                                                // Check if
-                                                                // this column
-                                                                // is the
-                                                                // description
-                                                                // for a
-                                                                // command
-                                                                // argument
-                                                                if (argCols.getOther().contains(column))
-                                                                {
-                                                                    // Set the
-                                                                    // flag
-                                                                    // indicating
-                                                                    // this is
-                                                                    // a
-                                                                    // command
-                                                                    // argument
-                                                                    // description
-                                                                    // and stop
-                                                                    // searching
-                                                                    isArgDesc = true;
-                                                                    break;
-                                                                }
-                                                            }
-
-                                                            // Check if the
-                                                            // column isn't a
-                                                            // command argument
-                                                            // description
-                                                            if (!isArgDesc)
-                                                            {
-                                                                // Set this
-                                                                // column
-                                                                // as the
-                                                                // description
-                                                                // column and
-                                                                // stop
-                                                                // searching
-                                                                cmdDescriptionIndex = column;
-                                                                break;
-                                                            }
-                                                        }
+                                                        // Set this
+                                                        // column
+                                                        // as the
+                                                        // description
+                                                        // column and
+                                                        // stop
+                                                        // searching
+                                                        cmdDescriptionIndex = column;
+                                                        break;
                                                     }
                                                 }
                                             }
                                         }
-                                        // Check if all definitions are to be
-                                        // loaded and this is a data field
-                                        // definition
-                                        else if (importType == ImportType.IMPORT_ALL
-                                                 && intfcDecType.getName().equals(EDSTags.DATA_FIELD.getTag()))
+                                    }
+                                }
+                                // Check if all definitions are to be
+                                // loaded and this is a data field
+                                // definition
+                                else if (importType == ImportType.IMPORT_ALL
+                                         && intfcDecType.getName().equals(EDSTags.DATA_FIELD.getTag()))
+                                {
+                                    // Get the data field inputs. If
+                                    // not present use a blank to
+                                    // prevent an error when separating
+                                    // the inputs
+                                    String inputs = genType.getShortDescription() != null
+                                                                                         ? genType.getShortDescription()
+                                                                                         : "";
+
+                                    // Parse data field. The values are
+                                    // comma-separated; however, commas
+                                    // within quotes are ignored - this
+                                    // allows commas to be included in
+                                    // the data values
+                                    String[] fieldDefn = CcddUtilities.splitAndRemoveQuotes("\""
+                                                                                            + tableDefn.getName()
+                                                                                            + "\","
+                                                                                            + inputs);
+
+                                    // Check if the expected number of
+                                    // inputs is present
+                                    if (fieldDefn.length == FieldEditorColumnInfo.values().length + 1)
+                                    {
+                                        // Add the data field
+                                        // definition to the table
+                                        tableDefn.addDataField(fieldDefn);
+                                    }
+                                    // Check that the user hasn't
+                                    // elected to ignore data field
+                                    // errors
+                                    else if (!continueOnDataFieldError)
+                                    {
+                                        // Inform the user that the
+                                        // data field name inputs are
+                                        // incorrect
+                                        int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
+                                                                                                            "<html><b>Table '</b>"
+                                                                                                                + tableDefn.getName()
+                                                                                                                + "<b>' has missing or extra data field "
+                                                                                                                + "input(s) in import file '</b>"
+                                                                                                                + importFileName
+                                                                                                                + "<b>'; continue?",
+                                                                                                            "Data Field Error",
+                                                                                                            "Ignore this invalid data field",
+                                                                                                            "Ignore this and any remaining invalid data fields",
+                                                                                                            "Stop importing");
+
+                                        // Check if the Ignore All
+                                        // button was pressed
+                                        if (buttonSelected == IGNORE_BUTTON)
                                         {
-                                            // Get the data field inputs. If
-                                            // not present use a blank to
-                                            // prevent an error when separating
-                                            // the inputs
-                                            String inputs = genType.getShortDescription() != null
-                                                                                                 ? genType.getShortDescription()
-                                                                                                 : "";
-
-                                            // Parse data field. The values are
-                                            // comma-separated; however, commas
-                                            // within quotes are ignored - this
-                                            // allows commas to be included in
-                                            // the data values
-                                            String[] fieldDefn = CcddUtilities.splitAndRemoveQuotes("\""
-                                                                                                    + tableDefn.getName()
-                                                                                                    + "\","
-                                                                                                    + inputs);
-
-                                            // Check if the expected number of
-                                            // inputs is present
-                                            if (fieldDefn.length == FieldEditorColumnInfo.values().length + 1)
-                                            {
-                                                // Add the data field
-                                                // definition to the table
-                                                tableDefn.addDataField(fieldDefn);
-                                            }
-                                            // Check that the user hasn't
-                                            // elected to ignore data field
+                                            // Set the flag to ignore
+                                            // subsequent data field
                                             // errors
-                                            else if (!continueOnDataFieldError)
-                                            {
-                                                // Inform the user that the
-                                                // data field name inputs are
-                                                // incorrect
-                                                int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
-                                                                                                                    "<html><b>Table '</b>"
-                                                                                                                        + tableDefn.getName()
-                                                                                                                        + "<b>' has missing or extra data field "
-                                                                                                                        + "input(s) in import file '</b>"
-                                                                                                                        + importFileName
-                                                                                                                        + "<b>'; continue?",
-                                                                                                                    "Data Field Error",
-                                                                                                                    "Ignore this invalid data field",
-                                                                                                                    "Ignore this and any remaining invalid data fields",
-                                                                                                                    "Stop importing");
-
-                                                // Check if the Ignore All
-                                                // button was pressed
-                                                if (buttonSelected == IGNORE_BUTTON)
-                                                {
-                                                    // Set the flag to ignore
-                                                    // subsequent data field
-                                                    // errors
-                                                    continueOnDataFieldError = true;
-                                                }
-                                                // Check if the Cancel
-                                                // button was pressed
-                                                else if (buttonSelected == CANCEL_BUTTON)
-                                                {
-                                                    // No error message is
-                                                    // provided since the
-                                                    // user chose this
-                                                    // action
-                                                    throw new CCDDException();
-                                                }
-                                            }
+                                            continueOnDataFieldError = true;
+                                        }
+                                        // Check if the Cancel
+                                        // button was pressed
+                                        else if (buttonSelected == CANCEL_BUTTON)
+                                        {
+                                            // No error message is
+                                            // provided since the
+                                            // user chose this
+                                            // action
+                                            throw new CCDDException();
                                         }
                                     }
-                                    // Check if this is the third pass
-                                    else if (loop == 3)
+                                }
+                            }
+                            // Check if this is the third pass
+                            else if (loop == 3)
+                            {
+                                // Check if this is column data
+                                if (intfcDecType.getName().equals(EDSTags.COLUMN.getTag()))
+                                {
+                                    // Extract the column name and row
+                                    // number, and use the column name
+                                    // to get the column index
+                                    String[] parts = genType.getName().split(":");
+                                    String columnName = parts[EDSTags.getColumnNameIndex()].trim();
+                                    int row = Integer.valueOf(parts[EDSTags.getRowIndex()].trim());
+                                    int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
+
+                                    // Check that the column exists in
+                                    // the table
+                                    if (column != -1)
                                     {
-                                        // Check if this is column data
-                                        if (intfcDecType.getName().equals(EDSTags.COLUMN.getTag()))
+                                        // Add one or more rows until
+                                        // the row is created
+                                        // containing this column value
+                                        while (row * numColumns >= tableDefn.getData().size())
                                         {
-                                            // Extract the column name and row
-                                            // number, and use the column name
-                                            // to get the column index
-                                            String[] parts = genType.getName().split(":");
-                                            String columnName = parts[EDSTags.getColumnNameIndex()].trim();
-                                            int row = Integer.valueOf(parts[EDSTags.getRowIndex()].trim());
-                                            int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
-
-                                            // Check that the column exists in
-                                            // the table
-                                            if (column != -1)
-                                            {
-                                                // Add one or more rows until
-                                                // the row is created
-                                                // containing this column value
-                                                while (row * numColumns >= tableDefn.getData().size())
-                                                {
-                                                    // Create a row with empty
-                                                    // columns and add the new
-                                                    // row to the table data
-                                                    String[] newRow = new String[typeDefn.getColumnCountVisible()];
-                                                    Arrays.fill(newRow, "");
-                                                    tableDefn.addData(newRow);
-                                                }
+                                            // Create a row with empty
+                                            // columns and add the new
+                                            // row to the table data
+                                            String[] newRow = new String[typeDefn.getColumnCountVisible()];
+                                            Arrays.fill(newRow, "");
+                                            tableDefn.addData(newRow);
+                                        }
 
-                                                // Check if the cell is empty
-                                                // (i.e., don't replace the
-                                                // cell value if it already is
-                                                // present)
-                                                if (tableDefn.getData().get(row
-                                                                            * numColumns
-                                                                            + column).isEmpty())
-                                                {
-                                                    // Replace the value for
-                                                    // the specified column
-                                                    tableDefn.getData().set(row
-                                                                            * numColumns
-                                                                            + column,
-                                                                            genType.getShortDescription());
-                                                }
-                                            }
-                                            // Check that the user hasn't
-                                            // elected to ignore column name
+                                        // Check if the cell is empty
+                                        // (i.e., don't replace the
+                                        // cell value if it already is
+                                        // present)
+                                        if (tableDefn.getData().get(row
+                                                                    * numColumns
+                                                                    + column).isEmpty())
+                                        {
+                                            // Replace the value for
+                                            // the specified column
+                                            tableDefn.getData().set(row
+                                                                    * numColumns
+                                                                    + column,
+                                                                    genType.getShortDescription());
+                                        }
+                                    }
+                                    // Check that the user hasn't
+                                    // elected to ignore column name
+                                    // errors
+                                    else if (!continueOnColumnError)
+                                    {
+                                        // Inform the user that the
+                                        // column name is invalid
+                                        int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
+                                                                                                            "<html><b>Table '</b>"
+                                                                                                                + tableDefn.getName()
+                                                                                                                + "<b>' column name '</b>"
+                                                                                                                + columnName
+                                                                                                                + "<b>' unrecognized in import file '</b>"
+                                                                                                                + importFileName
+                                                                                                                + "<b>'; continue?",
+                                                                                                            "Column Error",
+                                                                                                            "Ignore this invalid column name",
+                                                                                                            "Ignore this and any remaining invalid column names",
+                                                                                                            "Stop importing");
+
+                                        // Check if the Ignore All
+                                        // button was pressed
+                                        if (buttonSelected == IGNORE_BUTTON)
+                                        {
+                                            // Set the flag to ignore
+                                            // subsequent column name
                                             // errors
-                                            else if (!continueOnColumnError)
-                                            {
-                                                // Inform the user that the
-                                                // column name is invalid
-                                                int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
-                                                                                                                    "<html><b>Table '</b>"
-                                                                                                                        + tableDefn.getName()
-                                                                                                                        + "<b>' column name '</b>"
-                                                                                                                        + columnName
-                                                                                                                        + "<b>' unrecognized in import file '</b>"
-                                                                                                                        + importFileName
-                                                                                                                        + "<b>'; continue?",
-                                                                                                                    "Column Error",
-                                                                                                                    "Ignore this invalid column name",
-                                                                                                                    "Ignore this and any remaining invalid column names",
-                                                                                                                    "Stop importing");
-
-                                                // Check if the Ignore All
-                                                // button was pressed
-                                                if (buttonSelected == IGNORE_BUTTON)
-                                                {
-                                                    // Set the flag to ignore
-                                                    // subsequent column name
-                                                    // errors
-                                                    continueOnColumnError = true;
-                                                }
-                                                // Check if the Cancel button
-                                                // was pressed
-                                                else if (buttonSelected == CANCEL_BUTTON)
-                                                {
-                                                    // No error message is
-                                                    // provided since the user
-                                                    // chose this action
-                                                    throw new CCDDException();
-                                                }
-                                            }
+                                            continueOnColumnError = true;
+                                        }
+                                        // Check if the Cancel button
+                                        // was pressed
+                                        else if (buttonSelected == CANCEL_BUTTON)
+                                        {
+                                            // No error message is
+                                            // provided since the user
+                                            // chose this action
+                                            throw new CCDDException();
                                         }
                                     }
                                 }
                             }
                         }
                     }
-
-                    // Add the table definition to the list
-                    tableDefinitions.add(tableDefn);
                 }
             }
 
-            // Check if all definitions are to be loaded
-            if (importType == ImportType.IMPORT_ALL)
+            // Check if a table definition queue is set and all of the table
+            // definitions are to be read
+            if (tableDefnQueue != null && importType == ImportType.IMPORT_ALL)
             {
-                // Add the data type if it's new or match it to an existing one
-                // with the same name if the type definitions are the same
-                String badDefn = dataTypeHandler.updateDataTypes(dataTypeDefns);
+                // Hand off the table's definition so that the table can be
+                // created while the remainder of the file is read
+                tableDefnQueue.put(tableDefn);
+            }
+            // The table definitions are stored
+            else
+            {
+                // Add the table definition to the list
+                tableDefinitions.add(tableDefn);
+            }
+        }
+    }
 
-                // Check if a data type isn't new and doesn't match an existing
-                // one with the same name
-                if (badDefn != null)
-                {
-                    throw new CCDDException("data type '"
-                                            + badDefn
-                                            + "' already exists and doesn't match the import definition");
-                }
+    /**************************************************************************
+     * Add the imported data type, macro, and reserved message ID definitions
+     * if these are new, or match them to existing ones with the same name if
+     * the definitions are the same
+     * 
+     * @param importType
+     *            ImportType.IMPORT_ALL to apply the definitions;
+     *            ImportType.FIRST_DATA_ONLY to ignore them
+     *************************************************************************/
+    private void applyDefinitions(ImportType importType) throws CCDDException
+    {
+        // Check if all definitions are to be loaded
+        if (importType == ImportType.IMPORT_ALL)
+        {
+            // Add the data type if it's new or match it to an existing one
+            // with the same name if the type definitions are the same
+            String badDefn = dataTypeHandler.updateDataTypes(dataTypeDefns);
 
-                // Add the macro if it's new or match it to an existing one
-                // with the same name if the values are the same
-                badDefn = macroHandler.updateMacros(macroDefns);
+            // Check if a data type isn't new and doesn't match an existing
+            // one with the same name
+            if (badDefn != null)
+            {
+                throw new CCDDException("data type '"
+                                        + badDefn
+                                        + "' already exists and doesn't match the import definition");
+            }
 
-                // Check if a macro isn't new and doesn't match an existing one
-                // with the same name
-                if (badDefn != null)
-                {
-                    throw new CCDDException("macro '"
-                                            + badDefn
-                                            + "' already exists and doesn't match the import definition");
-                }
+            // Add the macro if it's new or match it to an existing one
+            // with the same name if the values are the same
+            badDefn = macroHandler.updateMacros(macroDefns);
 
-                // Add the reserved message ID definition if it's new
-                msgIDHandler.updateReservedMsgIDs(reservedMsgIDDefns);
+            // Check if a macro isn't new and doesn't match an existing one
+            // with the same name
+            if (badDefn != null)
+            {
+                throw new CCDDException("macro '"
+                                        + badDefn
+                                        + "' already exists and doesn't match the import definition");
             }
+
+            // Add the reserved message ID definition if it's new
+            msgIDHandler.updateReservedMsgIDs(reservedMsgIDDefns);
         }
     }
 
@@ -1894,8 +2332,12 @@ public class CcddEDSHandler implements CcddImportExportInterface
      * 
      * @param tableName
      *            array of table names
+     * 
+     * @throws JAXBException
+     *             If an error occurs marshalling a table name space to the
+     *             temporary file
      *************************************************************************/
-    private void buildNameSpaces(String[] tableNames)
+    private void buildNameSpaces(String[] tableNames) throws JAXBException
     {
         // Step through each table name
         for (String tableName : tableNames)
@@ -2134,6 +2576,22 @@ public class CcddEDSHandler implements CcddImportExportInterface
                                              otherData);
                     }
                 }
+
+                // Check if the export is streamed
+                if (tableFragmentWriter != null)
+                {
+                    // Output the table's name space to the temporary file
+                    fragmentMarshaller.marshal(new JAXBElement<NamespaceType>(new QName(project.getName().getNamespaceURI(),
+                                                                                        "Namespace"),
+                                                                              NamespaceType.class,
+                                                                              nameSpace),
+                                               tableFragmentWriter);
+
+                    // Remove the table's name space from the data sheet and
+                    // the index so that the memory it uses is released
+                    dataSheet.getNamespace().remove(nameSpace);
+                    nameSpaceIndex.remove(nameSpace.getName());
+                }
             }
         }
     }
@@ -2219,8 +2677,8 @@ public class CcddEDSHandler implements CcddImportExportInterface
                             + systemName;
         }
 
-        // Search the existing name spaces for one with this name
-        NamespaceType nameSpace = searchNameSpacesForName(nameSpaceName);
+        // Get the existing name space with this name, if any
+        NamespaceType nameSpace = nameSpaceIndex.get(nameSpaceName);
 
         // Check if the name space doesn't already exist
         if (nameSpace == null)
@@ -2241,41 +2699,14 @@ public class CcddEDSHandler implements CcddImportExportInterface
             // Create an interface set for the name space
             nameSpace.setDeclaredInterfaceSet(factory.createInterfaceDeclarationSetType());
 
-            // Add the new names space
+            // Add the new names space to the data sheet and the index
             dataSheet.getNamespace().add(nameSpace);
+            nameSpaceIndex.put(nameSpaceName, nameSpace);
         }
 
         return nameSpace;
     }
 
-    /**************************************************************************
-     * Search for the name space with the same name as the search name
-     * 
-     * @param nameSpaceName
-     *            name of the name space to search for within the name space
-     *            hierarchy
-     * 
-     * @return Reference to the name space with the same name as the search
-     *         name; null if no name space name matches the search name
-     *************************************************************************/
-    private NamespaceType searchNameSpacesForName(String nameSpaceName)
-    {
-        NamespaceType foundNameSpace = null;
-
-        for (NamespaceType nameSpace : dataSheet.getNamespace())
-        {
-            // Check if the current name space's name matches the search name
-            if (nameSpace.getName().equals(nameSpaceName))
-            {
-                // Store the reference to the matching name space
-                foundNameSpace = nameSpace;
-                break;
-            }
-        }
-
-        return foundNameSpace;
-    }
-
     /**************************************************************************
      * Add a variable to the specified data sheet
      * 
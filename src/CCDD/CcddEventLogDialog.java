@@ -10,11 +10,17 @@ import static CCDD.CcddConstants.CCDD_ICON;
 import static CCDD.CcddConstants.CLOSE_ICON;
 import static CCDD.CcddConstants.LABEL_FONT_BOLD;
 import static CCDD.CcddConstants.LABEL_FONT_PLAIN;
+import static CCDD.CcddConstants.LEFT_ICON;
 import static CCDD.CcddConstants.LOG_FILE_PATH;
+import static CCDD.CcddConstants.LOG_PAGE_ROWS;
+import static CCDD.CcddConstants.LOG_WRITE_INTERVAL;
 import static CCDD.CcddConstants.MAX_LOG_MESSAGE_LENGTH;
+import static CCDD.CcddConstants.MAX_LOG_TABLE_ROWS;
 import static CCDD.CcddConstants.PRINT_ICON;
+import static CCDD.CcddConstants.RIGHT_ICON;
 import static CCDD.CcddConstants.SEARCH_ICON;
 import static CCDD.CcddConstants.TABLE_BACK_COLOR;
+import static CCDD.CcddConstants.EventLogMessageType.COMMAND_MSG;
 import static CCDD.CcddConstants.EventLogMessageType.FAIL_MSG;
 
 import java.awt.AlphaComposite;
@@ -30,15 +36,19 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
 import java.awt.print.PageFormat;
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
@@ -100,9 +110,89 @@ public class CcddEventLogDialog extends CcddFrameHandler
     // List for containing the logged events
     private List<Object[]> eventLogList;
 
+    // Event log file index and reader; null until the log file is read or
+    // searched
+    private CcddEventLogFileHandler logFileHandler;
+
+    // Row index of the first log entry displayed in the event log viewer
+    // table
+    private long pageStartRow;
+
+    // Event log viewer page navigation buttons
+    private JButton btnPrevious;
+    private JButton btnNext;
+
     // CCDD logo graphic
     private BufferedImage image;
 
+    // Session log events waiting to be written to the log file and added to
+    // the log table
+    private final ConcurrentLinkedQueue<LogEvent> pendingEvents;
+
+    // Executor that periodically writes the pending session log events
+    private ScheduledExecutorService logWriterExecutor;
+
+    // Maximum number of characters of a command message to log; 0 to log the
+    // entire message
+    private int commandLogLength;
+
+    // Number of command messages per command message logged; 1 to log every
+    // command message
+    private int commandLogSampleRate;
+
+    // Number of command messages received
+    private final AtomicLong commandCount;
+
+    /**************************************************************************
+     * Session log event class. Contains the information for an event that
+     * hasn't been written to the log file and added to the log table
+     *************************************************************************/
+    private static class LogEvent
+    {
+        private final EventLogMessageType type;
+        private final String server;
+        private final String database;
+        private final String user;
+        private final String timestamp;
+        private final String message;
+
+        /**********************************************************************
+         * Session log event class constructor
+         * 
+         * @param type
+         *            message type (e.g., COMMAND_MSG)
+         * 
+         * @param server
+         *            server hosting the project database
+         * 
+         * @param database
+         *            project database
+         * 
+         * @param user
+         *            user that invoked the event
+         * 
+         * @param timestamp
+         *            date and time when event occurred
+         * 
+         * @param message
+         *            event's log message
+         *********************************************************************/
+        LogEvent(EventLogMessageType type,
+                 String server,
+                 String database,
+                 String user,
+                 String timestamp,
+                 String message)
+        {
+            this.type = type;
+            this.server = server;
+            this.database = database;
+            this.user = user;
+            this.timestamp = timestamp;
+            this.message = message;
+        }
+    }
+
     /**************************************************************************
      * Event log class constructor
      * 
@@ -144,6 +234,10 @@ public class CcddEventLogDialog extends CcddFrameHandler
         this.isSessionLog = isSessionLog;
         this.logFile = logFile;
         dbControl = ccddMain.getDbControlHandler();
+        pendingEvents = new ConcurrentLinkedQueue<LogEvent>();
+        commandLogLength = 0;
+        commandLogSampleRate = 1;
+        commandCount = new AtomicLong();
 
         // Create the event log
         initialize(logFile, targetRow);
@@ -169,6 +263,35 @@ public class CcddEventLogDialog extends CcddFrameHandler
         return logFile;
     }
 
+    /**************************************************************************
+     * Get the event log file handler. The handler is created if it doesn't
+     * already exist. Any pending session log events are first written to the
+     * log file so that these are included
+     * 
+     * @return Reference to the event log file handler
+     * 
+     * @throws IOException
+     *             If the log file cannot be read
+     *************************************************************************/
+    protected CcddEventLogFileHandler getEventLogFileHandler() throws IOException
+    {
+        // Check if this is the current session's event log
+        if (isSessionLog)
+        {
+            // Write any pending events to the log file
+            writePendingEvents();
+        }
+
+        // Check if the log file handler doesn't exist
+        if (logFileHandler == null)
+        {
+            // Create the handler, indexing the log file
+            logFileHandler = new CcddEventLogFileHandler(logFile);
+        }
+
+        return logFileHandler;
+    }
+
     /**************************************************************************
      * Create the event log
      * 
@@ -191,8 +314,9 @@ public class CcddEventLogDialog extends CcddFrameHandler
         // to be displayed in this log table
         boolean isOpenSingleEntry = (targetLogFile != null && targetRow != null);
 
-        // Initialize the event index number
+        // Initialize the event index number and the first row displayed
         indexNum = 1;
+        pageStartRow = 1;
 
         // If a log file is provided then use it; otherwise attempt to open the
         // event log file
@@ -208,6 +332,13 @@ public class CcddEventLogDialog extends CcddFrameHandler
             // Create the event log window
             createEventLogWindow(!isOpenSingleEntry);
 
+            // Check if this is the current session's event log
+            if (isSessionLog)
+            {
+                // Start the writer for the session log events
+                startEventLogWriter();
+            }
+
             // Check if this log can display multiple log entries (this
             // prevents reopening the log entry for a single entry table)
             if (!isOpenSingleEntry)
@@ -287,6 +418,56 @@ public class CcddEventLogDialog extends CcddFrameHandler
                 // the panel
                 JPanel buttonPnl = new JPanel();
                 buttonPnl.setBorder(BorderFactory.createEmptyBorder());
+
+                // Check if the log contains more entries than are displayed
+                // in a single page
+                if (!isOpenSingleEntry && isPaged())
+                {
+                    // Previous page button
+                    btnPrevious = CcddButtonPanelHandler.createButton("Previous",
+                                                                      LEFT_ICON,
+                                                                      KeyEvent.VK_V,
+                                                                      "Display the previous page of event log entries");
+
+                    // Add a listener for the Previous button
+                    btnPrevious.addActionListener(new ActionListener()
+                    {
+                        /******************************************************
+                         * Display the previous page of event log entries
+                         *****************************************************/
+                        @Override
+                        public void actionPerformed(ActionEvent ae)
+                        {
+                            showEventLogPage(pageStartRow - LOG_PAGE_ROWS);
+                        }
+                    });
+
+                    // Next page button
+                    btnNext = CcddButtonPanelHandler.createButton("Next",
+                                                                  RIGHT_ICON,
+                                                                  KeyEvent.VK_N,
+                                                                  "Display the next page of event log entries");
+
+                    // Add a listener for the Next button
+                    btnNext.addActionListener(new ActionListener()
+                    {
+                        /******************************************************
+                         * Display the next page of event log entries
+                         *****************************************************/
+                        @Override
+                        public void actionPerformed(ActionEvent ae)
+                        {
+                            showEventLogPage(pageStartRow + LOG_PAGE_ROWS);
+                        }
+                    });
+
+                    // Add the page buttons to the panel and set their initial
+                    // states
+                    buttonPnl.add(btnPrevious);
+                    buttonPnl.add(btnNext);
+                    setPageButtonsEnable();
+                }
+
                 buttonPnl.add(btnSearch);
                 buttonPnl.add(btnPrint);
                 buttonPnl.add(btnClose);
@@ -295,7 +476,7 @@ public class CcddEventLogDialog extends CcddFrameHandler
                 createFrame(ccddMain.getMainFrame(),
                             logPanel,
                             buttonPnl,
-                            "Event Log: " + logFile.getName(),
+                            getLogTitle(),
                             null);
             }
         }
@@ -402,7 +583,7 @@ public class CcddEventLogDialog extends CcddFrameHandler
 
                 // Set the dialog's title so that it includes the event log
                 // file name
-                setTitle("Event Log: " + logFile.getName());
+                setTitle(getLogTitle());
 
                 // Clear the event log list since it is no longer needed
                 eventLogList.clear();
@@ -880,7 +1061,9 @@ public class CcddEventLogDialog extends CcddFrameHandler
     }
 
     /**************************************************************************
-     * Read an existing event log file
+     * Read the entries to display from an existing event log file. The log
+     * file is accessed via its line index so that only the entries in the
+     * current page (or the single target entry) are read
      * 
      * @param targetRow
      *            row index a specific log entry in an existing log to display
@@ -891,55 +1074,56 @@ public class CcddEventLogDialog extends CcddFrameHandler
     {
         try
         {
-            // Create a log reader
-            BufferedReader logReader = new BufferedReader(new FileReader(logFile));
+            List<String> lines;
 
-            // Read first line in file
-            String line = logReader.readLine();
+            // Get the log file handler
+            CcddEventLogFileHandler handler = getEventLogFileHandler();
 
             // Log entry row index
-            long row = 1;
+            long row;
 
-            // Continue to read the file until EOF is reached or an error is
-            // detected
-            while (line != null)
+            // Check if a target row is provided (i.e., only a single log entry
+            // is loaded for this event log)
+            if (targetRow != null)
             {
-                // Break the input line into its separate columns
-                String[] parts = line.split("[|]", EventColumns.values().length - 1);
+                // Get the target log entry, if it exists
+                lines = new ArrayList<String>();
+                row = targetRow;
+                String line = handler.getRow(row);
 
-                // Check if no target time stamp is provided, or if one is that
-                // it matches this log entry's time stamp
-                if (targetRow == null || row == targetRow)
+                // Check if the target log entry exists
+                if (line != null)
                 {
-                    // Add the new event log entry. Truncate the message length
-                    // if needed, unless this is a single log entry viewer
-                    eventLogList.add(new Object[] {row,
-                                                   getServerLog(parts[EventColumns.SERVER.ordinal() - 1]),
-                                                   parts[EventColumns.PROJECT.ordinal() - 1],
-                                                   parts[EventColumns.USER.ordinal() - 1],
-                                                   getDateTimeStampLog(parts[EventColumns.TIME.ordinal() - 1]),
-                                                   getMessageType(parts[EventColumns.TYPE.ordinal() - 1]).getTypeMsg(),
-                                                   (targetRow == null
-                                                                     ? truncateLogMessage(parts[EventColumns.MESSAGE.ordinal() - 1])
-                                                                     : parts[EventColumns.MESSAGE.ordinal() - 1])});
-
-                    // Check if a target time stamp is provided (i.e., only a
-                    // single log entry is loaded for this event log)
-                    if (targetRow != null)
-                    {
-                        // Stop searching
-                        break;
-                    }
+                    lines.add(line);
                 }
+            }
+            // All log entries are to be loaded
+            else
+            {
+                // Get the log entries in the current page
+                row = pageStartRow;
+                lines = handler.getRows(row, LOG_PAGE_ROWS);
+            }
 
-                row++;
+            // Step through each log entry line
+            for (String line : lines)
+            {
+                // Break the input line into its separate columns
+                String[] parts = line.split("[|]", EventColumns.values().length - 1);
 
-                // Read the next line in the file
-                line = logReader.readLine();
+                // Add the new event log entry. Truncate the message length if
+                // needed, unless this is a single log entry viewer
+                eventLogList.add(new Object[] {row,
+                                               getServerLog(parts[EventColumns.SERVER.ordinal() - 1]),
+                                               parts[EventColumns.PROJECT.ordinal() - 1],
+                                               parts[EventColumns.USER.ordinal() - 1],
+                                               getDateTimeStampLog(parts[EventColumns.TIME.ordinal() - 1]),
+                                               getMessageType(parts[EventColumns.TYPE.ordinal() - 1]).getTypeMsg(),
+                                               (targetRow == null
+                                                                 ? truncateLogMessage(parts[EventColumns.MESSAGE.ordinal() - 1])
+                                                                 : parts[EventColumns.MESSAGE.ordinal() - 1])});
+                row++;
             }
-
-            // Close the log reader
-            logReader.close();
         }
         catch (Exception e)
         {
@@ -952,11 +1136,96 @@ public class CcddEventLogDialog extends CcddFrameHandler
         }
     }
 
+    /**************************************************************************
+     * Check if the log contains more entries than are displayed in a single
+     * event log viewer page
+     * 
+     * @return true if the log contains more entries than are displayed in a
+     *         single page
+     *************************************************************************/
+    private boolean isPaged()
+    {
+        return logFileHandler != null
+               && logFileHandler.getRowCount() > LOG_PAGE_ROWS;
+    }
+
+    /**************************************************************************
+     * Get the event log viewer title
+     * 
+     * @return Event log viewer title, which includes the event log file name
+     *         and, if the log contains more entries than are displayed in a
+     *         single page, the range of entries displayed
+     *************************************************************************/
+    private String getLogTitle()
+    {
+        String title = "Event Log: " + logFile.getName();
+
+        // Check if the log contains more entries than are displayed in a
+        // single page
+        if (btnNext != null)
+        {
+            // Add the range of entries displayed to the title
+            title += " (entries "
+                     + pageStartRow
+                     + " - "
+                     + Math.min(pageStartRow + LOG_PAGE_ROWS - 1,
+                                logFileHandler.getRowCount())
+                     + " of "
+                     + logFileHandler.getRowCount()
+                     + ")";
+        }
+
+        return title;
+    }
+
+    /**************************************************************************
+     * Display the page of event log entries beginning with the specified row
+     * 
+     * @param startRow
+     *            row index of the first log entry to display
+     *************************************************************************/
+    private void showEventLogPage(long startRow)
+    {
+        // Store the first row to display, constrained to the log's row range
+        pageStartRow = Math.max(1,
+                                Math.min(startRow,
+                                         logFileHandler.getRowCount()));
+
+        // Read the log entries in the page and load them into the table
+        readEventLog(null);
+        eventTable.loadAndFormatData();
+
+        // Reset the table's row sorter and event type filter
+        eventTable.setRowSorter(null);
+        eventTable.setTableSortable();
+
+        // Update the page button states
+        setPageButtonsEnable();
+    }
+
+    /**************************************************************************
+     * Enable or disable the page navigation buttons based on the page
+     * displayed
+     *************************************************************************/
+    private void setPageButtonsEnable()
+    {
+        btnPrevious.setEnabled(pageStartRow > 1);
+        btnNext.setEnabled(pageStartRow + LOG_PAGE_ROWS <= logFileHandler.getRowCount());
+    }
+
     /**************************************************************************
      * Close the event log file
      *************************************************************************/
     protected void closeEventLogFile()
     {
+        // Check if the session log event writer is running
+        if (logWriterExecutor != null)
+        {
+            // Stop the writer and write any remaining events
+            logWriterExecutor.shutdown();
+            writePendingEvents();
+        }
+
         // Check if the log is open
         if (isLogWrite)
         {
@@ -965,6 +1234,169 @@ public class CcddEventLogDialog extends CcddFrameHandler
         }
     }
 
+    /**************************************************************************
+     * Set the maximum number of characters of a command message to log
+     * 
+     * @param length
+     *            maximum number of characters of a command message to log; 0
+     *            to log the entire message
+     *************************************************************************/
+    protected void setCommandLogLength(int length)
+    {
+        commandLogLength = Math.max(0, length);
+    }
+
+    /**************************************************************************
+     * Set the rate at which command messages are logged
+     * 
+     * @param rate
+     *            number of command messages per command message logged (e.g.,
+     *            100 logs every 100th command message); 1 to log every command
+     *            message
+     *************************************************************************/
+    protected void setCommandLogSampleRate(int rate)
+    {
+        commandLogSampleRate = Math.max(1, rate);
+    }
+
+    /**************************************************************************
+     * Start the executor that periodically writes the pending session log
+     * events to the log file and adds them to the log table. The executor's
+     * thread is a daemon thread so that it doesn't prevent the application
+     * from exiting
+     *************************************************************************/
+    private void startEventLogWriter()
+    {
+        // Create the executor with a single daemon thread
+        logWriterExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory()
+        {
+            /******************************************************************
+             * Create the event log writer thread
+             *****************************************************************/
+            @Override
+            public Thread newThread(Runnable runnable)
+            {
+                Thread thread = new Thread(runnable, "CCDD event log writer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        // Write the pending events at the specified interval
+        logWriterExecutor.scheduleWithFixedDelay(new Runnable()
+        {
+            /******************************************************************
+             * Write the pending session log events
+             *****************************************************************/
+            @Override
+            public void run()
+            {
+                writePendingEvents();
+            }
+        }, LOG_WRITE_INTERVAL, LOG_WRITE_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    /**************************************************************************
+     * Remove the pending session log events from the queue, write them to the
+     * log file with a single flush, and schedule a single update to add them
+     * to the log table. The events are processed in the order they were
+     * logged
+     *************************************************************************/
+    private synchronized void writePendingEvents()
+    {
+        final List<Object[]> rows = new ArrayList<Object[]>();
+        StringBuilder logEntry = new StringBuilder();
+        LogEvent event;
+
+        // Step through each pending event
+        while ((event = pendingEvents.poll()) != null)
+        {
+            // Check if the event log file exists
+            if (isLogWrite)
+            {
+                // Build the log file entry for the event
+                logEntry.setLength(0);
+                logEntry.append(event.server)
+                        .append("|")
+                        .append(event.database)
+                        .append("|")
+                        .append(event.user)
+                        .append("|")
+                        .append(event.timestamp)
+                        .append("|")
+                        .append(event.type.getTypeName())
+                        .append("|")
+                        .append(event.message);
+
+                // Write the message to the event log file
+                logWriter.println(logEntry.toString());
+            }
+
+            // Create the log table row for the event
+            rows.add(new Object[] {indexNum,
+                                   getServerLog(event.server),
+                                   event.database,
+                                   event.user,
+                                   getDateTimeStampLog(event.timestamp),
+                                   event.type.getTypeMsg(),
+                                   truncateLogMessage(event.message)});
+
+            // Update the log entry counter
+            indexNum++;
+        }
+
+        // Check if any events were pending
+        if (!rows.isEmpty())
+        {
+            // Check if the event log file exists
+            if (isLogWrite)
+            {
+                // Flush the batch of messages to the event log file and check
+                // if an error occurred writing or flushing the messages
+                if (logWriter.checkError())
+                {
+                    // Stop writing to the log file
+                    isLogWrite = false;
+
+                    // Create a runnable object to be executed
+                    SwingUtilities.invokeLater(new Runnable()
+                    {
+                        /******************************************************
+                         * Execute after all pending Swing events are finished
+                         *****************************************************/
+                        @Override
+                        public void run()
+                        {
+                            // Inform the user that an error occurred writing
+                            // to the log
+                            new CcddDialogHandler().showMessageDialog(ccddMain.getMainFrame(),
+                                                                      "<html><b>Cannot write to event log",
+                                                                      "Log Error",
+                                                                      JOptionPane.WARNING_MESSAGE,
+                                                                      DialogOption.OK_OPTION);
+                        }
+                    });
+                }
+            }
+
+            // Create a runnable object to be executed. This is done while
+            // synchronized so that the batches are added to the log table in
+            // the order they're written
+            SwingUtilities.invokeLater(new Runnable()
+            {
+                /**************************************************************
+                 * Execute after all pending Swing events are finished
+                 *************************************************************/
+                @Override
+                public void run()
+                {
+                    // Add the messages to the event log table
+                    addMessagesToLog(rows);
+                }
+            });
+        }
+    }
+
     /**************************************************************************
      * Determine an event log message type by the type name
      * 
@@ -994,7 +1426,8 @@ public class CcddEventLogDialog extends CcddFrameHandler
 
     /**************************************************************************
      * Append an event message to the current session's event log window and
-     * file
+     * file. The event is queued and is written to the file and added to the
+     * window by the event log writer
      * 
      * @param type
      *            message type (e.g., COMMAND_MSG)
@@ -1002,62 +1435,41 @@ public class CcddEventLogDialog extends CcddFrameHandler
      * @param logMessage
      *            new event's log message
      *************************************************************************/
-    protected void logEvent(final EventLogMessageType type, String logMessage)
+    protected void logEvent(EventLogMessageType type, String logMessage)
     {
-        // Get the current date and time stamp
-        final String timestamp = getDateTimeStamp("MM/dd/yyyy HH:mm:ss.SSS");
-
-        // Remove any embedded line feed characters since these interfere with
-        // parsing when reading the log files
-        final String message = logMessage.replaceAll("\n", "");
-
-        // Create a runnable object to be executed
-        SwingUtilities.invokeLater(new Runnable()
+        // Check if this isn't a command message, if command messages aren't
+        // sampled, or if this command message is one of those sampled
+        if (type != COMMAND_MSG
+            || commandLogSampleRate == 1
+            || commandCount.getAndIncrement() % commandLogSampleRate == 0)
         {
-            /******************************************************************
-             * Execute after all pending Swing events are finished
-             *****************************************************************/
-            @Override
-            public void run()
+            // Get the current date and time stamp
+            String timestamp = getDateTimeStamp("MM/dd/yyyy HH:mm:ss.SSS");
+
+            // Check if this is a command message and command messages are
+            // truncated
+            if (type == COMMAND_MSG
+                && commandLogLength != 0
+                && logMessage.length() > commandLogLength)
             {
-                // Add the message to the event log
-                addMessageToLog(type, timestamp, message);
+                // Truncate the command message to the specified length and
+                // append an ellipsis and the number of truncated characters
+                // as a truncation indicator
+                logMessage = logMessage.substring(0, commandLogLength)
+                             + " ... ("
+                             + (logMessage.length() - commandLogLength)
+                             + ")";
             }
-        });
 
-        // Check if the event log file exists
-        if (isLogWrite)
-        {
-            try
-            {
-                // Use a StringBuilder to concatenate the log message in case
-                // the message is lengthy (StringBuilder is much faster than
-                // string concatenation using '+')
-                StringBuilder logEntry = new StringBuilder(dbControl.getServer()
-                                                           + "|"
-                                                           + dbControl.getDatabase()
-                                                           + "|"
-                                                           + dbControl.getUser()
-                                                           + "|"
-                                                           + timestamp
-                                                           + "|"
-                                                           + type.getTypeName()
-                                                           + "|");
-                logEntry.append(message);
-
-                // Write the message to the event log file
-                logWriter.println(logEntry.toString());
-                logWriter.flush();
-            }
-            catch (Exception e)
-            {
-                // Inform the user that an error occurred writing to the log
-                new CcddDialogHandler().showMessageDialog(ccddMain.getMainFrame(),
-                                                          "<html><b>Cannot write to event log",
-                                                          "Log Error",
-                                                          JOptionPane.WARNING_MESSAGE,
-                                                          DialogOption.OK_OPTION);
-            }
+            // Add the event to the queue of events to be written. Any
+            // embedded line feed characters are removed since these interfere
+            // with parsing when reading the log files
+            pendingEvents.add(new LogEvent(type,
+                                           dbControl.getServer(),
+                                           dbControl.getDatabase(),
+                                           dbControl.getUser(),
+                                           timestamp,
+                                           logMessage.replace("\n", "")));
         }
     }
 
@@ -1116,38 +1528,52 @@ public class CcddEventLogDialog extends CcddFrameHandler
     }
 
     /**************************************************************************
-     * Add a new log entry to the event log table
-     * 
-     * @param type
-     *            message type (e.g., COMMAND_MSG)
+     * Add new log entries to the event log table. If the number of entries in
+     * the table exceeds the maximum then the oldest entries are removed from
+     * the table; these remain in the log file
      * 
-     * @param timestamp
-     *            date and time when event occurred
-     * 
-     * @param logMessage
-     *            new event's log message
+     * @param rows
+     *            list of log table rows to add
      *************************************************************************/
-    private void addMessageToLog(EventLogMessageType type,
-                                 String timestamp,
-                                 String logMessage)
+    private void addMessagesToLog(List<Object[]> rows)
     {
+        // Check if the number of new entries exceeds the table maximum
+        if (rows.size() > MAX_LOG_TABLE_ROWS)
+        {
+            // Only add the most recent entries
+            rows = rows.subList(rows.size() - MAX_LOG_TABLE_ROWS, rows.size());
+        }
+
+        // Calculate the number of existing entries to remove in order to keep
+        // the table within the maximum size
+        int numRemove = Math.min(eventTableModel.getRowCount()
+                                 + rows.size()
+                                 - MAX_LOG_TABLE_ROWS,
+                                 eventTableModel.getRowCount());
+
+        // Check if any entries need to be removed
+        if (numRemove > 0)
+        {
+            // Remove the oldest entries from the table
+            eventTableModel.getDataVector().subList(0, numRemove).clear();
+            eventTableModel.fireTableRowsDeleted(0, numRemove - 1);
+        }
+
         // Set the table row sorter. This is required so that command line
         // options to filter the events are handled properly
         eventTable.setTableSortable();
 
-        // Insert the event at the end of the event log table
-        eventTable.insertRow(false,
-                             true,
-                             new Object[] {indexNum,
-                                           getServerLog(dbControl.getServer()),
-                                           dbControl.getDatabase(),
-                                           dbControl.getUser(),
-                                           getDateTimeStampLog(timestamp),
-                                           type.getTypeMsg(),
-                                           truncateLogMessage(logMessage)});
+        // Step through each new entry except the last
+        for (int index = 0; index < rows.size() - 1; index++)
+        {
+            // Append the entry to the table
+            eventTableModel.insertRow(eventTableModel.getRowCount(),
+                                      rows.get(index));
+        }
 
-        // Update the log entry counter
-        indexNum++;
+        // Insert the last entry at the end of the event log table. This
+        // selects the entry and scrolls the table so that it's visible
+        eventTable.insertRow(false, true, rows.get(rows.size() - 1));
     }
 
     /**************************************************************************
@@ -1226,16 +1652,30 @@ public class CcddEventLogDialog extends CcddFrameHandler
                     && SwingUtilities.isRightMouseButton(me))
                 {
                     // Get the table row that was selected
-                    long row = eventTable.rowAtPoint(me.getPoint());
+                    int row = eventTable.rowAtPoint(me.getPoint());
 
                     // Check if the row is valid
                     if (row != -1)
                     {
+                        // Check if this is the current session's event log
+                        if (isSessionLog)
+                        {
+                            // Write any pending events so that the selected
+                            // entry is in the log file
+                            writePendingEvents();
+                        }
+
                         // Open a new event log displaying the selected log
-                        // entry, without constraining the message length
+                        // entry, without constraining the message length.
+                        // The entry's index is used to locate it in the log
+                        // file since the table rows may be sorted or
+                        // filtered, and the session log table doesn't retain
+                        // the oldest entries
                         new CcddEventLogDialog(ccddMain,
                                                logFile,
-                                               row + 1,
+                                               Long.valueOf(eventTableModel.getValueAt(eventTable.convertRowIndexToModel(row),
+                                                                                       EventColumns.INDEX.ordinal())
+                                                                           .toString()),
                                                false);
                     }
                 }
@@ -0,0 +1,660 @@
+/**
+ * CFS Command & Data Dictionary event log file handler. Copyright 2017 United
+ * States Government as represented by the Administrator of the National
+ * Aeronautics and Space Administration. No copyright is claimed in the United
+ * States under Title 17, U.S. Code. All Other Rights Reserved.
+ */
+package CCDD;
+
+import static CCDD.CcddConstants.LOG_INDEX_EXTENSION;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import CCDD.CcddConstants.EventColumns;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary event log file handler class. Provides access
+ * to the entries in an event log file by row using an index of the file
+ * offset of the start of each line. The index is stored in a file beside the
+ * log file so that it only needs to be extended, rather than rebuilt, when the
+ * log is reopened after additional entries are appended to it
+ *****************************************************************************/
+public class CcddEventLogFileHandler
+{
+    // Index file identifier
+    private static final int INDEX_ID = 0x43434458;
+
+    // Maximum number of bytes in a single mapped segment of the log file
+    private static final int MAP_SEGMENT_SIZE = 1 << 30;
+
+    // Minimum number of rows searched by each search task
+    private static final int MIN_SEARCH_ROWS = 5000;
+
+    // Event log file
+    private final File logFile;
+
+    // Event log index file
+    private final File indexFile;
+
+    // Character set used to decode the log entries
+    private final Charset charset;
+
+    // File offsets of the start of each complete line in the log file
+    private long[] lineOffsets;
+
+    // Number of complete lines in the log file
+    private int lineCount;
+
+    // Length of the portion of the log file covered by the line index
+    private long indexedLength;
+
+    // Length of the log file when last mapped
+    private long fileLength;
+
+    // Mapped segments of the log file
+    private MappedByteBuffer[] segments;
+
+    /**************************************************************************
+     * Event log file handler class constructor
+     * 
+     * @param logFile
+     *            event log file
+     * 
+     * @throws IOException
+     *             If the log file cannot be read
+     *************************************************************************/
+    CcddEventLogFileHandler(File logFile) throws IOException
+    {
+        this.logFile = logFile;
+        indexFile = new File(logFile.getPath() + LOG_INDEX_EXTENSION);
+        charset = Charset.defaultCharset();
+        lineOffsets = new long[1024];
+        lineCount = 0;
+        indexedLength = 0;
+        fileLength = 0;
+        segments = new MappedByteBuffer[0];
+
+        // Load the stored line index, if present, then map the log file and
+        // index any lines that aren't in the stored index
+        readIndexFile();
+        refresh();
+    }
+
+    /**************************************************************************
+     * Get the number of rows (log entries) in the log file
+     * 
+     * @return Number of rows in the log file, including a final line that
+     *         isn't terminated by a line feed
+     *************************************************************************/
+    protected synchronized long getRowCount()
+    {
+        return lineCount + (fileLength > indexedLength ? 1 : 0);
+    }
+
+    /**************************************************************************
+     * Update the line index and file mapping if the log file has changed size
+     * since it was last mapped. The updated index is stored in the index file
+     * 
+     * @throws IOException
+     *             If the log file cannot be read
+     *************************************************************************/
+    protected synchronized void refresh() throws IOException
+    {
+        // Get the current log file length
+        long length = logFile.length();
+
+        // Check if the log file length changed
+        if (length != fileLength || segments.length == 0)
+        {
+            // Map the log file into memory
+            mapLogFile(length);
+
+            // Check if the log file is shorter than the indexed portion or the
+            // indexed portion no longer ends with a line feed (the file was
+            // replaced)
+            if (length < indexedLength
+                || (indexedLength != 0 && !isLineEnd(indexedLength - 1)))
+            {
+                // Discard the existing index
+                lineCount = 0;
+                indexedLength = 0;
+            }
+
+            // Add the lines beyond the indexed portion to the index
+            long startLength = indexedLength;
+            indexLines();
+
+            // Check if the index was extended
+            if (indexedLength != startLength)
+            {
+                // Store the updated index
+                writeIndexFile();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Get the text of the specified row of the log file
+     * 
+     * @param row
+     *            row index, starting at 1
+     * 
+     * @return Text of the specified row with any line termination characters
+     *         removed; null if the row doesn't exist
+     *************************************************************************/
+    protected synchronized String getRow(long row)
+    {
+        String line = null;
+
+        // Check if the row exists
+        if (row >= 1 && row <= getRowCount())
+        {
+            // Get the text of the row
+            line = readLine((int) (row - 1));
+        }
+
+        return line;
+    }
+
+    /**************************************************************************
+     * Get the text of the specified rows of the log file
+     * 
+     * @param startRow
+     *            index of the first row to get, starting at 1
+     * 
+     * @param numRows
+     *            maximum number of rows to get
+     * 
+     * @return List containing the text of each of the specified rows that
+     *         exist, with any line termination characters removed
+     *************************************************************************/
+    protected synchronized List<String> getRows(long startRow, int numRows)
+    {
+        List<String> rows = new ArrayList<String>();
+
+        // Get the index of the last row in the range that exists
+        long endRow = Math.min(startRow + numRows - 1, getRowCount());
+
+        // Step through each row in the range
+        for (long row = Math.max(startRow, 1); row <= endRow; row++)
+        {
+            // Add the row's text to the list
+            rows.add(readLine((int) (row - 1)));
+        }
+
+        return rows;
+    }
+
+    /**************************************************************************
+     * Search the log file for entry columns containing the search text. The
+     * rows are divided into ranges that are searched in parallel
+     * 
+     * @param pattern
+     *            search text match pattern
+     * 
+     * @param targetRow
+     *            row index to match if this is a search on a single log entry;
+     *            null to search all of the log entries
+     * 
+     * @return List containing the search results. Each result contains the
+     *         row index, the column index (starting at 0 for the column
+     *         following the event index column), and the column text. The
+     *         results are in order of row and column
+     * 
+     * @throws IOException
+     *             If the log file cannot be read
+     *************************************************************************/
+    protected List<Object[]> search(final Pattern pattern, Long targetRow) throws IOException
+    {
+        List<Object[]> results = new ArrayList<Object[]>();
+
+        // Update the index so that entries added since the log was opened are
+        // included
+        refresh();
+
+        // Get the range of rows to search
+        final long firstRow = targetRow == null ? 1 : targetRow;
+        final long lastRow = targetRow == null
+                                               ? getRowCount()
+                                               : Math.min(targetRow, getRowCount());
+
+        // Determine the number of search tasks based on the number of rows to
+        // search and the number of processors available
+        long numRows = lastRow - firstRow + 1;
+        int numTasks = (int) Math.max(1,
+                                      Math.min(Runtime.getRuntime().availableProcessors(),
+                                               numRows / MIN_SEARCH_ROWS));
+
+        // Check if only a single search task is needed
+        if (numTasks == 1)
+        {
+            // Search the rows in this thread
+            searchRows(pattern, firstRow, lastRow, results);
+        }
+        // Multiple search tasks are needed
+        else
+        {
+            // Create a pool of threads for the search tasks
+            ExecutorService executor = Executors.newFixedThreadPool(numTasks);
+            List<Future<List<Object[]>>> futures = new ArrayList<Future<List<Object[]>>>();
+            long rowsPerTask = (numRows + numTasks - 1) / numTasks;
+
+            try
+            {
+                // Step through each range of rows
+                for (long start = firstRow; start <= lastRow; start += rowsPerTask)
+                {
+                    final long rangeStart = start;
+                    final long rangeEnd = Math.min(start + rowsPerTask - 1,
+                                                   lastRow);
+
+                    // Submit a task to search this range of rows
+                    futures.add(executor.submit(new Callable<List<Object[]>>()
+                    {
+                        /******************************************************
+                         * Search the range of rows
+                         *****************************************************/
+                        @Override
+                        public List<Object[]> call()
+                        {
+                            List<Object[]> rangeResults = new ArrayList<Object[]>();
+                            searchRows(pattern, rangeStart, rangeEnd, rangeResults);
+                            return rangeResults;
+                        }
+                    }));
+                }
+
+                // Step through each search task, in row order
+                for (Future<List<Object[]>> future : futures)
+                {
+                    // Add the task's results to the combined results
+                    results.addAll(future.get());
+                }
+            }
+            catch (InterruptedException ie)
+            {
+                // Restore the interrupt status and report the search failure
+                Thread.currentThread().interrupt();
+                throw new IOException("Event log search interrupted");
+            }
+            catch (ExecutionException ee)
+            {
+                // Report the search failure
+                throw new IOException(ee.getCause());
+            }
+            finally
+            {
+                // Stop the search threads
+                executor.shutdownNow();
+            }
+        }
+
+        return results;
+    }
+
+    /**************************************************************************
+     * Search the specified range of rows for entry columns containing the
+     * search text
+     * 
+     * @param pattern
+     *            search text match pattern
+     * 
+     * @param startRow
+     *            index of the first row to search, starting at 1
+     * 
+     * @param endRow
+     *            index of the last row to search
+     * 
+     * @param results
+     *            list to which to add the search results
+     *************************************************************************/
+    private void searchRows(Pattern pattern,
+                            long startRow,
+                            long endRow,
+                            List<Object[]> results)
+    {
+        // Step through each row in the range
+        for (long row = startRow; row <= endRow; row++)
+        {
+            // Get the row's text and strip any leading or trailing
+            // whitespace. The line is read without synchronizing since the
+            // index and mapping aren't updated while a search is in progress,
+            // and this allows the search tasks to read lines concurrently
+            String line = readLine((int) (row - 1)).trim();
+
+            // Check if the row contains HTML tags (the tags are removed from
+            // each column prior to matching) or if the row contains the search
+            // text. Rows without tags that don't contain the search text can't
+            // have a column match, so these are skipped
+            if (line.indexOf('<') != -1 || pattern.matcher(line).find())
+            {
+                // Break the row into its separate columns
+                String[] parts = line.split("[|]",
+                                            EventColumns.values().length - 1);
+
+                // Step through each log entry column
+                for (int column = 0; column < parts.length; column++)
+                {
+                    // Check if the column contains the search text, ignoring
+                    // any HTML tags
+                    if (pattern.matcher(CcddUtilities.removeHTMLTags(parts[column])).find())
+                    {
+                        // Add the search result to the list
+                        results.add(new Object[] {row, column, parts[column]});
+                    }
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Map the log file into memory. The file is mapped in segments so that
+     * files larger than the maximum buffer size can be mapped
+     * 
+     * @param length
+     *            log file length, bytes
+     * 
+     * @throws IOException
+     *             If the log file cannot be mapped
+     *************************************************************************/
+    private void mapLogFile(long length) throws IOException
+    {
+        // Open a file stream on the event log file and then get a channel from
+        // the stream
+        FileInputStream fis = new FileInputStream(logFile);
+        FileChannel fc = fis.getChannel();
+
+        try
+        {
+            // Create storage for the mapped segments
+            segments = new MappedByteBuffer[(int) ((length + MAP_SEGMENT_SIZE - 1)
+                                                   / MAP_SEGMENT_SIZE)];
+
+            // Step through each segment of the file
+            for (int index = 0; index < segments.length; index++)
+            {
+                // Map the segment into memory. The mapping remains valid after
+                // the channel is closed
+                long position = (long) index * MAP_SEGMENT_SIZE;
+                segments[index] = fc.map(FileChannel.MapMode.READ_ONLY,
+                                         position,
+                                         Math.min(MAP_SEGMENT_SIZE,
+                                                  length - position));
+            }
+
+            fileLength = length;
+        }
+        finally
+        {
+            // Close the channel and the stream
+            fc.close();
+            fis.close();
+        }
+    }
+
+    /**************************************************************************
+     * Add the lines beyond the indexed portion of the mapped log file to the
+     * line index
+     *************************************************************************/
+    private void indexLines()
+    {
+        // Step through each byte beyond the indexed portion of the file
+        for (long position = indexedLength; position < fileLength; position++)
+        {
+            // Check if the byte is a line feed
+            if (isLineEnd(position))
+            {
+                // Check if the index storage is full
+                if (lineCount == lineOffsets.length)
+                {
+                    // Double the index storage size
+                    lineOffsets = Arrays.copyOf(lineOffsets,
+                                                lineOffsets.length * 2);
+                }
+
+                // Store the start of the line ending with this line feed and
+                // update the indexed length
+                lineOffsets[lineCount] = indexedLength;
+                lineCount++;
+                indexedLength = position + 1;
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Check if the byte at the specified log file position is a line feed
+     * 
+     * @param position
+     *            log file position
+     * 
+     * @return true if the byte at the specified position is a line feed
+     *************************************************************************/
+    private boolean isLineEnd(long position)
+    {
+        boolean isLineEnd = false;
+
+        // Check if the position is within the mapped portion of the file
+        if (position < fileLength)
+        {
+            // Check if the byte at the position is a line feed
+            isLineEnd = segments[(int) (position / MAP_SEGMENT_SIZE)].get((int) (position % MAP_SEGMENT_SIZE)) == '\n';
+        }
+
+        return isLineEnd;
+    }
+
+    /**************************************************************************
+     * Read the specified line from the mapped log file
+     * 
+     * @param line
+     *            line index, starting at 0
+     * 
+     * @return Text of the specified line with any line termination characters
+     *         removed
+     *************************************************************************/
+    private String readLine(int line)
+    {
+        // Get the start and end positions of the line, excluding the line
+        // feed. The last line may not be terminated
+        long start = line < lineCount ? lineOffsets[line] : indexedLength;
+        long end = line < lineCount
+                                    ? (line + 1 < lineCount
+                                                            ? lineOffsets[line + 1]
+                                                            : indexedLength) - 1
+                                    : fileLength;
+
+        // Check if the line ends with a carriage return
+        if (end > start && segments[(int) ((end - 1) / MAP_SEGMENT_SIZE)].get((int) ((end - 1) % MAP_SEGMENT_SIZE)) == '\r')
+        {
+            // Exclude the carriage return
+            end--;
+        }
+
+        // Copy the line's bytes from the mapped segment(s)
+        byte[] bytes = new byte[(int) (end - start)];
+        int offset = 0;
+
+        while (offset < bytes.length)
+        {
+            // Get the segment containing the next byte of the line and the
+            // number of the line's bytes it contains. A duplicate of the
+            // segment buffer is used so that the line can be read while other
+            // threads are reading the same segment
+            long position = start + offset;
+            MappedByteBuffer segment = segments[(int) (position / MAP_SEGMENT_SIZE)];
+            int segmentPosition = (int) (position % MAP_SEGMENT_SIZE);
+            int numBytes = Math.min(bytes.length - offset,
+                                    segment.limit() - segmentPosition);
+
+            // Copy the bytes from the segment
+            ByteBuffer buffer = segment.duplicate();
+            buffer.position(segmentPosition);
+            buffer.get(bytes, offset, numBytes);
+            offset += numBytes;
+        }
+
+        return new String(bytes, charset);
+    }
+
+    /**************************************************************************
+     * Read the stored line index from the index file. The stored index is
+     * ignored if it can't be read or is invalid
+     *************************************************************************/
+    private void readIndexFile()
+    {
+        // Check if the index file exists
+        if (indexFile.exists())
+        {
+            DataInputStream input = null;
+
+            try
+            {
+                // Open the index file
+                input = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)));
+
+                // Check that the file is an event log index file
+                if (input.readInt() == INDEX_ID)
+                {
+                    // Read the indexed length and the number of indexed lines
+                    long length = input.readLong();
+                    int count = input.readInt();
+
+                    // Check if the number of lines is invalid (each line
+                    // contains at least a line feed)
+                    if (count < 0 || count > length)
+                    {
+                        throw new IOException("Invalid event log index");
+                    }
+
+                    // Create storage for the line offsets
+                    long[] offsets = new long[Math.max(count, 1024)];
+
+                    // Step through each indexed line
+                    for (int line = 0; line < count; line++)
+                    {
+                        // Read the offset of the start of the line
+                        offsets[line] = input.readLong();
+                    }
+
+                    // Use the stored index
+                    lineOffsets = offsets;
+                    lineCount = count;
+                    indexedLength = length;
+                }
+            }
+            catch (IOException ioe)
+            {
+                // Ignore the stored index if it can't be read; the index is
+                // rebuilt from the log file
+                lineCount = 0;
+                indexedLength = 0;
+            }
+            finally
+            {
+                // Check if the index file was opened
+                if (input != null)
+                {
+                    try
+                    {
+                        // Close the index file
+                        input.close();
+                    }
+                    catch (IOException ioe)
+                    {
+                        // Ignore the error if the file cannot be closed
+                    }
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Store the line index in the index file. The index isn't stored if the
+     * index file can't be written
+     *************************************************************************/
+    private void writeIndexFile()
+    {
+        // Get a temporary file in which to write the index so that a partially
+        // written index doesn't replace a valid one
+        File tempFile = new File(indexFile.getPath() + ".tmp");
+        DataOutputStream output = null;
+
+        try
+        {
+            // Create the temporary index file
+            output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+
+            // Write the identifier, indexed length, and number of indexed
+            // lines
+            output.writeInt(INDEX_ID);
+            output.writeLong(indexedLength);
+            output.writeInt(lineCount);
+
+            // Step through each indexed line
+            for (int line = 0; line < lineCount; line++)
+            {
+                // Write the offset of the start of the line
+                output.writeLong(lineOffsets[line]);
+            }
+
+            output.close();
+            output = null;
+
+            // Replace the index file with the new index
+            indexFile.delete();
+
+            // Check if the new index file can't be renamed
+            if (!tempFile.renameTo(indexFile))
+            {
+                // Remove the temporary index file
+                tempFile.delete();
+            }
+        }
+        catch (IOException ioe)
+        {
+            // Ignore the error if the index can't be stored (e.g., the log
+            // folder is read-only); the index is rebuilt when the log is next
+            // opened
+            tempFile.delete();
+        }
+        finally
+        {
+            // Check if the index file is still open
+            if (output != null)
+            {
+                try
+                {
+                    // Close the index file
+                    output.close();
+                }
+                catch (IOException ioe)
+                {
+                    // Ignore the error if the file cannot be closed
+                }
+
+                // Remove the incomplete index file
+                tempFile.delete();
+            }
+        }
+    }
+}
@@ -32,9 +32,19 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -45,6 +55,7 @@ import CCDD.CcddBackgroundCommand.BackgroundCommand;
 import CCDD.CcddClasses.CCDDException;
 import CCDD.CcddClasses.FieldInformation;
 import CCDD.CcddClasses.TableDefinition;
+import CCDD.CcddClasses.TableDefinitionQueue;
 import CCDD.CcddClasses.TableInformation;
 import CCDD.CcddConstants.DefaultColumn;
 import CCDD.CcddConstants.DialogOption;
@@ -78,6 +89,19 @@ public class CcddFileIOHandler
     // Flag indicating if table importing is canceled by user input
     private boolean cancelImport;
 
+    // Flag indicating if the table type, data type, macro, and reserved
+    // message ID definitions are stored in the project database while
+    // importing tables
+    private boolean isDefinitionStored;
+
+    // Names (in lower case) of the prototype tables that exist in the project
+    // database while importing tables
+    private Set<String> existingTables;
+
+    // Maximum number of parsed table definitions waiting to be created while
+    // importing tables
+    private static final int IMPORT_QUEUE_SIZE = 4;
+
     /**************************************************************************
      * File I/O handler class constructor
      * 
@@ -526,13 +550,6 @@ public class CcddFileIOHandler
                               final boolean useExistingFields,
                               final Component parent)
     {
-        // Store the current table type, data type, macro, and reserved message
-        // ID information in case it needs to be restored
-        final List<String[]> originalDataTypes = dataTypeHandler.getDataTypeData();
-        final List<String[]> originalMacros = macroHandler.getMacroData();
-        final List<TypeDefinition> originalTableTypes = tableTypeHandler.getTypeDefinitions();
-        final List<String[]> originalReservedMsgIDs = msgIDHandler.getReservedMsgIDData();
-
         // Execute the import operation in the background
         CcddBackgroundCommand.executeInBackground(ccddMain, new BackgroundCommand()
         {
@@ -560,6 +577,17 @@ public class CcddFileIOHandler
                 // Step through each selected file
                 for (File file : dataFile)
                 {
+                    boolean isFileError = false;
+                    isDefinitionStored = false;
+
+                    // Store the current table type, data type, macro, and
+                    // reserved message ID information in case it needs to be
+                    // restored
+                    List<String[]> originalDataTypes = new ArrayList<String[]>(dataTypeHandler.getDataTypeData());
+                    List<String[]> originalMacros = new ArrayList<String[]>(macroHandler.getMacroData());
+                    List<TypeDefinition> originalTableTypes = new ArrayList<TypeDefinition>(tableTypeHandler.getTypeDefinitions());
+                    List<String[]> originalReservedMsgIDs = new ArrayList<String[]>(msgIDHandler.getReservedMsgIDData());
+
                     try
                     {
                         // Check if the file doesn't exist
@@ -610,72 +638,14 @@ public class CcddFileIOHandler
                         // conversion handler
                         if (!ioHandler.getErrorStatus())
                         {
-                            // Import the table definition(s) from the file
-                            ioHandler.importFromFile(file, ImportType.IMPORT_ALL);
-
-                            // Check if the user elected to append any new data
-                            // fields to any existing ones for a table
-                            if (appendExistingFields)
-                            {
-                                // Create a data field handler
-                                CcddFieldHandler fieldHandler = new CcddFieldHandler(ccddMain, null, parent);
-
-                                // Step through each table definition
-                                for (TableDefinition tableDefn : ioHandler.getTableDefinitions())
-                                {
-                                    // Build the field information for this
-                                    // table
-                                    fieldHandler.buildFieldInformation(tableDefn.getName());
-
-                                    // Step through the imported data fields.
-                                    // The order is reversed so that field
-                                    // definitions can be removed if needed
-                                    for (int index = tableDefn.getDataFields().size() - 1; index >= 0; index--)
-                                    {
-                                        String[] fieldDefn = tableDefn.getDataFields().get(index);
-
-                                        // Get the reference to the data field
-                                        // based on the table name and field
-                                        // name
-                                        FieldInformation fieldInfo = fieldHandler.getFieldInformationByName(fieldDefn[FieldsColumn.OWNER_NAME.ordinal()],
-                                                                                                            fieldDefn[FieldsColumn.FIELD_NAME.ordinal()]);
-
-                                        // Check if the data field already
-                                        // exists
-                                        if (fieldInfo != null)
-                                        {
-                                            // Check if the original data field
-                                            // information supersedes the
-                                            // imported one
-                                            if (useExistingFields)
-                                            {
-                                                // Remove the new data field
-                                                // definition
-                                                tableDefn.getDataFields().remove(index);
-                                            }
-                                            // The imported data field
-                                            // information replaces the
-                                            // original
-                                            else
-                                            {
-                                                // Remove the original data
-                                                // field definition
-                                                fieldHandler.getFieldInformation().remove(fieldInfo);
-                                            }
-                                        }
-                                    }
-
-                                    // Combine the imported and existing data
-                                    // fields
-                                    tableDefn.getDataFields().addAll(fieldHandler.getFieldDefinitionList());
-                                }
-                            }
-
-                            // Create the data tables from the imported table
-                            // definitions
-                            createTablesFromDefinitions(ioHandler.getTableDefinitions(),
-                                                        replaceExisting,
-                                                        parent);
+                            // Import the table definition(s) from the file and
+                            // create the data tables from them
+                            importTablesFromFile(ioHandler,
+                                                 file,
+                                                 replaceExisting,
+                                                 appendExistingFields,
+                                                 useExistingFields,
+                                                 parent);
 
                             // Store the data file name in the program
                             // preferences backing store
@@ -686,7 +656,7 @@ public class CcddFileIOHandler
                         // handler
                         else
                         {
-                            errorFlag = true;
+                            isFileError = true;
                         }
                     }
                     catch (IOException ioe)
@@ -699,7 +669,7 @@ public class CcddFileIOHandler
                                                                   "File Error",
                                                                   JOptionPane.ERROR_MESSAGE,
                                                                   DialogOption.OK_OPTION);
-                        errorFlag = true;
+                        isFileError = true;
                     }
                     catch (CCDDException ce)
                     {
@@ -716,14 +686,35 @@ public class CcddFileIOHandler
                                                                       DialogOption.OK_OPTION);
                         }
 
-                        errorFlag = true;
+                        isFileError = true;
                     }
                     catch (Exception e)
                     {
                         // Display a dialog providing details on the
                         // unanticipated error
                         CcddUtilities.displayException(e, parent);
+                        isFileError = true;
+                    }
+
+                    // Check if an error occurred importing the file
+                    if (isFileError)
+                    {
                         errorFlag = true;
+
+                        // Check if the file's definitions weren't stored in
+                        // the database. Once stored, the definitions are kept
+                        // so that the database and the handlers remain
+                        // consistent
+                        if (!isDefinitionStored)
+                        {
+                            // Restore the table types, data types, macros, and
+                            // reserved message IDs to the values prior to
+                            // importing the file
+                            tableTypeHandler.setTypeDefinitions(originalTableTypes);
+                            dataTypeHandler.setDataTypeData(originalDataTypes);
+                            macroHandler.setMacroData(originalMacros);
+                            msgIDHandler.setReservedMsgIDData(originalReservedMsgIDs);
+                        }
                     }
                 }
             }
@@ -747,14 +738,6 @@ public class CcddFileIOHandler
                 // An error occurred while importing the table(s)
                 else
                 {
-                    // Restore the table types, data types, macros, and
-                    // reserved message IDs to the values prior to the import
-                    // operation
-                    tableTypeHandler.setTypeDefinitions(originalTableTypes);
-                    dataTypeHandler.setDataTypeData(originalDataTypes);
-                    macroHandler.setMacroData(originalMacros);
-                    msgIDHandler.setReservedMsgIDData(originalReservedMsgIDs);
-
                     eventLog.logFailEvent(parent,
                                           "Import Error",
                                           "Table import completed with errors",
@@ -764,6 +747,265 @@ public class CcddFileIOHandler
         });
     }
 
+    /**************************************************************************
+     * Import the table definitions from the specified file and create the
+     * data tables from them. The file is parsed in a separate thread that
+     * hands off each table definition via a bounded queue as soon as it's
+     * read, so that the tables are created while the remainder of the file is
+     * parsed. Definitions that the import handler doesn't queue are obtained
+     * from the handler once the file is parsed. If the file contains an error
+     * then the child tables aren't created; the table type, data type, macro,
+     * and reserved message ID definitions are stored only if a prototype
+     * table was created before the error was detected
+     * 
+     * @param ioHandler
+     *            import file format handler
+     * 
+     * @param importFile
+     *            reference to the file to import
+     * 
+     * @param replaceExisting
+     *            true to replace a table that already exists in the database
+     * 
+     * @param appendExistingFields
+     *            true to append the existing data fields for a table (if any)
+     *            to the imported ones (if any)
+     * 
+     * @param useExistingFields
+     *            true to use an existing data field in place of the imported
+     *            ones if the field names match
+     * 
+     * @param parent
+     *            GUI component calling this method
+     *************************************************************************/
+    private void importTablesFromFile(final CcddImportExportInterface ioHandler,
+                                      final File importFile,
+                                      boolean replaceExisting,
+                                      boolean appendExistingFields,
+                                      boolean useExistingFields,
+                                      Component parent) throws CCDDException,
+                                                        IOException,
+                                                        Exception
+    {
+        // Create the queue used to hand off the table definitions from the
+        // file parser and register it with the import handler
+        final TableDefinitionQueue tableDefnQueue = new TableDefinitionQueue(IMPORT_QUEUE_SIZE);
+        ioHandler.setTableDefinitionQueue(tableDefnQueue);
+
+        // Parse the import file in a separate thread
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Void> parseResult = executor.submit(new Callable<Void>()
+        {
+            /******************************************************************
+             * Parse the import file
+             *****************************************************************/
+            @Override
+            public Void call() throws Exception
+            {
+                try
+                {
+                    // Import the table definition(s) from the file
+                    ioHandler.importFromFile(importFile, ImportType.IMPORT_ALL);
+
+                    // Step through the table definitions that weren't handed
+                    // off while the file was parsed
+                    for (TableDefinition tableDefn : ioHandler.getTableDefinitions())
+                    {
+                        // Hand off the table definition
+                        tableDefnQueue.put(tableDefn);
+                    }
+                }
+                finally
+                {
+                    // Indicate that no more table definitions follow. This
+                    // doesn't wait on the queue, so the parser isn't held up
+                    // if the table creation has stopped
+                    tableDefnQueue.end();
+                }
+
+                return null;
+            }
+        });
+
+        Exception parseError = null;
+        boolean isTableCreated = false;
+        boolean isCompleted = false;
+        List<String> skippedTables = new ArrayList<String>();
+
+        // Create storage for the child table definitions. These are created
+        // after the prototype tables since a child's prototype may be defined
+        // later in the file
+        List<TableDefinition> childDefinitions = new ArrayList<TableDefinition>();
+
+        try
+        {
+            // Create a data field handler
+            CcddFieldHandler fieldHandler = new CcddFieldHandler(ccddMain, null, parent);
+
+            // Prepare to create the tables
+            beginTableCreation(parent);
+
+            // Get the first table definition from the parser
+            TableDefinition tableDefn = tableDefnQueue.take();
+
+            // Continue to create tables until the parser indicates that no
+            // more table definitions follow
+            while (tableDefn != null)
+            {
+                // Check if the user elected to append any new data fields to
+                // any existing ones for a table
+                if (appendExistingFields)
+                {
+                    // Combine the imported and existing data fields
+                    appendExistingFields(fieldHandler,
+                                         tableDefn,
+                                         useExistingFields);
+                }
+
+                // Check if this is a child table
+                if (tableDefn.getName().contains(","))
+                {
+                    // Store the child table definition so that it's created
+                    // after the prototype tables
+                    childDefinitions.add(tableDefn);
+                }
+                // This is a prototype table
+                else
+                {
+                    // Create the prototype table
+                    createTableFromDefinition(tableDefn,
+                                              replaceExisting,
+                                              skippedTables,
+                                              parent);
+                    isTableCreated = true;
+                }
+
+                // Let the parser know that the table definition is processed
+                // so that it can alter the definitions the tables reference
+                tableDefnQueue.setProcessed();
+
+                // Get the next table definition from the parser
+                tableDefn = tableDefnQueue.take();
+            }
+
+            try
+            {
+                // Wait for the parser to complete
+                parseResult.get();
+            }
+            catch (ExecutionException ee)
+            {
+                // Store the error that stopped the parser
+                parseError = ee.getCause() instanceof Exception
+                                                               ? (Exception) ee.getCause()
+                                                               : ee;
+            }
+
+            // Check if the file was parsed successfully. The child tables
+            // aren't created if the file contains an error
+            if (parseError == null)
+            {
+                // Step through each child table definition
+                for (TableDefinition childDefn : childDefinitions)
+                {
+                    // Create the child table
+                    createTableFromDefinition(childDefn,
+                                              replaceExisting,
+                                              skippedTables,
+                                              parent);
+                }
+            }
+
+            // Check if the file was parsed successfully or if any prototype
+            // tables were created prior to the parser stopping. The
+            // definitions are stored in the latter case since the tables
+            // created may reference them
+            if (parseError == null || isTableCreated)
+            {
+                // Report any skipped tables and store the table type, data
+                // type, macro, and reserved message ID definitions
+                completeTableCreation(skippedTables, parent);
+            }
+
+            isCompleted = true;
+        }
+        finally
+        {
+            // Check if the table creation terminated before the file was
+            // parsed
+            if (!isCompleted)
+            {
+                // Discard the queued table definitions so that the parser
+                // doesn't wait on the queue, then stop the parser
+                tableDefnQueue.close();
+                parseResult.cancel(true);
+            }
+
+            executor.shutdownNow();
+        }
+
+        // Check if the parser stopped due to an error
+        if (parseError != null)
+        {
+            throw parseError;
+        }
+    }
+
+    /**************************************************************************
+     * Combine the imported data fields for a table with the table's existing
+     * data fields
+     * 
+     * @param fieldHandler
+     *            data field handler
+     * 
+     * @param tableDefn
+     *            imported table definition
+     * 
+     * @param useExistingFields
+     *            true to use an existing data field in place of the imported
+     *            ones if the field names match
+     *************************************************************************/
+    private void appendExistingFields(CcddFieldHandler fieldHandler,
+                                      TableDefinition tableDefn,
+                                      boolean useExistingFields)
+    {
+        // Build the field information for this table
+        fieldHandler.buildFieldInformation(tableDefn.getName());
+
+        // Step through the imported data fields. The order is reversed so
+        // that field definitions can be removed if needed
+        for (int index = tableDefn.getDataFields().size() - 1; index >= 0; index--)
+        {
+            String[] fieldDefn = tableDefn.getDataFields().get(index);
+
+            // Get the reference to the data field based on the table name and
+            // field name
+            FieldInformation fieldInfo = fieldHandler.getFieldInformationByName(fieldDefn[FieldsColumn.OWNER_NAME.ordinal()],
+                                                                                fieldDefn[FieldsColumn.FIELD_NAME.ordinal()]);
+
+            // Check if the data field already exists
+            if (fieldInfo != null)
+            {
+                // Check if the original data field information supersedes the
+                // imported one
+                if (useExistingFields)
+                {
+                    // Remove the new data field definition
+                    tableDefn.getDataFields().remove(index);
+                }
+                // The imported data field information replaces the original
+                else
+                {
+                    // Remove the original data field definition
+                    fieldHandler.getFieldInformation().remove(fieldInfo);
+                }
+            }
+        }
+
+        // Combine the imported and existing data fields
+        tableDefn.getDataFields().addAll(fieldHandler.getFieldDefinitionList());
+    }
+
     /**************************************************************************
      * Create one or more data tables from the supplied table definitions
      * 
@@ -780,10 +1022,12 @@ public class CcddFileIOHandler
                                              boolean replaceExisting,
                                              final Component parent) throws CCDDException
     {
-        cancelImport = false;
         boolean prototypesOnly = true;
         List<String> skippedTables = new ArrayList<String>();
 
+        // Prepare to create the tables
+        beginTableCreation(parent);
+
         // Perform two passes; first to process prototype tables, and second to
         // process child tables
         for (int loop = 0; loop < 2 && !cancelImport; loop++)
@@ -791,171 +1035,236 @@ public class CcddFileIOHandler
             // Step through each table definition
             for (TableDefinition tableDefn : tableDefinitions)
             {
-                // Check if the table import was canceled by the user
-                if (cancelImport)
+                // Check if the table import was canceled by the user, or if
+                // this is a prototype table and this is the first pass, or if
+                // this is a child table and this is the second pass
+                if (cancelImport
+                    || !tableDefn.getName().contains(",") != !prototypesOnly)
                 {
-                    // Add the table to the list of those skipped
-                    skippedTables.add(tableDefn.getName());
-                    continue;
+                    // Create the table (or skip it if the import is canceled)
+                    createTableFromDefinition(tableDefn,
+                                              replaceExisting,
+                                              skippedTables,
+                                              parent);
                 }
+            }
+
+            prototypesOnly = false;
+        }
+
+        // Report any skipped tables and store the table type, data type,
+        // macro, and reserved message ID definitions
+        completeTableCreation(skippedTables, parent);
+    }
+
+    /**************************************************************************
+     * Prepare to create data tables from imported table definitions
+     * 
+     * @param parent
+     *            GUI component calling this method
+     *************************************************************************/
+    private void beginTableCreation(Component parent)
+    {
+        cancelImport = false;
+
+        // Get the names of the existing tables so that the database doesn't
+        // have to be queried for each table and table ancestor imported
+        existingTables = new HashSet<String>();
+
+        // Step through each existing data table
+        for (String tableName : dbTable.queryTableList(parent))
+        {
+            // Store the table name in lower case so that the comparison is
+            // case insensitive
+            existingTables.add(tableName.toLowerCase());
+        }
+    }
+
+    /**************************************************************************
+     * Create a data table, and the prototypes of the table's ancestors if
+     * these don't exist, from the supplied table definition
+     * 
+     * @param tableDefn
+     *            table definition for the table to create
+     * 
+     * @param replaceExisting
+     *            true to replace a table that already exists in the database
+     * 
+     * @param skippedTables
+     *            list to which the names of any tables not created are added
+     * 
+     * @param parent
+     *            GUI component calling this method
+     *************************************************************************/
+    private void createTableFromDefinition(TableDefinition tableDefn,
+                                           boolean replaceExisting,
+                                           List<String> skippedTables,
+                                           Component parent) throws CCDDException
+    {
+        // Check if the table import was canceled by the user
+        if (cancelImport)
+        {
+            // Add the table to the list of those skipped
+            skippedTables.add(tableDefn.getName());
+        }
+        // Check if cell data is provided in the import file. Creation of empty
+        // tables is not allowed
+        else if (!tableDefn.getData().isEmpty())
+        {
+            // Get the table type definition for this table
+            TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableDefn.getType());
+
+            // Get the number of table columns
+            int numColumns = typeDefn.getColumnCountVisible();
+
+            // Create the table information for the new table
+            TableInformation tableInfo = new TableInformation(tableDefn.getType(),
+                                                              tableDefn.getName(),
+                                                              new String[0][0],
+                                                              tableTypeHandler.getDefaultColumnOrder(tableDefn.getType()),
+                                                              tableDefn.getDescription(),
+                                                              true,
+                                                              tableDefn.getDataFields().toArray(new Object[0][0]));
+
+            // Check if the new table is not a prototype
+            if (!tableInfo.isPrototype())
+            {
+                // Break the path into the individual structure variable
+                // references
+                String[] ancestors = tableInfo.getTablePath().split(",");
 
-                // Check if cell data is provided in the import file. Creation
-                // of empty tables is not allowed. Also check if this is a
-                // prototype table and this is the first pass, or if this is a
-                // child table and this is the second pass
-                if (!tableDefn.getData().isEmpty()
-                    && (!tableDefn.getName().contains(",") != !prototypesOnly))
+                // Step through each structure table referenced in the path of
+                // the new table
+                for (int index = ancestors.length - 1; index >= 0 && !cancelImport; index--)
                 {
-                    // Get the table type definition for this table
-                    TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableDefn.getType());
-
-                    // Get the number of table columns
-                    int numColumns = typeDefn.getColumnCountVisible();
-
-                    // Create the table information for the new table
-                    TableInformation tableInfo = new TableInformation(tableDefn.getType(),
-                                                                      tableDefn.getName(),
-                                                                      new String[0][0],
-                                                                      tableTypeHandler.getDefaultColumnOrder(tableDefn.getType()),
-                                                                      tableDefn.getDescription(),
-                                                                      true,
-                                                                      tableDefn.getDataFields().toArray(new Object[0][0]));
-
-                    // Check if the new table is not a prototype
-                    if (!tableInfo.isPrototype())
-                    {
-                        // Break the path into the individual structure
-                        // variable references
-                        String[] ancestors = tableInfo.getTablePath().split(",");
+                    // Split the ancestor into the data type (i.e., structure
+                    // name) and variable name
+                    String[] typeAndVar = ancestors[index].split("\\.");
 
-                        // Step through each structure table referenced in the
-                        // path of the new table
-                        for (int index = ancestors.length - 1; index >= 0 && !cancelImport; index--)
+                    // Check if the ancestor prototype table doesn't exist
+                    if (!existingTables.contains(typeAndVar[0].toLowerCase()))
+                    {
+                        // Create the table information for the new prototype
+                        // table
+                        TableInformation descendantInfo = new TableInformation(tableDefn.getType(),
+                                                                               typeAndVar[0],
+                                                                               new String[0][0],
+                                                                               tableTypeHandler.getDefaultColumnOrder(tableDefn.getType()),
+                                                                               "",
+                                                                               true,
+                                                                               tableDefn.getDataFields().toArray(new Object[0][0]));
+
+                        // Check if this is the child table and not one of its
+                        // ancestors
+                        if (index == ancestors.length - 1)
                         {
-                            // Split the ancestor into the data type (i.e.,
-                            // structure name) and variable name
-                            String[] typeAndVar = ancestors[index].split("\\.");
+                            // Create a list to store a copy of the cell data
+                            List<String> protoData = new ArrayList<String>(tableDefn.getData());
 
-                            // Check if the ancestor prototype table doesn't
-                            // exist
-                            if (!dbTable.isTableExists(typeAndVar[0].toLowerCase(),
-                                                       ccddMain.getMainFrame()))
+                            // Step through each row of the cell data
+                            for (int cellIndex = 0; cellIndex < tableDefn.getData().size(); cellIndex += numColumns)
                             {
-                                // Create the table information for the new
-                                // prototype table
-                                TableInformation descendantInfo = new TableInformation(tableDefn.getType(),
-                                                                                       typeAndVar[0],
-                                                                                       new String[0][0],
-                                                                                       tableTypeHandler.getDefaultColumnOrder(tableDefn.getType()),
-                                                                                       "",
-                                                                                       true,
-                                                                                       tableDefn.getDataFields().toArray(new Object[0][0]));
-
-                                // Check if this is the child table and not one
-                                // of its ancestors
-                                if (index == ancestors.length - 1)
-                                {
-                                    // Create a list to store a copy of the
-                                    // cell data
-                                    List<String> protoData = new ArrayList<String>(tableDefn.getData());
-
-                                    // Step through each row of the cell data
-                                    for (int cellIndex = 0; cellIndex < tableDefn.getData().size(); cellIndex += numColumns)
-                                    {
-                                        // Step through each column in the row
-                                        for (int colIndex = 0; colIndex < numColumns; colIndex++)
-                                        {
-                                            // Check if the column is not
-                                            // protected
-                                            if (!DefaultColumn.isProtectedColumn(typeDefn.getName(),
-                                                                                 typeDefn.getColumnNamesVisible()[colIndex]))
-                                            {
-                                                // Replace the non-protected
-                                                // column value with a blank
-                                                protoData.set(cellIndex + colIndex, "");
-                                            }
-                                        }
-                                    }
-
-                                    // Create the prototype of the child table
-                                    // and populate it with the protected
-                                    // column data
-                                    if (!createImportedTable(descendantInfo,
-                                                             protoData,
-                                                             numColumns,
-                                                             replaceExisting,
-                                                             "Cannot create prototype '"
-                                                                 + descendantInfo.getPrototypeName()
-                                                                 + "' of child table",
-                                                             parent))
-                                    {
-                                        // Add the skipped table to the list
-                                        skippedTables.add(descendantInfo.getProtoVariableName());
-                                    }
-                                }
-                                // This is an ancestor of the child table
-                                else
+                                // Step through each column in the row
+                                for (int colIndex = 0; colIndex < numColumns; colIndex++)
                                 {
-                                    // Split the descendant into the data type
-                                    // (i.e., structure name) and variable name
-                                    typeAndVar = ancestors[index + 1].split("\\.|$", -1);
-
-                                    // Add the variable reference to the new
-                                    // table
-                                    String[] rowData = new String[typeDefn.getColumnCountVisible()];
-                                    Arrays.fill(rowData, "");
-                                    rowData[typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.VARIABLE))] = typeAndVar[1];
-                                    rowData[typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.PRIM_AND_STRUCT))] = typeAndVar[0];
-
-                                    // Create the prototype of the child table
-                                    // and populate it with the protected
-                                    // column data
-                                    if (!createImportedTable(descendantInfo,
-                                                             Arrays.asList(rowData),
-                                                             numColumns,
-                                                             replaceExisting,
-                                                             "Cannot create prototype '"
-                                                                 + descendantInfo.getPrototypeName()
-                                                                 + "' of child table's ancestor",
-                                                             parent))
+                                    // Check if the column is not protected
+                                    if (!DefaultColumn.isProtectedColumn(typeDefn.getName(),
+                                                                         typeDefn.getColumnNamesVisible()[colIndex]))
                                     {
-                                        // Add the skipped table to the list
-                                        skippedTables.add(descendantInfo.getProtoVariableName());
+                                        // Replace the non-protected column
+                                        // value with a blank
+                                        protoData.set(cellIndex + colIndex, "");
                                     }
                                 }
                             }
-                        }
-
-                        // Load the table's prototype data from the database
-                        // and copy the prototype's data to the table
-                        TableInformation protoInfo = dbTable.loadTableData(tableInfo.getPrototypeName(),
-                                                                           true,
-                                                                           true,
-                                                                           false,
-                                                                           false,
-                                                                           ccddMain.getMainFrame());
-                        tableInfo.setData(protoInfo.getData());
-                    }
 
-                    // Create a table from the imported information
-                    if (!createImportedTable(tableInfo,
-                                             tableDefn.getData(),
-                                             numColumns,
-                                             replaceExisting,
-                                             "Cannot create prototype '"
-                                                 + tableInfo.getPrototypeName()
-                                                 + "'",
-                                             parent))
-                    {
-                        // Add the skipped table to the list
-                        skippedTables.add(tableInfo.getProtoVariableName());
+                            // Create the prototype of the child table and
+                            // populate it with the protected column data
+                            if (!createImportedTable(descendantInfo,
+                                                     protoData,
+                                                     numColumns,
+                                                     replaceExisting,
+                                                     "Cannot create prototype '"
+                                                         + descendantInfo.getPrototypeName()
+                                                         + "' of child table",
+                                                     parent))
+                            {
+                                // Add the skipped table to the list
+                                skippedTables.add(descendantInfo.getProtoVariableName());
+                            }
+                        }
+                        // This is an ancestor of the child table
+                        else
+                        {
+                            // Split the descendant into the data type (i.e.,
+                            // structure name) and variable name
+                            typeAndVar = ancestors[index + 1].split("\\.|$", -1);
+
+                            // Add the variable reference to the new table
+                            String[] rowData = new String[typeDefn.getColumnCountVisible()];
+                            Arrays.fill(rowData, "");
+                            rowData[typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.VARIABLE))] = typeAndVar[1];
+                            rowData[typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.PRIM_AND_STRUCT))] = typeAndVar[0];
+
+                            // Create the prototype of the child table and
+                            // populate it with the protected column data
+                            if (!createImportedTable(descendantInfo,
+                                                     Arrays.asList(rowData),
+                                                     numColumns,
+                                                     replaceExisting,
+                                                     "Cannot create prototype '"
+                                                         + descendantInfo.getPrototypeName()
+                                                         + "' of child table's ancestor",
+                                                     parent))
+                            {
+                                // Add the skipped table to the list
+                                skippedTables.add(descendantInfo.getProtoVariableName());
+                            }
+                        }
                     }
                 }
+
+                // Load the table's prototype data from the database and copy
+                // the prototype's data to the table
+                TableInformation protoInfo = dbTable.loadTableData(tableInfo.getPrototypeName(),
+                                                                   true,
+                                                                   true,
+                                                                   false,
+                                                                   false,
+                                                                   ccddMain.getMainFrame());
+                tableInfo.setData(protoInfo.getData());
             }
 
-            prototypesOnly = false;
+            // Create a table from the imported information
+            if (!createImportedTable(tableInfo,
+                                     tableDefn.getData(),
+                                     numColumns,
+                                     replaceExisting,
+                                     "Cannot create prototype '"
+                                         + tableInfo.getPrototypeName()
+                                         + "'",
+                                     parent))
+            {
+                // Add the skipped table to the list
+                skippedTables.add(tableInfo.getProtoVariableName());
+            }
         }
+    }
 
+    /**************************************************************************
+     * Complete creating data tables from imported table definitions. Inform
+     * the user of any tables that weren't created and store the table type,
+     * data type, macro, and reserved message ID definitions
+     * 
+     * @param skippedTables
+     *            list of the names of the tables that weren't created
+     * 
+     * @param parent
+     *            GUI component calling this method
+     *************************************************************************/
+    private void completeTableCreation(List<String> skippedTables,
+                                       Component parent)
+    {
         // Check if any tables were skipped
         if (!skippedTables.isEmpty())
         {
@@ -1005,6 +1314,8 @@ public class CcddFileIOHandler
                                           parent);
 
         }
+
+        isDefinitionStored = true;
     }
 
     /**************************************************************************
@@ -1053,8 +1364,7 @@ public class CcddFileIOHandler
         if (tableInfo.isPrototype())
         {
             // Check if the table already exists in the project database
-            if (dbTable.isTableExists(tableInfo.getPrototypeName().toLowerCase(),
-                                      parent))
+            if (existingTables.contains(tableInfo.getPrototypeName().toLowerCase()))
             {
                 // Check if the user didn't elect to replace existing tables
                 if (!replaceExisting)
@@ -1083,6 +1393,9 @@ public class CcddFileIOHandler
                 throw new CCDDException();
             }
 
+            // Add the table to the list of existing tables
+            existingTables.add(tableInfo.getPrototypeName().toLowerCase());
+
             // Add the prototype table name to the list of table editors to
             // close
             tableName.add(new String[] {tableInfo.getPrototypeName(), null});
@@ -1479,30 +1792,8 @@ public class CcddFileIOHandler
                     path += File.separator;
                 }
 
-                // Check if the output format is CSV
-                if (fileExtn == FileExtension.CSV)
-                {
-                    // Create a CSV handler
-                    ioHandler = new CcddCSVHandler(ccddMain, parent);
-                }
-                // Check if the output format is EDS XML
-                else if (fileExtn == FileExtension.EDS)
-                {
-                    // Create an EDS handler
-                    ioHandler = new CcddEDSHandler(ccddMain, parent);
-                }
-                // Check if the output format is JSON
-                else if (fileExtn == FileExtension.JSON)
-                {
-                    // Create an JSON handler
-                    ioHandler = new CcddJSONHandler(ccddMain, parent);
-                }
-                // Check if the output format is XTCE XML
-                else if (fileExtn == FileExtension.XTCE)
-                {
-                    // Create an XTCE handler
-                    ioHandler = new CcddXTCEHandler(ccddMain, parent);
-                }
+                // Create the handler for the output format
+                ioHandler = createExportHandler(fileExtn, parent);
 
                 // Check that no error occurred creating the format conversion
                 // handler
@@ -1542,6 +1833,9 @@ public class CcddFileIOHandler
                     // Export the table(s) to individual files
                     else
                     {
+                        List<String> exportTables = new ArrayList<String>();
+                        List<File> exportFiles = new ArrayList<File>();
+
                         // Step through each table
                         for (String tblName : tblVarNames)
                         {
@@ -1552,26 +1846,17 @@ public class CcddFileIOHandler
                                             + fileExtn.getExtension());
 
                             // Check if the file doesn't exist, or if it does
-                            // and the user elects to overwrite it
+                            // and the user elects to overwrite it. This is
+                            // done for every file before exporting so that
+                            // the user isn't queried from multiple threads
                             if (isOverwriteExportFileIfExists(file,
                                                               overwriteFile,
                                                               parent))
                             {
-                                // Export the formatted table data; the file
-                                // name is derived from the table name
-                                if (ioHandler.exportToFile(file,
-                                                           new String[] {tblName},
-                                                           replaceMacros,
-                                                           includeReservedMsgIDs,
-                                                           system,
-                                                           version,
-                                                           validationStatus,
-                                                           classification1,
-                                                           classification2,
-                                                           classification3))
-                                {
-                                    errorFlag = true;
-                                }
+                                // Add the table and its file to the lists of
+                                // those to export
+                                exportTables.add(tblName);
+                                exportFiles.add(file);
                             }
                             // The table is skipped
                             else
@@ -1580,6 +1865,24 @@ public class CcddFileIOHandler
                                 skippedTables.add(tblName);
                             }
                         }
+
+                        // Export the formatted table data, each to its own
+                        // file
+                        if (exportTablesToFiles(exportTables,
+                                                exportFiles,
+                                                fileExtn,
+                                                replaceMacros,
+                                                includeReservedMsgIDs,
+                                                new String[] {system,
+                                                              version,
+                                                              validationStatus,
+                                                              classification1,
+                                                              classification2,
+                                                              classification3},
+                                                parent))
+                        {
+                            errorFlag = true;
+                        }
                     }
 
                     // Check if any tables were skipped
@@ -1637,6 +1940,239 @@ public class CcddFileIOHandler
         });
     }
 
+    /**************************************************************************
+     * Create the import/export handler for the specified file format
+     * 
+     * @param fileExtn
+     *            file extension type
+     * 
+     * @param parent
+     *            GUI component calling this method
+     * 
+     * @return Import/export handler for the file format; null if the format
+     *         isn't recognized
+     *************************************************************************/
+    private CcddImportExportInterface createExportHandler(FileExtension fileExtn,
+                                                          Component parent)
+    {
+        CcddImportExportInterface ioHandler = null;
+
+        // Check if the output format is CSV
+        if (fileExtn == FileExtension.CSV)
+        {
+            // Create a CSV handler
+            ioHandler = new CcddCSVHandler(ccddMain, parent);
+        }
+        // Check if the output format is EDS XML
+        else if (fileExtn == FileExtension.EDS)
+        {
+            // Create an EDS handler
+            ioHandler = new CcddEDSHandler(ccddMain, parent);
+        }
+        // Check if the output format is JSON
+        else if (fileExtn == FileExtension.JSON)
+        {
+            // Create an JSON handler
+            ioHandler = new CcddJSONHandler(ccddMain, parent);
+        }
+        // Check if the output format is XTCE XML
+        else if (fileExtn == FileExtension.XTCE)
+        {
+            // Create an XTCE handler
+            ioHandler = new CcddXTCEHandler(ccddMain, parent);
+        }
+
+        return ioHandler;
+    }
+
+    /**************************************************************************
+     * Export each of the specified tables to its own file. The tables are
+     * exported concurrently by a pool of worker threads. Each worker has its
+     * own import/export handler and reads the tables using its own pooled
+     * (read-only) database connection. The export progress is logged to the
+     * session event log. If a worker fails unexpectedly then the remaining
+     * tables aren't exported
+     * 
+     * @param tableNames
+     *            list of the tables to export
+     * 
+     * @param files
+     *            list of the files to which to export the tables, in the same
+     *            order as the table names
+     * 
+     * @param fileExtn
+     *            file extension type
+     * 
+     * @param replaceMacros
+     *            true to replace any embedded macros with their corresponding
+     *            values
+     * 
+     * @param includeReservedMsgIDs
+     *            true to include the contents of the reserved message ID table
+     *            in the export file
+     * 
+     * @param extraInfo
+     *            extra parameters dependent on the export format
+     * 
+     * @param parent
+     *            GUI component calling this method
+     * 
+     * @return true if an error occurred exporting any of the tables
+     *************************************************************************/
+    private boolean exportTablesToFiles(final List<String> tableNames,
+                                        final List<File> files,
+                                        final FileExtension fileExtn,
+                                        final boolean replaceMacros,
+                                        final boolean includeReservedMsgIDs,
+                                        final String[] extraInfo,
+                                        final Component parent)
+    {
+        boolean errorFlag = false;
+
+        // Index of the next table to export, the number of tables exported,
+        // and the flag indicating the workers should stop
+        final AtomicInteger nextTable = new AtomicInteger(0);
+        final AtomicInteger numExported = new AtomicInteger(0);
+        final AtomicBoolean isStopped = new AtomicBoolean(false);
+
+        // Number of tables exported between progress updates
+        final int progressStep = Math.max(1, tableNames.size() / 10);
+
+        // Create a worker for each processor, but no more than the number of
+        // tables
+        int numWorkers = Math.min(Runtime.getRuntime().availableProcessors(),
+                                  tableNames.size());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1,
+                                                                         numWorkers));
+        List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+
+        // Step through each worker
+        for (int worker = 0; worker < numWorkers; worker++)
+        {
+            // Start the worker, which exports tables until none remain
+            results.add(executor.submit(new Callable<Boolean>()
+            {
+                /**************************************************************
+                 * Export tables to files
+                 * 
+                 * @return true if an error occurred exporting a table
+                 *************************************************************/
+                @Override
+                public Boolean call()
+                {
+                    boolean isError = false;
+                    CcddDbCommandHandler dbCommand = ccddMain.getDbCommandHandler();
+
+                    try
+                    {
+                        // Obtain a pooled database connection so that this
+                        // worker's database commands execute concurrently
+                        // with those of the other workers
+                        dbCommand.obtainRequestConnection();
+
+                        // Create a handler for this worker so that the
+                        // handler's state isn't shared with other workers
+                        CcddImportExportInterface ioHandler = createExportHandler(fileExtn,
+                                                                                  parent);
+
+                        // Check if an error occurred creating the handler
+                        if (ioHandler.getErrorStatus())
+                        {
+                            isError = true;
+                        }
+                        // The handler was created successfully
+                        else
+                        {
+                            int index;
+
+                            // Step through each table not yet exported
+                            while (!isStopped.get()
+                                   && (index = nextTable.getAndIncrement()) < tableNames.size())
+                            {
+                                // Export the formatted table data to its file
+                                if (ioHandler.exportToFile(files.get(index),
+                                                           new String[] {tableNames.get(index)},
+                                                           replaceMacros,
+                                                           includeReservedMsgIDs,
+                                                           extraInfo))
+                                {
+                                    isError = true;
+                                }
+
+                                // Get the number of tables exported
+                                int count = numExported.incrementAndGet();
+
+                                // Check if the export progress should be
+                                // reported
+                                if (count % progressStep == 0
+                                    && count != tableNames.size())
+                                {
+                                    // Log the export progress
+                                    eventLog.logEvent(EventLogMessageType.STATUS_MSG,
+                                                      "Exported "
+                                                          + count
+                                                          + " of "
+                                                          + tableNames.size()
+                                                          + " tables");
+                                }
+                            }
+                        }
+                    }
+                    catch (SQLException se)
+                    {
+                        // Inform the user that connecting to the database
+                        // failed
+                        eventLog.logFailEvent(parent,
+                                              "Cannot connect to database for table export; cause '"
+                                                  + se.getMessage()
+                                                  + "'",
+                                              "<html><b>Cannot connect to database for table export");
+                        isError = true;
+                    }
+                    finally
+                    {
+                        // Release the worker's database connection
+                        dbCommand.releaseRequestConnection();
+                    }
+
+                    return isError;
+                }
+            }));
+        }
+
+        // Accept no more workers; the executor shuts down once the workers
+        // complete
+        executor.shutdown();
+
+        try
+        {
+            // Step through each worker's result
+            for (Future<Boolean> result : results)
+            {
+                // Wait for the worker to complete and check if it encountered
+                // an error
+                if (result.get())
+                {
+                    errorFlag = true;
+                }
+            }
+        }
+        catch (InterruptedException | ExecutionException e)
+        {
+            // Stop any remaining workers once their current table is exported
+            isStopped.set(true);
+
+            // Display a dialog providing details on the unanticipated error
+            CcddUtilities.displayException(e.getCause() instanceof Exception
+                                                                            ? (Exception) e.getCause()
+                                                                            : e,
+                                           parent);
+            errorFlag = true;
+        }
+
+        return errorFlag;
+    }
+
     /**************************************************************************
      * Check if the specified data file exists and, if so, whether or not the
      * user elects to overwrite it
@@ -12,6 +12,7 @@ import java.util.List;
 
 import CCDD.CcddClasses.CCDDException;
 import CCDD.CcddClasses.TableDefinition;
+import CCDD.CcddClasses.TableDefinitionQueue;
 
 /******************************************************************************
  * CFS Command & Data Dictionary import/export interface
@@ -41,6 +42,17 @@ public interface CcddImportExportInterface
      *************************************************************************/
     abstract List<TableDefinition> getTableDefinitions();
 
+    /**************************************************************************
+     * Set the queue to which each table definition is handed off as soon as
+     * it's read from the import file. Table definitions that aren't handed off
+     * are returned by getTableDefinitions()
+     * 
+     * @param tableDefnQueue
+     *            queue to receive the table definitions; null to store all of
+     *            the table definitions
+     *************************************************************************/
+    abstract void setTableDefinitionQueue(TableDefinitionQueue tableDefnQueue);
+
     /**************************************************************************
      * Build the information from the table definition(s) in the current file
      * 
@@ -18,26 +18,30 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Reader;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-import javax.script.ScriptEngine;
-import javax.script.ScriptEngineManager;
-import javax.script.ScriptException;
 import javax.swing.JOptionPane;
 
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
+import org.json.simple.JSONValue;
+import org.json.simple.parser.ContentHandler;
 import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 
 import CCDD.CcddClasses.CCDDException;
 import CCDD.CcddClasses.FieldInformation;
 import CCDD.CcddClasses.TableDefinition;
+import CCDD.CcddClasses.TableDefinitionQueue;
 import CCDD.CcddClasses.TableInformation;
 import CCDD.CcddClasses.TableTypeDefinition;
 import CCDD.CcddConstants.ApplicabilityType;
@@ -45,6 +49,7 @@ import CCDD.CcddConstants.DataTypeEditorColumnInfo;
 import CCDD.CcddConstants.DefaultColumn;
 import CCDD.CcddConstants.DialogOption;
 import CCDD.CcddConstants.FieldEditorColumnInfo;
+import CCDD.CcddConstants.FileExtension;
 import CCDD.CcddConstants.InputDataType;
 import CCDD.CcddConstants.InternalTable.DataTypesColumn;
 import CCDD.CcddConstants.InternalTable.MacrosColumn;
@@ -79,6 +84,411 @@ public class CcddJSONHandler implements CcddImportExportInterface
     // definitions
     private List<TableDefinition> tableDefinitions;
 
+    // Queue to which each table definition is handed off as it's read; null
+    // if the table definitions are stored in the list
+    private TableDefinitionQueue tableDefnQueue;
+
+    // Lists containing the imported table type, data type, macro, and
+    // reserved message ID definitions that haven't yet been added
+    private List<TableTypeDefinition> tableTypeDefns;
+    private List<String[]> dataTypeDefns;
+    private List<String[]> macroDefns;
+    private List<String[]> reservedMsgIDDefns;
+
+    // Flags indicating if importing should continue after an input error is
+    // detected
+    private boolean continueOnTableTypeError;
+    private boolean continueOnDataTypeError;
+    private boolean continueOnMacroError;
+    private boolean continueOnReservedMsgIDError;
+    private boolean continueOnColumnError;
+    private boolean continueOnDataFieldError;
+
+    /**************************************************************************
+     * JSON item reader class. Reads the import file one definition at a time
+     * using the JSON parser's content handler, so that only the definition
+     * currently being processed is held in memory. A definition is a member
+     * of one of the arrays (table types, data types, macros, reserved message
+     * IDs, or tables) contained in the file's top level JSON object
+     *************************************************************************/
+    private static class JSONItemReader implements ContentHandler
+    {
+        private final JSONParser parser;
+        private final Reader reader;
+
+        // JSON objects and arrays making up the definition being read, and the
+        // keys of the object entries being read within the definition
+        private final Deque<Object> containers;
+        private final Deque<String> keys;
+
+        // Number of JSON objects and arrays enclosing the current value
+        private int depth;
+
+        // Key of the current top level object entry
+        private String section;
+
+        // Flag indicating if the current top level object entry is an array
+        private boolean isSectionArray;
+
+        // Index of the definition within the top level array
+        private int index;
+
+        // Definition that's been read; null if the definition isn't complete
+        private Object item;
+
+        // Flag indicating if parsing the file has begun
+        private boolean isResume;
+
+        // Flag indicating if the end of the file has been reached
+        private boolean isEndOfFile;
+
+        /**********************************************************************
+         * JSON item reader class constructor
+         * 
+         * @param reader
+         *            reader for the import file
+         *********************************************************************/
+        JSONItemReader(Reader reader)
+        {
+            this.reader = reader;
+            parser = new JSONParser();
+            containers = new ArrayDeque<Object>();
+            keys = new ArrayDeque<String>();
+            depth = 0;
+            index = 0;
+            isResume = false;
+            isEndOfFile = false;
+        }
+
+        /**********************************************************************
+         * Read the next definition from the file
+         * 
+         * @return true if a definition was read; false if the end of the file
+         *         is reached
+         * 
+         * @throws ParseException
+         *             If the file contents aren't valid JSON
+         * 
+         * @throws IOException
+         *             If the file can't be read
+         *********************************************************************/
+        protected boolean next() throws ParseException, IOException
+        {
+            // Clear the previous definition
+            item = null;
+
+            // Continue to parse the file until a definition is complete or the
+            // end of the file is reached. The parser pauses each time a
+            // definition is complete and resumes where it left off
+            while (item == null && !isEndOfFile)
+            {
+                parser.parse(reader, this, isResume);
+                isResume = true;
+            }
+
+            return item != null;
+        }
+
+        /**********************************************************************
+         * Get the key of the top level object entry containing the definition
+         * that was read
+         * 
+         * @return Key of the top level object entry containing the definition
+         *********************************************************************/
+        protected String getSection()
+        {
+            return section;
+        }
+
+        /**********************************************************************
+         * Get the definition that was read. A definition that isn't a JSON
+         * object (e.g., a string) is stored in a JSON object using the
+         * definition's index within the array as the key
+         * 
+         * @return JSON object containing the definition that was read
+         *********************************************************************/
+        @SuppressWarnings("unchecked")
+        protected JSONObject getItem()
+        {
+            JSONObject itemJO;
+
+            // Check if the definition is a JSON object
+            if (item instanceof JSONObject)
+            {
+                itemJO = (JSONObject) item;
+            }
+            // The definition isn't a JSON object
+            else
+            {
+                // Create a JSON object in which to store the definition
+                itemJO = new JSONObject();
+                itemJO.put(index - 1, item);
+            }
+
+            return itemJO;
+        }
+
+        /**********************************************************************
+         * Check if the current value is part of a definition
+         * 
+         * @return true if the current value is part of a definition
+         *********************************************************************/
+        private boolean isItemValue()
+        {
+            return isSectionArray && depth >= 2;
+        }
+
+        /**********************************************************************
+         * Add a value to the JSON object or array containing it within the
+         * definition being read
+         * 
+         * @param value
+         *            value to add
+         *********************************************************************/
+        @SuppressWarnings("unchecked")
+        private void addValue(Object value)
+        {
+            // Get the JSON object or array containing the value
+            Object container = containers.peek();
+
+            // Check if the value is in a JSON object
+            if (container instanceof JSONObject)
+            {
+                // Add the value using the current object entry's key
+                ((JSONObject) container).put(keys.peek(), value);
+            }
+            // The value is in a JSON array
+            else
+            {
+                // Add the value to the array
+                ((JSONArray) container).add(value);
+            }
+        }
+
+        /**********************************************************************
+         * Store the completed definition
+         * 
+         * @param value
+         *            definition that was read
+         * 
+         * @return false to pause parsing so that the definition can be
+         *         processed
+         *********************************************************************/
+        private boolean completeItem(Object value)
+        {
+            item = value;
+            index++;
+            return false;
+        }
+
+        /**********************************************************************
+         * Handle the start of a JSON object or array
+         * 
+         * @param container
+         *            new JSON object or array
+         * 
+         * @return true to continue parsing
+         *********************************************************************/
+        private boolean startContainer(Object container)
+        {
+            // Check if the object or array is part of a definition
+            if (isItemValue())
+            {
+                // Check if the object or array is within the definition
+                if (!containers.isEmpty())
+                {
+                    // Add the object or array to the one containing it
+                    addValue(container);
+                }
+
+                containers.push(container);
+            }
+            // Check if this is the value of a top level object entry
+            else if (depth == 1)
+            {
+                // Definitions are read only from the top level arrays
+                isSectionArray = container instanceof JSONArray;
+                index = 0;
+            }
+
+            depth++;
+            return true;
+        }
+
+        /**********************************************************************
+         * Handle the end of a JSON object or array
+         * 
+         * @return false if a definition is complete; true to continue parsing
+         *********************************************************************/
+        private boolean endContainer()
+        {
+            boolean isContinue = true;
+
+            depth--;
+
+            // Check if the object or array is part of a definition
+            if (isItemValue())
+            {
+                // Get the completed object or array
+                Object container = containers.pop();
+
+                // Check if this is the outermost object or array in the
+                // definition
+                if (containers.isEmpty())
+                {
+                    // Store the definition and pause parsing
+                    isContinue = completeItem(container);
+                }
+            }
+            // Check if this is the end of a top level object entry's value
+            else if (depth == 1)
+            {
+                isSectionArray = false;
+            }
+
+            return isContinue;
+        }
+
+        /**********************************************************************
+         * Handle the start of the JSON text
+         *********************************************************************/
+        @Override
+        public void startJSON()
+        {
+        }
+
+        /**********************************************************************
+         * Handle the end of the JSON text
+         *********************************************************************/
+        @Override
+        public void endJSON()
+        {
+            isEndOfFile = true;
+        }
+
+        /**********************************************************************
+         * Handle the start of a JSON object
+         * 
+         * @return true to continue parsing
+         *********************************************************************/
+        @Override
+        public boolean startObject()
+        {
+            return startContainer(new JSONObject());
+        }
+
+        /**********************************************************************
+         * Handle the end of a JSON object
+         * 
+         * @return false if a definition is complete; true to continue parsing
+         *********************************************************************/
+        @Override
+        public boolean endObject()
+        {
+            return endContainer();
+        }
+
+        /**********************************************************************
+         * Handle the start of a JSON array
+         * 
+         * @return true to continue parsing
+         *********************************************************************/
+        @Override
+        public boolean startArray()
+        {
+            return startContainer(new JSONArray());
+        }
+
+        /**********************************************************************
+         * Handle the end of a JSON array
+         * 
+         * @return false if a definition is complete; true to continue parsing
+         *********************************************************************/
+        @Override
+        public boolean endArray()
+        {
+            return endContainer();
+        }
+
+        /**********************************************************************
+         * Handle the start of a JSON object entry
+         * 
+         * @param key
+         *            object entry key
+         * 
+         * @return true to continue parsing
+         *********************************************************************/
+        @Override
+        public boolean startObjectEntry(String key)
+        {
+            // Check if the entry is within a definition
+            if (isItemValue())
+            {
+                // Store the key for the entry's value
+                keys.push(key);
+            }
+            // Check if this is a top level object entry
+            else if (depth == 1)
+            {
+                // Store the top level entry's key
+                section = key;
+            }
+
+            return true;
+        }
+
+        /**********************************************************************
+         * Handle the end of a JSON object entry
+         * 
+         * @return true to continue parsing
+         *********************************************************************/
+        @Override
+        public boolean endObjectEntry()
+        {
+            // Check if the entry is within a definition
+            if (isItemValue())
+            {
+                // Remove the entry's key
+                keys.pop();
+            }
+
+            return true;
+        }
+
+        /**********************************************************************
+         * Handle a JSON primitive value (string, number, boolean, or null)
+         * 
+         * @param value
+         *            primitive value
+         * 
+         * @return false if a definition is complete; true to continue parsing
+         *********************************************************************/
+        @Override
+        public boolean primitive(Object value)
+        {
+            boolean isContinue = true;
+
+            // Check if the value is part of a definition
+            if (isItemValue())
+            {
+                // Check if the value is the definition
+                if (containers.isEmpty())
+                {
+                    // Store the definition and pause parsing
+                    isContinue = completeItem(value);
+                }
+                // The value is within the definition
+                else
+                {
+                    // Add the value to the object or array containing it
+                    addValue(value);
+                }
+            }
+
+            return isContinue;
+        }
+    }
+
     /**************************************************************************
      * JSON handler class constructor
      * 
@@ -119,6 +529,19 @@ public class CcddJSONHandler implements CcddImportExportInterface
         return tableDefinitions;
     }
 
+    /**************************************************************************
+     * Set the queue to which each table definition is handed off as it's read
+     * 
+     * @param tableDefnQueue
+     *            queue to receive the table definitions; null to store all of
+     *            the table definitions
+     *************************************************************************/
+    @Override
+    public void setTableDefinitionQueue(TableDefinitionQueue tableDefnQueue)
+    {
+        this.tableDefnQueue = tableDefnQueue;
+    }
+
     /**************************************************************************
      * Get the JSON object referred to by the supplied key from the supplied
      * JSON object
@@ -256,7 +679,11 @@ public class CcddJSONHandler implements CcddImportExportInterface
     }
 
     /**************************************************************************
-     * Build the information from the table definition(s) in the current file
+     * Build the information from the table definition(s) in the current file.
+     * The file is read one definition at a time. If the table type, data type,
+     * macro, or reserved message ID definitions precede the table definitions
+     * then each table definition is handed off as it's read; otherwise the
+     * table definitions are held until the remainder of the file is read
      * 
      * @param importFile
      *            import file reference
@@ -277,668 +704,853 @@ public class CcddJSONHandler implements CcddImportExportInterface
 
         try
         {
-            List<TableTypeDefinition> tableTypeDefinitions = new ArrayList<TableTypeDefinition>();
             tableDefinitions = new ArrayList<TableDefinition>();
+            tableTypeDefns = new ArrayList<TableTypeDefinition>();
+            dataTypeDefns = new ArrayList<String[]>();
+            macroDefns = new ArrayList<String[]>();
+            reservedMsgIDDefns = new ArrayList<String[]>();
+
+            // Reset the flags indicating if importing should continue after an
+            // input error is detected
+            continueOnTableTypeError = false;
+            continueOnDataTypeError = false;
+            continueOnMacroError = false;
+            continueOnReservedMsgIDError = false;
+            continueOnColumnError = false;
+            continueOnDataFieldError = false;
+
+            // Create a list to contain the table definitions read before any
+            // of the other definitions
+            List<JSONObject> deferredTables = new ArrayList<JSONObject>();
+
+            boolean isDefinitionRead = false;
+            boolean isTableRead = false;
+            boolean isStreaming = false;
+
+            // Create a reader that parses the import file contents one
+            // definition at a time
+            br = new BufferedReader(new FileReader(importFile));
+            JSONItemReader itemReader = new JSONItemReader(br);
+
+            // Step through each definition in the file
+            while (itemReader.next())
+            {
+                // Get the name of the definition's section and the definition
+                String section = itemReader.getSection();
+                JSONObject itemJO = itemReader.getItem();
 
-            // Flags indicating if importing should continue after an input
-            // error is detected
-            boolean continueOnTableTypeError = false;
-            boolean continueOnDataTypeError = false;
-            boolean continueOnMacroError = false;
-            boolean continueOnReservedMsgIDError = false;
-            boolean continueOnColumnError = false;
-            boolean continueOnDataFieldError = false;
-
-            // Create a JSON parser and use it to parse the import file
-            // contents
-            JSONParser jsonParser = new JSONParser();
-            JSONObject jsonObject = (JSONObject) jsonParser.parse(new FileReader(importFile));
+                // Check if this is a table type definition
+                if (JSONTags.TABLE_TYPE_DEFN.getTag().equals(section))
+                {
+                    // Store the table type definition
+                    importTableTypeDefinition(itemJO, importFile);
+                    isDefinitionRead = true;
+                }
+                // Check if this is a data type definition
+                else if (JSONTags.DATA_TYPE_DEFN.getTag().equals(section))
+                {
+                    // Check if all definitions are to be loaded
+                    if (importType == ImportType.IMPORT_ALL)
+                    {
+                        // Store the data type definition
+                        importDataTypeDefinition(itemJO, importFile);
+                    }
 
-            // Get the table type definitions JSON object
-            Object defn = jsonObject.get(JSONTags.TABLE_TYPE_DEFN.getTag());
+                    isDefinitionRead = true;
+                }
+                // Check if this is a macro definition
+                else if (JSONTags.MACRO_DEFN.getTag().equals(section))
+                {
+                    // Check if all definitions are to be loaded
+                    if (importType == ImportType.IMPORT_ALL)
+                    {
+                        // Store the macro definition
+                        importMacroDefinition(itemJO, importFile);
+                    }
 
-            // Check if the table type definitions exist
-            if (defn != null && defn instanceof JSONArray)
-            {
-                // Step through each table type definition
-                for (JSONObject tableTypeJO : parseJSONArray(defn))
+                    isDefinitionRead = true;
+                }
+                // Check if this is a reserved message ID definition
+                else if (JSONTags.RESERVED_MSG_ID_DEFN.getTag().equals(section))
                 {
-                    // Get the table type definition components
-                    String typeName = getString(tableTypeJO,
-                                                JSONTags.TABLE_TYPE_NAME.getTag());
-                    String typeDesc = getString(tableTypeJO,
-                                                JSONTags.TABLE_TYPE_DESCRIPTION.getTag());
-                    Object typeColumn = getObject(tableTypeJO,
-                                                  JSONTags.TABLE_TYPE_COLUMN.getTag());
+                    // Check if all definitions are to be loaded
+                    if (importType == ImportType.IMPORT_ALL)
+                    {
+                        // Store the reserved message ID definition
+                        importReservedMsgIDDefinition(itemJO, importFile);
+                    }
 
-                    // Check if the expected inputs are present
-                    if (!typeName.isEmpty()
-                        && typeColumn != null
-                        && typeColumn instanceof JSONArray)
+                    isDefinitionRead = true;
+                }
+                // Check if this is a table definition
+                else if (JSONTags.TABLE_DEFN.getTag().equals(section))
+                {
+                    // Check if this is the first table definition
+                    if (!isTableRead)
                     {
-                        // Create a new table type definition
-                        TableTypeDefinition tableTypeDefn = new TableTypeDefinition(typeName,
-                                                                                    typeDesc);
+                        isTableRead = true;
 
-                        int columnNumber = 0;
+                        // The tables are handed off as they're read if the
+                        // other definitions precede the table definitions
+                        isStreaming = isDefinitionRead;
 
-                        // Step through each table type column definition
-                        for (JSONObject typeJO : parseJSONArray(typeColumn))
+                        // Check if the table definitions are handed off as
+                        // they're read
+                        if (isStreaming)
                         {
-                            // Get the table type column definition components
-                            String name = getString(typeJO,
-                                                    TableTypeEditorColumnInfo.NAME.getColumnName());
-                            String description = getString(typeJO,
-                                                           TableTypeEditorColumnInfo.DESCRIPTION.getColumnName());
-                            String inputType = getString(typeJO,
-                                                         TableTypeEditorColumnInfo.INPUT_TYPE.getColumnName());
-                            String unique = getString(typeJO,
-                                                      TableTypeEditorColumnInfo.UNIQUE.getColumnName());
-                            String required = getString(typeJO,
-                                                        TableTypeEditorColumnInfo.REQUIRED.getColumnName());
-                            String structAllow = getString(typeJO,
-                                                           CcddUtilities.removeHTMLTags(TableTypeEditorColumnInfo.STRUCTURE_ALLOWED.getColumnName()));
-                            String ptrAllow = getString(typeJO,
-                                                        CcddUtilities.removeHTMLTags(TableTypeEditorColumnInfo.POINTER_ALLOWED.getColumnName()));
-
-                            // Check if the expected input is present
-                            if (!name.isEmpty()
-                                && typeJO.keySet().size() <= TableTypeEditorColumnInfo.values().length)
-                            {
-                                // Check if the input type is empty
-                                if (inputType.isEmpty())
-                                {
-                                    // Default to text
-                                    inputType = InputDataType.TEXT.getInputName();
-                                }
+                            // Add the definitions read so far so that the
+                            // tables can be created
+                            applyDefinitions(importType);
+                        }
+                    }
 
-                                // Check if the 'unique' flag is empty
-                                if (unique.isEmpty())
-                                {
-                                    // Default to 'false'
-                                    unique = "false";
-                                }
+                    // Check if the table definitions are handed off as they're
+                    // read
+                    if (isStreaming)
+                    {
+                        // Add the table's definition. Check if only the data
+                        // from the first table is to be read
+                        if (!importTableDefinition(itemJO,
+                                                   importType,
+                                                   importFile))
+                        {
+                            // Stop reading the file
+                            break;
+                        }
+                    }
+                    // The table definitions are held until the other
+                    // definitions are read. Check if all table definitions are
+                    // to be loaded or if this is the first table definition
+                    else if (importType == ImportType.IMPORT_ALL
+                             || deferredTables.isEmpty())
+                    {
+                        // Store the table definition until the remainder of
+                        // the file is read
+                        deferredTables.add(itemJO);
+                    }
+                }
+            }
 
-                                // Check if the 'required' flag is empty
-                                if (required.isEmpty())
-                                {
-                                    // Default to 'false'
-                                    required = "false";
-                                }
+            // Add any definitions not already added
+            applyDefinitions(importType);
 
-                                // Check if the 'structure allowed' flag is
-                                // empty
-                                if (structAllow.isEmpty())
-                                {
-                                    // Default to 'false'
-                                    structAllow = "false";
-                                }
+            // Step through each table definition held until the other
+            // definitions were read
+            for (JSONObject tableJO : deferredTables)
+            {
+                // Add the table's definition. Check if only the data from the
+                // first table is to be read
+                if (!importTableDefinition(tableJO, importType, importFile))
+                {
+                    // Stop reading table definitions
+                    break;
+                }
+            }
+        }
+        catch (ParseException pe)
+        {
+            // Re-throw the error so that the caller informs the user and
+            // discards any tables created before the parse error occurred
+            throw new CCDDException("Cannot parse import file<br>'</b>"
+                                    + importFile.getAbsolutePath()
+                                    + "<b>'; cause '"
+                                    + pe.getMessage()
+                                    + "'");
+        }
+        finally
+        {
+            try
+            {
+                // Check that the buffered reader exists
+                if (br != null)
+                {
+                    // Close the file
+                    br.close();
+                }
+            }
+            catch (IOException ioe)
+            {
+                // Inform the user that the file cannot be closed
+                new CcddDialogHandler().showMessageDialog(parent,
+                                                          "<html><b>Cannot close import file<br>'</b>"
+                                                              + importFile.getAbsolutePath()
+                                                              + "<b>'",
+                                                          "File Warning",
+                                                          JOptionPane.WARNING_MESSAGE,
+                                                          DialogOption.OK_OPTION);
+            }
+        }
+    }
 
-                                // Check if the 'pointer allowed' flag is empty
-                                if (ptrAllow.isEmpty())
-                                {
-                                    // Default to 'false'
-                                    ptrAllow = "false";
-                                }
+    /**************************************************************************
+     * Add the imported table type, data type, macro, and reserved message ID
+     * definitions read since the definitions were last added. The definitions
+     * are added if these are new, or are matched to existing ones with the
+     * same name if the definitions are the same. Any tables already handed
+     * off to the table definition queue are created before the definitions
+     * are added
+     * 
+     * @param importType
+     *            ImportType.IMPORT_ALL to apply all of the definitions;
+     *            ImportType.FIRST_DATA_ONLY to apply only the table type
+     *            definitions
+     *************************************************************************/
+    private void applyDefinitions(ImportType importType) throws CCDDException,
+                                                         InterruptedException
+    {
+        // Check if no definitions were read since the definitions were last
+        // added
+        if (tableTypeDefns.isEmpty()
+            && dataTypeDefns.isEmpty()
+            && macroDefns.isEmpty()
+            && reservedMsgIDDefns.isEmpty())
+        {
+            return;
+        }
 
-                                // Add the table type column definition
-                                tableTypeDefn.addColumn(new Object[] {columnNumber,
-                                                                      name,
-                                                                      description,
-                                                                      inputType,
-                                                                      Boolean.valueOf(unique),
-                                                                      Boolean.valueOf(required),
-                                                                      Boolean.valueOf(structAllow),
-                                                                      Boolean.valueOf(ptrAllow)});
-                                columnNumber++;
-                            }
-                            // Incorrect number of inputs. Check if the user
-                            // hasn't already elected to ignore table type
-                            // errors
-                            else if (!continueOnTableTypeError)
-                            {
-                                // Inform the user that the table type column
-                                // name is missing
-                                int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
-                                                                                                    "<html><b>Table type '"
-                                                                                                        + typeName
-                                                                                                        + "' definition has missing or extra "
-                                                                                                        + "input(s) in import file '</b>"
-                                                                                                        + importFile.getAbsolutePath()
-                                                                                                        + "<b>'; continue?",
-                                                                                                    "Table Type Error",
-                                                                                                    "Ignore this table type",
-                                                                                                    "Ignore this and any remaining invalid table types",
-                                                                                                    "Stop importing");
-
-                                // Check if the Ignore All button was pressed
-                                if (buttonSelected == IGNORE_BUTTON)
-                                {
-                                    // Set the flag to ignore subsequent table
-                                    // type errors
-                                    continueOnTableTypeError = true;
-                                }
-                                // Check if the Cancel button was pressed
-                                else if (buttonSelected == CANCEL_BUTTON)
-                                {
-                                    // No error message is provided since the
-                                    // user chose this action
-                                    throw new CCDDException();
-                                }
-                            }
-                        }
+        // Check if a table definition queue is set
+        if (tableDefnQueue != null)
+        {
+            // Wait for the tables already handed off to be created so that the
+            // definitions aren't altered while the tables reference them
+            tableDefnQueue.awaitProcessed();
+        }
+
+        // Check if any table type definitions were read
+        if (!tableTypeDefns.isEmpty())
+        {
+            // Add the table type if it's new or match it to an existing one
+            // with the same name if the type definitions are the same
+            String badDefn = tableTypeHandler.updateTableTypes(tableTypeDefns);
+
+            // Check if a table type isn't new and doesn't match an existing
+            // one with the same name
+            if (badDefn != null)
+            {
+                throw new CCDDException("Imported table type '"
+                                        + badDefn
+                                        + "' doesn't match the existing definition");
+            }
+
+            tableTypeDefns.clear();
+        }
+
+        // Check if all definitions are to be loaded
+        if (importType == ImportType.IMPORT_ALL)
+        {
+            // Check if any data type definitions were read
+            if (!dataTypeDefns.isEmpty())
+            {
+                // Add the data type if it's new or match it to an existing one
+                // with the same name if the type definitions are the same
+                String badDefn = dataTypeHandler.updateDataTypes(dataTypeDefns);
 
-                        // Add the table type definition to the list
-                        tableTypeDefinitions.add(tableTypeDefn);
+                // Check if a data type isn't new and doesn't match an existing
+                // one with the same name
+                if (badDefn != null)
+                {
+                    throw new CCDDException("Imported data type '"
+                                            + badDefn
+                                            + "' doesn't match the existing definition");
+                }
+
+                dataTypeDefns.clear();
+            }
+
+            // Check if any macro definitions were read
+            if (!macroDefns.isEmpty())
+            {
+                // Add the macro if it's new or match it to an existing one
+                // with the same name if the values are the same
+                String badDefn = macroHandler.updateMacros(macroDefns);
+
+                // Check if a macro isn't new and doesn't match an existing one
+                // with the same name
+                if (badDefn != null)
+                {
+                    throw new CCDDException("Imported macro '"
+                                            + badDefn
+                                            + "' doesn't match the existing definition");
+                }
+
+                macroDefns.clear();
+            }
+
+            // Check if any reserved message ID definitions were read
+            if (!reservedMsgIDDefns.isEmpty())
+            {
+                // Add the reserved message ID definition if it's new
+                msgIDHandler.updateReservedMsgIDs(reservedMsgIDDefns);
+                reservedMsgIDDefns.clear();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Store the table type definition read from the import file
+     * 
+     * @param tableTypeJO
+     *            JSON object containing the table type definition
+     * 
+     * @param importFile
+     *            import file reference
+     *************************************************************************/
+    private void importTableTypeDefinition(JSONObject tableTypeJO,
+                                           File importFile) throws CCDDException,
+                                                            ParseException
+    {
+        // Get the table type definition components
+        String typeName = getString(tableTypeJO,
+                                    JSONTags.TABLE_TYPE_NAME.getTag());
+        String typeDesc = getString(tableTypeJO,
+                                    JSONTags.TABLE_TYPE_DESCRIPTION.getTag());
+        Object typeColumn = getObject(tableTypeJO,
+                                      JSONTags.TABLE_TYPE_COLUMN.getTag());
+
+        // Check if the expected inputs are present
+        if (!typeName.isEmpty()
+            && typeColumn != null
+            && typeColumn instanceof JSONArray)
+        {
+            // Create a new table type definition
+            TableTypeDefinition tableTypeDefn = new TableTypeDefinition(typeName,
+                                                                        typeDesc);
+
+            int columnNumber = 0;
+
+            // Step through each table type column definition
+            for (JSONObject typeJO : parseJSONArray(typeColumn))
+            {
+                // Get the table type column definition components
+                String name = getString(typeJO,
+                                        TableTypeEditorColumnInfo.NAME.getColumnName());
+                String description = getString(typeJO,
+                                               TableTypeEditorColumnInfo.DESCRIPTION.getColumnName());
+                String inputType = getString(typeJO,
+                                             TableTypeEditorColumnInfo.INPUT_TYPE.getColumnName());
+                String unique = getString(typeJO,
+                                          TableTypeEditorColumnInfo.UNIQUE.getColumnName());
+                String required = getString(typeJO,
+                                            TableTypeEditorColumnInfo.REQUIRED.getColumnName());
+                String structAllow = getString(typeJO,
+                                               CcddUtilities.removeHTMLTags(TableTypeEditorColumnInfo.STRUCTURE_ALLOWED.getColumnName()));
+                String ptrAllow = getString(typeJO,
+                                            CcddUtilities.removeHTMLTags(TableTypeEditorColumnInfo.POINTER_ALLOWED.getColumnName()));
+
+                // Check if the expected input is present
+                if (!name.isEmpty()
+                    && typeJO.keySet().size() <= TableTypeEditorColumnInfo.values().length)
+                {
+                    // Check if the input type is empty
+                    if (inputType.isEmpty())
+                    {
+                        // Default to text
+                        inputType = InputDataType.TEXT.getInputName();
                     }
+
+                    // Check if the 'unique' flag is empty
+                    if (unique.isEmpty())
+                    {
+                        // Default to 'false'
+                        unique = "false";
+                    }
+
+                    // Check if the 'required' flag is empty
+                    if (required.isEmpty())
+                    {
+                        // Default to 'false'
+                        required = "false";
+                    }
+
+                    // Check if the 'structure allowed' flag is empty
+                    if (structAllow.isEmpty())
+                    {
+                        // Default to 'false'
+                        structAllow = "false";
+                    }
+
+                    // Check if the 'pointer allowed' flag is empty
+                    if (ptrAllow.isEmpty())
+                    {
+                        // Default to 'false'
+                        ptrAllow = "false";
+                    }
+
+                    // Add the table type column definition
+                    tableTypeDefn.addColumn(new Object[] {columnNumber,
+                                                          name,
+                                                          description,
+                                                          inputType,
+                                                          Boolean.valueOf(unique),
+                                                          Boolean.valueOf(required),
+                                                          Boolean.valueOf(structAllow),
+                                                          Boolean.valueOf(ptrAllow)});
+                    columnNumber++;
                 }
+                // Incorrect number of inputs. Check if the user hasn't already
+                // elected to ignore table type errors
+                else if (!continueOnTableTypeError)
+                {
+                    // Inform the user that the table type column name is
+                    // missing
+                    int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
+                                                                                        "<html><b>Table type '"
+                                                                                            + typeName
+                                                                                            + "' definition has missing or extra "
+                                                                                            + "input(s) in import file '</b>"
+                                                                                            + importFile.getAbsolutePath()
+                                                                                            + "<b>'; continue?",
+                                                                                        "Table Type Error",
+                                                                                        "Ignore this table type",
+                                                                                        "Ignore this and any remaining invalid table types",
+                                                                                        "Stop importing");
+
+                    // Check if the Ignore All button was pressed
+                    if (buttonSelected == IGNORE_BUTTON)
+                    {
+                        // Set the flag to ignore subsequent table type errors
+                        continueOnTableTypeError = true;
+                    }
+                    // Check if the Cancel button was pressed
+                    else if (buttonSelected == CANCEL_BUTTON)
+                    {
+                        // No error message is provided since the user chose
+                        // this action
+                        throw new CCDDException();
+                    }
+                }
+            }
+
+            // Add the table type definition to the list
+            tableTypeDefns.add(tableTypeDefn);
+        }
+    }
+
+    /**************************************************************************
+     * Store the data type definition read from the import file
+     * 
+     * @param typeJO
+     *            JSON object containing the data type definition
+     * 
+     * @param importFile
+     *            import file reference
+     *************************************************************************/
+    private void importDataTypeDefinition(JSONObject typeJO,
+                                          File importFile) throws CCDDException
+    {
+        // Get the data type definition components
+        String userName = getString(typeJO,
+                                    DataTypeEditorColumnInfo.USER_NAME.getColumnName());
+        String cName = getString(typeJO,
+                                 DataTypeEditorColumnInfo.C_NAME.getColumnName());
+        String size = getString(typeJO,
+                                DataTypeEditorColumnInfo.SIZE.getColumnName());
+        String baseType = getString(typeJO,
+                                    DataTypeEditorColumnInfo.BASE_TYPE.getColumnName());
+
+        // Check if the expected inputs are present
+        if ((!userName.isEmpty() || !cName.isEmpty())
+            && !size.isEmpty()
+            && !baseType.isEmpty()
+            && typeJO.keySet().size() < DataTypeEditorColumnInfo.values().length)
+        {
+            // Add the data type definition (add a blank to represent the OID)
+            dataTypeDefns.add(new String[] {userName,
+                                            cName,
+                                            size,
+                                            baseType,
+                                            ""});
+        }
+        // Incorrect number of inputs. Check if the user hasn't already elected
+        // to ignore data type errors
+        else if (!continueOnDataTypeError)
+        {
+            // Inform the user that the data type inputs are incorrect
+            int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
+                                                                                "<html><b>Missing or extra data type definition "
+                                                                                    + "input(s) in import file '</b>"
+                                                                                    + importFile.getAbsolutePath()
+                                                                                    + "<b>'; continue?",
+                                                                                "Data Type Error",
+                                                                                "Ignore this data type",
+                                                                                "Ignore this and any remaining invalid data types",
+                                                                                "Stop importing");
+
+            // Check if the Ignore All button was pressed
+            if (buttonSelected == IGNORE_BUTTON)
+            {
+                // Set the flag to ignore subsequent data type errors
+                continueOnDataTypeError = true;
+            }
+            // Check if the Cancel button was pressed
+            else if (buttonSelected == CANCEL_BUTTON)
+            {
+                // No error message is provided since the user chose this
+                // action
+                throw new CCDDException();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Store the macro definition read from the import file
+     * 
+     * @param macroJO
+     *            JSON object containing the macro definition
+     * 
+     * @param importFile
+     *            import file reference
+     *************************************************************************/
+    private void importMacroDefinition(JSONObject macroJO,
+                                       File importFile) throws CCDDException
+    {
+        // Get the macro definition components
+        String name = getString(macroJO,
+                                MacroEditorColumnInfo.NAME.getColumnName());
+        String value = getString(macroJO,
+                                 MacroEditorColumnInfo.VALUE.getColumnName());
+
+        // Check if the expected inputs are present
+        if (!name.isEmpty()
+            && macroJO.keySet().size() < MacroEditorColumnInfo.values().length)
+        {
+            // Add the macro definition (add a blank to represent the OID)
+            macroDefns.add(new String[] {name, value, ""});
+        }
+        // Incorrect number of inputs. Check if the user hasn't already elected
+        // to ignore macro errors
+        else if (!continueOnMacroError)
+        {
+            // Inform the user that the macro name is missing
+            int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
+                                                                                "<html><b>Missing or extra macro definition "
+                                                                                    + "input(s) in import file '</b>"
+                                                                                    + importFile.getAbsolutePath()
+                                                                                    + "<b>'; continue?",
+                                                                                "Macro Error",
+                                                                                "Ignore this macro",
+                                                                                "Ignore this and any remaining invalid macros",
+                                                                                "Stop importing");
+
+            // Check if the Ignore All button was pressed
+            if (buttonSelected == IGNORE_BUTTON)
+            {
+                // Set the flag to ignore subsequent macro errors
+                continueOnMacroError = true;
+            }
+            // Check if the Cancel button was pressed
+            else if (buttonSelected == CANCEL_BUTTON)
+            {
+                // No error message is provided since the user chose this
+                // action
+                throw new CCDDException();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Store the reserved message ID definition read from the import file
+     * 
+     * @param reservedMsgIDJO
+     *            JSON object containing the reserved message ID definition
+     * 
+     * @param importFile
+     *            import file reference
+     *************************************************************************/
+    private void importReservedMsgIDDefinition(JSONObject reservedMsgIDJO,
+                                               File importFile) throws CCDDException
+    {
+        // Get the reserved message ID definition components
+        String name = getString(reservedMsgIDJO,
+                                ReservedMsgIDEditorColumnInfo.MSG_ID.getColumnName());
+        String value = getString(reservedMsgIDJO,
+                                 ReservedMsgIDEditorColumnInfo.DESCRIPTION.getColumnName());
+
+        // Check if the expected inputs are present
+        if (!name.isEmpty()
+            && reservedMsgIDJO.keySet().size() < ReservedMsgIDEditorColumnInfo.values().length)
+        {
+            // Add the reserved message ID definition (add a blank to represent
+            // the OID)
+            reservedMsgIDDefns.add(new String[] {name, value, ""});
+        }
+        // Incorrect number of inputs. Check if the user hasn't already elected
+        // to ignore reserved message ID errors
+        else if (!continueOnReservedMsgIDError)
+        {
+            // Inform the user that the reserved message ID is missing
+            int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
+                                                                                "<html><b>Missing or extra reserved message ID "
+                                                                                    + "definition input(s) in import file '</b>"
+                                                                                    + importFile.getAbsolutePath()
+                                                                                    + "<b>'; continue?",
+                                                                                "Reserved Message ID Error",
+                                                                                "Ignore this reserved message ID",
+                                                                                "Ignore this and any remaining invalid reserved message IDs",
+                                                                                "Stop importing");
+
+            // Check if the Ignore All button was pressed
+            if (buttonSelected == IGNORE_BUTTON)
+            {
+                // Set the flag to ignore subsequent reserved message ID errors
+                continueOnMacroError = true;
+            }
+            // Check if the Cancel button was pressed
+            else if (buttonSelected == CANCEL_BUTTON)
+            {
+                // No error message is provided since the user chose this
+                // action
+                throw new CCDDException();
             }
+        }
+    }
+
+    /**************************************************************************
+     * Build the table definition read from the import file and hand it off to
+     * the table definition queue, or add it to the table definitions list if
+     * no queue is set or only the first table's data is read
+     * 
+     * @param tableJO
+     *            JSON object containing the table definition
+     * 
+     * @param importType
+     *            ImportType.IMPORT_ALL to import the table's data and data
+     *            fields; ImportType.FIRST_DATA_ONLY to load only the table's
+     *            data
+     * 
+     * @param importFile
+     *            import file reference
+     * 
+     * @return true if the import should continue; false if only the data for
+     *         the first table is read
+     *************************************************************************/
+    private boolean importTableDefinition(JSONObject tableJO,
+                                          ImportType importType,
+                                          File importFile) throws CCDDException,
+                                                           ParseException,
+                                                           InterruptedException
+    {
+        // Get the table definition components
+        String tableName = getString(tableJO, JSONTags.TABLE_NAME.getTag());
+        String tableType = getString(tableJO, JSONTags.TABLE_TYPE.getTag());
+        String tableDesc = getString(tableJO,
+                                     JSONTags.TABLE_DESCRIPTION.getTag());
+        Object tableDataJA = getObject(tableJO, JSONTags.TABLE_DATA.getTag());
+        Object dataFieldsJA = getObject(tableJO, JSONTags.TABLE_FIELD.getTag());
+
+        // Check if the expected inputs are present
+        if (!tableName.isEmpty()
+            && tableDataJA != null && tableDataJA instanceof JSONArray
+            && (dataFieldsJA == null || dataFieldsJA instanceof JSONArray))
+        {
+            // Create a new table type definition
+            TableDefinition tableDefn = new TableDefinition(tableName,
+                                                            tableDesc);
 
-            // Add the table type if it's new or match it to an
-            // existing one with the same name if the type definitions
-            // are the same
-            String badDefn = tableTypeHandler.updateTableTypes(tableTypeDefinitions);
+            // Get the table's type definition
+            TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableType);
 
-            // Check if a table type isn't new and doesn't match an
-            // existing one with the same name
-            if (badDefn != null)
+            // Check if the table type doesn't exist
+            if (typeDefn == null)
             {
-                throw new CCDDException("Imported table type '"
-                                        + badDefn
-                                        + "' doesn't match the existing definition");
+                throw new CCDDException("Unknown table type '"
+                                        + tableType
+                                        + "'");
             }
 
-            // Check if all definitions are to be loaded
-            if (importType == ImportType.IMPORT_ALL)
-            {
-                List<String[]> dataTypeDefns = new ArrayList<String[]>();
-                List<String[]> macroDefns = new ArrayList<String[]>();
-                List<String[]> reservedMsgIDDefns = new ArrayList<String[]>();
+            // Store the table's type name
+            tableDefn.setType(tableType);
 
-                // Get the data type definitions JSON object
-                defn = jsonObject.get(JSONTags.DATA_TYPE_DEFN.getTag());
+            // Get the number of expected columns (the hidden columns, primary
+            // key and row index, should not be included in the JSON file)
+            int numColumns = typeDefn.getColumnCountVisible();
 
-                // Check if the data type definitions exist
-                if (defn != null && defn instanceof JSONArray)
-                {
-                    // Step through each data type definition
-                    for (JSONObject typeJO : parseJSONArray(defn))
-                    {
-                        // Get the data type definition components
-                        String userName = getString(typeJO,
-                                                    DataTypeEditorColumnInfo.USER_NAME.getColumnName());
-                        String cName = getString(typeJO,
-                                                 DataTypeEditorColumnInfo.C_NAME.getColumnName());
-                        String size = getString(typeJO,
-                                                DataTypeEditorColumnInfo.SIZE.getColumnName());
-                        String baseType = getString(typeJO,
-                                                    DataTypeEditorColumnInfo.BASE_TYPE.getColumnName());
-
-                        // Check if the expected inputs are present
-                        if ((!userName.isEmpty() || !cName.isEmpty())
-                            && !size.isEmpty()
-                            && !baseType.isEmpty()
-                            && typeJO.keySet().size() < DataTypeEditorColumnInfo.values().length)
-                        {
-                            // Add the data type definition (add a blank to
-                            // represent the OID)
-                            dataTypeDefns.add(new String[] {userName,
-                                                            cName,
-                                                            size,
-                                                            baseType,
-                                                            ""});
-                        }
-                        // Incorrect number of inputs. Check if the user
-                        // hasn't already elected to ignore data type errors
-                        else if (!continueOnDataTypeError)
-                        {
-                            // Inform the user that the data type inputs are
-                            // incorrect
-                            int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
-                                                                                                "<html><b>Missing or extra data type definition "
-                                                                                                    + "input(s) in import file '</b>"
-                                                                                                    + importFile.getAbsolutePath()
-                                                                                                    + "<b>'; continue?",
-                                                                                                "Data Type Error",
-                                                                                                "Ignore this data type",
-                                                                                                "Ignore this and any remaining invalid data types",
-                                                                                                "Stop importing");
-
-                            // Check if the Ignore All button was pressed
-                            if (buttonSelected == IGNORE_BUTTON)
-                            {
-                                // Set the flag to ignore subsequent data type
-                                // errors
-                                continueOnDataTypeError = true;
-                            }
-                            // Check if the Cancel button was pressed
-                            else if (buttonSelected == CANCEL_BUTTON)
-                            {
-                                // No error message is provided since the user
-                                // chose this action
-                                throw new CCDDException();
-                            }
-                        }
-                    }
-                }
+            // Create storage for the row of cell data
+            String[] rowData = new String[numColumns];
 
-                // Get the macro definitions JSON object
-                defn = jsonObject.get(JSONTags.MACRO_DEFN.getTag());
+            // Step through each row of data
+            for (JSONObject rowDataJO : parseJSONArray(tableDataJA))
+            {
+                // Initialize the column values to blanks
+                Arrays.fill(rowData, "");
 
-                // Check if the macro definitions exist
-                if (defn != null && defn instanceof JSONArray)
+                // Step through each key (column name)
+                for (Object columnName : rowDataJO.keySet())
                 {
-                    // Step through each macro definition
-                    for (JSONObject macroJO : parseJSONArray(defn))
+                    // Get the column index based on the column name
+                    int column = typeDefn.getVisibleColumnIndexByUserName(columnName.toString());
+
+                    // Check if a column by this name exists
+                    if (column != -1)
                     {
-                        // Get the macro definition components
-                        String name = getString(macroJO,
-                                                MacroEditorColumnInfo.NAME.getColumnName());
-                        String value = getString(macroJO,
-                                                 MacroEditorColumnInfo.VALUE.getColumnName());
-
-                        // Check if the expected inputs are present
-                        if (!name.isEmpty()
-                            && macroJO.keySet().size() < MacroEditorColumnInfo.values().length)
-                        {
-                            // Add the macro definition (add a blank to
-                            // represent the OID)
-                            macroDefns.add(new String[] {name, value, ""});
-                        }
-                        // Incorrect number of inputs. Check if the user
-                        // hasn't already elected to ignore macro errors
-                        else if (!continueOnMacroError)
-                        {
-                            // Inform the user that the macro name is missing
-                            int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
-                                                                                                "<html><b>Missing or extra macro definition "
-                                                                                                    + "input(s) in import file '</b>"
-                                                                                                    + importFile.getAbsolutePath()
-                                                                                                    + "<b>'; continue?",
-                                                                                                "Macro Error",
-                                                                                                "Ignore this macro",
-                                                                                                "Ignore this and any remaining invalid macros",
-                                                                                                "Stop importing");
-
-                            // Check if the Ignore All button was pressed
-                            if (buttonSelected == IGNORE_BUTTON)
-                            {
-                                // Set the flag to ignore subsequent macro
-                                // errors
-                                continueOnMacroError = true;
-                            }
-                            // Check if the Cancel button was pressed
-                            else if (buttonSelected == CANCEL_BUTTON)
-                            {
-                                // No error message is provided since the user
-                                // chose this action
-                                throw new CCDDException();
-                            }
-                        }
+                        // Get the value from the JSON input, if present; use
+                        // a blank if a value for this column doesn't exist
+                        rowData[column] = getString(rowDataJO,
+                                                    typeDefn.getColumnNamesVisible()[column]);
                     }
-                }
-
-                // Get the reserved message ID definitions JSON object
-                defn = jsonObject.get(JSONTags.RESERVED_MSG_ID_DEFN.getTag());
-
-                // Check if the reserved message ID definitions exist
-                if (defn != null && defn instanceof JSONArray)
-                {
-                    // Step through each reserved message ID definition
-                    for (JSONObject reservedMsgIDJO : parseJSONArray(defn))
+                    // Check that the user hasn't elected to ignore column name
+                    // errors
+                    else if (!continueOnColumnError)
                     {
-                        // Get the reserved message ID definition components
-                        String name = getString(reservedMsgIDJO,
-                                                ReservedMsgIDEditorColumnInfo.MSG_ID.getColumnName());
-                        String value = getString(reservedMsgIDJO,
-                                                 ReservedMsgIDEditorColumnInfo.DESCRIPTION.getColumnName());
-
-                        // Check if the expected inputs are present
-                        if (!name.isEmpty()
-                            && reservedMsgIDJO.keySet().size() < ReservedMsgIDEditorColumnInfo.values().length)
+                        // Inform the user that the column name is invalid
+                        int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
+                                                                                            "<html><b>Table '</b>"
+                                                                                                + tableName
+                                                                                                + "<b>' column name '</b>"
+                                                                                                + columnName
+                                                                                                + "<b>' unrecognized in import file '</b>"
+                                                                                                + importFile.getAbsolutePath()
+                                                                                                + "<b>'; continue?",
+                                                                                            "Column Error",
+                                                                                            "Ignore this invalid column name",
+                                                                                            "Ignore this and any remaining invalid column names",
+                                                                                            "Stop importing");
+
+                        // Check if the Ignore All button was pressed
+                        if (buttonSelected == IGNORE_BUTTON)
                         {
-                            // Add the reserved message ID definition (add a
-                            // blank to represent the OID)
-                            reservedMsgIDDefns.add(new String[] {name, value, ""});
+                            // Set the flag to ignore subsequent column name
+                            // errors
+                            continueOnColumnError = true;
                         }
-                        // Incorrect number of inputs. Check if the user hasn't
-                        // already elected to ignore reserved message ID errors
-                        else if (!continueOnReservedMsgIDError)
+                        // Check if the Cancel button was pressed
+                        else if (buttonSelected == CANCEL_BUTTON)
                         {
-                            // Inform the user that the reserved message ID is
-                            // missing
-                            int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
-                                                                                                "<html><b>Missing or extra reserved message ID "
-                                                                                                    + "definition input(s) in import file '</b>"
-                                                                                                    + importFile.getAbsolutePath()
-                                                                                                    + "<b>'; continue?",
-                                                                                                "Reserved Message ID Error",
-                                                                                                "Ignore this reserved message ID",
-                                                                                                "Ignore this and any remaining invalid reserved message IDs",
-                                                                                                "Stop importing");
-
-                            // Check if the Ignore All button was pressed
-                            if (buttonSelected == IGNORE_BUTTON)
-                            {
-                                // Set the flag to ignore subsequent reserved
-                                // message ID errors
-                                continueOnMacroError = true;
-                            }
-                            // Check if the Cancel button was pressed
-                            else if (buttonSelected == CANCEL_BUTTON)
-                            {
-                                // No error message is provided since the user
-                                // chose this action
-                                throw new CCDDException();
-                            }
+                            // No error message is provided since the user
+                            // chose this action
+                            throw new CCDDException();
                         }
                     }
                 }
 
-                // Add the data type if it's new or match it to an existing one
-                // with the same name if the type definitions are the same
-                badDefn = dataTypeHandler.updateDataTypes(dataTypeDefns);
-
-                // Check if a data type isn't new and doesn't match an
-                // existing one with the same name
-                if (badDefn != null)
-                {
-                    throw new CCDDException("Imported data type '"
-                                            + badDefn
-                                            + "' doesn't match the existing definition");
-                }
-
-                // Add the macro if it's new or match it to an existing one
-                // with the same name if the values are the same
-                badDefn = macroHandler.updateMacros(macroDefns);
-
-                // Add the reserved message ID definition if it's new
-                msgIDHandler.updateReservedMsgIDs(reservedMsgIDDefns);
-
-                // Check if a macro isn't new and doesn't match an existing one
-                // with the same name
-                if (badDefn != null)
-                {
-                    throw new CCDDException("Imported macro '"
-                                            + badDefn
-                                            + "' doesn't match the existing definition");
-                }
+                // Add the row of data read in from the file to the cell data
+                // list
+                tableDefn.addData(rowData);
             }
 
-            // Get the table definitions JSON object
-            defn = jsonObject.get(JSONTags.TABLE_DEFN.getTag());
-
-            // Check if the table definitions exist
-            if (defn != null && defn instanceof JSONArray)
+            // Check if all definitions are to be loaded and if any data fields
+            // are defined
+            if (importType == ImportType.IMPORT_ALL && dataFieldsJA != null)
             {
-                // Step through each table definition
-                for (JSONObject tableJO : parseJSONArray(defn))
+                // Step through each data field definition
+                for (JSONObject dataFieldJO : parseJSONArray(dataFieldsJA))
                 {
-                    // Get the table definition components
-                    String tableName = getString(tableJO,
-                                                 JSONTags.TABLE_NAME.getTag());
-                    String tableType = getString(tableJO,
-                                                 JSONTags.TABLE_TYPE.getTag());
-                    String tableDesc = getString(tableJO,
-                                                 JSONTags.TABLE_DESCRIPTION.getTag());
-                    Object tableDataJA = getObject(tableJO,
-                                                   JSONTags.TABLE_DATA.getTag());
-                    Object dataFieldsJA = getObject(tableJO,
-                                                    JSONTags.TABLE_FIELD.getTag());
+                    // Get the data field definition components
+                    String name = getString(dataFieldJO,
+                                            FieldEditorColumnInfo.NAME.getColumnName());
+                    String description = getString(dataFieldJO,
+                                                   FieldEditorColumnInfo.DESCRIPTION.getColumnName());
+                    String size = getString(dataFieldJO,
+                                            FieldEditorColumnInfo.SIZE.getColumnName());
+                    String inputType = getString(dataFieldJO,
+                                                 FieldEditorColumnInfo.INPUT_TYPE.getColumnName());
+                    String required = getString(dataFieldJO,
+                                                FieldEditorColumnInfo.REQUIRED.getColumnName());
+                    String applicability = getString(dataFieldJO,
+                                                     FieldEditorColumnInfo.APPLICABILITY.getColumnName());
+                    String value = getString(dataFieldJO,
+                                             FieldEditorColumnInfo.VALUE.getColumnName());
 
                     // Check if the expected inputs are present
-                    if (!tableName.isEmpty()
-                        && tableDataJA != null && tableDataJA instanceof JSONArray
-                        && (dataFieldsJA == null || dataFieldsJA instanceof JSONArray))
+                    if (!name.isEmpty()
+                        && !size.isEmpty()
+                        && dataFieldJO.keySet().size() <= FieldEditorColumnInfo.values().length)
                     {
-                        // Create a new table type definition
-                        TableDefinition tableDefn = new TableDefinition(tableName,
-                                                                        tableDesc);
-
-                        // Get the table's type definition
-                        TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableType);
-
-                        // Check if the table type doesn't exist
-                        if (typeDefn == null)
+                        // Check if the field size is empty
+                        if (size.isEmpty())
                         {
-                            throw new CCDDException("Unknown table type '"
-                                                    + tableType
-                                                    + "'");
+                            // Default to ten characters
+                            size = "10";
                         }
 
-                        // Store the table's type name
-                        tableDefn.setType(tableType);
-
-                        // Get the number of expected columns (the hidden
-                        // columns, primary key and row index, should not be
-                        // included in the JSON file)
-                        int numColumns = typeDefn.getColumnCountVisible();
-
-                        // Create storage for the row of cell data
-                        String[] rowData = new String[numColumns];
-
-                        // Step through each row of data
-                        for (JSONObject rowDataJO : parseJSONArray(tableDataJA))
+                        // Check if the input type is empty
+                        if (inputType.isEmpty())
                         {
-                            // Initialize the column values to blanks
-                            Arrays.fill(rowData, "");
-
-                            // Step through each key (column name)
-                            for (Object columnName : rowDataJO.keySet())
-                            {
-                                // Get the column index based on the column
-                                // name
-                                int column = typeDefn.getVisibleColumnIndexByUserName(columnName.toString());
-
-                                // Check if a column by this name exists
-                                if (column != -1)
-                                {
-                                    // Get the value from the JSON input, if
-                                    // present; use a blank if a value for this
-                                    // column doesn't exist
-                                    rowData[column] = getString(rowDataJO,
-                                                                typeDefn.getColumnNamesVisible()[column]);
-                                }
-                                // Check that the user hasn't elected to ignore
-                                // column name errors
-                                else if (!continueOnColumnError)
-                                {
-                                    // Inform the user that the column name is
-                                    // invalid
-                                    int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
-                                                                                                        "<html><b>Table '</b>"
-                                                                                                            + tableName
-                                                                                                            + "<b>' column name '</b>"
-                                                                                                            + columnName
-                                                                                                            + "<b>' unrecognized in import file '</b>"
-                                                                                                            + importFile.getAbsolutePath()
-                                                                                                            + "<b>'; continue?",
-                                                                                                        "Column Error",
-                                                                                                        "Ignore this invalid column name",
-                                                                                                        "Ignore this and any remaining invalid column names",
-                                                                                                        "Stop importing");
-
-                                    // Check if the Ignore All button was
-                                    // pressed
-                                    if (buttonSelected == IGNORE_BUTTON)
-                                    {
-                                        // Set the flag to ignore subsequent
-                                        // column name errors
-                                        continueOnColumnError = true;
-                                    }
-                                    // Check if the Cancel button was pressed
-                                    else if (buttonSelected == CANCEL_BUTTON)
-                                    {
-                                        // No error message is provided since
-                                        // the user chose this action
-                                        throw new CCDDException();
-                                    }
-                                }
-                            }
-
-                            // Add the row of data read in from the file to the
-                            // cell data list
-                            tableDefn.addData(rowData);
+                            // Default to text
+                            inputType = InputDataType.TEXT.getInputName();
                         }
 
-                        // Check if all definitions are to be loaded and if any
-                        // data fields are defined
-                        if (importType == ImportType.IMPORT_ALL
-                            && dataFieldsJA != null)
+                        // Check if the 'required' flag is empty
+                        if (required.isEmpty())
                         {
-                            // Step through each data field definition
-                            for (JSONObject dataFieldJO : parseJSONArray(dataFieldsJA))
-                            {
-                                // Get the data field definition components
-                                String name = getString(dataFieldJO,
-                                                        FieldEditorColumnInfo.NAME.getColumnName());
-                                String description = getString(dataFieldJO,
-                                                               FieldEditorColumnInfo.DESCRIPTION.getColumnName());
-                                String size = getString(dataFieldJO,
-                                                        FieldEditorColumnInfo.SIZE.getColumnName());
-                                String inputType = getString(dataFieldJO,
-                                                             FieldEditorColumnInfo.INPUT_TYPE.getColumnName());
-                                String required = getString(dataFieldJO,
-                                                            FieldEditorColumnInfo.REQUIRED.getColumnName());
-                                String applicability = getString(dataFieldJO,
-                                                                 FieldEditorColumnInfo.APPLICABILITY.getColumnName());
-                                String value = getString(dataFieldJO,
-                                                         FieldEditorColumnInfo.VALUE.getColumnName());
-
-                                // Check if the expected inputs are present
-                                if (!name.isEmpty()
-                                    && !size.isEmpty()
-                                    && dataFieldJO.keySet().size() <= FieldEditorColumnInfo.values().length)
-                                {
-                                    // Check if the field size is empty
-                                    if (size.isEmpty())
-                                    {
-                                        // Default to ten characters
-                                        size = "10";
-                                    }
-
-                                    // Check if the input type is empty
-                                    if (inputType.isEmpty())
-                                    {
-                                        // Default to text
-                                        inputType = InputDataType.TEXT.getInputName();
-                                    }
-
-                                    // Check if the 'required' flag is empty
-                                    if (required.isEmpty())
-                                    {
-                                        // Default to 'false'
-                                        required = "false";
-                                    }
-
-                                    // Check if applicability is empty
-                                    if (applicability.isEmpty())
-                                    {
-                                        // Default to all tables
-                                        applicability = ApplicabilityType.ALL.getApplicabilityName();
-                                    }
+                            // Default to 'false'
+                            required = "false";
+                        }
 
-                                    // Add the data field definition
-                                    tableDefn.addDataField(new String[] {tableName,
-                                                                         name,
-                                                                         description,
-                                                                         size,
-                                                                         inputType,
-                                                                         required,
-                                                                         applicability,
-                                                                         value});
-                                }
-                                // Check that the user hasn't elected to ignore
-                                // data field errors
-                                else if (!continueOnDataFieldError)
-                                {
-                                    // Inform the user that the data field name
-                                    // is missing
-                                    int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
-                                                                                                        "<html><b>Table '</b>"
-                                                                                                            + tableName
-                                                                                                            + "<b>' has missing or extra data field "
-                                                                                                            + "input(s) in import file '</b>"
-                                                                                                            + importFile.getAbsolutePath()
-                                                                                                            + "<b>'; continue?",
-                                                                                                        "Data Field Error",
-                                                                                                        "Ignore this invalid data field",
-                                                                                                        "Ignore this and any remaining invalid data fields",
-                                                                                                        "Stop importing");
-
-                                    // Check if the Ignore All button was
-                                    // pressed
-                                    if (buttonSelected == IGNORE_BUTTON)
-                                    {
-                                        // Set the flag to ignore subsequent
-                                        // data field errors
-                                        continueOnDataFieldError = true;
-                                    }
-                                    // Check if the Cancel button was pressed
-                                    else if (buttonSelected == CANCEL_BUTTON)
-                                    {
-                                        // No error message is provided since
-                                        // the user chose this action
-                                        throw new CCDDException();
-                                    }
-                                }
-                            }
+                        // Check if applicability is empty
+                        if (applicability.isEmpty())
+                        {
+                            // Default to all tables
+                            applicability = ApplicabilityType.ALL.getApplicabilityName();
                         }
 
-                        // Add the table's definition to the list
-                        tableDefinitions.add(tableDefn);
+                        // Add the data field definition
+                        tableDefn.addDataField(new String[] {tableName,
+                                                             name,
+                                                             description,
+                                                             size,
+                                                             inputType,
+                                                             required,
+                                                             applicability,
+                                                             value});
                     }
-
-                    // Check if only the data from the first table is to be
-                    // read
-                    if (importType == ImportType.FIRST_DATA_ONLY)
+                    // Check that the user hasn't elected to ignore data field
+                    // errors
+                    else if (!continueOnDataFieldError)
                     {
-                        // Stop reading table definitions
-                        break;
+                        // Inform the user that the data field name is missing
+                        int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
+                                                                                            "<html><b>Table '</b>"
+                                                                                                + tableName
+                                                                                                + "<b>' has missing or extra data field "
+                                                                                                + "input(s) in import file '</b>"
+                                                                                                + importFile.getAbsolutePath()
+                                                                                                + "<b>'; continue?",
+                                                                                            "Data Field Error",
+                                                                                            "Ignore this invalid data field",
+                                                                                            "Ignore this and any remaining invalid data fields",
+                                                                                            "Stop importing");
+
+                        // Check if the Ignore All button was pressed
+                        if (buttonSelected == IGNORE_BUTTON)
+                        {
+                            // Set the flag to ignore subsequent data field
+                            // errors
+                            continueOnDataFieldError = true;
+                        }
+                        // Check if the Cancel button was pressed
+                        else if (buttonSelected == CANCEL_BUTTON)
+                        {
+                            // No error message is provided since the user
+                            // chose this action
+                            throw new CCDDException();
+                        }
                     }
                 }
             }
-        }
-        catch (ParseException pe)
-        {
-            // Inform the user that the file cannot be closed
-            new CcddDialogHandler().showMessageDialog(parent,
-                                                      "<html><b>Cannot parse import file<br>'</b>"
-                                                          + importFile.getAbsolutePath()
-                                                          + "<b>'; cause '"
-                                                          + pe.getMessage()
-                                                          + "'",
-                                                      "File Warning",
-                                                      JOptionPane.WARNING_MESSAGE,
-                                                      DialogOption.OK_OPTION);
-        }
-        finally
-        {
-            try
+
+            // Check if a queue is set and all table definitions are to be read
+            if (tableDefnQueue != null && importType == ImportType.IMPORT_ALL)
             {
-                // Check that the buffered reader exists
-                if (br != null)
-                {
-                    // Close the file
-                    br.close();
-                }
+                // Hand off the table's definition so that the table can be
+                // created while the remainder of the file is read
+                tableDefnQueue.put(tableDefn);
             }
-            catch (IOException ioe)
+            // The table definitions are stored
+            else
             {
-                // Inform the user that the file cannot be closed
-                new CcddDialogHandler().showMessageDialog(parent,
-                                                          "<html><b>Cannot close import file<br>'</b>"
-                                                              + importFile.getAbsolutePath()
-                                                              + "<b>'",
-                                                          "File Warning",
-                                                          JOptionPane.WARNING_MESSAGE,
-                                                          DialogOption.OK_OPTION);
+                // Add the table's definition to the list
+                tableDefinitions.add(tableDefn);
             }
         }
+
+        return importType != ImportType.FIRST_DATA_ONLY;
     }
 
     /**************************************************************************
-     * Export the project in JSON format to the specified file
+     * Export the project in JSON format to the specified file. Each table's
+     * information is converted and written in turn, so that only the current
+     * table's information is held in memory
      * 
      * @param exportFile
      *            reference to the user-specified output file
@@ -960,7 +1572,6 @@ public class CcddJSONHandler implements CcddImportExportInterface
      * @return true if an error occurred preventing exporting the project to
      *         the file
      *************************************************************************/
-    @SuppressWarnings("unchecked")
     @Override
     public boolean exportToFile(File exportFile,
                                 String[] tableNames,
@@ -969,9 +1580,13 @@ public class CcddJSONHandler implements CcddImportExportInterface
                                 String... extraInfo)
     {
         boolean errorFlag = false;
+        boolean isTableOutput = false;
         FileWriter fw = null;
         BufferedWriter bw = null;
         PrintWriter pw = null;
+        File tableFile = null;
+        PrintWriter tablePw = null;
+        BufferedReader tableReader = null;
 
         systemFieldName = extraInfo[0];
 
@@ -981,29 +1596,17 @@ public class CcddJSONHandler implements CcddImportExportInterface
             List<String> referencedDataTypes = new ArrayList<String>();
             List<String> referencedMacros = new ArrayList<String>();
 
-            // Output the table data to the selected file. Multiple writers are
-            // needed in case tables are appended to an existing file
-            fw = new FileWriter(exportFile, true);
-            bw = new BufferedWriter(fw);
-            pw = new PrintWriter(bw);
-
-            // Create the file creation comment
-            JSONObject outputJO = new JSONObject();
-            outputJO.put(JSONTags.FILE_DESCRIPTION.getTag(),
-                         "Created "
-                             + new Date().toString()
-                             + " : project = "
-                             + dbControl.getDatabase()
-                             + " : host = "
-                             + dbControl.getServer()
-                             + " : user = "
-                             + dbControl.getUser());
+            // Output the table information to a temporary file. The table
+            // information is copied to the selected file after the table type,
+            // data type, macro, and reserved message ID definitions referenced
+            // by the tables; this allows the tables to be imported as the file
+            // is read
+            tableFile = File.createTempFile("ccdd", "." + FileExtension.JSON.getExtension());
+            tablePw = new PrintWriter(new BufferedWriter(new FileWriter(tableFile)));
 
             // Check if any tables are provided
             if (tableNames.length != 0)
             {
-                JSONArray tableJA = new JSONArray();
-
                 // Create a data field handler
                 CcddFieldHandler fieldHandler = new CcddFieldHandler(ccddMain,
                                                                      null,
@@ -1020,8 +1623,18 @@ public class CcddJSONHandler implements CcddImportExportInterface
                     // Check if the table's data successfully loaded
                     if (tableInfoJO != null && !tableInfoJO.isEmpty())
                     {
-                        // Add the wrapper for the table
-                        tableJA.add(tableInfoJO);
+                        // Check if a table has already been output
+                        if (isTableOutput)
+                        {
+                            // Separate the table from the preceding one
+                            tablePw.print(",\n");
+                        }
+
+                        // Output the table's information as a member of the
+                        // table definition array
+                        tablePw.print(getIndent(2));
+                        writeJSONValue(tablePw, tableInfoJO, 2);
+                        isTableOutput = true;
 
                         // Get the table type definition based on the type name
                         TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
@@ -1089,42 +1702,109 @@ public class CcddJSONHandler implements CcddImportExportInterface
                         }
                     }
                 }
-
-                // Check if any tables were processed successfully
-                if (tableJA != null)
-                {
-                    // Add the table information to the JSON output
-                    outputJO.put(JSONTags.TABLE_DEFN.getTag(), tableJA);
-                }
             }
 
+            // Close the temporary file
+            tablePw.close();
+            tablePw = null;
+
+            // Create a JSON object to contain the referenced table type, data
+            // type, macro, and reserved message ID definitions
+            JSONObject definitionJO = new JSONObject();
+
             // Add the referenced table type definition(s), if any, to the
             // output
-            outputJO = getTableTypeDefinitions(referencedTableTypes, outputJO);
+            definitionJO = getTableTypeDefinitions(referencedTableTypes,
+                                                   definitionJO);
 
             // Add the referenced data type definition(s), if any, to the
             // output
-            outputJO = getDataTypeDefinitions(referencedDataTypes, outputJO);
+            definitionJO = getDataTypeDefinitions(referencedDataTypes,
+                                                  definitionJO);
 
             // Add the referenced macro definition(s), if any, to the output
-            outputJO = getMacroDefinitions(referencedMacros, outputJO);
+            definitionJO = getMacroDefinitions(referencedMacros, definitionJO);
 
             // Check if the user elected to store the reserved message IDs
             if (includeReservedMsgIDs)
             {
                 // Add the reserved message ID definition(s), if any, to the
                 // output
-                outputJO = getReservedMsgIDDefinitions(outputJO);
+                definitionJO = getReservedMsgIDDefinitions(definitionJO);
+            }
+
+            // Output the table data to the selected file. Multiple writers are
+            // needed in case tables are appended to an existing file
+            fw = new FileWriter(exportFile, true);
+            bw = new BufferedWriter(fw);
+            pw = new PrintWriter(bw);
+
+            // Output the file creation comment
+            pw.print("{\n" + getIndent(1));
+            writeJSONValue(pw, JSONTags.FILE_DESCRIPTION.getTag(), 1);
+            pw.print(": ");
+            writeJSONValue(pw,
+                           "Created "
+                               + new Date().toString()
+                               + " : project = "
+                               + dbControl.getDatabase()
+                               + " : host = "
+                               + dbControl.getServer()
+                               + " : user = "
+                               + dbControl.getUser(),
+                           1);
+
+            // Step through each definition type, in the order in which these
+            // are required when the file is imported
+            for (JSONTags tag : new JSONTags[] {JSONTags.TABLE_TYPE_DEFN,
+                                                JSONTags.DATA_TYPE_DEFN,
+                                                JSONTags.MACRO_DEFN,
+                                                JSONTags.RESERVED_MSG_ID_DEFN})
+            {
+                // Check if any definitions of this type are referenced
+                if (definitionJO.get(tag.getTag()) != null)
+                {
+                    // Output the definitions
+                    pw.print(",\n" + getIndent(1));
+                    writeJSONValue(pw, tag.getTag(), 1);
+                    pw.print(": ");
+                    writeJSONValue(pw, definitionJO.get(tag.getTag()), 1);
+                }
             }
 
-            // Create a JavaScript engine for use in formatting the JSON output
-            ScriptEngineManager manager = new ScriptEngineManager();
-            ScriptEngine scriptEngine = manager.getEngineByName("JavaScript");
+            // Check if any tables are provided
+            if (tableNames.length != 0)
+            {
+                // Output the table definition array
+                pw.print(",\n" + getIndent(1));
+                writeJSONValue(pw, JSONTags.TABLE_DEFN.getTag(), 1);
+                pw.print(": [");
+
+                // Check if any table's information was output
+                if (isTableOutput)
+                {
+                    pw.print("\n");
+
+                    // Copy the table information from the temporary file to
+                    // the selected file
+                    tableReader = new BufferedReader(new FileReader(tableFile));
+                    char[] buffer = new char[8192];
+                    int count;
+
+                    // Continue to copy the table information until the end of
+                    // the temporary file is reached
+                    while ((count = tableReader.read(buffer)) != -1)
+                    {
+                        pw.write(buffer, 0, count);
+                    }
+
+                    pw.print("\n" + getIndent(1));
+                }
+
+                pw.print("]");
+            }
 
-            // Output the formatted JSON object to the file
-            scriptEngine.put("jsonString", outputJO.toString());
-            scriptEngine.eval("result = JSON.stringify(JSON.parse(jsonString), null, 2)");
-            pw.println((String) scriptEngine.get("result"));
+            pw.println("\n}");
         }
         catch (IOException ioe)
         {
@@ -1138,18 +1818,6 @@ public class CcddJSONHandler implements CcddImportExportInterface
                                                       DialogOption.OK_OPTION);
             errorFlag = true;
         }
-        catch (ScriptException se)
-        {
-            // Inform the user that formatting the JSON output failed
-            new CcddDialogHandler().showMessageDialog(parent,
-                                                      "<html><b>Cannot format JSON output using JavaScript; cause '"
-                                                          + se.getMessage()
-                                                          + "'",
-                                                      "JavaScript Error",
-                                                      JOptionPane.ERROR_MESSAGE,
-                                                      DialogOption.OK_OPTION);
-            errorFlag = true;
-        }
         catch (Exception e)
         {
             // Display a dialog providing details on the unanticipated error
@@ -1158,6 +1826,13 @@ public class CcddJSONHandler implements CcddImportExportInterface
         }
         finally
         {
+            // Check if the temporary file's PrintWriter is still open
+            if (tablePw != null)
+            {
+                // Close the temporary file
+                tablePw.close();
+            }
+
             // Check if the PrintWriter was opened
             if (pw != null)
             {
@@ -1180,6 +1855,13 @@ public class CcddJSONHandler implements CcddImportExportInterface
                     // Close the file
                     fw.close();
                 }
+
+                // Check if the temporary file reader was opened
+                if (tableReader != null)
+                {
+                    // Close the temporary file
+                    tableReader.close();
+                }
             }
             catch (IOException ioe)
             {
@@ -1192,11 +1874,129 @@ public class CcddJSONHandler implements CcddImportExportInterface
                                                           JOptionPane.WARNING_MESSAGE,
                                                           DialogOption.OK_OPTION);
             }
+
+            // Check if the temporary file was created
+            if (tableFile != null)
+            {
+                // Delete the temporary file
+                tableFile.delete();
+            }
         }
 
         return errorFlag;
     }
 
+    /**************************************************************************
+     * Output the supplied JSON value in the same indented format used by
+     * JavaScript's JSON.stringify() with an indentation of two spaces. JSON
+     * objects and arrays are output one member per line
+     * 
+     * @param pw
+     *            PrintWriter for the output file
+     * 
+     * @param value
+     *            JSON object (map), JSON array (list), string, number,
+     *            boolean, or null to output
+     * 
+     * @param level
+     *            indentation level of the line on which the value begins
+     *************************************************************************/
+    private void writeJSONValue(PrintWriter pw, Object value, int level)
+    {
+        // Check if the value is a JSON object
+        if (value instanceof Map)
+        {
+            Map<?, ?> valueMap = (Map<?, ?>) value;
+
+            // Check if the object has no members
+            if (valueMap.isEmpty())
+            {
+                pw.print("{}");
+            }
+            // The object has members
+            else
+            {
+                String separator = "{\n";
+
+                // Step through each member of the object
+                for (Map.Entry<?, ?> entry : valueMap.entrySet())
+                {
+                    // Output the member's key and value
+                    pw.print(separator + getIndent(level + 1));
+                    writeJSONValue(pw, entry.getKey().toString(), level + 1);
+                    pw.print(": ");
+                    writeJSONValue(pw, entry.getValue(), level + 1);
+                    separator = ",\n";
+                }
+
+                pw.print("\n" + getIndent(level) + "}");
+            }
+        }
+        // Check if the value is a JSON array
+        else if (value instanceof List)
+        {
+            List<?> valueList = (List<?>) value;
+
+            // Check if the array has no members
+            if (valueList.isEmpty())
+            {
+                pw.print("[]");
+            }
+            // The array has members
+            else
+            {
+                String separator = "[\n";
+
+                // Step through each member of the array
+                for (Object member : valueList)
+                {
+                    // Output the member
+                    pw.print(separator + getIndent(level + 1));
+                    writeJSONValue(pw, member, level + 1);
+                    separator = ",\n";
+                }
+
+                pw.print("\n" + getIndent(level) + "]");
+            }
+        }
+        // Check if the value is a string
+        else if (value instanceof String)
+        {
+            // Output the string with any special characters escaped. Forward
+            // slashes don't require escaping, so the escape added by the JSON
+            // library is removed
+            pw.print("\""
+                     + JSONValue.escape((String) value).replace("\\/", "/")
+                     + "\"");
+        }
+        // The value is a number, boolean, or null
+        else
+        {
+            pw.print(String.valueOf(value));
+        }
+    }
+
+    /**************************************************************************
+     * Get the indentation for the specified level
+     * 
+     * @param level
+     *            indentation level
+     * 
+     * @return String containing two spaces for each indentation level
+     *************************************************************************/
+    private String getIndent(int level)
+    {
+        StringBuilder indent = new StringBuilder();
+
+        // Step through each indentation level
+        for (int index = 0; index < level; index++)
+        {
+            indent.append("  ");
+        }
+
+        return indent.toString();
+    }
+
     /**************************************************************************
      * Get the data for the specified data table
      * 
@@ -8,17 +8,12 @@ package CCDD;
 
 import java.awt.Component;
 import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.List;
 
-import javax.swing.tree.TreeNode;
-
 import CCDD.CcddClasses.FieldInformation;
 import CCDD.CcddClasses.RateInformation;
-import CCDD.CcddClasses.ToolTipTreeNode;
 import CCDD.CcddConstants.InternalTable;
 import CCDD.CcddConstants.InternalTable.LinksColumn;
-import CCDD.CcddConstants.TableTreeType;
 
 /******************************************************************************
  * CFS Command & Data Dictionary link handler class
@@ -28,21 +23,15 @@ public class CcddLinkHandler
     // Class references
     private final CcddMain ccddMain;
     private final CcddDataTypeHandler dataTypeHandler;
+    private final CcddStructureLayoutHandler layoutHandler;
 
     // List to contain the link definitions (link names and variable paths)
     // retrieved from the database
     private List<String[]> linkDefinitions;
 
-    // Variable offset parameters
-    private int bitCount;
-    private int lastByteSize;
-    private String lastDataType;
-    private int lastBitLength;
-
-    // List containing the paths for every structure and variable, and the
-    // offset to the structures and variables relative to their root structures
-    private List<String> structureAndVariablePaths;
-    private List<Integer> structureAndVariableOffsets;
+    // Flag indicating if the structure layouts have been updated to reflect
+    // the current table contents
+    private boolean isLayoutUpdated;
 
     /**************************************************************************
      * Link handler class constructor
@@ -57,10 +46,10 @@ public class CcddLinkHandler
     {
         this.ccddMain = ccddMain;
         this.dataTypeHandler = ccddMain.getDataTypeHandler();
+        this.layoutHandler = ccddMain.getStructureLayoutHandler();
         this.linkDefinitions = linkDefinitions;
 
-        structureAndVariablePaths = null;
-        structureAndVariableOffsets = null;
+        isLayoutUpdated = false;
     }
 
     /**************************************************************************
@@ -291,15 +280,12 @@ public class CcddLinkHandler
     {
         String lastRate = "";
         String lastName = "";
+        String lastRoot = "";
         int lastIndex = -1;
         int lastOffset = -1;
 
-        // Check if the variable path list hasn't been created
-        if (structureAndVariablePaths == null)
-        {
-            // Create the variable path and offset lists
-            buildPathAndOffsetLists();
-        }
+        // Update the structure layouts if needed
+        updateLayouts();
 
         int size = 0;
 
@@ -321,17 +307,26 @@ public class CcddLinkHandler
                 String dataType = linkMember.substring(linkMember.lastIndexOf(",") + 1,
                                                        linkMember.lastIndexOf("."));
 
-                // Get the offset of this variable relative to its root
-                // structure. A variable's bit length is ignored if provided
-                int index = structureAndVariablePaths.indexOf(linkMember.replaceFirst(":\\d+$", ""));
-                int offset = structureAndVariableOffsets.get(index);
+                // Get the root structure, and the offset and index of this
+                // variable relative to its root structure. A variable's bit
+                // length is ignored if provided
+                String root = linkMember.split(",", 2)[0];
+                int[] offsetAndIndex = layoutHandler.getOffsetAndIndex(linkMember);
+                int offset = offsetAndIndex == null
+                                                   ? -1
+                                                   : offsetAndIndex[0];
+                int index = offsetAndIndex == null
+                                                  ? -1
+                                                  : offsetAndIndex[1];
 
                 // Check if this variable is not bit-packed with the previous
                 // one. The variables are packed together if this variable
-                // immediately follows the previous one in the path list and
-                // has the same offset
+                // immediately follows the previous one in the same root
+                // structure and has the same offset
                 if (!(linkRate.equals(lastRate)
                       && linkName.equals(lastName)
+                      && root.equals(lastRoot)
+                      && index != -1
                       && index == lastIndex + 1
                       && offset == lastOffset))
                 {
@@ -342,6 +337,7 @@ public class CcddLinkHandler
                 // Store the parameters for comparison in the next loop
                 lastRate = linkRate;
                 lastName = linkName;
+                lastRoot = root;
                 lastIndex = index;
                 lastOffset = offset;
             }
@@ -517,23 +513,11 @@ public class CcddLinkHandler
         // The data type isn't a primitive; check for a structure
         else
         {
-            // Check if the path and offset/size lists haven't been created
-            if (structureAndVariablePaths == null)
-            {
-                // Create the path and offset/size lists
-                buildPathAndOffsetLists();
-            }
+            // Update the structure layouts if needed
+            updateLayouts();
 
-            // Get the index in the path list for the specified structure or
-            // variable. Remove the bit length if provided
-            int index = structureAndVariablePaths.indexOf(dataType);
-
-            // Check if the target exists
-            if (index != -1)
-            {
-                // Get the size of the structure
-                sizeInBytes = structureAndVariableOffsets.get(index);
-            }
+            // Get the size of the structure, if it exists
+            sizeInBytes = Math.max(layoutHandler.getStructureSize(dataType), 0);
         }
 
         return sizeInBytes;
@@ -558,230 +542,37 @@ public class CcddLinkHandler
     {
         int offset = -1;
 
-        // Check if the variable path list hasn't been created
-        if (structureAndVariablePaths == null)
-        {
-            // Create the variable path and offset lists
-            buildPathAndOffsetLists();
-        }
+        // Update the structure layouts if needed
+        updateLayouts();
 
-        // Get the index into the variable path list for the specified
-        // structure/variable. A variable's bit length is ignored if present
-        int index = structureAndVariablePaths.indexOf(targetVariable.replaceFirst(":\\d+$", ""));
+        // Get the offset to the structure/variable
+        int[] offsetAndIndex = layoutHandler.getOffsetAndIndex(targetVariable);
 
         // Check that the structure/variable exists
-        if (index != -1)
+        if (offsetAndIndex != null)
         {
-            // Check if the target includes a variable
-            if (targetVariable.contains(","))
-            {
-                // Retrieve the variable's offset
-                offset = structureAndVariableOffsets.get(index);
-            }
-            // The target is a prototype/root structure
-            else
-            {
-                // The offset for a prototype/root structure is always 0; the
-                // offset list value for a prototype/root structure name is the
-                // structure size
-                offset = 0;
-            }
+            // Store the offset. The offset for a prototype/root structure is
+            // always 0
+            offset = offsetAndIndex[0];
         }
 
         return offset;
     }
 
     /**************************************************************************
-     * Using a variable tree create two lists: one that contains a reference to
-     * every structure and variable (keeping the child structures and variables
-     * in the order in which they appear relative to their root structure), and
-     * another list that has the offset for the variable relative to its root
-     * structure. The total structure size in bytes is stored in place of the
-     * offset value for each root structure entry in the list
+     * Update the structure layouts to reflect the current table contents. This
+     * is performed once, the first time the layouts are needed by this link
+     * handler; only the layouts for structures that changed since the layouts
+     * were last updated are recalculated
      *************************************************************************/
-    protected void buildPathAndOffsetLists()
+    private void updateLayouts()
     {
-        // Create a tree containing all of the prototype structures and
-        // variables. This is used for determining bit-packing, variable
-        // relative position, variable offsets, and structure sizes
-        CcddTableTreeHandler allVariableTree = new CcddTableTreeHandler(ccddMain,
-                                                                        TableTreeType.PROTOTYPE_AND_INSTANCE_WITH_PRIMITIVES,
-                                                                        ccddMain.getMainFrame());
-
-        // Expand the tree so that all nodes are 'visible'
-        allVariableTree.setTreeExpansion(true);
-
-        structureAndVariablePaths = new ArrayList<String>();
-        structureAndVariableOffsets = new ArrayList<Integer>();
-
-        // Initialize the offset, bit count, and the previous variable's size,
-        // type, and bit length
-        int offset = 0;
-        bitCount = 0;
-        lastByteSize = 0;
-        lastDataType = "";
-        lastBitLength = 0;
-
-        int lastIndex = 0;
-        int structIndex = 0;
-
-        // Step through all of the nodes in the variable tree
-        for (Enumeration<?> element = allVariableTree.getRootNode().preorderEnumeration(); element.hasMoreElements();)
+        // Check if the layouts haven't been updated
+        if (!isLayoutUpdated)
         {
-            // Get the path to this node
-            TreeNode[] nodePath = ((ToolTipTreeNode) element.nextElement()).getPath();
-
-            // Check if the path references a structure or variable (instead of
-            // the tree's root or header nodes)
-            if (nodePath.length > allVariableTree.getTableNodeLevel())
-            {
-                // Get the variable path for this tree node
-                String varPath = allVariableTree.getFullVariablePath(nodePath);
-
-                // Check if the path contains a data type
-                if (varPath.matches(".+,.+\\..+"))
-                {
-                    // Extract the data type from the variable path
-                    String dataType = varPath.substring(varPath.lastIndexOf(",") + 1,
-                                                        varPath.lastIndexOf("."));
-
-                    // Check if this references a primitive data type
-                    if (dataTypeHandler.isPrimitive(dataType))
-                    {
-                        String bitLength = "";
-
-                        int bitIndex = varPath.indexOf(":");
-
-                        // Check if this variable has a bit length
-                        if (bitIndex != -1)
-                        {
-                            // Extract the bit length from the variable path
-                            bitLength = varPath.substring(bitIndex + 1);
-
-                            // Remove the bit length from the variable path
-                            varPath = varPath.substring(0, bitIndex);
-                        }
-
-                        // Adjust the offset to account for bit-packing
-                        offset = adjustVariableOffset(dataType, bitLength, offset);
-                    }
-                    // Not a primitive data type (i.e., it's a structure)
-                    else
-                    {
-                        // Add the last variable's byte size to the offset
-                        // total
-                        offset += lastByteSize;
-
-                        // Reinitialize the bit count, and the previous
-                        // variable's size, type, and bit length
-                        bitCount = 0;
-                        lastByteSize = 0;
-                        lastDataType = "";
-                        lastBitLength = 0;
-                    }
-                }
-                // The path doesn't contain a data type; i.e., it's a prototype
-                // structure reference
-                else
-                {
-                    // Check that this isn't the first prototype structure
-                    // detected. The size is stored once the end of the
-                    // structure is reached
-                    if (lastIndex != 0)
-                    {
-                        // Adjust the offset to account for bit-packing
-                        offset = adjustVariableOffset(lastDataType, "", offset);
-
-                        // Store the offset as the size for this structure
-                        structureAndVariableOffsets.set(structIndex, offset);
-
-                        // Store the index of the prototype structure
-                        structIndex = lastIndex;
-                    }
-
-                    // Reset the offset since this indicates the start of a new
-                    // root structure. Initialize the bit count, and the
-                    // previous variable's size, type, and bit length
-                    offset = 0;
-                    bitCount = 0;
-                    lastByteSize = 0;
-                    lastDataType = "";
-                    lastBitLength = 0;
-                }
-
-                // Add the variable path and its offset to the lists
-                structureAndVariablePaths.add(varPath);
-                structureAndVariableOffsets.add(offset);
-
-                lastIndex++;
-            }
+            // Update the layouts
+            layoutHandler.refresh(ccddMain.getMainFrame());
+            isLayoutUpdated = true;
         }
-
-        // Check that a prototype structure was detected
-        if (lastIndex != 0)
-        {
-            // Adjust the offset to account for bit-packing
-            offset = adjustVariableOffset(lastDataType, "", offset);
-
-            // Store the offset as the size for this structure
-            structureAndVariableOffsets.set(structIndex, offset);
-        }
-    }
-
-    /**************************************************************************
-     * Adjust the offset to the current variable based on the last variable's
-     * byte size and any bit packing
-     * 
-     * @param dataType
-     *            variable's data type
-     * 
-     * @param bitLength
-     *            string representing the number of bits used by variable;
-     *            blank if this is a non-bit variable
-     * 
-     * @param offset
-     *            offset to the previous variable
-     * 
-     * @return The adjusted byte offset to the target variable
-     *************************************************************************/
-    private int adjustVariableOffset(String dataType,
-                                     String bitLength,
-                                     int offset)
-    {
-        // Get the size in bytes based on the variable's data type
-        int byteSize = dataTypeHandler.getSizeInBytes(dataType);
-
-        // Get the bit length associated with the variable; use 0 if no bit
-        // length is specified
-        int bits = bitLength.matches("\\d+")
-                                            ? bits = Integer.valueOf(bitLength)
-                                            : 0;
-
-        // Update the bit counter using the bit length
-        bitCount += bits;
-
-        // Check if the current or previous variable has no bit length
-        // specified, the data type changed, or the data type has no room for
-        // the requested number of bits
-        if (bits == 0
-            || lastBitLength == 0
-            || !dataType.equals(lastDataType)
-            || bitCount > byteSize * 8)
-        {
-            // Set the bit counter to the current variable's bit length (0 if
-            // this is a non-bit variable)
-            bitCount = bits;
-
-            // Add the previous parameter's byte size to the offset counter
-            offset += lastByteSize;
-        }
-
-        // Store the size in bytes, the data type, and bit length for
-        // calculating the offset to the next variable
-        lastByteSize = byteSize;
-        lastDataType = dataType;
-        lastBitLength = bits;
-
-        return offset;
     }
 }
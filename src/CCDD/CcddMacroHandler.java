@@ -23,9 +23,10 @@ import java.awt.event.KeyEvent;
 import java.awt.event.WindowEvent;
 import java.awt.event.WindowFocusListener;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.swing.BorderFactory;
 import javax.swing.JComboBox;
@@ -41,7 +42,6 @@ import javax.swing.text.Highlighter;
 import javax.swing.text.JTextComponent;
 
 import CCDD.CcddClasses.PaddedComboBox;
-import CCDD.CcddConstants.DatabaseListCommand;
 import CCDD.CcddConstants.InputDataType;
 import CCDD.CcddConstants.InternalTable;
 import CCDD.CcddConstants.InternalTable.MacrosColumn;
@@ -63,8 +63,20 @@ public class CcddMacroHandler
     // List containing the macro names and associated values
     private List<String[]> macros;
 
-    // Macro name pattern
-    private final Pattern macroPattern;
+    // Map containing the macro definitions, keyed by the macro name in lower
+    // case. The map is shared by the threads using this handler, so it's never
+    // altered once published; a change replaces the map
+    private volatile Map<String, String[]> macroMap;
+
+    // Map containing the macro name locations for each text string in which
+    // macros have been located, keyed by the text string. The locations depend
+    // only on which macro names are defined, so the map is cleared whenever
+    // the macro definitions change
+    private final Map<String, List<MacroLocation>> locationCache;
+
+    // Maximum number of text strings for which the macro name locations are
+    // retained
+    private static final int MAX_CACHED_LOCATIONS = 10000;
 
     /**************************************************************************
      * Macro location class
@@ -122,16 +134,10 @@ public class CcddMacroHandler
     CcddMacroHandler(List<String[]> macros)
     {
         this.macros = macros;
+        locationCache = new ConcurrentHashMap<String, List<MacroLocation>>();
 
-        // Create the macro name search pattern
-        macroPattern = Pattern.compile("^.*?("
-                                       + MACRO_IDENTIFIER
-                                       + "([^"
-                                       + MACRO_IDENTIFIER
-                                       + "]+)"
-                                       + MACRO_IDENTIFIER
-                                       + ").*$",
-                                       Pattern.CASE_INSENSITIVE);
+        // Create the macro lookup map
+        buildMacroMap();
     }
 
     /**************************************************************************
@@ -170,6 +176,68 @@ public class CcddMacroHandler
     protected void setMacroData(List<String[]> macros)
     {
         this.macros = new ArrayList<String[]>(macros);
+
+        // Update the macro lookup map to match the new macros
+        buildMacroMap();
+    }
+
+    /**************************************************************************
+     * Create the map used to look up a macro definition by name (case
+     * insensitive). If more than one macro has the same name then the first
+     * one in the list is used
+     *************************************************************************/
+    private void buildMacroMap()
+    {
+        Map<String, String[]> nameMap = new HashMap<String, String[]>();
+
+        // Step through each defined macro
+        for (String[] macro : macros)
+        {
+            // Add the macro to the map
+            addToMacroMap(nameMap, macro);
+        }
+
+        // Replace the macro lookup map once it's complete
+        publishMacroMap(nameMap);
+    }
+
+    /**************************************************************************
+     * Add the specified macro to a macro lookup map if a macro with the same
+     * name (case insensitive) isn't already present
+     * 
+     * @param nameMap
+     *            macro lookup map to which to add the macro
+     * 
+     * @param macro
+     *            string array containing the macro name and the corresponding
+     *            macro value
+     *************************************************************************/
+    private void addToMacroMap(Map<String, String[]> nameMap, String[] macro)
+    {
+        String key = macro[MacrosColumn.MACRO_NAME.ordinal()].toLowerCase();
+
+        // Check if the macro name isn't already in the map
+        if (!nameMap.containsKey(key))
+        {
+            // Add the macro to the map
+            nameMap.put(key, macro);
+        }
+    }
+
+    /**************************************************************************
+     * Replace the macro lookup map, then discard the stored macro name
+     * locations since these may not reflect the new macro definitions. The
+     * locations are discarded after the map is replaced so that locations
+     * determined using the previous map aren't retained (see
+     * getMacroLocation())
+     * 
+     * @param nameMap
+     *            new macro lookup map
+     *************************************************************************/
+    private void publishMacroMap(Map<String, String[]> nameMap)
+    {
+        macroMap = nameMap;
+        locationCache.clear();
     }
 
     /**************************************************************************
@@ -186,7 +254,12 @@ public class CcddMacroHandler
     }
 
     /**************************************************************************
-     * Get a list of all macro name locations in the specified text string
+     * Get a list of all macro name locations in the specified text string. The
+     * text is scanned once; a macro name is the macro identifier, followed by
+     * one or more characters other than the identifier character, followed by
+     * the identifier. Only names matching a defined macro are included. The
+     * locations are stored so that subsequent requests for the same text
+     * string don't require scanning the text again
      * 
      * @param text
      *            text string to search for macro names
@@ -195,53 +268,87 @@ public class CcddMacroHandler
      *************************************************************************/
     private List<MacroLocation> getMacroLocation(String text)
     {
-        Matcher matcher;
-        int start = 0;
+        return getMacroLocation(text, macroMap);
+    }
 
-        // Create storage for the macro name locations
-        List<MacroLocation> locations = new ArrayList<MacroLocation>();
+    /**************************************************************************
+     * Get the location in the supplied text string of all of the macro names
+     * defined in the supplied macro lookup map
+     * 
+     * @param text
+     *            text string to search for macro names
+     * 
+     * @param nameMap
+     *            macro lookup map; the same map is used throughout the scan,
+     *            even if the macro definitions change
+     * 
+     * @return List of all macro name locations in the specified text string
+     *************************************************************************/
+    private List<MacroLocation> getMacroLocation(String text,
+                                                 Map<String, String[]> nameMap)
+    {
+        // Get the stored locations for this text string
+        List<MacroLocation> locations = locationCache.get(text);
 
-        do
+        // Check if the text string hasn't already been scanned
+        if (locations == null)
         {
-            // Locate the macro name pattern within the text string
-            matcher = macroPattern.matcher(text);
+            locations = new ArrayList<MacroLocation>();
+            int idLength = MACRO_IDENTIFIER.length();
 
-            // Check if the macro name pattern is present
-            if (matcher.matches())
-            {
-                // Get the macro name, with the macro delimiters
-                String macroName = matcher.group(1);
-
-                // Store the index of the macro name pattern
-                int position = text.indexOf(macroName);
+            // Get the position of the first macro identifier
+            int start = text.indexOf(MACRO_IDENTIFIER);
 
-                // Check if the pattern matches a defined macro. This uses the
-                // macro name without the delimiters
-                if (isMacroExists(matcher.group(2)))
+            // Step through each macro identifier in the text string
+            while (start != -1)
+            {
+                // Get the position of the first identifier character following
+                // the opening identifier
+                int end = text.indexOf(MACRO_IDENTIFIER.charAt(0),
+                                       start + idLength);
+
+                // Check if the opening identifier is followed by at least one
+                // other character and then the closing identifier, and that
+                // the enclosed name matches a defined macro
+                if (end > start + idLength
+                    && text.startsWith(MACRO_IDENTIFIER, end)
+                    && nameMap.containsKey(text.substring(start + idLength,
+                                                          end).toLowerCase()))
                 {
-                    // Update the macro name starting position and remove the
-                    // characters from the beginning of the text string to the
-                    // end of the macro name
-                    start += position;
-                    text = text.substring(position + macroName.length());
-
-                    // Store the location for this macro
-                    locations.add(new MacroLocation(macroName, start));
-
-                    // Update the start index to skip the macro name
-                    start += macroName.length();
+                    // Store the location for this macro and continue the
+                    // search following the macro name
+                    locations.add(new MacroLocation(text.substring(start,
+                                                                   end + idLength),
+                                                    start));
+                    start = text.indexOf(MACRO_IDENTIFIER, end + idLength);
                 }
                 // Looks like a macro but doesn't match a defined name
                 else
                 {
-                    // Remove the first character in the text, advance the
-                    // starting position by 1, and try matching again
-                    text = text.substring(position + 1);
-                    start += position + 1;
+                    // Continue the search starting with the next character
+                    start = text.indexOf(MACRO_IDENTIFIER, start + 1);
                 }
             }
-        } while (matcher.matches());
-        // Process the text string until no macro names are found
+
+            // Check if the maximum number of stored locations is reached
+            if (locationCache.size() >= MAX_CACHED_LOCATIONS)
+            {
+                // Discard the stored locations
+                locationCache.clear();
+            }
+
+            // Store the locations for this text string
+            locationCache.put(text, locations);
+
+            // Check if the macro lookup map was replaced during the scan. The
+            // locations, which are based on the previous map, may have been
+            // stored after the stored locations were discarded, so these are
+            // removed
+            if (macroMap != nameMap)
+            {
+                locationCache.remove(text);
+            }
+        }
 
         return locations;
     }
@@ -537,19 +644,36 @@ public class CcddMacroHandler
      *         the macro doesn't exist
      *************************************************************************/
     protected String getMacroValue(String macroName)
+    {
+        return getMacroValue(macroName, macroMap);
+    }
+
+    /**************************************************************************
+     * Get the value associated with the specified macro name from the
+     * supplied macro lookup map
+     * 
+     * @param macroName
+     *            macro name
+     * 
+     * @param nameMap
+     *            macro lookup map
+     * 
+     * @return Value associated with the specified macro name; returns null if
+     *         the macro doesn't exist
+     *************************************************************************/
+    private String getMacroValue(String macroName,
+                                 Map<String, String[]> nameMap)
     {
         String macroValue = null;
 
-        // Step through each defined macro
-        for (String[] macro : macros)
+        // Get the macro definition based on the macro name
+        String[] macro = nameMap.get(macroName.toLowerCase());
+
+        // Check if the macro exists
+        if (macro != null)
         {
-            // Check if the supplied name matches this macro's name
-            if (macroName.equalsIgnoreCase(macro[MacrosColumn.MACRO_NAME.ordinal()]))
-            {
-                // Get the associated macro value and stop searching
-                macroValue = macro[MacrosColumn.VALUE.ordinal()];
-                break;
-            }
+            // Get the associated macro value
+            macroValue = macro[MacrosColumn.VALUE.ordinal()];
         }
 
         return macroValue;
@@ -568,16 +692,14 @@ public class CcddMacroHandler
     {
         String macroIndex = null;
 
-        // Step through each defined macro
-        for (String[] macro : macros)
+        // Get the macro definition based on the macro name
+        String[] macro = macroMap.get(macroName.toLowerCase());
+
+        // Check if the macro exists
+        if (macro != null)
         {
-            // Check if the supplied name matches this macro's name
-            if (macroName.equalsIgnoreCase(macro[MacrosColumn.MACRO_NAME.ordinal()]))
-            {
-                // Get the associated macro OID and stop searching
-                macroIndex = macro[MacrosColumn.OID.ordinal()];
-                break;
-            }
+            // Get the associated macro OID
+            macroIndex = macro[MacrosColumn.OID.ordinal()];
         }
 
         return macroIndex;
@@ -610,22 +732,7 @@ public class CcddMacroHandler
      *************************************************************************/
     protected boolean isMacroExists(String macroName)
     {
-        boolean isExists = false;
-
-        // Step through each defined macro
-        for (String[] macro : macros)
-        {
-            // Check if the macro name matches the supplied name
-            if (macroName.equalsIgnoreCase(macro[MacrosColumn.MACRO_NAME.ordinal()]))
-            {
-                // Set the flag to indicate the macro name already exists and
-                // stop searching
-                isExists = true;
-                break;
-            }
-        }
-
-        return isExists;
+        return macroMap.containsKey(macroName.toLowerCase());
     }
 
     /**************************************************************************
@@ -640,23 +747,42 @@ public class CcddMacroHandler
      *************************************************************************/
     protected String getMacroExpansion(String text)
     {
-        String expandedText = "";
+        // Get the macro lookup map so that the macro names are located and
+        // their values obtained from the same map, even if the macro
+        // definitions change
+        Map<String, String[]> nameMap = macroMap;
+
+        // Get the locations of the macro(s) in the supplied string
+        List<MacroLocation> locations = getMacroLocation(text, nameMap);
+
+        // Check if the text contains no macros
+        if (locations.isEmpty())
+        {
+            // Return the text unchanged
+            return text;
+        }
+
+        StringBuilder expandedText = new StringBuilder(text.length() * 2);
         int lastEnd = 0;
+        int idLength = MACRO_IDENTIFIER.length();
 
         // Step through each macro in the text string
-        for (MacroLocation location : getMacroLocation(text))
+        for (MacroLocation location : locations)
         {
             // Append the text leading to the macro name, then add macro value
             // in place of the name
-            expandedText += text.substring(lastEnd, location.getStart())
-                            + getMacroValue(location.getMacroName().replaceAll(MACRO_IDENTIFIER, ""));
+            expandedText.append(text, lastEnd, location.getStart())
+                        .append(getMacroValue(location.getMacroName().substring(idLength,
+                                                                                location.getMacroName().length()
+                                                                                          - idLength),
+                                              nameMap));
 
             // Store the end position of the macro name for the next pass
             lastEnd = location.getStart() + location.getMacroName().length();
         }
 
         // Append any remaining text
-        return expandedText += text.substring(lastEnd);
+        return expandedText.append(text, lastEnd, text.length()).toString();
     }
 
     /**************************************************************************
@@ -731,14 +857,10 @@ public class CcddMacroHandler
      *************************************************************************/
     protected String[] getMacroReferences(String macroName, Component parent)
     {
-        return dbCommand.getList(DatabaseListCommand.SEARCH,
-                                 new String[][] { {"_search_text_",
-                                                   macroName},
-                                                 {"_case_insensitive_",
-                                                  "true"},
-                                                 {"_selected_tables_",
-                                                  SearchType.DATA.toString()}},
-                                 parent);
+        return dbCommand.getSearchIndex().search(macroName,
+                                                 true,
+                                                 SearchType.DATA,
+                                                 parent);
     }
 
     /**************************************************************************
@@ -842,17 +964,25 @@ public class CcddMacroHandler
     {
         String badType = null;
 
+        // Create a copy of the macro lookup map to which to add the new macros
+        Map<String, String[]> nameMap = new HashMap<String, String[]>(macroMap);
+
         // Step through each imported macro definition
         for (String[] macroDefn : macroDefinitions)
         {
-            // Get the macro value associated with this macro name
-            String macro = getMacroValue(macroDefn[MacrosColumn.MACRO_NAME.ordinal()]);
+            // Get the macro value associated with this macro name, including
+            // any macro added by this update
+            String[] existingDefn = nameMap.get(macroDefn[MacrosColumn.MACRO_NAME.ordinal()].toLowerCase());
+            String macro = existingDefn == null
+                                                ? null
+                                                : existingDefn[MacrosColumn.VALUE.ordinal()];
 
             // Check if the macro doesn't already exist
             if (macro == null)
             {
                 // Add the macro
                 macros.add(macroDefn);
+                addToMacroMap(nameMap, macroDefn);
             }
             // The macro exists; check if the macro value provided matches the
             // existing macro value
@@ -865,6 +995,9 @@ public class CcddMacroHandler
             }
         }
 
+        // Replace the macro lookup map with the updated copy
+        publishMacroMap(nameMap);
+
         return badType;
     }
 }
@@ -79,6 +79,7 @@ public class CcddMain
     private final CcddDbControlHandler dbControl;
     private final CcddDbTableCommandHandler dbTable;
     private CcddDataTypeHandler dataTypeHandler;
+    private CcddStructureLayoutHandler layoutHandler;
     private CcddTableTypeHandler tableTypeHandler;
     private CcddTableTypeEditorDialog tableTypeEditorDialog;
     private CcddDataTypeEditorDialog dataTypeEditorDialog;
@@ -466,6 +467,10 @@ public class CcddMain
         // Read the data types definitions from the database
         dataTypeHandler = new CcddDataTypeHandler(CcddMain.this);
 
+        // Create the structure layout handler. The layouts are calculated when
+        // first needed
+        layoutHandler = new CcddStructureLayoutHandler(CcddMain.this);
+
         // Read the rate parameters from the project database
         rateHandler = new CcddRateParameterHandler(CcddMain.this);
 
@@ -520,6 +525,16 @@ public class CcddMain
         return dataTypeHandler;
     }
 
+    /**************************************************************************
+     * Get the structure layout handler
+     * 
+     * @return Structure layout handler
+     *************************************************************************/
+    protected CcddStructureLayoutHandler getStructureLayoutHandler()
+    {
+        return layoutHandler;
+    }
+
     /**************************************************************************
      * Get the file handler
      * 
@@ -7,6 +7,7 @@
 package CCDD;
 
 import static CCDD.CcddConstants.BACKUP_FILE_EXTENSION;
+import static CCDD.CcddConstants.VALUES_PARENT_INDEX;
 import static CCDD.CcddConstants.EventLogMessageType.SUCCESS_MSG;
 
 import java.io.File;
@@ -46,6 +47,57 @@ public class CcddPatchHandler
 
         // Patch #01262017: Rename the table types table and alter its content
         updateTableTypesTable();
+
+        // Patch #10182026: Add the indices to the custom values table
+        addValuesTableIndices();
+    }
+
+    /**************************************************************************
+     * Add the variable path, parent path, and column name indices to the
+     * custom values table if these don't exist. The indices allow the values
+     * for a table instance to be located without scanning the entire custom
+     * values table. The indices don't alter the table's content, so no backup
+     * is performed
+     *************************************************************************/
+    private void addValuesTableIndices()
+    {
+        CcddDbCommandHandler dbCommand = ccddMain.getDbCommandHandler();
+        CcddEventLogDialog eventLog = ccddMain.getSessionEventLog();
+
+        try
+        {
+            // Check if the parent path index exists
+            ResultSet indexData = dbCommand.executeDbQuery("SELECT 1 FROM pg_class WHERE relname = '"
+                                                           + VALUES_PARENT_INDEX
+                                                           + "';",
+                                                           ccddMain.getMainFrame());
+            boolean isIndexed = indexData.next();
+            indexData.close();
+
+            // Check if the custom values table isn't indexed
+            if (!isIndexed)
+            {
+                // Create the custom values table indices
+                dbCommand.executeDbCommand(InternalTable.VALUES.getInitCommand()
+                                           + ";",
+                                           ccddMain.getMainFrame());
+
+                // Inform the user that indexing the table completed
+                eventLog.logEvent(EventLogMessageType.SUCCESS_MSG,
+                                  "Custom values table indices created");
+            }
+        }
+        catch (Exception e)
+        {
+            // Inform the user that indexing the custom values table failed.
+            // The project can still be used, but without the benefit of the
+            // indices
+            eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                  "Cannot create custom values table indices; cause '"
+                                      + e.getMessage()
+                                      + "'",
+                                  "<html><b>Cannot create custom values table indices");
+        }
     }
 
     /**************************************************************************
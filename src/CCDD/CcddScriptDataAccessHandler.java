@@ -25,7 +25,11 @@ import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import javax.swing.BorderFactory;
@@ -76,9 +80,34 @@ public class CcddScriptDataAccessHandler
     // Name of the script file being executed
     private final String scriptFileName;
 
+    // Tables associated with the script. This identifies the variable
+    // conversion handler shared by executions of scripts using the same tables
+    private final String associationTables;
+
     // Data table information array
     private final TableInformation[] tableInformation;
 
+    // Table information for each table type referenced by the script, keyed
+    // by the table type name (in lower case) as supplied by the script. The
+    // type's value is null if no table information exists for the type
+    private final Map<String, TableInformation> tableInfoByType;
+
+    // Column indices for each table type, keyed by the table type name. The
+    // indices for a type are keyed by the column name (in lower case); the
+    // index is -1 if the column doesn't exist in the type
+    private final Map<String, Map<String, Integer>> columnIndices;
+
+    // Row indices for each table type and matching column combination, keyed
+    // by the generic table type and matching column name (in lower case). The
+    // rows are keyed by the table path and matching column value; if more
+    // than one row matches the first row is stored
+    private final Map<String, Map<String, Integer>> rowIndices;
+
+    // Structure paths for each row, keyed by the generic table type (in lower
+    // case) and path format. A row's path is stored the first time it's
+    // requested
+    private final Map<String, String[]> rowPaths;
+
     /**************************************************************************
      * Script data access class constructor
      * 
@@ -100,6 +129,9 @@ public class CcddScriptDataAccessHandler
      * @param scriptFileName
      *            name of the script file being executed
      * 
+     * @param associationTables
+     *            tables associated with the script
+     * 
      * @param scriptDialog
      *            reference to the GUI component from which this class was
      *            generated (script dialog if executing from within the CCDD
@@ -112,6 +144,7 @@ public class CcddScriptDataAccessHandler
                                           CcddFieldHandler fieldHandler,
                                           CcddGroupHandler groupHandler,
                                           String scriptFileName,
+                                          String associationTables,
                                           Component scriptDialog)
     {
         this.ccddMain = ccddMain;
@@ -120,6 +153,7 @@ public class CcddScriptDataAccessHandler
         this.fieldHandler = fieldHandler;
         this.groupHandler = groupHandler;
         this.scriptFileName = scriptFileName;
+        this.associationTables = associationTables;
         this.parent = scriptDialog;
         dbTable = ccddMain.getDbTableCommandHandler();
         dbControl = ccddMain.getDbControlHandler();
@@ -131,6 +165,10 @@ public class CcddScriptDataAccessHandler
         macroHandler = ccddMain.getMacroHandler();
         tableTree = null;
         copyHandler = null;
+        tableInfoByType = new HashMap<String, TableInformation>();
+        columnIndices = new HashMap<String, Map<String, Integer>>();
+        rowIndices = new HashMap<String, Map<String, Integer>>();
+        rowPaths = new HashMap<String, String[]>();
     }
 
     /**************************************************************************
@@ -149,6 +187,15 @@ public class CcddScriptDataAccessHandler
      *************************************************************************/
     private TableInformation getTableInformation(String tableType)
     {
+        String typeKey = tableType.toLowerCase();
+
+        // Check if the table information for this type has already been
+        // located
+        if (tableInfoByType.containsKey(typeKey))
+        {
+            return tableInfoByType.get(typeKey);
+        }
+
         TableInformation tableInfo = null;
 
         // Get the type definition based on the table type name
@@ -184,9 +231,158 @@ public class CcddScriptDataAccessHandler
             }
         }
 
+        // Store the table information so that subsequent requests for this
+        // type don't require a search
+        tableInfoByType.put(typeKey, tableInfo);
+
         return tableInfo;
     }
 
+    /**************************************************************************
+     * Get the index of the specified column in the specified table type. The
+     * index is determined from the table type definition the first time the
+     * type and column combination is requested; subsequent requests use the
+     * stored index
+     * 
+     * @param typeName
+     *            table type name (the specific type, not the generic
+     *            "Structure" or "Command" type)
+     * 
+     * @param columnName
+     *            column name (case insensitive)
+     * 
+     * @return Index of the column in the table type; -1 if the table type or
+     *         the column doesn't exist
+     *************************************************************************/
+    private int getColumnIndex(String typeName, String columnName)
+    {
+        // Get the column indices for this table type
+        Map<String, Integer> indices = columnIndices.get(typeName);
+
+        // Check if this table type hasn't been referenced previously
+        if (indices == null)
+        {
+            // Create storage for the table type's column indices
+            indices = new HashMap<String, Integer>();
+            columnIndices.put(typeName, indices);
+        }
+
+        // Get the index of the column
+        Integer column = indices.get(columnName.toLowerCase());
+
+        // Check if this column hasn't been referenced previously
+        if (column == null)
+        {
+            // Get the type definition based on the table's specific type name
+            TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(typeName);
+
+            // Get the column index matching the column name and store it
+            column = typeDefn != null
+                                     ? typeDefn.getColumnIndexByUserName(columnName)
+                                     : -1;
+            indices.put(columnName.toLowerCase(), column);
+        }
+
+        return column;
+    }
+
+    /**************************************************************************
+     * Get the index of the first row in the specified table type data with the
+     * specified table path and with the matching name in the matching column.
+     * The row index for the table type and matching column combination is
+     * built the first time the combination is requested; subsequent requests
+     * use the stored index
+     * 
+     * @param tableType
+     *            table type. All structure table types are combined and are
+     *            referenced by the type name "Structure", and all command
+     *            table types are combined and are referenced by the type name
+     *            "Command"
+     * 
+     * @param tablePath
+     *            full table path
+     * 
+     * @param matchColumnName
+     *            name of the column containing that matching name (case
+     *            insensitive)
+     * 
+     * @param matchName
+     *            text to match in the matching column
+     * 
+     * @return Index of the first row with the table path and matching name;
+     *         -1 if an instance of the table type, the matching column, or the
+     *         matching name doesn't exist
+     *************************************************************************/
+    private int getRowIndex(String tableType,
+                            String tablePath,
+                            String matchColumnName,
+                            String matchName)
+    {
+        int row = -1;
+
+        // Get the reference to the table information class for the requested
+        // table type
+        TableInformation tableInfo = getTableInformation(tableType);
+
+        // Check that the table type exists
+        if (tableInfo != null)
+        {
+            // Get the row index for the table type and matching column
+            String indexKey = tableType.toLowerCase()
+                              + "\n"
+                              + matchColumnName.toLowerCase();
+            Map<String, Integer> rows = rowIndices.get(indexKey);
+
+            // Check if the row index hasn't been built
+            if (rows == null)
+            {
+                rows = new HashMap<String, Integer>();
+                String[][] data = tableInfo.getData();
+
+                // Step through the table data
+                for (int index = 0; index < data.length; index++)
+                {
+                    // Get the index for the matching column based on the
+                    // table's specific type name
+                    int matchColumnIndex = getColumnIndex(getTypeNameByRow(tableType,
+                                                                           index),
+                                                          matchColumnName);
+
+                    // Check that the matching column exists in the table
+                    if (matchColumnIndex != -1)
+                    {
+                        // Build the key from the table path and the matching
+                        // column value
+                        String rowKey = data[index][data[index].length
+                                                    - PATH_COLUMN_DELTA]
+                                        + "\n"
+                                        + data[index][matchColumnIndex];
+
+                        // Check if a preceding row doesn't have the same key
+                        if (!rows.containsKey(rowKey))
+                        {
+                            // Store the row index
+                            rows.put(rowKey, index);
+                        }
+                    }
+                }
+
+                rowIndices.put(indexKey, rows);
+            }
+
+            // Get the index of the row with the table path and matching name
+            Integer index = rows.get(tablePath + "\n" + matchName);
+
+            // Check if a matching row exists
+            if (index != null)
+            {
+                row = index;
+            }
+        }
+
+        return row;
+    }
+
     /**************************************************************************
      * Get the name of the script file being executed
      * 
@@ -893,7 +1089,7 @@ public class CcddScriptDataAccessHandler
      *************************************************************************/
     public String[] getTableNames(String tableType)
     {
-        List<String> names = new ArrayList<String>();
+        Set<String> names = new LinkedHashSet<String>();
 
         // Get the reference to the table information class for the requested
         // table type
@@ -908,15 +1104,9 @@ public class CcddScriptDataAccessHandler
                 // Calculate the column index for the table path
                 int pathColumn = tableInfo.getData()[row].length - PATH_COLUMN_DELTA;
 
-                // Get the table's root name from the path
-                String tableName = TableInformation.getPrototypeName(tableInfo.getData()[row][pathColumn]);
-
-                // Check if the structure name hasn't been added to the list
-                if (!names.contains(tableName))
-                {
-                    // Store the structure name
-                    names.add(tableName);
-                }
+                // Store the table's root name from the path. The name is
+                // stored only once
+                names.add(TableInformation.getPrototypeName(tableInfo.getData()[row][pathColumn]));
             }
         }
 
@@ -931,7 +1121,7 @@ public class CcddScriptDataAccessHandler
      *************************************************************************/
     public String[] getTableNames()
     {
-        List<String> names = new ArrayList<String>();
+        Set<String> names = new LinkedHashSet<String>();
 
         // Step through each table type's information
         for (TableInformation tableInfo : tableInformation)
@@ -945,16 +1135,9 @@ public class CcddScriptDataAccessHandler
                     // Calculate the column index for the table path
                     int pathColumn = tableInfo.getData()[row].length - PATH_COLUMN_DELTA;
 
-                    // Get the table's root name from the path
-                    String tableName = TableInformation.getPrototypeName(tableInfo.getData()[row][pathColumn]);
-
-                    // Check if the structure name hasn't been added to the
-                    // list
-                    if (!names.contains(tableName))
-                    {
-                        // Store the structure name
-                        names.add(tableName);
-                    }
+                    // Store the table's root name from the path. The name is
+                    // stored only once
+                    names.add(TableInformation.getPrototypeName(tableInfo.getData()[row][pathColumn]));
                 }
             }
         }
@@ -1143,6 +1326,14 @@ public class CcddScriptDataAccessHandler
     {
         String fullName = "";
 
+        // Check if the variable handler has't already been obtained
+        if (variableHandler == null)
+        {
+            // Get the variable handler created by a previous execution of a
+            // script using the same tables, if any
+            variableHandler = ccddMain.getScriptHandler().getVariableConversionHandler(associationTables);
+        }
+
         // Check if the variable handler has't already been created
         if (variableHandler == null)
         {
@@ -1179,6 +1370,11 @@ public class CcddScriptDataAccessHandler
 
             // Create the variable handler
             variableHandler = new CcddVariableConversionHandler(variableInformation, macroHandler);
+
+            // Store the variable handler so that it can be used by subsequent
+            // executions of scripts using the same tables
+            ccddMain.getScriptHandler().setVariableConversionHandler(associationTables,
+                                                                     variableHandler);
         }
 
         // Get the name of the variable name column
@@ -1320,27 +1516,48 @@ public class CcddScriptDataAccessHandler
             // Check that the row index is valid
             if (tableInfo.getData().length != 0 && pathColumn > 0)
             {
-                // Get the structure path for this row
-                structurePath = tableInfo.getData()[row][pathColumn];
+                // Get the paths for this table type and path format
+                String pathKey = tableType.toLowerCase() + "\n" + pathType;
+                String[] paths = rowPaths.get(pathKey);
 
-                switch (pathType)
+                // Check if no path of this type and format has been requested
+                if (paths == null)
                 {
-                    case VARIABLE_AND_PARENT:
-                        break;
+                    // Create storage for the paths of every row
+                    paths = new String[tableInfo.getData().length];
+                    rowPaths.put(pathKey, paths);
+                }
 
-                    case VARIABLE_ONLY:
-                        // TODO WHAT USES THIS FORMAT NOW?
-                        // Remove the data types (parent structure names) from
-                        // the path
-                        structurePath = structurePath.replaceAll(",[^\\.]*\\.", ",");
-                        break;
+                // Check if the path for this row hasn't been determined
+                if (paths[row] == null)
+                {
+                    // Get the structure path for this row
+                    structurePath = tableInfo.getData()[row][pathColumn];
 
-                    case ITOS_RECORD:
-                        // Remove the data types (parent structure names) from
-                        // the path and replace the commas with periods
-                        structurePath = structurePath.replaceAll(",[^\\.]*\\.", ".");
-                        break;
+                    switch (pathType)
+                    {
+                        case VARIABLE_AND_PARENT:
+                            break;
+
+                        case VARIABLE_ONLY:
+                            // TODO WHAT USES THIS FORMAT NOW?
+                            // Remove the data types (parent structure names)
+                            // from the path
+                            structurePath = structurePath.replaceAll(",[^\\.]*\\.", ",");
+                            break;
+
+                        case ITOS_RECORD:
+                            // Remove the data types (parent structure names)
+                            // from the path and replace the commas with periods
+                            structurePath = structurePath.replaceAll(",[^\\.]*\\.", ".");
+                            break;
+                    }
+
+                    // Store the path for this row
+                    paths[row] = structurePath;
                 }
+
+                structurePath = paths[row];
             }
         }
 
@@ -1907,12 +2124,10 @@ public class CcddScriptDataAccessHandler
         // Check that the table type exists and the row index is valid
         if (tableInfo != null && row < tableInfo.getData().length)
         {
-            // Get the type definition based on the table's specific type name
-            TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(getTypeNameByRow(tableType,
-                                                                                          row));
-
-            // Get the column index matching the requested column name
-            int column = typeDefn.getColumnIndexByUserName(columnName);
+            // Get the column index matching the requested column name based
+            // on the table's specific type name
+            int column = getColumnIndex(getTypeNameByRow(tableType, row),
+                                        columnName);
 
             // Check that the column name exists in the table
             if (column != -1)
@@ -1933,6 +2148,195 @@ public class CcddScriptDataAccessHandler
         return tableData;
     }
 
+    /**************************************************************************
+     * Get the structure table data in every row of the column indicated, with
+     * any macro replaced by its corresponding value. The column is specified
+     * by name. Convenience method that assumes the table type is "structure"
+     * 
+     * @param columnName
+     *            column name (case insensitive)
+     * 
+     * @return Array containing the contents of the specified column for each
+     *         row of the structure table data, with any macro replaced by its
+     *         corresponding value. The value is null for a row that doesn't
+     *         have the column; returns null if an instance of the structure
+     *         table type doesn't exist
+     *************************************************************************/
+    public String[] getStructureTableColumnData(String columnName)
+    {
+        return getTableColumnData(TYPE_STRUCTURE, columnName);
+    }
+
+    /**************************************************************************
+     * Get the command table data in every row of the column indicated, with
+     * any macro replaced by its corresponding value. The column is specified
+     * by name. Convenience method that assumes the table type is "command"
+     * 
+     * @param columnName
+     *            column name (case insensitive)
+     * 
+     * @return Array containing the contents of the specified column for each
+     *         row of the command table data, with any macro replaced by its
+     *         corresponding value. The value is null for a row that doesn't
+     *         have the column; returns null if an instance of the command
+     *         table type doesn't exist
+     *************************************************************************/
+    public String[] getCommandTableColumnData(String columnName)
+    {
+        return getTableColumnData(TYPE_COMMAND, columnName);
+    }
+
+    /**************************************************************************
+     * Get the data in every row of the column indicated, with any macro
+     * replaced by its corresponding value, for the table type specified. The
+     * column is specified by name
+     * 
+     * @param tableType
+     *            table type. All structure table types are combined and are
+     *            referenced by the type name "Structure", and all command
+     *            table types are combined and are referenced by the type name
+     *            "Command"
+     * 
+     * @param columnName
+     *            column name (case insensitive)
+     * 
+     * @return Array containing the contents of the specified column for each
+     *         row of the table data, with any macro replaced by its
+     *         corresponding value. The value is null for a row that doesn't
+     *         have the column; returns null if an instance of the table type
+     *         doesn't exist
+     *************************************************************************/
+    public String[] getTableColumnData(String tableType, String columnName)
+    {
+        return getTableColumnData(tableType, columnName, true);
+    }
+
+    /**************************************************************************
+     * Get the structure table data in every row of the column indicated, with
+     * any macro name(s) left in place. The column is specified by name.
+     * Convenience method that assumes the table type is "structure"
+     * 
+     * @param columnName
+     *            column name (case insensitive)
+     * 
+     * @return Array containing the contents of the specified column for each
+     *         row of the structure table data, with any macro name(s) left in
+     *         place. The value is null for a row that doesn't have the column;
+     *         returns null if an instance of the structure table type doesn't
+     *         exist
+     *************************************************************************/
+    public String[] getStructureTableColumnDataWithMacros(String columnName)
+    {
+        return getTableColumnDataWithMacros(TYPE_STRUCTURE, columnName);
+    }
+
+    /**************************************************************************
+     * Get the command table data in every row of the column indicated, with
+     * any macro name(s) left in place. The column is specified by name.
+     * Convenience method that assumes the table type is "command"
+     * 
+     * @param columnName
+     *            column name (case insensitive)
+     * 
+     * @return Array containing the contents of the specified column for each
+     *         row of the command table data, with any macro name(s) left in
+     *         place. The value is null for a row that doesn't have the column;
+     *         returns null if an instance of the command table type doesn't
+     *         exist
+     *************************************************************************/
+    public String[] getCommandTableColumnDataWithMacros(String columnName)
+    {
+        return getTableColumnDataWithMacros(TYPE_COMMAND, columnName);
+    }
+
+    /**************************************************************************
+     * Get the data in every row of the column indicated, with any macro
+     * name(s) left in place, for the table type specified. The column is
+     * specified by name
+     * 
+     * @param tableType
+     *            table type. All structure table types are combined and are
+     *            referenced by the type name "Structure", and all command
+     *            table types are combined and are referenced by the type name
+     *            "Command"
+     * 
+     * @param columnName
+     *            column name (case insensitive)
+     * 
+     * @return Array containing the contents of the specified column for each
+     *         row of the table data, with any macro name(s) left in place. The
+     *         value is null for a row that doesn't have the column; returns
+     *         null if an instance of the table type doesn't exist
+     *************************************************************************/
+    public String[] getTableColumnDataWithMacros(String tableType,
+                                                 String columnName)
+    {
+        return getTableColumnData(tableType, columnName, false);
+    }
+
+    /**************************************************************************
+     * Get the data in every row of the column indicated for the table type
+     * specified. The column is specified by name. Macro expansion is
+     * controlled by the input flag
+     * 
+     * @param tableType
+     *            table type. All structure table types are combined and are
+     *            referenced by the type name "Structure", and all command
+     *            table types are combined and are referenced by the type name
+     *            "Command"
+     * 
+     * @param columnName
+     *            column name (case insensitive)
+     * 
+     * @param expandMacros
+     *            true to replace any macros with their corresponding value;
+     *            false to return the data with any macro names in place
+     * 
+     * @return Array containing the contents of the specified column for each
+     *         row of the table data. The value is null for a row that doesn't
+     *         have the column; returns null if an instance of the table type
+     *         doesn't exist
+     *************************************************************************/
+    private String[] getTableColumnData(String tableType,
+                                        String columnName,
+                                        boolean expandMacros)
+    {
+        String[] columnData = null;
+
+        // Get the reference to the table information class for the requested
+        // table type
+        TableInformation tableInfo = getTableInformation(tableType);
+
+        // Check that the table type exists
+        if (tableInfo != null)
+        {
+            String[][] data = tableInfo.getData();
+            columnData = new String[data.length];
+
+            // Step through each row in the table
+            for (int row = 0; row < data.length; row++)
+            {
+                // Get the column index matching the requested column name
+                // based on the table's specific type name
+                int column = getColumnIndex(data[row][data[row].length
+                                                      - TYPE_COLUMN_DELTA],
+                                            columnName);
+
+                // Check that the column name exists in the table
+                if (column != -1)
+                {
+                    // Store the contents of the table at this row and the
+                    // specified column, expanding any macros if requested
+                    columnData[row] = expandMacros
+                                                  ? macroHandler.getMacroExpansion(data[row][column])
+                                                  : data[row][column];
+                }
+            }
+        }
+
+        return columnData;
+    }
+
     /**************************************************************************
      * Get the data from the specified "Structure" table in the specified
      * column for the row with the specified variable name, with any macro name
@@ -2141,47 +2545,30 @@ public class CcddScriptDataAccessHandler
     {
         String tableData = null;
 
-        // Get the reference to the table information class for the requested
-        // table type
-        TableInformation tableInfo = getTableInformation(tableType);
+        // Get the index of the row with the table path and matching name
+        int row = getRowIndex(tableType, tablePath, matchColumnName, matchName);
 
-        // Check that the table type exists
-        if (tableInfo != null)
+        // Check that the matching row exists
+        if (row != -1)
         {
-            // Step through the table data
-            for (int row = 0; row < tableInfo.getData().length; row++)
+            // Get the index for the data column based on the table's specific
+            // type name
+            int dataColumnIndex = getColumnIndex(getTypeNameByRow(tableType,
+                                                                  row),
+                                                 dataColumnName);
+
+            // Check that the data column exists in the table
+            if (dataColumnIndex != -1)
             {
-                // Get the type definition based on the table's specific type
-                // name
-                TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(getTypeNameByRow(tableType,
-                                                                                              row));
-
-                // Get the index for the matching and data columns
-                int matchColumnIndex = typeDefn.getColumnIndexByUserName(matchColumnName);
-                int dataColumnIndex = typeDefn.getColumnIndexByUserName(dataColumnName);
+                // Store the contents of the table at the specified row and
+                // column
+                tableData = getTableInformation(tableType).getData()[row][dataColumnIndex];
 
-                // Check that the column names exist in the table
-                if (matchColumnIndex != -1 && dataColumnIndex != -1)
+                // Check if any macros should be expanded
+                if (expandMacros)
                 {
-                    // Check if the table name matches the target table and the
-                    // matching name matches that in the matching name column
-                    if (tableInfo.getData()[row][tableInfo.getData()[row].length
-                                                 - PATH_COLUMN_DELTA].equals(tablePath)
-                        && tableInfo.getData()[row][matchColumnIndex].equals(matchName))
-                    {
-                        // Store the contents of the table at the specified row
-                        // and column and stop searching
-                        tableData = tableInfo.getData()[row][dataColumnIndex];
-
-                        // Check if any macros should be expanded
-                        if (expandMacros)
-                        {
-                            // Expand any macros in the data
-                            tableData = macroHandler.getMacroExpansion(tableData);
-                        }
-
-                        break;
-                    }
+                    // Expand any macros in the data
+                    tableData = macroHandler.getMacroExpansion(tableData);
                 }
             }
         }
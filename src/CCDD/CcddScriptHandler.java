@@ -28,18 +28,31 @@ import java.awt.Dimension;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
+import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 
 import javax.script.Bindings;
-import javax.script.ScriptContext;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
 import javax.script.ScriptEngineManager;
@@ -89,9 +102,10 @@ public class CcddScriptHandler
     // List of script engine factories that are available on this platform
     private final List<ScriptEngineFactory> scriptFactories;
 
-    // Global storage for the data obtained in the recursive table data reading
-    // method
-    private String[][] combinedData;
+    // Script engines available for reuse, by engine factory. An engine is
+    // removed from the pool while it's executing a script and returned once
+    // the script completes
+    private final Map<ScriptEngineFactory, Deque<PooledScriptEngine>> enginePool;
 
     // Flag that indicates is disabled associations are selectable in the
     // associations list
@@ -101,6 +115,16 @@ public class CcddScriptHandler
     // its execution
     boolean[] isBad;
 
+    // Maximum number of script associations to execute concurrently; 1 to
+    // execute the associations sequentially
+    private int scriptThreads;
+
+    // Variable conversion handlers, keyed by the tables associated with the
+    // script(s) that created them. The handlers are shared by the scripts
+    // executed against the same loaded table data, and are discarded when the
+    // table data is reloaded
+    private final Map<String, CcddVariableConversionHandler> variableHandlers;
+
     /**************************************************************************
      * Script handler class constructor
      * 
@@ -117,6 +141,267 @@ public class CcddScriptHandler
 
         // Get the available script engines
         scriptFactories = new ScriptEngineManager().getEngineFactories();
+
+        // Create the pool for the script engines
+        enginePool = new HashMap<ScriptEngineFactory, Deque<PooledScriptEngine>>();
+
+        // Execute the script associations sequentially by default
+        scriptThreads = 1;
+
+        // Create storage for the variable conversion handlers
+        variableHandlers = new HashMap<String, CcddVariableConversionHandler>();
+    }
+
+    /**************************************************************************
+     * Get the variable conversion handler for the specified script
+     * association tables
+     * 
+     * @param tables
+     *            tables associated with the script
+     * 
+     * @return Variable conversion handler created by a script executed using
+     *         the same tables since the table data was loaded; null if no
+     *         handler exists for the tables
+     *************************************************************************/
+    protected CcddVariableConversionHandler getVariableConversionHandler(String tables)
+    {
+        synchronized (variableHandlers)
+        {
+            return variableHandlers.get(tables);
+        }
+    }
+
+    /**************************************************************************
+     * Store the variable conversion handler for the specified script
+     * association tables so that it can be used by other scripts executed
+     * using the same tables
+     * 
+     * @param tables
+     *            tables associated with the script
+     * 
+     * @param variableHandler
+     *            variable conversion handler
+     *************************************************************************/
+    protected void setVariableConversionHandler(String tables,
+                                                CcddVariableConversionHandler variableHandler)
+    {
+        synchronized (variableHandlers)
+        {
+            variableHandlers.put(tables, variableHandler);
+        }
+    }
+
+    /**************************************************************************
+     * Set the maximum number of script associations to execute concurrently
+     * 
+     * @param scriptThreads
+     *            maximum number of script associations to execute
+     *            concurrently; 1 to execute the associations sequentially
+     *************************************************************************/
+    protected void setScriptThreads(int scriptThreads)
+    {
+        this.scriptThreads = Math.max(1, scriptThreads);
+    }
+
+    /**************************************************************************
+     * Script engine pool member class. The engine's compiled scripts are
+     * stored so that a script executed more than once (e.g., for several
+     * associations) is read and compiled only once. A script is recompiled if
+     * its file is modified
+     *************************************************************************/
+    private static class PooledScriptEngine
+    {
+        private final ScriptEngine engine;
+
+        // Compiled scripts, and the modification time of the script file when
+        // it was compiled, by script file path
+        private final Map<String, CompiledScript> compiledScripts;
+        private final Map<String, Long> compiledTimes;
+
+        /**********************************************************************
+         * Script engine pool member class constructor
+         * 
+         * @param engine
+         *            script engine
+         *********************************************************************/
+        PooledScriptEngine(ScriptEngine engine)
+        {
+            this.engine = engine;
+            compiledScripts = new HashMap<String, CompiledScript>();
+            compiledTimes = new HashMap<String, Long>();
+        }
+
+        /**********************************************************************
+         * Get the script engine
+         * 
+         * @return Script engine
+         *********************************************************************/
+        protected ScriptEngine getEngine()
+        {
+            return engine;
+        }
+
+        /**********************************************************************
+         * Execute the specified script file. If the engine supports
+         * compilation then the script is compiled, if not already compiled
+         * since the file was last modified, and the compiled script is
+         * executed; otherwise the script file is read and executed
+         * 
+         * @param scriptFile
+         *            script file
+         * 
+         * @param bindings
+         *            bindings used as the engine scope for this execution of
+         *            the script
+         * 
+         * @throws IOException
+         *             If the script file can't be read
+         * 
+         * @throws ScriptException
+         *             If the script fails to compile or encounters an error
+         *             during execution
+         *********************************************************************/
+        protected void eval(File scriptFile,
+                            Bindings bindings) throws IOException,
+                                              ScriptException
+        {
+            // Check if the engine supports compiling scripts
+            if (engine instanceof Compilable)
+            {
+                String scriptPath = scriptFile.getAbsolutePath();
+                long lastModified = scriptFile.lastModified();
+
+                // Get the compiled script, if it exists
+                CompiledScript compiledScript = compiledScripts.get(scriptPath);
+
+                // Check if the script hasn't been compiled or if the script
+                // file has changed since it was compiled
+                if (compiledScript == null
+                    || compiledTimes.get(scriptPath) != lastModified)
+                {
+                    // Compile the script and store it
+                    compiledScript = ((Compilable) engine).compile(readScript(scriptFile));
+                    compiledScripts.put(scriptPath, compiledScript);
+                    compiledTimes.put(scriptPath, lastModified);
+                }
+
+                // Execute the compiled script
+                compiledScript.eval(bindings);
+            }
+            // The engine doesn't support compiling scripts
+            else
+            {
+                // Read and execute the script
+                engine.eval(readScript(scriptFile), bindings);
+            }
+        }
+
+        /**********************************************************************
+         * Read the contents of the specified script file
+         * 
+         * @param scriptFile
+         *            script file
+         * 
+         * @return Contents of the script file
+         * 
+         * @throws IOException
+         *             If the script file can't be read
+         *********************************************************************/
+        private String readScript(File scriptFile) throws IOException
+        {
+            StringBuilder script = new StringBuilder();
+            Reader reader = null;
+
+            try
+            {
+                reader = new BufferedReader(new FileReader(scriptFile));
+                char[] buffer = new char[8192];
+                int count;
+
+                // Continue to read the script file until the end is reached
+                while ((count = reader.read(buffer)) != -1)
+                {
+                    script.append(buffer, 0, count);
+                }
+            }
+            finally
+            {
+                // Check if the script file was opened
+                if (reader != null)
+                {
+                    // Close the script file
+                    reader.close();
+                }
+            }
+
+            return script.toString();
+        }
+    }
+
+    /**************************************************************************
+     * Get a script engine from the specified factory. An engine is taken from
+     * the pool if one is available; otherwise a new engine is created
+     * 
+     * @param factory
+     *            script engine factory
+     * 
+     * @return Script engine pool member
+     *************************************************************************/
+    private PooledScriptEngine acquireScriptEngine(ScriptEngineFactory factory)
+    {
+        PooledScriptEngine pooledEngine = null;
+
+        synchronized (enginePool)
+        {
+            // Get the engines available for this factory
+            Deque<PooledScriptEngine> engines = enginePool.get(factory);
+
+            // Check if an engine is available
+            if (engines != null && !engines.isEmpty())
+            {
+                // Remove the engine from the pool
+                pooledEngine = engines.pop();
+            }
+        }
+
+        // Check if no engine is available from the pool
+        if (pooledEngine == null)
+        {
+            // Create a new engine
+            pooledEngine = new PooledScriptEngine(factory.getScriptEngine());
+        }
+
+        return pooledEngine;
+    }
+
+    /**************************************************************************
+     * Return a script engine to the pool so that it can be reused
+     * 
+     * @param factory
+     *            script engine factory that created the engine
+     * 
+     * @param pooledEngine
+     *            script engine pool member
+     *************************************************************************/
+    private void releaseScriptEngine(ScriptEngineFactory factory,
+                                     PooledScriptEngine pooledEngine)
+    {
+        synchronized (enginePool)
+        {
+            // Get the engines available for this factory
+            Deque<PooledScriptEngine> engines = enginePool.get(factory);
+
+            // Check if no engine has been pooled for this factory
+            if (engines == null)
+            {
+                // Create the factory's pool
+                engines = new ArrayDeque<PooledScriptEngine>();
+                enginePool.put(factory, engines);
+            }
+
+            // Return the engine to the pool
+            engines.push(pooledEngine);
+        }
     }
 
     /**************************************************************************
@@ -443,6 +728,13 @@ public class CcddScriptHandler
                                                  component);
         }
 
+        // Discard the variable conversion handlers created using the
+        // previously loaded table data
+        synchronized (variableHandlers)
+        {
+            variableHandlers.clear();
+        }
+
         // Create storage for the individual tables' data and table path+names
         List<TableInformation> tableInformation = new ArrayList<TableInformation>();
         List<String> loadedTablePaths = new ArrayList<String>();
@@ -476,13 +768,10 @@ public class CcddScriptHandler
                             // more than one association
                             loadedTablePaths.add(tablePath);
 
-                            // Initialize the array for each of the tables to
-                            // load from the database
-                            combinedData = new String[0][0];
-
                             // Read the table and child table data from the
                             // database
-                            tableInformation.add(readTable(tablePath, component));
+                            tableInformation.add(readTable(tablePath,
+                                                           component));
 
                             // Get a reference to the last table information
                             // read
@@ -499,10 +788,6 @@ public class CcddScriptHandler
                             // The table loaded successfully
                             else
                             {
-                                // Store the data for the table and its child
-                                // table
-                                tableInfo.setData(combinedData);
-
                                 // Get the type definition based on the table
                                 // type name
                                 TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
@@ -566,154 +851,306 @@ public class CcddScriptHandler
         }
 
         // Get the link assignment information, if any
-        CcddLinkHandler linkHandler = new CcddLinkHandler(ccddMain,
-                                                          component);
+        final CcddLinkHandler linkHandler = new CcddLinkHandler(ccddMain,
+                                                                component);
 
         // Load the data field information from the database
-        CcddFieldHandler fieldHandler = new CcddFieldHandler(ccddMain,
-                                                             null,
-                                                             component);
+        final CcddFieldHandler fieldHandler = new CcddFieldHandler(ccddMain,
+                                                                   null,
+                                                                   component);
 
         // Load the group information from the database
-        CcddGroupHandler groupHandler = new CcddGroupHandler(ccddMain,
-                                                             component);
+        final CcddGroupHandler groupHandler = new CcddGroupHandler(ccddMain,
+                                                                   component);
+
         // Once all table information is loaded then gather the data for each
-        // association and execute it. Step through each script association
-        // definition
-        for (int assnIndex = 0; assnIndex < associations.length; assnIndex++)
+        // association and execute it. Check if the associations are to be
+        // executed sequentially
+        if (scriptThreads <= 1 || associations.length < 2)
         {
-            // Check that an error didn't occur loading the data for this
-            // association
-            if (!isBad[assnIndex])
+            // Step through each script association definition
+            for (int assnIndex = 0; assnIndex < associations.length; assnIndex++)
             {
-                TableInformation[] combinedTableInfo = null;
-
-                // Check if at least one table is assigned to this script
+                // Check that an error didn't occur loading the data for this
                 // association
-                if (!associations[assnIndex][AssociationsColumn.MEMBERS.ordinal()].isEmpty())
+                if (!isBad[assnIndex])
+                {
+                    // Gather the association's data and execute the script
+                    isBad[assnIndex] = executeAssociation(component,
+                                                          associations[assnIndex],
+                                                          tableInformation,
+                                                          linkHandler,
+                                                          fieldHandler,
+                                                          groupHandler);
+                }
+            }
+        }
+        // The associations are to be executed in parallel
+        else
+        {
+            // Executing the associations in parallel is possible since each
+            // association's script is executed by its own script engine with
+            // its own data access handler, and the table information loaded
+            // above isn't altered once the execution begins. Create a pool
+            // of threads to execute the associations, limited to the number
+            // of threads specified
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(scriptThreads,
+                                                                             associations.length));
+            List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+
+            // Create final references to the items needed by the association
+            // execution threads
+            final Component comp = component;
+            final List<TableInformation> tableInfo = tableInformation;
+
+            // Step through each script association definition
+            for (int assnIndex = 0; assnIndex < associations.length; assnIndex++)
+            {
+                // Check that an error didn't occur loading the data for this
+                // association
+                if (!isBad[assnIndex])
                 {
-                    // Create storage for the table types used by this script
-                    // association
-                    List<String> tableTypes = new ArrayList<String>();
-
-                    // Separate the individual table names
-                    List<String> tableNames = Arrays.asList(associations[assnIndex][AssociationsColumn.MEMBERS.ordinal()].split(Pattern.quote(LIST_TABLE_SEPARATOR)));
-
-                    // Create a list of the table types referenced by this
-                    // association. This is used to create the storage for the
-                    // combined tables. Step through each table information
-                    // instance
-                    for (TableInformation tableInfo : tableInformation)
+                    final String[] association = associations[assnIndex];
+
+                    // Queue the association for execution
+                    results.add(executor.submit(new Callable<Boolean>()
                     {
-                        // Check if this table is a member of the association
-                        if (tableNames.contains(tableInfo.getTablePath()))
+                        /******************************************************
+                         * Gather the association's data and execute the script
+                         *****************************************************/
+                        @Override
+                        public Boolean call()
                         {
-                            // Check if the type for this table is not
-                            // already in the list
-                            if (!tableTypes.contains(tableInfo.getType()))
+                            boolean isError = true;
+                            CcddDbCommandHandler dbCommand = ccddMain.getDbCommandHandler();
+
+                            try
                             {
-                                // Add the table type to the list
-                                tableTypes.add(tableInfo.getType());
+                                // Obtain a pooled database connection so that
+                                // any database queries made by the script
+                                // don't share the main connection's statement
+                                // with the other associations' threads
+                                dbCommand.obtainRequestConnection();
+
+                                // Execute the association
+                                isError = executeAssociation(comp,
+                                                             association,
+                                                             tableInfo,
+                                                             linkHandler,
+                                                             fieldHandler,
+                                                             groupHandler);
                             }
-                        }
-                    }
-
-                    // Create storage for the combined table data
-                    combinedTableInfo = new TableInformation[tableTypes.size()];
-
-                    // Gather the table data, by table type, for each
-                    // associated table. Step through each table type
-                    // represented in this
-                    // association
-                    for (int typeIndex = 0; typeIndex < tableTypes.size(); typeIndex++)
-                    {
-                        String tableName = "";
-                        String[][] allTableData = new String[0][0];
-
-                        // Step through each table information instance
-                        for (TableInformation tableInfo : tableInformation)
-                        {
-                            // Check if this table is a member of the
-                            // association
-                            if (tableNames.contains(tableInfo.getTablePath()))
+                            catch (SQLException se)
                             {
-                                // Check if the table types match
-                                if (tableTypes.get(typeIndex).equals(tableInfo.getType()))
-                                {
-                                    // Check if the name hasn't been stored
-                                    if (tableName.isEmpty())
-                                    {
-                                        // Assign the name of the first table
-                                        // of this type as this type's table
-                                        // name
-                                        tableName += tableInfo.getTablePath();
-                                    }
-
-                                    // Append the table data to the combined
-                                    // data array
-                                    allTableData = CcddUtilities.concatenateArrays(allTableData,
-                                                                                   tableInfo.getData());
-                                }
+                                // Inform the user that connecting to the
+                                // database failed
+                                eventLog.logFailEvent(comp,
+                                                      "Cannot connect to database for script association; cause '"
+                                                          + se.getMessage()
+                                                          + "'",
+                                                      "<html><b>Cannot connect to database for script association");
+                            }
+                            finally
+                            {
+                                // Release the thread's database connection
+                                dbCommand.releaseRequestConnection();
                             }
-                        }
 
-                        // Create the table information from the table data
-                        // obtained from the database
-                        combinedTableInfo[typeIndex] = new TableInformation(tableTypes.get(typeIndex),
-                                                                            tableName,
-                                                                            allTableData,
-                                                                            null,
-                                                                            null,
-                                                                            false,
-                                                                            new Object[0][0]);
-                    }
+                            return isError;
+                        }
+                    }));
                 }
-                // No table is assigned to this script association
+                // The association can't be executed
                 else
                 {
-                    // Create a table information class in order to load and
-                    // parse the data fields, and to allow access to the field
-                    // methods
-                    combinedTableInfo = new TableInformation[1];
-                    combinedTableInfo[0] = new TableInformation("",
-                                                                "",
-                                                                null,
-                                                                null,
-                                                                null,
-                                                                false,
-                                                                new Object[0][0]);
+                    // Add a placeholder for the association's result
+                    results.add(null);
                 }
+            }
 
-                try
+            // No further associations are added to the pool; the threads
+            // terminate once the queued associations complete
+            executor.shutdown();
+
+            // Step through each script association's execution result
+            for (int assnIndex = 0; assnIndex < associations.length; assnIndex++)
+            {
+                // Check if the association was queued for execution
+                if (results.get(assnIndex) != null)
                 {
-                    // Execute the script using the indicated table data
-                    executeScript(component,
-                                  associations[assnIndex][AssociationsColumn.SCRIPT_FILE.ordinal()],
-                                  combinedTableInfo,
-                                  linkHandler,
-                                  fieldHandler,
-                                  groupHandler);
+                    try
+                    {
+                        // Wait for the association to complete and store its
+                        // completion status
+                        isBad[assnIndex] = results.get(assnIndex).get();
+                    }
+                    catch (InterruptedException | ExecutionException e)
+                    {
+                        // Set the flag for this association indicating it
+                        // didn't complete
+                        isBad[assnIndex] = true;
+
+                        // Display a dialog providing details on the
+                        // unanticipated error
+                        CcddUtilities.displayException(e, ccddMain.getMainFrame());
+                    }
                 }
-                catch (CCDDException ce)
+            }
+        }
+        return isBad;
+    }
+
+    /**************************************************************************
+     * Combine the loaded table data for the tables referenced by the specified
+     * script association and execute the association's script
+     * 
+     * @param component
+     *            GUI component calling this method
+     * 
+     * @param association
+     *            script association definition
+     * 
+     * @param tableInformation
+     *            list of the loaded table information for all of the
+     *            associations being executed. The list and its contents are
+     *            not altered
+     * 
+     * @param linkHandler
+     *            link handler reference
+     * 
+     * @param fieldHandler
+     *            field handler reference
+     * 
+     * @param groupHandler
+     *            group handler reference
+     * 
+     * @return true if the association did not complete successfully
+     *************************************************************************/
+    private boolean executeAssociation(Component component,
+                                       String[] association,
+                                       List<TableInformation> tableInformation,
+                                       CcddLinkHandler linkHandler,
+                                       CcddFieldHandler fieldHandler,
+                                       CcddGroupHandler groupHandler)
+    {
+        boolean isBad = false;
+        TableInformation[] combinedTableInfo = null;
+
+        // Check if at least one table is assigned to this script association
+        if (!association[AssociationsColumn.MEMBERS.ordinal()].isEmpty())
+        {
+            // Create storage for the table types used by this script
+            // association
+            List<String> tableTypes = new ArrayList<String>();
+
+            // Separate the individual table names
+            List<String> tableNames = Arrays.asList(association[AssociationsColumn.MEMBERS.ordinal()].split(Pattern.quote(LIST_TABLE_SEPARATOR)));
+
+            // Create a list of the table types referenced by this association.
+            // This is used to create the storage for the combined tables. Step
+            // through each table information instance
+            for (TableInformation tableInfo : tableInformation)
+            {
+                // Check if this table is a member of the association
+                if (tableNames.contains(tableInfo.getTablePath()))
                 {
-                    // Inform the user that script execution failed
-                    logScriptError(component,
-                                   associations[assnIndex][AssociationsColumn.SCRIPT_FILE.ordinal()],
-                                   associations[assnIndex][AssociationsColumn.MEMBERS.ordinal()],
-                                   ce.getMessage());
-
-                    // Set the flag for this association indicating it can't be
-                    // executed
-                    isBad[assnIndex] = true;
+                    // Check if the type for this table is not already in the
+                    // list
+                    if (!tableTypes.contains(tableInfo.getType()))
+                    {
+                        // Add the table type to the list
+                        tableTypes.add(tableInfo.getType());
+                    }
                 }
-                catch (Exception e)
+            }
+
+            // Create storage for the combined table data
+            combinedTableInfo = new TableInformation[tableTypes.size()];
+
+            // Gather the table data, by table type, for each associated table.
+            // Step through each table type represented in this association
+            for (int typeIndex = 0; typeIndex < tableTypes.size(); typeIndex++)
+            {
+                String tableName = "";
+                String[][] allTableData = new String[0][0];
+
+                // Step through each table information instance
+                for (TableInformation tableInfo : tableInformation)
                 {
-                    // Display a dialog providing details on the unanticipated
-                    // error
-                    CcddUtilities.displayException(e, ccddMain.getMainFrame());
+                    // Check if this table is a member of the association
+                    if (tableNames.contains(tableInfo.getTablePath()))
+                    {
+                        // Check if the table types match
+                        if (tableTypes.get(typeIndex).equals(tableInfo.getType()))
+                        {
+                            // Check if the name hasn't been stored
+                            if (tableName.isEmpty())
+                            {
+                                // Assign the name of the first table of this
+                                // type as this type's table name
+                                tableName += tableInfo.getTablePath();
+                            }
+
+                            // Append the table data to the combined data array
+                            allTableData = CcddUtilities.concatenateArrays(allTableData,
+                                                                           tableInfo.getData());
+                        }
+                    }
                 }
+
+                // Create the table information from the table data obtained
+                // from the database
+                combinedTableInfo[typeIndex] = new TableInformation(tableTypes.get(typeIndex),
+                                                                    tableName,
+                                                                    allTableData,
+                                                                    null,
+                                                                    null,
+                                                                    false,
+                                                                    new Object[0][0]);
             }
         }
+        // No table is assigned to this script association
+        else
+        {
+            // Create a table information class in order to load and parse the
+            // data fields, and to allow access to the field methods
+            combinedTableInfo = new TableInformation[1];
+            combinedTableInfo[0] = new TableInformation("",
+                                                        "",
+                                                        null,
+                                                        null,
+                                                        null,
+                                                        false,
+                                                        new Object[0][0]);
+        }
+
+        try
+        {
+            // Execute the script using the indicated table data
+            executeScript(component,
+                          association[AssociationsColumn.SCRIPT_FILE.ordinal()],
+                          association[AssociationsColumn.MEMBERS.ordinal()],
+                          combinedTableInfo,
+                          linkHandler,
+                          fieldHandler,
+                          groupHandler);
+        }
+        catch (CCDDException ce)
+        {
+            // Inform the user that script execution failed
+            logScriptError(component,
+                           association[AssociationsColumn.SCRIPT_FILE.ordinal()],
+                           association[AssociationsColumn.MEMBERS.ordinal()],
+                           ce.getMessage());
+
+            // Set the flag for this association indicating it can't be executed
+            isBad = true;
+        }
+        catch (Exception e)
+        {
+            // Display a dialog providing details on the unanticipated error
+            CcddUtilities.displayException(e, ccddMain.getMainFrame());
+        }
 
         return isBad;
     }
@@ -800,10 +1237,10 @@ public class CcddScriptHandler
      * @param cause
      *            cause of the execution error
      *************************************************************************/
-    private void logScriptError(Component component,
-                                String scriptFileName,
-                                String tables,
-                                String cause)
+    private synchronized void logScriptError(Component component,
+                                             String scriptFileName,
+                                             String tables,
+                                             String cause)
     {
         // Inform the user that the script can't be executed
         eventLog.logFailEvent(component,
@@ -833,6 +1270,9 @@ public class CcddScriptHandler
      *            script engine and therefore must conform to standard
      *            extension usage
      * 
+     * @param associationTables
+     *            tables associated with the script
+     * 
      * @param tableInformation
      *            array of table information
      * 
@@ -849,6 +1289,7 @@ public class CcddScriptHandler
      *************************************************************************/
     private void executeScript(Component component,
                                String scriptFileName,
+                               String associationTables,
                                TableInformation[] tableInformation,
                                CcddLinkHandler linkHandler,
                                CcddFieldHandler fieldHandler,
@@ -895,18 +1336,20 @@ public class CcddScriptHandler
                 // that matches the extension
                 isValidExt = true;
 
+                // Get a script engine from the pool
+                PooledScriptEngine pooledEngine = acquireScriptEngine(factory);
+
                 try
                 {
-                    // Get the script engine
-                    ScriptEngine scriptEngine = factory.getScriptEngine();
-
                     // Bind an instance of the script data access handler class
                     // (named 'ccdd') to the script context so that the
                     // handler's public access methods can be accessed by the
                     // script. This is required for JavaScript engine 'Rhino'
                     // (Java 7 and earlier) or when using 'Nashorn'
-                    // compatibility (Java 8 and later)
-                    Bindings scriptBindings = scriptEngine.createBindings();
+                    // compatibility (Java 8 and later). New bindings are
+                    // created for each execution so that one execution's
+                    // variables don't carry over to the next
+                    Bindings scriptBindings = pooledEngine.getEngine().createBindings();
                     scriptBindings.put("ccdd",
                                        new CcddScriptDataAccessHandler(ccddMain,
                                                                        tableInformation,
@@ -914,14 +1357,13 @@ public class CcddScriptHandler
                                                                        fieldHandler,
                                                                        groupHandler,
                                                                        scriptFileName,
+                                                                       associationTables,
                                                                        component));
-                    scriptEngine.setBindings(scriptBindings,
-                                             ScriptContext.ENGINE_SCOPE);
 
                     // Execute the script
-                    scriptEngine.eval(new FileReader(scriptFileName));
+                    pooledEngine.eval(new File(scriptFileName), scriptBindings);
                 }
-                catch (FileNotFoundException fnfe)
+                catch (IOException ioe)
                 {
                     // Inform the user that the selected file cannot be read
                     throw new CCDDException("cannot read script file '"
@@ -943,6 +1385,11 @@ public class CcddScriptHandler
                     // error
                     CcddUtilities.displayException(e, ccddMain.getMainFrame());
                 }
+                finally
+                {
+                    // Return the script engine to the pool
+                    releaseScriptEngine(factory, pooledEngine);
+                }
 
                 // Stop searching since a match was found
                 break;
@@ -962,8 +1409,14 @@ public class CcddScriptHandler
     }
 
     /**************************************************************************
-     * Recursive method to load a table, and all the tables referenced within
-     * it and its child tables. The data is combined into a single array
+     * Load a table, and all the tables referenced within it and its child
+     * tables, and combine the data into a single array. The hierarchy is
+     * loaded one level at a time, with all of the child tables at a level
+     * loaded from the database together in a single bulk load; the rows for
+     * each prototype table are retrieved only once, regardless of the number
+     * of levels at which the prototype is referenced. Once the hierarchy is
+     * loaded the tables' rows are appended, in hierarchical order, to a
+     * single combined list. Each row has the table type and path appended
      * 
      * @param tablePath
      *            table path
@@ -971,100 +1424,250 @@ public class CcddScriptHandler
      * @param parent
      *            GUI component calling this method
      * 
-     * @return A TableDataHandler for the parent table. The error flag for the
+     * @return A TableDataHandler for the parent table, containing the combined
+     *         data for the table and its child tables. The error flag for the
      *         table data handler is set if an error occurred loading the data
      *************************************************************************/
     private TableInformation readTable(String tablePath, Component parent)
     {
+        // Create storage for the prototype tables' rows and the tables'
+        // comments. These are shared by every level of the hierarchy
+        Map<String, List<String[]>> prototypeData = new HashMap<String, List<String[]>>();
+        Map<String, String[]> tableComments = new HashMap<String, String[]>();
+
         // Read the table's data from the database
-        TableInformation tableInfo = dbTable.loadTableData(tablePath,
+        TableInformation tableInfo = dbTable.loadTableData(Arrays.asList(tablePath),
+                                                           null,
                                                            false,
                                                            false,
                                                            false,
-                                                           false,
-                                                           parent);
+                                                           prototypeData,
+                                                           tableComments,
+                                                           parent).get(0);
 
-        // Check that the data was successfully loaded from the database and
-        // that the table isn't empty
-        if (!tableInfo.isErrorFlag() && tableInfo.getData().length != 0)
+        // Check that the data was successfully loaded from the database
+        if (!tableInfo.isErrorFlag())
         {
-            // Get the table's type definition
-            TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
-
-            // Get the data and place it in an array for reference below. Add
-            // columns to contain the table type and path
-            String[][] data = CcddUtilities.appendArrayColumns(tableInfo.getData(), 2);
-            int typeColumn = data[0].length - TYPE_COLUMN_DELTA;
-            int pathColumn = data[0].length - PATH_COLUMN_DELTA;
-
-            // Get the index of the column containing the data type for this
-            // table if it has one
-            int dataTypeColumn = typeDefn.getColumnIndexByInputType(InputDataType.PRIM_AND_STRUCT);
-
-            // Step through each row
-            for (int row = 0; row < data.length && !tableInfo.isErrorFlag(); row++)
+            // Create storage for the loaded tables and, for each table, the
+            // path of the child table referenced by each row (null if the row
+            // doesn't reference a child table), keyed by table path
+            Map<String, TableInformation> loadedTables = new HashMap<String, TableInformation>();
+            Map<String, String[]> childPaths = new HashMap<String, String[]>();
+            loadedTables.put(tablePath, tableInfo);
+
+            // Begin with the root table
+            List<String> levelPaths = new ArrayList<String>();
+            levelPaths.add(tablePath);
+
+            // Continue to process the hierarchy while a level contains tables
+            while (!levelPaths.isEmpty())
             {
-                // Use the index column to store the table path and type for
-                // reference during script execution
-                data[row][typeColumn] = tableInfo.getType();
-                data[row][pathColumn] = tablePath;
-
-                // Store the data from the table in the combined storage array
-                combinedData = CcddUtilities.concatenateArrays(combinedData,
-                                                               new String[][] {data[row]});
-
-                // Check if this is a table reference (a data type column was
-                // found and it does not contain a primitive data type)
-                if (dataTypeColumn != -1
-                    && !dataTypeHandler.isPrimitive(data[row][dataTypeColumn]))
+                List<String> nextLevelPaths = new ArrayList<String>();
+
+                // Step through each table at this level
+                for (String levelPath : levelPaths)
                 {
-                    // Get the column containing the variable name for this
-                    // table
-                    int varNameColumn = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE);
+                    TableInformation levelInfo = loadedTables.get(levelPath);
 
-                    // Check that a variable name column was found
-                    if (varNameColumn != -1)
+                    // Check that the table loaded successfully and that it
+                    // isn't empty
+                    if (!levelInfo.isErrorFlag()
+                        && levelInfo.getData().length != 0)
                     {
-                        // Get the column containing the array size for this
+                        // Get the paths of the child tables referenced by this
                         // table
-                        int arraySizeColumn = typeDefn.getColumnIndexByInputType(InputDataType.ARRAY_INDEX);
-
-                        // Check if the data type or variable name isn't blank,
-                        // and if an array size column doesn't exist or that
-                        // the row doesn't reference an array definition. This
-                        // is necessary to prevent appending the prototype
-                        // information for this data type structure
-                        if ((!data[row][dataTypeColumn].isEmpty()
-                            || !data[row][varNameColumn].isEmpty())
-                            && (arraySizeColumn == -1
-                                || data[row][arraySizeColumn].isEmpty()
-                                || ArrayVariable.isArrayMember(data[row][varNameColumn])))
+                        String[] paths = getChildPaths(levelInfo);
+                        childPaths.put(levelPath, paths);
+
+                        // Step through the child table paths
+                        for (String path : paths)
                         {
-                            // Get the variable in the format
-                            // dataType.variableName, prepend a comma to
-                            // separate the new variable from the preceding
-                            // variable path, then break down the child table
-                            readTable(tablePath
-                                      + ","
-                                      + data[row][dataTypeColumn]
-                                      + "."
-                                      + data[row][varNameColumn],
-                                      parent);
+                            // Check if the row references a child table
+                            if (path != null)
+                            {
+                                // Add the child table to the next level
+                                nextLevelPaths.add(path);
+                            }
                         }
                     }
-                    // Table has no variable name column
-                    else
+                }
+
+                // Check if any table at this level references a child table
+                if (!nextLevelPaths.isEmpty())
+                {
+                    // Load the data for all of the child tables at the next
+                    // level at once
+                    List<TableInformation> childInfo = dbTable.loadTableData(nextLevelPaths,
+                                                                             null,
+                                                                             false,
+                                                                             false,
+                                                                             false,
+                                                                             prototypeData,
+                                                                             tableComments,
+                                                                             parent);
+
+                    // Step through each child table loaded
+                    for (int index = 0; index < nextLevelPaths.size(); index++)
                     {
-                        tableInfo.setErrorFlag();
-                        break;
+                        // Store the child table's information
+                        loadedTables.put(nextLevelPaths.get(index),
+                                         childInfo.get(index));
                     }
                 }
+
+                levelPaths = nextLevelPaths;
+            }
+
+            // Check that no error occurred determining the root table's child
+            // tables
+            if (!tableInfo.isErrorFlag())
+            {
+                // Combine the rows of the table and its child tables
+                List<String[]> combinedData = new ArrayList<String[]>();
+                appendTableRows(tablePath,
+                                loadedTables,
+                                childPaths,
+                                combinedData);
+
+                // Store the data for the table and its child tables
+                tableInfo.setData(combinedData.toArray(new String[0][]));
             }
         }
 
         return tableInfo;
     }
 
+    /**************************************************************************
+     * Get the paths of the child tables referenced by the rows of the
+     * specified table. The error flag is set for the table if it references a
+     * child table but has no variable name column
+     * 
+     * @param tableInfo
+     *            table information for the table
+     * 
+     * @return Array containing the path of the child table referenced by each
+     *         row of the table; null for a row that doesn't reference a child
+     *         table
+     *************************************************************************/
+    private String[] getChildPaths(TableInformation tableInfo)
+    {
+        String[][] data = tableInfo.getData();
+        String[] childPaths = new String[data.length];
+
+        // Get the table's type definition
+        TypeDefinition typeDefn = tableTypeHandler.getTypeDefinition(tableInfo.getType());
+
+        // Get the index of the column containing the data type for this table
+        // if it has one
+        int dataTypeColumn = typeDefn.getColumnIndexByInputType(InputDataType.PRIM_AND_STRUCT);
+
+        // Get the columns containing the variable name and array size for this
+        // table
+        int varNameColumn = typeDefn.getColumnIndexByInputType(InputDataType.VARIABLE);
+        int arraySizeColumn = typeDefn.getColumnIndexByInputType(InputDataType.ARRAY_INDEX);
+
+        // Step through each row
+        for (int row = 0; row < data.length; row++)
+        {
+            // Check if this is a table reference (a data type column was found
+            // and it does not contain a primitive data type)
+            if (dataTypeColumn != -1
+                && !dataTypeHandler.isPrimitive(data[row][dataTypeColumn]))
+            {
+                // Check that a variable name column was found
+                if (varNameColumn != -1)
+                {
+                    // Check if the data type or variable name isn't blank, and
+                    // if an array size column doesn't exist or that the row
+                    // doesn't reference an array definition. This is necessary
+                    // to prevent appending the prototype information for this
+                    // data type structure
+                    if ((!data[row][dataTypeColumn].isEmpty()
+                        || !data[row][varNameColumn].isEmpty())
+                        && (arraySizeColumn == -1
+                            || data[row][arraySizeColumn].isEmpty()
+                            || ArrayVariable.isArrayMember(data[row][varNameColumn])))
+                    {
+                        // Get the variable in the format dataType.variableName
+                        // and prepend a comma to separate the new variable
+                        // from the preceding variable path
+                        childPaths[row] = tableInfo.getTablePath()
+                                          + ","
+                                          + data[row][dataTypeColumn]
+                                          + "."
+                                          + data[row][varNameColumn];
+                    }
+                }
+                // Table has no variable name column
+                else
+                {
+                    tableInfo.setErrorFlag();
+                    break;
+                }
+            }
+        }
+
+        return childPaths;
+    }
+
+    /**************************************************************************
+     * Append the rows of the specified table to the combined data list,
+     * followed immediately by the rows of each child table in the order the
+     * child tables are referenced. Columns containing the table type and path
+     * are appended to each row
+     * 
+     * @param tablePath
+     *            table path
+     * 
+     * @param loadedTables
+     *            map of the loaded table information, keyed by table path
+     * 
+     * @param childPaths
+     *            map containing, for each table, the path of the child table
+     *            referenced by each row, keyed by table path
+     * 
+     * @param combinedData
+     *            list to which the rows are appended
+     *************************************************************************/
+    private void appendTableRows(String tablePath,
+                                 Map<String, TableInformation> loadedTables,
+                                 Map<String, String[]> childPaths,
+                                 List<String[]> combinedData)
+    {
+        TableInformation tableInfo = loadedTables.get(tablePath);
+        String[] paths = childPaths.get(tablePath);
+
+        // Check that the table loaded successfully and that it isn't empty
+        if (!tableInfo.isErrorFlag() && paths != null)
+        {
+            String[][] data = tableInfo.getData();
+
+            // Step through each row
+            for (int row = 0; row < data.length; row++)
+            {
+                // Copy the row, adding columns to contain the table type and
+                // path for reference during script execution
+                String[] rowData = Arrays.copyOf(data[row],
+                                                 data[row].length + 2);
+                rowData[rowData.length - TYPE_COLUMN_DELTA] = tableInfo.getType();
+                rowData[rowData.length - PATH_COLUMN_DELTA] = tablePath;
+
+                // Store the row in the combined data list
+                combinedData.add(rowData);
+
+                // Check if this row references a child table
+                if (paths[row] != null)
+                {
+                    // Append the child table's rows
+                    appendTableRows(paths[row],
+                                    loadedTables,
+                                    childPaths,
+                                    combinedData);
+                }
+            }
+        }
+    }
+
     /**************************************************************************
      * Get the script associations list model
      * 
@@ -30,13 +30,7 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.KeyEvent;
 import java.awt.print.PrinterException;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.nio.CharBuffer;
-import java.nio.MappedByteBuffer;
-import java.nio.channels.FileChannel;
-import java.nio.charset.Charset;
-import java.nio.charset.CharsetDecoder;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -66,10 +60,8 @@ import javax.swing.text.DefaultHighlighter;
 import javax.swing.text.DefaultHighlighter.DefaultHighlightPainter;
 import javax.swing.text.JTextComponent;
 
-import CCDD.CcddConstants.DatabaseListCommand;
 import CCDD.CcddConstants.DefaultColumn;
 import CCDD.CcddConstants.DialogOption;
-import CCDD.CcddConstants.EventColumns;
 import CCDD.CcddConstants.InputDataType;
 import CCDD.CcddConstants.InternalTable;
 import CCDD.CcddConstants.InternalTable.AppSchedulerColumn;
@@ -577,21 +569,17 @@ public class CcddSearchDialog extends CcddDialogHandler
 
         // Set the search type based on the dialog type and, for a table
         // search, the state of the 'data tables only' check box
-        String searchType = searchDlgType == SearchDialogType.TABLES
-                                                                    ? (dataTablesOnlyCb.isSelected()
-                                                                                                    ? SearchType.DATA.toString()
-                                                                                                    : SearchType.ALL.toString())
-                                                                    : SearchType.SCRIPT.toString();
+        SearchType searchType = searchDlgType == SearchDialogType.TABLES
+                                                                        ? (dataTablesOnlyCb.isSelected()
+                                                                                                        ? SearchType.DATA
+                                                                                                        : SearchType.ALL)
+                                                                        : SearchType.SCRIPT;
 
         // Search the database for the text
-        String[] hits = dbCommand.getList(DatabaseListCommand.SEARCH,
-                                          new String[][] { {"_search_text_",
-                                                            searchFld.getText()},
-                                                          {"_case_insensitive_",
-                                                           String.valueOf(ignoreCaseCb.isSelected())},
-                                                          {"_selected_tables_",
-                                                           searchType}},
-                                          CcddSearchDialog.this);
+        String[] hits = dbCommand.getSearchIndex().search(searchFld.getText(),
+                                                          ignoreCaseCb.isSelected(),
+                                                          searchType,
+                                                          CcddSearchDialog.this);
 
         // Step through each table/column containing the search text
         for (String hit : hits)
@@ -1121,80 +1109,19 @@ public class CcddSearchDialog extends CcddDialogHandler
             pattern = Pattern.compile(Pattern.quote(searchFld.getText()));
         }
 
-        // Set up Charset and CharsetDecoder for ISO-8859-15
-        Charset charset = Charset.forName("ISO-8859-15");
-        CharsetDecoder decoder = charset.newDecoder();
-
-        // Pattern used to detect separate lines
-        Pattern linePattern = Pattern.compile(".*\r?\n");
-
         try
         {
-            // Open a file stream on the event log file and then get a channel
-            // from the stream
-            FileInputStream fis = new FileInputStream(eventLog.getEventLogFile());
-            FileChannel fc = fis.getChannel();
-
-            // Get the file's size and then map it into memory
-            MappedByteBuffer byteBuffer = fc.map(FileChannel.MapMode.READ_ONLY,
-                                                 0,
-                                                 fc.size());
-
-            // Decode the file into a char buffer
-            CharBuffer charBuffer = decoder.decode(byteBuffer);
-
-            // Create the line and pattern matchers, then perform the search
-            Matcher lineMatch = linePattern.matcher(charBuffer);
-
-            long row = 1;
-
-            // For each line in the file
-            while (lineMatch.find())
+            // Search the event log file. The log file handler searches the
+            // log entries in parallel using the log's line index
+            for (Object[] result : eventLog.getEventLogFileHandler().search(pattern,
+                                                                            targetRow))
             {
-                // Check if no target row is provided ,or if one is that it
-                // matches this log entry's row
-                if (targetRow == null || row == targetRow)
-                {
-                    // Get the line from the file and strip any leading or
-                    // trailing whitespace
-                    String line = lineMatch.group().toString().trim();
-
-                    // Break the input line into its separate columns
-                    String[] parts = line.split("[|]", EventColumns.values().length - 1);
-
-                    // Step through each log entry column
-                    for (int column = 0; column < parts.length; column++)
-                    {
-                        // Create the pattern matcher from the pattern. Ignore
-                        // any HTML tags in the log entry column text
-                        Matcher matcher = pattern.matcher(CcddUtilities.removeHTMLTags(parts[column].toString()));
-
-                        // Check if a match exists in the text string
-                        if (matcher.find())
-                        {
-                            // Add the search result to the list
-                            resultsDataList.add(new Object[] {row,
-                                                              eventLog.getEventTable().getColumnName(column + 1),
-                                                              parts[column]});
-                        }
-                    }
-
-                    // Check if the end of the file has been reached or if this
-                    // is a single log entry row search
-                    if (lineMatch.end() == charBuffer.limit()
-                        || targetRow != null)
-                    {
-                        // Exit the loop
-                        break;
-                    }
-                }
-
-                row++;
+                // Add the search result to the list, replacing the column
+                // index with the column name
+                resultsDataList.add(new Object[] {result[0],
+                                                  eventLog.getEventTable().getColumnName((Integer) result[1] + 1),
+                                                  result[2]});
             }
-
-            // Close the channel and the stream
-            fc.close();
-            fis.close();
         }
         catch (IOException ioe)
         {
@@ -0,0 +1,645 @@
+/**
+ * CFS Command & Data Dictionary search index handler. Copyright 2017 United
+ * States Government as represented by the Administrator of the National
+ * Aeronautics and Space Administration. No copyright is claimed in the United
+ * States under Title 17, U.S. Code. All Other Rights Reserved.
+ */
+package CCDD;
+
+import static CCDD.CcddConstants.INTERNAL_TABLE_PREFIX;
+
+import java.awt.Component;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import CCDD.CcddConstants.InternalTable;
+import CCDD.CcddConstants.SearchType;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary search index handler class. The handler
+ * maintains an inverted index that maps each (case insensitive) three
+ * character sequence (trigram) to the set of project database tables that
+ * contain it. A search reads only those tables that contain every trigram in
+ * the search text, and the matching of the table cells to the search text is
+ * performed by the database, so the table contents aren't stored by the
+ * handler. A table is (re)indexed when it's created or after it's flagged as
+ * changed by one of the table modification methods. Changes by other
+ * application instances aren't detected; the project database is locked while
+ * a user has it open, so these are not expected
+ *****************************************************************************/
+public class CcddSearchIndexHandler
+{
+    // Class references
+    private final CcddMain ccddMain;
+    private final CcddDbCommandHandler dbCommand;
+
+    // Index number assigned to each indexed table, keyed by the table's
+    // database name
+    private final Map<String, Integer> tableIndices;
+
+    // Column names of each indexed table, keyed by the table's database name
+    private final Map<String, String[]> tableColumns;
+
+    // Index numbers in use by the indexed tables
+    private final BitSet usedIndices;
+
+    // Tables containing each trigram, keyed by the trigram. Each bit in the
+    // set represents the table with that index number
+    private final Map<Long, BitSet> trigramTables;
+
+    // Names of the tables that have been altered since last being indexed
+    private final Set<String> staleTables;
+
+    // Character separating the search result components. The search results
+    // are split using TABLE_DESCRIPTION_SEPARATOR, which is this character
+    // escaped for use in a regular expression
+    private static final String RESULT_SEPARATOR = "\\";
+
+    /**************************************************************************
+     * Search index handler class constructor
+     * 
+     * @param ccddMain
+     *            main class
+     * 
+     * @param dbCommand
+     *            database command handler
+     *************************************************************************/
+    protected CcddSearchIndexHandler(CcddMain ccddMain,
+                                     CcddDbCommandHandler dbCommand)
+    {
+        this.ccddMain = ccddMain;
+        this.dbCommand = dbCommand;
+        tableIndices = new HashMap<String, Integer>();
+        tableColumns = new HashMap<String, String[]>();
+        usedIndices = new BitSet();
+        trigramTables = new HashMap<Long, BitSet>();
+        staleTables = new HashSet<String>();
+    }
+
+    /**************************************************************************
+     * Remove all tables from the index. This is called when the database
+     * connection changes, when changes to the database are reverted, and when
+     * a change alters an indeterminate number of tables
+     *************************************************************************/
+    protected synchronized void clear()
+    {
+        tableIndices.clear();
+        tableColumns.clear();
+        usedIndices.clear();
+        trigramTables.clear();
+        staleTables.clear();
+    }
+
+    /**************************************************************************
+     * Flag the specified table(s) as altered so that these are reindexed prior
+     * to the next search. This must be called whenever a change is made to
+     * the contents of a table
+     * 
+     * @param tableNames
+     *            name(s) of the table(s) that have been altered (case
+     *            insensitive)
+     *************************************************************************/
+    protected synchronized void invalidate(String... tableNames)
+    {
+        // Step through each altered table
+        for (String tableName : tableNames)
+        {
+            // Flag the table as requiring reindexing
+            staleTables.add(tableName.toLowerCase());
+        }
+    }
+
+    /**************************************************************************
+     * Flag all of the internal tables as altered so that these are reindexed
+     * prior to the next search. This is called after a change that may update
+     * references to a table in any of the internal tables (e.g., renaming or
+     * deleting a table)
+     *************************************************************************/
+    protected synchronized void invalidateInternalTables()
+    {
+        // Step through each indexed table
+        for (String tableName : tableIndices.keySet())
+        {
+            // Check if this is an internal table
+            if (tableName.startsWith(INTERNAL_TABLE_PREFIX))
+            {
+                // Flag the table as requiring reindexing
+                staleTables.add(tableName);
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Search the project database tables for the specified text. The results
+     * are the same as those produced by a search of every column in every
+     * table of the specified type
+     * 
+     * @param searchText
+     *            text for which to search
+     * 
+     * @param ignoreCase
+     *            true to ignore case when matching the text
+     * 
+     * @param searchType
+     *            type of tables to search: ALL for all tables, PROTO for
+     *            prototype tables only, DATA for prototype tables and the
+     *            custom values table, or SCRIPT for stored scripts
+     * 
+     * @param parent
+     *            GUI component calling this method
+     * 
+     * @return Array of search results, sorted by table and column name. Each
+     *         result contains the table name, column name, table comment, and
+     *         the text of the row containing the match, separated by
+     *         TABLE_DESCRIPTION_SEPARATOR; an empty array if there are no
+     *         matches or an error occurs
+     *************************************************************************/
+    protected synchronized String[] search(String searchText,
+                                           boolean ignoreCase,
+                                           SearchType searchType,
+                                           Component parent)
+    {
+        List<String[]> hits = new ArrayList<String[]>();
+
+        try
+        {
+            // Update the index to reflect the current tables, and get the
+            // table descriptions
+            Map<String, String> descriptions = refresh(parent);
+
+            // Get the tables that contain every trigram in the search text
+            BitSet candidates = getCandidateTables(searchText);
+
+            // Convert the search text into a string literal, escaping any
+            // backslashes and single quotes
+            String searchLiteral = "E'"
+                                   + searchText.replaceAll("\\\\", "\\\\\\\\")
+                                               .replaceAll("'", "\\\\'")
+                                   + "'";
+
+            StringBuilder command = new StringBuilder();
+
+            // Step through each indexed table
+            for (Map.Entry<String, Integer> entry : tableIndices.entrySet())
+            {
+                String tableName = entry.getKey();
+                String[] columns = tableColumns.get(tableName);
+
+                // Check if the table is of the type being searched, can
+                // contain the search text, and has columns
+                if (isSearchedTable(tableName, searchType)
+                    && candidates.get(entry.getValue())
+                    && columns.length != 0)
+                {
+                    StringBuilder matches = new StringBuilder();
+                    StringBuilder isMatch = new StringBuilder();
+
+                    // Step through each column in the table
+                    for (String column : columns)
+                    {
+                        // Add the test for the search text in the column's
+                        // value
+                        String test = ignoreCase
+                                                 ? "strpos(lower(t.\""
+                                                   + column
+                                                   + "\"::text), lower("
+                                                   + searchLiteral
+                                                   + ")) > 0"
+                                                 : "strpos(t.\""
+                                                   + column
+                                                   + "\"::text, "
+                                                   + searchLiteral
+                                                   + ") > 0";
+                        matches.append(test).append(", ");
+                        isMatch.append(test).append(" OR ");
+                    }
+
+                    // Check if this isn't the first table in the query
+                    if (command.length() != 0)
+                    {
+                        command.append(" UNION ALL ");
+                    }
+
+                    // Add the query for the table's rows that contain the
+                    // search text. The row text (in the same format used by
+                    // the search results) and the match status of each column
+                    // are returned
+                    command.append("SELECT '"
+                                   + tableName
+                                   + "'::text, regexp_replace(t::text, "
+                                   + "E'^\\\\(|(\\\\)$)', '', 'g'), ARRAY["
+                                   + CcddUtilities.removeTrailer(matches, ", ")
+                                   + "] FROM \""
+                                   + tableName
+                                   + "\" AS t WHERE "
+                                   + CcddUtilities.removeTrailer(isMatch, " OR "));
+                }
+            }
+
+            // Check if any table can contain the search text
+            if (command.length() != 0)
+            {
+                // Get the rows containing the search text
+                ResultSet rowData = dbCommand.executeDbQuery(command.toString()
+                                                             + ";",
+                                                             parent);
+
+                // Step through each matching row
+                while (rowData.next())
+                {
+                    String tableName = rowData.getString(1);
+                    Boolean[] isMatch = (Boolean[]) rowData.getArray(3).getArray();
+
+                    // Step through each column in the row
+                    for (int column = 0; column < isMatch.length; column++)
+                    {
+                        // Check if the column contains the search text
+                        if (Boolean.TRUE.equals(isMatch[column]))
+                        {
+                            // Store the match information
+                            hits.add(new String[] {tableName,
+                                                   tableColumns.get(tableName)[column],
+                                                   descriptions.get(tableName),
+                                                   rowData.getString(2)});
+                        }
+                    }
+                }
+
+                rowData.close();
+            }
+        }
+        catch (SQLException se)
+        {
+            // Inform the user that the search failed
+            ccddMain.getSessionEventLog().logFailEvent(parent,
+                                                       "Cannot search project database; cause '"
+                                                           + se.getMessage()
+                                                           + "'",
+                                                       "<html><b>Cannot search project database");
+            hits.clear();
+        }
+
+        // Sort the results by table name, then column name
+        Collections.sort(hits, new Comparator<String[]>()
+        {
+            /******************************************************************
+             * Compare the table names, and the column names if the table
+             * names are the same
+             *****************************************************************/
+            @Override
+            public int compare(String[] hit1, String[] hit2)
+            {
+                int result = hit1[0].compareTo(hit2[0]);
+
+                return result != 0
+                                  ? result
+                                  : hit1[1].compareTo(hit2[1]);
+            }
+        });
+
+        String[] results = new String[hits.size()];
+
+        // Step through each match
+        for (int index = 0; index < hits.size(); index++)
+        {
+            // Combine the match components into the search result
+            results[index] = (hits.get(index)[0]
+                              + RESULT_SEPARATOR
+                              + hits.get(index)[1]
+                              + RESULT_SEPARATOR
+                              + hits.get(index)[2]
+                              + RESULT_SEPARATOR
+                              + hits.get(index)[3]).trim();
+        }
+
+        return results;
+    }
+
+    /**************************************************************************
+     * Get the tables that can contain the specified search text
+     * 
+     * @param searchText
+     *            text for which to search
+     * 
+     * @return Set in which each bit represents the indexed table with that
+     *         index number; a bit is set if the table contains every trigram
+     *         in the search text. Every table's bit is set if the search text
+     *         is too short to contain a trigram
+     *************************************************************************/
+    private BitSet getCandidateTables(String searchText)
+    {
+        BitSet candidates = (BitSet) usedIndices.clone();
+        String lowerText = searchText.toLowerCase();
+
+        // Step through each trigram in the search text while any table can
+        // contain the search text
+        for (int index = 2; index < lowerText.length()
+                            && !candidates.isEmpty(); index++)
+        {
+            // Get the tables containing the trigram
+            BitSet tables = trigramTables.get(getTrigram(lowerText, index));
+
+            // Check if no table contains the trigram
+            if (tables == null)
+            {
+                // No table can contain the search text
+                candidates.clear();
+            }
+            // One or more tables contain the trigram
+            else
+            {
+                // Remove the tables that don't contain the trigram
+                candidates.and(tables);
+            }
+        }
+
+        return candidates;
+    }
+
+    /**************************************************************************
+     * Update the index so that it reflects the current tables. Tables that no
+     * longer exist or that are flagged as altered are removed from the index,
+     * and any table that isn't in the index is indexed. The contents of the
+     * tables to index are read one table at a time
+     * 
+     * @param parent
+     *            GUI component calling this method
+     * 
+     * @return Map containing the description of every table in the project
+     *         database, keyed by the table's database name
+     * 
+     * @throws SQLException
+     *             If an error occurs reading the table information
+     *************************************************************************/
+    private Map<String, String> refresh(Component parent) throws SQLException
+    {
+        Map<String, String> descriptions = new HashMap<String, String>();
+
+        // Get the name and description for every table
+        ResultSet tableData = dbCommand.executeDbQuery("SELECT c.relname, "
+                                                       + "coalesce(obj_description(c.oid, "
+                                                       + "'pg_class'), '') FROM pg_class c "
+                                                       + "JOIN pg_namespace n ON n.oid = "
+                                                       + "c.relnamespace WHERE c.relkind = "
+                                                       + "'r' AND n.nspname = 'public';",
+                                                       parent);
+
+        while (tableData.next())
+        {
+            descriptions.put(tableData.getString(1), tableData.getString(2));
+        }
+
+        tableData.close();
+
+        BitSet removedIndices = new BitSet();
+
+        // Step through each indexed table
+        for (Iterator<Map.Entry<String, Integer>> iter = tableIndices.entrySet().iterator(); iter.hasNext();)
+        {
+            Map.Entry<String, Integer> entry = iter.next();
+
+            // Check if the table no longer exists or was altered
+            if (!descriptions.containsKey(entry.getKey())
+                || staleTables.contains(entry.getKey()))
+            {
+                // Remove the table from the index and flag its index number
+                // for removal from the trigram table sets
+                removedIndices.set(entry.getValue());
+                tableColumns.remove(entry.getKey());
+                iter.remove();
+            }
+        }
+
+        staleTables.clear();
+
+        // Check if any table was removed from the index
+        if (!removedIndices.isEmpty())
+        {
+            // Step through each trigram
+            for (Iterator<BitSet> iter = trigramTables.values().iterator(); iter.hasNext();)
+            {
+                BitSet tables = iter.next();
+
+                // Remove the tables from the trigram's table set
+                tables.andNot(removedIndices);
+
+                // Check if no table contains the trigram
+                if (tables.isEmpty())
+                {
+                    // Remove the trigram
+                    iter.remove();
+                }
+            }
+
+            // Free the removed tables' index numbers
+            usedIndices.andNot(removedIndices);
+        }
+
+        List<String> newTables = new ArrayList<String>();
+
+        // Step through each table in the database
+        for (String tableName : descriptions.keySet())
+        {
+            // Check if the table isn't indexed
+            if (!tableIndices.containsKey(tableName))
+            {
+                newTables.add(tableName);
+            }
+        }
+
+        // Check if any table requires indexing
+        if (!newTables.isEmpty())
+        {
+            Map<String, List<String>> columnNames = new HashMap<String, List<String>>();
+
+            // Get the column names, in column order, for every table
+            ResultSet columnData = dbCommand.executeDbQuery("SELECT table_name, column_name "
+                                                            + "FROM information_schema.columns "
+                                                            + "WHERE table_schema = 'public' "
+                                                            + "ORDER BY table_name, ordinal_position;",
+                                                            parent);
+
+            while (columnData.next())
+            {
+                List<String> columns = columnNames.get(columnData.getString(1));
+
+                if (columns == null)
+                {
+                    columns = new ArrayList<String>();
+                    columnNames.put(columnData.getString(1), columns);
+                }
+
+                columns.add(columnData.getString(2));
+            }
+
+            columnData.close();
+
+            // Step through each table to index
+            for (String tableName : newTables)
+            {
+                List<String> columns = columnNames.get(tableName);
+
+                // Add the table to the index
+                indexTable(tableName,
+                           columns == null
+                                           ? new String[0]
+                                           : columns.toArray(new String[0]),
+                           parent);
+            }
+        }
+
+        return descriptions;
+    }
+
+    /**************************************************************************
+     * Add the specified table to the index. The table's rows are read from
+     * the database and the table is added to the table set of each trigram in
+     * its column values; the values themselves aren't retained
+     * 
+     * @param tableName
+     *            table name as used in the database
+     * 
+     * @param columns
+     *            array of the table's column names
+     * 
+     * @param parent
+     *            GUI component calling this method
+     * 
+     * @throws SQLException
+     *             If an error occurs reading the table
+     *************************************************************************/
+    private void indexTable(String tableName,
+                            String[] columns,
+                            Component parent) throws SQLException
+    {
+        // Assign the lowest unused index number to the table
+        int tableIndex = usedIndices.nextClearBit(0);
+        usedIndices.set(tableIndex);
+        tableIndices.put(tableName, tableIndex);
+        tableColumns.put(tableName, columns);
+
+        // Check if the table has columns
+        if (columns.length != 0)
+        {
+            StringBuilder command = new StringBuilder("SELECT ");
+
+            // Step through each column in the table
+            for (String column : columns)
+            {
+                // Add the column to the query, as text
+                command.append("t.\"" + column + "\"::text, ");
+            }
+
+            // Get the table's rows
+            ResultSet rowData = dbCommand.executeDbQuery(CcddUtilities.removeTrailer(command,
+                                                                                     ", ")
+                                                         + " FROM \""
+                                                         + tableName
+                                                         + "\" AS t;",
+                                                         parent);
+
+            // Step through each row in the table
+            while (rowData.next())
+            {
+                // Step through each column in the row
+                for (int column = 1; column <= columns.length; column++)
+                {
+                    String value = rowData.getString(column);
+
+                    // Check if the column has a value
+                    if (value != null)
+                    {
+                        String lowerValue = value.toLowerCase();
+
+                        // Step through each trigram in the column value
+                        for (int index = 2; index < lowerValue.length(); index++)
+                        {
+                            Long trigram = getTrigram(lowerValue, index);
+                            BitSet tables = trigramTables.get(trigram);
+
+                            // Check if this is the first table containing the
+                            // trigram
+                            if (tables == null)
+                            {
+                                tables = new BitSet();
+                                trigramTables.put(trigram, tables);
+                            }
+
+                            // Add the table to the trigram's table set
+                            tables.set(tableIndex);
+                        }
+                    }
+                }
+            }
+
+            rowData.close();
+        }
+    }
+
+    /**************************************************************************
+     * Get the trigram ending at the specified position in the supplied text
+     * 
+     * @param text
+     *            text containing the trigram (in lower case)
+     * 
+     * @param index
+     *            position of the trigram's last character in the text
+     * 
+     * @return Trigram, with the three characters packed into a single value
+     *************************************************************************/
+    private static Long getTrigram(String text, int index)
+    {
+        return ((long) text.charAt(index - 2) << 32)
+               | ((long) text.charAt(index - 1) << 16)
+               | text.charAt(index);
+    }
+
+    /**************************************************************************
+     * Determine if the specified table is included in a search of the
+     * specified type
+     * 
+     * @param tableName
+     *            table name as used in the database
+     * 
+     * @param searchType
+     *            type of tables to search
+     * 
+     * @return true if the table is included in the search
+     *************************************************************************/
+    private boolean isSearchedTable(String tableName, SearchType searchType)
+    {
+        boolean isSearched = false;
+
+        switch (searchType)
+        {
+            case ALL:
+                isSearched = true;
+                break;
+
+            case PROTO:
+                isSearched = !tableName.startsWith(INTERNAL_TABLE_PREFIX);
+                break;
+
+            case DATA:
+                isSearched = !tableName.startsWith(INTERNAL_TABLE_PREFIX)
+                             || tableName.equals(InternalTable.VALUES.getTableName());
+                break;
+
+            case SCRIPT:
+                isSearched = tableName.startsWith(InternalTable.SCRIPT.getTableName());
+                break;
+        }
+
+        return isSearched;
+    }
+}
@@ -0,0 +1,571 @@
+/**
+ * CFS Command & Data Dictionary structure layout handler. Copyright 2017
+ * United States Government as represented by the Administrator of the National
+ * Aeronautics and Space Administration. No copyright is claimed in the United
+ * States under Title 17, U.S. Code. All Other Rights Reserved.
+ */
+package CCDD;
+
+import static CCDD.CcddConstants.TableMemberType.INCLUDE_PRIMITIVES;
+
+import java.awt.Component;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import CCDD.CcddClasses.TableMembers;
+import CCDD.CcddConstants.InternalTable.DataTypesColumn;
+
+/******************************************************************************
+ * CFS Command & Data Dictionary structure layout handler class. The handler
+ * calculates the size of each prototype structure and the byte offsets of its
+ * members relative to the start of the structure. The layout for a structure
+ * is calculated the first time it's needed and is then retained; the offset to
+ * a variable within a root structure is composed from the layouts of the
+ * structures along the variable's path. When the layouts are refreshed only
+ * those structures whose members changed, and the structures that contain
+ * them, are recalculated
+ *****************************************************************************/
+public class CcddStructureLayoutHandler
+{
+    // Class reference
+    private final CcddMain ccddMain;
+
+    // Map containing the table members, keyed by table name
+    private Map<String, TableMembers> tableMembers;
+
+    // Map containing the calculated structure layouts, keyed by structure name
+    private final Map<String, StructureLayout> layouts;
+
+    // Map containing the data type sizes, keyed by data type name, used when
+    // the layouts were calculated
+    private Map<String, String> dataTypeSizes;
+
+    // Names of the structures for which the layout is being calculated. This
+    // is used to detect a recursive structure reference
+    private final Set<String> inProgress;
+
+    /**************************************************************************
+     * Structure member location class. Contains the member's byte offset and
+     * index relative to the start of the structure containing it
+     *************************************************************************/
+    private class MemberLocation
+    {
+        private final int offset;
+        private final int index;
+        private final String structureName;
+
+        /**********************************************************************
+         * Structure member location class constructor
+         *
+         * @param offset
+         *            byte offset to the member relative to the start of the
+         *            structure containing it
+         *
+         * @param index
+         *            index of the member relative to the structure containing
+         *            it when the structure and its members are listed in order
+         *            (the structure itself has index 0)
+         *
+         * @param structureName
+         *            name of the member's structure data type; null if the
+         *            member is a primitive
+         *********************************************************************/
+        private MemberLocation(int offset, int index, String structureName)
+        {
+            this.offset = offset;
+            this.index = index;
+            this.structureName = structureName;
+        }
+    }
+
+    /**************************************************************************
+     * Structure layout class. Contains a structure's size, its member
+     * locations, and the bit-packing state following its last member
+     *************************************************************************/
+    private class StructureLayout
+    {
+        // Member locations, keyed by the member name in the format
+        // dataType.variableName
+        private final Map<String, MemberLocation> members;
+
+        // Names of the structures referenced by this structure, directly or
+        // through another structure
+        private final Set<String> references;
+
+        // Number of members, including those of any child structures
+        private int memberCount;
+
+        // Size of the structure, in bytes
+        private int size;
+
+        // Offset calculation state following the structure's last member
+        private final OffsetCounter endState;
+
+        /**********************************************************************
+         * Structure layout class constructor
+         *********************************************************************/
+        private StructureLayout()
+        {
+            members = new HashMap<String, MemberLocation>();
+            references = new HashSet<String>();
+            endState = new OffsetCounter();
+        }
+    }
+
+    /**************************************************************************
+     * Offset counter class. Tracks the current byte offset along with the
+     * size, data type, and bit length of the previous variable for
+     * determining bit-packing
+     *************************************************************************/
+    private class OffsetCounter
+    {
+        private int offset;
+        private int bitCount;
+        private int lastByteSize;
+        private String lastDataType;
+        private int lastBitLength;
+
+        /**********************************************************************
+         * Offset counter class constructor
+         *********************************************************************/
+        private OffsetCounter()
+        {
+            reset(0);
+        }
+
+        /**********************************************************************
+         * Set the offset and clear the bit count and the previous variable's
+         * size, type, and bit length
+         *
+         * @param offset
+         *            byte offset
+         *********************************************************************/
+        private void reset(int offset)
+        {
+            this.offset = offset;
+            bitCount = 0;
+            lastByteSize = 0;
+            lastDataType = "";
+            lastBitLength = 0;
+        }
+
+        /**********************************************************************
+         * Copy the state from another offset counter, adjusting its offset by
+         * the specified amount
+         *
+         * @param counter
+         *            offset counter from which to copy the state
+         *
+         * @param baseOffset
+         *            byte offset to add to the copied offset
+         *********************************************************************/
+        private void copy(OffsetCounter counter, int baseOffset)
+        {
+            offset = baseOffset + counter.offset;
+            bitCount = counter.bitCount;
+            lastByteSize = counter.lastByteSize;
+            lastDataType = counter.lastDataType;
+            lastBitLength = counter.lastBitLength;
+        }
+
+        /**********************************************************************
+         * Adjust the offset to the current variable based on the last
+         * variable's byte size and any bit packing
+         *
+         * @param dataType
+         *            variable's data type
+         *
+         * @param bitLength
+         *            string representing the number of bits used by variable;
+         *            blank if this is a non-bit variable
+         *********************************************************************/
+        private void addVariable(String dataType, String bitLength)
+        {
+            // Get the size in bytes based on the variable's data type
+            int byteSize = ccddMain.getDataTypeHandler().getSizeInBytes(dataType);
+
+            // Get the bit length associated with the variable; use 0 if no bit
+            // length is specified
+            int bits = bitLength != null && bitLength.matches("\\d+")
+                                                                      ? Integer.valueOf(bitLength)
+                                                                      : 0;
+
+            // Update the bit counter using the bit length
+            bitCount += bits;
+
+            // Check if the current or previous variable has no bit length
+            // specified, the data type changed, or the data type has no room
+            // for the requested number of bits
+            if (bits == 0
+                || lastBitLength == 0
+                || !dataType.equals(lastDataType)
+                || bitCount > byteSize * 8)
+            {
+                // Set the bit counter to the current variable's bit length (0
+                // if this is a non-bit variable)
+                bitCount = bits;
+
+                // Add the previous parameter's byte size to the offset counter
+                offset += lastByteSize;
+            }
+
+            // Store the size in bytes, the data type, and bit length for
+            // calculating the offset to the next variable
+            lastByteSize = byteSize;
+            lastDataType = dataType;
+            lastBitLength = bits;
+        }
+    }
+
+    /**************************************************************************
+     * Structure layout handler class constructor
+     *
+     * @param ccddMain
+     *            main class
+     *************************************************************************/
+    CcddStructureLayoutHandler(CcddMain ccddMain)
+    {
+        this.ccddMain = ccddMain;
+        layouts = new HashMap<String, StructureLayout>();
+        inProgress = new HashSet<String>();
+        tableMembers = null;
+        dataTypeSizes = null;
+    }
+
+    /**************************************************************************
+     * Update the table members from the project database. If the data type
+     * sizes changed then all of the structure layouts are discarded; otherwise
+     * only the layouts for those structures whose members changed, or that
+     * contain one of these structures, are discarded
+     *
+     * @param parent
+     *            GUI component calling this method
+     *************************************************************************/
+    protected synchronized void refresh(Component parent)
+    {
+        // Get the current data type sizes
+        Map<String, String> sizes = new HashMap<String, String>();
+
+        for (String[] dataType : ccddMain.getDataTypeHandler().getDataTypeData())
+        {
+            sizes.put(CcddDataTypeHandler.getDataTypeName(dataType),
+                      dataType[DataTypesColumn.SIZE.ordinal()]);
+        }
+
+        // Load the members for every table
+        Map<String, TableMembers> members = new HashMap<String, TableMembers>();
+        List<TableMembers> memberList = ccddMain.getDbTableCommandHandler().loadTableMembers(INCLUDE_PRIMITIVES,
+                                                                                             false,
+                                                                                             parent);
+
+        // Check if the table members loaded successfully
+        if (memberList != null)
+        {
+            for (TableMembers member : memberList)
+            {
+                members.put(member.getTableName(), member);
+            }
+        }
+
+        // Check if the data types changed or the layouts haven't been
+        // calculated
+        if (!sizes.equals(dataTypeSizes) || tableMembers == null)
+        {
+            // Discard all of the layouts
+            layouts.clear();
+        }
+        // The data types are unchanged
+        else
+        {
+            List<String> changed = new ArrayList<String>();
+
+            // Step through each structure for which a layout exists
+            for (String name : layouts.keySet())
+            {
+                TableMembers oldMember = tableMembers.get(name);
+                TableMembers newMember = members.get(name);
+
+                // Check if the structure no longer exists or its members
+                // changed. The stored table members are reused until the
+                // tables change, so identical members need not be compared
+                if (newMember == null
+                    || (newMember != oldMember
+                        && (!oldMember.getDataTypes().equals(newMember.getDataTypes())
+                            || !oldMember.getVariableNames().equals(newMember.getVariableNames())
+                            || !oldMember.getBitLengths().equals(newMember.getBitLengths()))))
+                {
+                    changed.add(name);
+                }
+            }
+
+            // Step through each table that was added since the layouts were
+            // calculated. A layout that referenced this table before it
+            // existed ignored the reference, so it must be recalculated
+            for (String name : members.keySet())
+            {
+                if (!tableMembers.containsKey(name))
+                {
+                    changed.add(name);
+                }
+            }
+
+            // Discard the changed structures' layouts and those of the
+            // structures that reference them
+            invalidate(changed);
+        }
+
+        tableMembers = members;
+        dataTypeSizes = sizes;
+    }
+
+    /**************************************************************************
+     * Discard the layouts for the specified structures and for any structure
+     * that references one of them
+     *
+     * @param structureNames
+     *            list of structure names
+     *************************************************************************/
+    private void invalidate(List<String> structureNames)
+    {
+        // Step through each structure layout
+        for (Iterator<Map.Entry<String, StructureLayout>> iter = layouts.entrySet().iterator(); iter.hasNext();)
+        {
+            Map.Entry<String, StructureLayout> entry = iter.next();
+
+            // Step through each structure name to invalidate
+            for (String name : structureNames)
+            {
+                // Check if the layout is for this structure or references it
+                if (entry.getKey().equals(name)
+                    || entry.getValue().references.contains(name))
+                {
+                    // Discard the layout and stop searching
+                    iter.remove();
+                    break;
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Get the size in bytes of the specified structure
+     *
+     * @param structureName
+     *            structure name
+     *
+     * @return Size in bytes of the specified structure; -1 if the structure
+     *         doesn't exist or contains no variables
+     *************************************************************************/
+    protected synchronized int getStructureSize(String structureName)
+    {
+        // Get the structure's layout
+        StructureLayout layout = getLayout(structureName);
+
+        return layout == null
+                              ? -1
+                              : layout.size;
+    }
+
+    /**************************************************************************
+     * Get the byte offset and index of the specified structure or variable
+     * relative to its root structure
+     *
+     * @param path
+     *            a comma separated string of the root structure and each data
+     *            type and variable name of each variable in the path. The bit
+     *            length may be omitted for bit-wise variables
+     *
+     * @return Two-element array containing the byte offset and the index of
+     *         the structure or variable relative to its root structure, when
+     *         the structure and its members are listed in order; null if the
+     *         path is invalid
+     *************************************************************************/
+    protected synchronized int[] getOffsetAndIndex(String path)
+    {
+        int[] offsetAndIndex = null;
+
+        // Separate the root structure and the variables in the path. A
+        // variable's bit length is ignored if present
+        String[] names = path.replaceFirst(":\\d+$", "").split(",");
+
+        // Get the layout of the root structure
+        StructureLayout layout = getLayout(names[0]);
+
+        // Check if the root structure exists
+        if (layout != null)
+        {
+            int offset = 0;
+            int index = 0;
+
+            // Step through each variable in the path
+            for (int level = 1; level < names.length; level++)
+            {
+                // Get the location of the variable within its structure
+                MemberLocation member = layout == null
+                                                       ? null
+                                                       : layout.members.get(names[level]);
+
+                // Check if the variable doesn't exist in the structure
+                if (member == null)
+                {
+                    // Flag the path as invalid and stop searching
+                    index = -1;
+                    break;
+                }
+
+                // Add the variable's offset and index within its structure
+                offset += member.offset;
+                index += member.index;
+
+                // Get the layout for the variable's structure (null if the
+                // variable is a primitive)
+                layout = member.structureName == null
+                                                     ? null
+                                                     : getLayout(member.structureName);
+            }
+
+            // Check if the path is valid
+            if (index != -1)
+            {
+                offsetAndIndex = new int[] {offset, index};
+            }
+        }
+
+        return offsetAndIndex;
+    }
+
+    /**************************************************************************
+     * Get the layout for the specified structure, calculating it if it doesn't
+     * already exist
+     *
+     * @param structureName
+     *            structure name
+     *
+     * @return Layout for the specified structure; null if the structure
+     *         doesn't exist, contains no variables, or references itself
+     *************************************************************************/
+    private StructureLayout getLayout(String structureName)
+    {
+        // Check if the table members haven't been loaded
+        if (tableMembers == null)
+        {
+            // Load the table members
+            refresh(ccddMain.getMainFrame());
+        }
+
+        // Get the structure's layout
+        StructureLayout layout = layouts.get(structureName);
+
+        // Check if the layout hasn't been calculated, the structure exists,
+        // and the structure isn't already being calculated (i.e., isn't a
+        // recursive reference)
+        if (layout == null
+            && tableMembers.containsKey(structureName)
+            && !inProgress.contains(structureName))
+        {
+            // Calculate the structure's layout and store it
+            inProgress.add(structureName);
+            layout = calculateLayout(tableMembers.get(structureName));
+            inProgress.remove(structureName);
+            layouts.put(structureName, layout);
+        }
+
+        return layout == null || layout.memberCount == 0
+                                                         ? null
+                                                         : layout;
+    }
+
+    /**************************************************************************
+     * Calculate the layout for the specified structure. The members are
+     * processed in order, with bit-wise variables of the same type packed
+     * together if the data type size allows. A child structure begins at the
+     * end of the preceding variable; a child structure with no variables is
+     * ignored
+     *
+     * @param member
+     *            table members for the structure
+     *
+     * @return Layout for the specified structure
+     *************************************************************************/
+    private StructureLayout calculateLayout(TableMembers member)
+    {
+        StructureLayout layout = new StructureLayout();
+        OffsetCounter counter = layout.endState;
+
+        // Step through each of the structure's members
+        for (int index = 0; index < member.getDataTypes().size(); index++)
+        {
+            String dataType = member.getDataTypes().get(index);
+            String name = member.getFullVariableName(index);
+
+            // Check if this member is a primitive
+            if (ccddMain.getDataTypeHandler().isPrimitive(dataType))
+            {
+                // Adjust the offset to account for bit-packing
+                counter.addVariable(dataType, member.getBitLengths().get(index));
+                layout.memberCount++;
+
+                // Check if a member with this name isn't already stored
+                if (!layout.members.containsKey(name))
+                {
+                    // Store the variable's location
+                    layout.members.put(name,
+                                       new MemberLocation(counter.offset,
+                                                          layout.memberCount,
+                                                          null));
+                }
+            }
+            // The member is a structure
+            else
+            {
+                // Get the child structure's layout
+                StructureLayout child = getLayout(dataType);
+
+                // Store the reference to the child structure, and those it
+                // references, even if the child doesn't exist or contains no
+                // variables, so that this layout is recalculated if the child
+                // changes
+                layout.references.add(dataType);
+
+                if (layouts.containsKey(dataType))
+                {
+                    layout.references.addAll(layouts.get(dataType).references);
+                }
+
+                // Check if the child structure exists and contains variables
+                if (child != null)
+                {
+                    // Add the last variable's byte size to the offset total
+                    // to get the start of the child structure
+                    int start = counter.offset + counter.lastByteSize;
+                    layout.memberCount++;
+
+                    // Check if a member with this name isn't already stored
+                    if (!layout.members.containsKey(name))
+                    {
+                        // Store the child structure's location
+                        layout.members.put(name,
+                                           new MemberLocation(start,
+                                                              layout.memberCount,
+                                                              dataType));
+                    }
+
+                    // Continue from the end of the child structure's members
+                    counter.copy(child.endState, start);
+                    layout.memberCount += child.memberCount;
+                }
+            }
+        }
+
+        // The structure's size is the offset to the last variable plus that
+        // variable's size
+        layout.size = counter.offset + counter.lastByteSize;
+
+        return layout;
+    }
+}
@@ -33,8 +33,16 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.regex.Pattern;
 
 import javax.swing.BorderFactory;
@@ -132,9 +140,182 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     // filter check boxes for alignment purposes with an adjacent tree
     private final boolean addHiddenCheckBox;
 
-    // List containing variable paths from the custom values table that match
-    // the current rate column name and rate value
-    private List<String[]> rateValues;
+    // Set containing variable paths from the custom values table that match
+    // the current rate column name and rate value, sorted so that the paths
+    // within a table instance are adjacent
+    private NavigableSet<String> ratePaths;
+
+    // Map containing the table members, with the prototype table name as the
+    // key
+    private Map<String, TableMembers> memberMap;
+
+    // Map containing the names of the tables that reference a table, with the
+    // referenced table name as the key
+    private Map<String, List<String>> referenceMap;
+
+    // Map containing the flag that indicates if a table has any nodes to
+    // display when the empty nodes are removed from the tree, with the
+    // prototype table name as the key
+    private Map<String, Boolean> contentMap;
+
+    // Flag indicating that a table's content check encountered a table already
+    // in the process of being checked (a recursive reference)
+    private boolean isContentRecursion;
+
+    // Sets of the excluded and linked variables, and of the variable paths
+    // (and their ancestors' paths) that are excluded. These are used in place
+    // of the variable lists for faster look-ups
+    private Set<String> excludedVariableSet;
+    private Set<String> linkedVariableSet;
+    private Set<String> excludedPathSet;
+
+    // Flag that indicates if the exclusion list has been applied to the tree
+    // (versus only used when building the tree)
+    private boolean isExcludeListApplied;
+
+    /**************************************************************************
+     * Table tree node class. The child nodes of a table node (i.e., its member
+     * variables) aren't created until they are requested
+     *************************************************************************/
+    private class TableNode extends ToolTipTreeNode
+    {
+        private final TableMembers member;
+        private final String tablePath;
+        private boolean isLoaded;
+
+        /**********************************************************************
+         * Table tree node class constructor
+         * 
+         * @param nodeName
+         *            node name
+         * 
+         * @param toolTipText
+         *            tool tip text
+         * 
+         * @param member
+         *            table members for the table represented by the node
+         * 
+         * @param tablePath
+         *            root table and variable path for the table, in the form
+         *            rootTable[,dataType1.variable1[,...]]
+         *********************************************************************/
+        TableNode(String nodeName,
+                  String toolTipText,
+                  TableMembers member,
+                  String tablePath)
+        {
+            super(nodeName, toolTipText);
+
+            this.member = member;
+            this.tablePath = tablePath;
+            isLoaded = false;
+        }
+
+        /**********************************************************************
+         * Get the table members for the table represented by the node
+         * 
+         * @return Table members for the table represented by the node
+         *********************************************************************/
+        protected TableMembers getMember()
+        {
+            return member;
+        }
+
+        /**********************************************************************
+         * Get the root table and variable path for the table represented by
+         * the node
+         * 
+         * @return Root table and variable path for the table represented by
+         *         the node
+         *********************************************************************/
+        protected String getTablePath()
+        {
+            return tablePath;
+        }
+
+        /**********************************************************************
+         * Check if the node's child nodes have been created
+         * 
+         * @return true if the node's child nodes have been created
+         *********************************************************************/
+        protected boolean isLoaded()
+        {
+            return isLoaded;
+        }
+
+        /**********************************************************************
+         * Create the node's child nodes if these haven't already been created
+         *********************************************************************/
+        private void loadChildren()
+        {
+            // Check if the child nodes haven't been created
+            if (!isLoaded)
+            {
+                // Set the flag before adding the child nodes since adding a
+                // node requests the child count
+                isLoaded = true;
+
+                // Create the child nodes for this table
+                buildNodes(this);
+            }
+        }
+
+        /**********************************************************************
+         * Override the child count so that the child nodes are created when
+         * first requested
+         *********************************************************************/
+        @Override
+        public int getChildCount()
+        {
+            loadChildren();
+            return super.getChildCount();
+        }
+
+        /**********************************************************************
+         * Override the child retrieval so that the child nodes are created
+         * when first requested
+         *********************************************************************/
+        @Override
+        public TreeNode getChildAt(int index)
+        {
+            loadChildren();
+            return super.getChildAt(index);
+        }
+
+        /**********************************************************************
+         * Override the child index retrieval so that the child nodes are
+         * created when first requested
+         *********************************************************************/
+        @Override
+        public int getIndex(TreeNode child)
+        {
+            loadChildren();
+            return super.getIndex(child);
+        }
+
+        /**********************************************************************
+         * Override the child enumeration so that the child nodes are created
+         * when first requested
+         *********************************************************************/
+        @Override
+        public Enumeration<?> children()
+        {
+            loadChildren();
+            return super.children();
+        }
+
+        /**********************************************************************
+         * Override the leaf check so that the child nodes aren't created
+         * solely to determine if the node can be expanded
+         *********************************************************************/
+        @Override
+        public boolean isLeaf()
+        {
+            return isLoaded
+                           ? super.isLeaf()
+                           : member.getDataTypes().isEmpty();
+        }
+    }
 
     /**************************************************************************
      * Tree cell renderer with link size display handling class
@@ -183,7 +364,7 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
                 setVariableNodeIcon(this,
                                     (ToolTipTreeNode) value,
                                     row,
-                                    linkedVariables.contains(removeExtraText(getFullVariablePath(((ToolTipTreeNode) value).getPath()))));
+                                    linkedVariableSet.contains(removeExtraText(getFullVariablePath(((ToolTipTreeNode) value).getPath()))));
             }
 
             return this;
@@ -293,6 +474,7 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         if (tableMembers != null)
         {
             linkedVariables = new ArrayList<String>();
+            linkedVariableSet = new HashSet<String>();
 
             // Build the table tree
             buildTableTree(false, rateName, rateFilter, parent);
@@ -513,6 +695,7 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     {
         linkedVariables.clear();
         linkedVariables.addAll(linkedVars);
+        linkedVariableSet = new HashSet<String>(linkedVars);
     }
 
     /**************************************************************************
@@ -524,10 +707,14 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     protected void setExcludedVariables(List<String> excludedVariables)
     {
         this.excludedVariables = excludedVariables;
+        isExcludeListApplied = true;
+
+        // Update the exclusion look-up sets to match the new list
+        updateExclusionSets();
 
         // Set the node enable state (by setting the node name color) based on
         // whether or not the name is in the exclusion list
-        setNodeEnableByExcludeList();
+        setNodeEnableByExcludeList(root);
 
         // Set the node enable state (by setting the node name color) based on
         // whether or not all of the children of the node are disabled
@@ -593,16 +780,43 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         // Check if a rate filter is in effect
         if (rateFilter != null)
         {
-            // Load all references to rate column values from the custom values
-            // table that match the rate name and filter
-            rateValues = dbTable.getCustomValues(rateName,
-                                                 rateFilter,
-                                                 parent);
+            ratePaths = new TreeSet<String>();
+
+            // Step through all references to rate column values from the
+            // custom values table that match the rate name and filter
+            for (String[] rateValue : dbTable.getCustomValues(rateName,
+                                                              rateFilter,
+                                                              parent))
+            {
+                // Store the variable path
+                ratePaths.add(rateValue[0]);
+            }
         }
 
         // Get the index into the table member rate array
         rateIndex = ccddMain.getRateParameterHandler().getRateInformationIndexByRateName(rateName);
 
+        // Build the map of table members and the map of the tables that
+        // reference each table
+        buildMemberMaps();
+
+        // Create storage for the table content flags
+        contentMap = new HashMap<String, Boolean>();
+
+        // Set the flag indicating the exclusion list has only been used to
+        // build the tree and update the exclusion look-up sets
+        isExcludeListApplied = false;
+        updateExclusionSets();
+
+        // Check if the descriptions are needed (i.e., if building a visible
+        // table tree)
+        if (getDescriptions)
+        {
+            // Get an array containing the tables and their variable paths, if
+            // any, for those tables with descriptions
+            tableDescriptions = dbTable.queryTableDescriptions(parent);
+        }
+
         // Set the flag to indicate that the table tree is being built. This
         // flag is used to inhibit actions involving tree selection value
         // changes during the build process
@@ -852,14 +1066,10 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
                                     ToolTipTreeNode protoNode,
                                     Component parent)
     {
-        // Check if the descriptions are needed (i.e., if building a visible
-        // table tree)
-        if (getDescriptions)
-        {
-            // Get an array containing the tables and their variable paths, if
-            // any, for those tables with descriptions
-            tableDescriptions = dbTable.queryTableDescriptions(parent);
-        }
+        // Create a set from the table names for faster look-ups
+        Set<String> nameSet = nameList == null
+                                              ? null
+                                              : new HashSet<String>(nameList);
 
         // Step through each table
         for (TableMembers member : tableMembers)
@@ -867,8 +1077,8 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
             // Check if the name is in the supplied list or if the list is
             // empty. Only show structure type tables for a tree showing
             // structure instances with primitives
-            if ((nameList == null
-                || nameList.contains(member.getTableName()))
+            if ((nameSet == null
+                || nameSet.contains(member.getTableName()))
                 && (treeType != INSTANCE_WITH_PRIMITIVES
                 || tableTypeHandler.getTypeDefinition(member.getTableType()).isStructure()))
             {
@@ -882,16 +1092,13 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
                 // Check if only parent tables should be included
                 if (treeType != PROTOTYPE_AND_INSTANCE_WITH_PRIMITIVES)
                 {
-                    // Step through each table
-                    for (TableMembers otherMember : tableMembers)
+                    // Step through each table that references this table
+                    for (String otherTable : referenceMap.get(member.getTableName()))
                     {
-                        // Check if the current table has this table as a
-                        // member, that the table isn't referencing itself,
-                        // and, if the tree is filtered by group, that this
-                        // table is a member of the group
-                        if (otherMember.getDataTypes().contains(member.getTableName())
-                            && !member.equals(otherMember)
-                            && (!isByGroup || nameList.contains(otherMember.getTableName())))
+                        // Check if the tree isn't filtered by group or, if it
+                        // is, that the referencing table is a member of the
+                        // group
+                        if (!isByGroup || nameSet.contains(otherTable))
                         {
                             // Clear the flag indicating this is a parent table
                             // and stop searching
@@ -904,15 +1111,11 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
                 // Check if this is a parent table
                 if (isParent)
                 {
-                    recursionTable = null;
+                    // Check if the table contains a recursive reference
+                    recursionTable = getRecursiveReference(member,
+                                                           new HashSet<String>(),
+                                                           new HashSet<String>());
 
-                    // Build the nodes in the tree for this table and its
-                    // member tables
-                    buildNodes(member,
-                               instNode,
-                               new ToolTipTreeNode(member.getTableName(),
-                                                   getTableDescription(member.getTableName(),
-                                                                       "")));
                     // Check if a recursive reference was detected
                     if (recursionTable != null)
                     {
@@ -928,162 +1131,532 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
                                                                   JOptionPane.WARNING_MESSAGE,
                                                                   DialogOption.OK_OPTION);
                     }
+
+                    boolean recursionError = false;
+
+                    // Step through each node in the parent's path
+                    for (TreeNode node : instNode.getPath())
+                    {
+                        // Check if the table is in the path
+                        if (((ToolTipTreeNode) node).getUserObject().toString().equals(member.getTableName()))
+                        {
+                            // Set the error flag and stop searching
+                            recursionError = true;
+                            break;
+                        }
+                    }
+
+                    // Check that a recursion error wasn't found and that the
+                    // table has nodes to display
+                    if (!recursionError
+                        && isContentPresent(member, member.getTableName()))
+                    {
+                        // Add the node for this table. The nodes for its
+                        // members are created when first requested
+                        instNode.add(new TableNode(member.getTableName(),
+                                                   getTableDescription(member.getTableName(),
+                                                                       ""),
+                                                   member,
+                                                   member.getTableName()));
+                    }
                 }
             }
         }
     }
 
     /**************************************************************************
-     * Build the table tree nodes. This is a recursive method. In order to
-     * prevent an infinite loop, a check is made for a child node that exists
-     * in its own path; if found the recursion is terminated for that node
+     * Build the maps of the table members, using the table name as the key,
+     * and of the tables that reference each table
+     *************************************************************************/
+    private void buildMemberMaps()
+    {
+        memberMap = new HashMap<String, TableMembers>();
+        referenceMap = new HashMap<String, List<String>>();
+
+        // Step through each table
+        for (TableMembers member : tableMembers)
+        {
+            // Add the table to the member map and create the list for the
+            // tables that reference it
+            memberMap.put(member.getTableName(), member);
+            referenceMap.put(member.getTableName(), new ArrayList<String>());
+        }
+
+        // Step through each table
+        for (TableMembers member : tableMembers)
+        {
+            // Step through each data type referenced by the table, ignoring
+            // duplicates
+            for (String dataType : new HashSet<String>(member.getDataTypes()))
+            {
+                // Get the list of tables referencing this data type
+                List<String> references = referenceMap.get(dataType);
+
+                // Check if the data type is a table and that the table isn't
+                // referencing itself
+                if (references != null
+                    && !dataType.equals(member.getTableName()))
+                {
+                    // Add the table to the list of those referencing the data
+                    // type's table
+                    references.add(member.getTableName());
+                }
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Check if the table, or any of the tables it references, contains a
+     * reference to a table already in its path. This is a recursive method
      * 
-     * @param thisMember
-     *            TableMember class
+     * @param member
+     *            table members for the table to check
      * 
-     * @param parentNode
-     *            current working node for the table tree
+     * @param inPath
+     *            set of the table names in the path to this table
      * 
-     * @param childNode
-     *            new child node to add to the working node
+     * @param checked
+     *            set of the table names already determined to have no
+     *            recursive references
+     * 
+     * @return The node name (data type and variable name) of the first
+     *         recursive reference encountered; null if the table contains no
+     *         recursive reference
      *************************************************************************/
-    private void buildNodes(TableMembers thisMember,
-                            ToolTipTreeNode parentNode,
-                            ToolTipTreeNode childNode)
+    private String getRecursiveReference(TableMembers member,
+                                         Set<String> inPath,
+                                         Set<String> checked)
     {
-        boolean recursionError = false;
+        String reference = null;
 
-        // Step through each node in the parent's path
-        for (TreeNode node : parentNode.getPath())
+        // Check if the table hasn't already been checked
+        if (!checked.contains(member.getTableName()))
         {
-            // Check if the child is in the path
-            if (((ToolTipTreeNode) node).getUserObject().toString().equals(childNode.getUserObject().toString()))
+            // Add the table to the path
+            inPath.add(member.getTableName());
+
+            // Step through each data type referenced by the table member
+            for (int index = 0; index < member.getDataTypes().size()
+                                && reference == null; index++)
             {
-                // Store the name of the recursively referenced node and set
-                // the error flag
-                recursionTable = childNode.getUserObject().toString();
-                recursionError = true;
-                break;
+                // Get the member table for this data type, if it's a table
+                TableMembers child = memberMap.get(member.getDataTypes().get(index));
+
+                // Check if the data type is a table
+                if (child != null)
+                {
+                    // Check if the table is already in the path
+                    if (inPath.contains(child.getTableName()))
+                    {
+                        // Store the name of the recursively referenced node
+                        reference = member.getFullVariableName(index);
+                    }
+                    // The table isn't in the path
+                    else
+                    {
+                        // Check the table's members
+                        reference = getRecursiveReference(child, inPath, checked);
+                    }
+                }
+            }
+
+            // Remove the table from the path
+            inPath.remove(member.getTableName());
+
+            // Check if no recursive reference was found
+            if (reference == null)
+            {
+                // Store the table so that it isn't checked again
+                checked.add(member.getTableName());
             }
         }
 
-        // Check that a recursion error wasn't found; this prevents an infinite
-        // loop from occurring
-        if (!recursionError)
+        return reference;
+    }
+
+    /**************************************************************************
+     * Check if the table has any nodes to display. Empty nodes are only
+     * removed for tree types that show primitive variables. The table has
+     * nodes to display if the prototype, or any of the tables it references,
+     * contains a primitive variable that meets the rate filter, or if a
+     * variable in this instance of the table has a custom rate value that
+     * meets the filter
+     * 
+     * @param member
+     *            table members for the table to check
+     * 
+     * @param tablePath
+     *            path to this instance of the table
+     * 
+     * @return true if the table has nodes to display, or if empty nodes are
+     *         not removed from this tree type
+     *************************************************************************/
+    private boolean isContentPresent(TableMembers member, String tablePath)
+    {
+        return !(treeType == PROTOTYPE_AND_INSTANCE_WITH_PRIMITIVES
+                 || treeType == INSTANCE_WITH_PRIMITIVES
+                 || treeType == INSTANCE_WITH_PRIMITIVES_AND_RATES)
+               || isContentPresent(member, new HashSet<String>())
+               || isCustomRatePresent(tablePath);
+    }
+
+    /**************************************************************************
+     * Check if any variable within the specified table instance has a custom
+     * rate value that meets the rate filter
+     * 
+     * @param tablePath
+     *            path to the table instance
+     * 
+     * @return true if a rate filter is in effect and a variable within the
+     *         table instance has a custom rate value matching the filter
+     *************************************************************************/
+    private boolean isCustomRatePresent(String tablePath)
+    {
+        boolean isPresent = false;
+
+        // Check if a rate filter is in effect
+        if (rateFilter != null)
         {
-            // Add the child node to its parent
-            parentNode.add(childNode);
+            // Get the first variable path with a custom rate that follows the
+            // table path. The paths are sorted, so if any variable within the
+            // table instance has a custom rate then this is one of them
+            String prefix = tablePath + ",";
+            String ratePath = ratePaths.ceiling(prefix);
+
+            // Check if the variable is within the table instance
+            isPresent = ratePath != null && ratePath.startsWith(prefix);
+        }
 
-            // Get the parent table and variable path for this variable
-            String fullTablePath = getFullVariablePath(childNode.getPath());
+        return isPresent;
+    }
 
-            // Step through each data type referenced by the table member
-            for (int index = 0; index < thisMember.getDataTypes().size(); index++)
-            {
-                // Check if this data type is a primitive
-                if (dataTypeHandler.isPrimitive(thisMember.getDataTypes().get(index)))
-                {
-                    String tablePath = fullTablePath;
+    /**************************************************************************
+     * Check if the table, or any of the tables it references, contains a
+     * primitive variable that meets the rate filter using the prototypes'
+     * rate values. The result is stored so that subsequent checks for the
+     * table don't need to repeat the search; custom rate values for a table
+     * instance are checked separately. This is a recursive method
+     * 
+     * @param member
+     *            table members for the table to check
+     * 
+     * @param inPath
+     *            set of the table names in the path to this table
+     * 
+     * @return true if the table has nodes to display
+     *************************************************************************/
+    private boolean isContentPresent(TableMembers member, Set<String> inPath)
+    {
+        // Get the stored content flag for this table
+        Boolean isPresent = contentMap.get(member.getTableName());
 
-                    // Set to true if the variable has a path (i.e., this is
-                    // not a prototype's variable)
-                    boolean isChildVariable = tablePath.contains(",");
+        // Check if the table hasn't already been checked
+        if (isPresent == null)
+        {
+            isPresent = false;
 
-                    // Check if the variable has a path
-                    if (isChildVariable)
+            // Check if the table isn't already in the path
+            if (inPath.add(member.getTableName()))
+            {
+                // Store the recursion flag for the calling table and reset it
+                // for this table
+                boolean isPriorRecursion = isContentRecursion;
+                isContentRecursion = false;
+
+                // Step through each data type referenced by the table member
+                for (int index = 0; index < member.getDataTypes().size()
+                                    && !isPresent; index++)
+                {
+                    // Check if this data type is a primitive
+                    if (dataTypeHandler.isPrimitive(member.getDataTypes().get(index)))
                     {
-                        // Add the data type and variable name to the variable
-                        // path
-                        tablePath += ","
-                                     + thisMember.getDataTypes().get(index)
-                                     + "."
-                                     + thisMember.getVariableNames().get(index);
+                        // Check if no rate filter is in effect or, if not, that
+                        // the rate matches the specified rate filter
+                        isPresent = isRateMatch(member, index, null);
                     }
-
-                    String rate = null;
-
-                    // Check if a rate filter is in effect
-                    if (rateFilter != null)
+                    // Data type is not a primitive
+                    else
                     {
-                        // Get the rate value for this variable. Use the
-                        // prototype's value if the variable doesn't have a
-                        // specific rate assigned
-                        rate = isChildVariable
-                               && rateValues.contains(tablePath)
-                                                                ? rateFilter
-                                                                : thisMember.getRates().get(index)[rateIndex];
+                        // Get the member table for this data type
+                        TableMembers child = memberMap.get(member.getDataTypes().get(index));
+
+                        // Check if the data type is a table with content
+                        isPresent = child != null
+                                    && isContentPresent(child, inPath);
                     }
+                }
+
+                inPath.remove(member.getTableName());
+
+                // Check if the table has content or if the result didn't
+                // depend on a table already in the path. A table whose check
+                // encountered a recursive reference may have a different
+                // result when reached by another path, so it isn't stored
+                if (isPresent || !isContentRecursion)
+                {
+                    // Store the content flag for the table
+                    contentMap.put(member.getTableName(), isPresent);
+                }
+
+                // Restore the recursion flag for the calling table
+                isContentRecursion |= isPriorRecursion;
+            }
+            // The table is already in the path
+            else
+            {
+                // Set the flag to indicate a recursive reference was
+                // encountered
+                isContentRecursion = true;
+            }
+        }
+
+        return isPresent;
+    }
 
-                    // Check if no rate filter is in effect or, if not, that
-                    // the rate matches the specified rate filter
-                    if (rateFilter == null || rate.equals(rateFilter))
+    /**************************************************************************
+     * Check if no rate filter is in effect or, if not, that the variable's
+     * rate matches the specified rate filter
+     * 
+     * @param member
+     *            table members for the variable's table
+     * 
+     * @param index
+     *            index of the variable in the table members
+     * 
+     * @param tablePath
+     *            variable path; null if the prototype's rate should be used
+     * 
+     * @return true if no rate filter is in effect or if the variable's rate
+     *         matches the rate filter
+     *************************************************************************/
+    private boolean isRateMatch(TableMembers member,
+                                int index,
+                                String tablePath)
+    {
+        boolean isMatch = true;
+
+        // Check if a rate filter is in effect
+        if (rateFilter != null)
+        {
+            // Get the rate value for this variable. Use the prototype's value
+            // if the variable doesn't have a specific rate assigned
+            String rate = tablePath != null
+                          && ratePaths.contains(tablePath)
+                                                          ? rateFilter
+                                                          : member.getRates().get(index)[rateIndex];
+
+            // Check if the rate matches the specified rate filter
+            isMatch = rate.equals(rateFilter);
+        }
+
+        return isMatch;
+    }
+
+    /**************************************************************************
+     * Build the child nodes for a table node. The primitive variables are
+     * added, and table nodes are added for the structure variables; the child
+     * nodes for these tables are created when first requested. In order to
+     * prevent an infinite loop, a check is made for a child node that exists
+     * in its own path; if found the node isn't added
+     * 
+     * @param tableNode
+     *            table node for which to create the child nodes
+     *************************************************************************/
+    private void buildNodes(TableNode tableNode)
+    {
+        TableMembers thisMember = tableNode.getMember();
+
+        // Get the parent table and variable path for this variable
+        String fullTablePath = tableNode.getTablePath();
+
+        // Get the names of the nodes in the table's path
+        Set<String> pathNames = new HashSet<String>(Arrays.asList(fullTablePath.split(",")));
+
+        // Step through each data type referenced by the table member
+        for (int index = 0; index < thisMember.getDataTypes().size(); index++)
+        {
+            // Check if this data type is a primitive
+            if (dataTypeHandler.isPrimitive(thisMember.getDataTypes().get(index)))
+            {
+                String tablePath = fullTablePath;
+
+                // Set to true if the variable has a path (i.e., this is not a
+                // prototype's variable)
+                boolean isChildVariable = tablePath.contains(",");
+
+                // Check if the variable has a path
+                if (isChildVariable)
+                {
+                    // Add the data type and variable name to the variable path
+                    tablePath += ","
+                                 + thisMember.getDataTypes().get(index)
+                                 + "."
+                                 + thisMember.getVariableNames().get(index);
+                }
+
+                // Check if no rate filter is in effect or, if not, that the
+                // rate matches the specified rate filter
+                if (isRateMatch(thisMember,
+                                index,
+                                isChildVariable
+                                               ? tablePath
+                                               : null))
+                {
+                    // Get the full variable name in the form
+                    // data_type.variable_name[:bit_length]
+                    String variable = thisMember.getFullVariableNameWithBits(index);
+
+                    // Check if the exclusion list has been applied to the
+                    // tree
+                    if (isExcludeListApplied)
                     {
-                        // Get the full variable name in the form
-                        // data_type.variable_name[:bit_length]
-                        String variable = thisMember.getFullVariableNameWithBits(index);
-
-                        // Check that no exclusion list is supplied, or if one
-                        // is in effect that the variable, using its full path
-                        // and name, is not in the exclusion list
-                        if (excludedVariables == null
-                            || !excludedVariables.contains(tablePath))
-                        {
-                            // Add the primitive as a node to this child node
-                            childNode.add(new ToolTipTreeNode(variable, ""));
-                        }
-                        // The variable is in the exclusion list
-                        else
-                        {
-                            // Add the variable with the node text grayed out
-                            childNode.add(new ToolTipTreeNode(DISABLED_TEXT_COLOR
-                                                              + variable,
-                                                              ""));
-                        }
+                        // Use the variable's full path and name, including the
+                        // bit length, to check the exclusion list
+                        tablePath = fullTablePath + "," + variable;
                     }
+
+                    // Add the primitive as a node to this table node. If the
+                    // variable is in the exclusion list then gray out the node
+                    // text
+                    tableNode.add(new ToolTipTreeNode((isVariableExcluded(tablePath)
+                                                                                    ? DISABLED_TEXT_COLOR
+                                                                                    : "")
+                                                      + variable,
+                                                      ""));
                 }
-                // Data type is not a primitive, it's a structure
-                else
+            }
+            // Data type is not a primitive, it's a structure
+            else
+            {
+                // Get the table members for the structure
+                TableMembers member = memberMap.get(thisMember.getDataTypes().get(index));
+
+                // Build the node name from the prototype and variable names
+                String nodeName = thisMember.getFullVariableName(index);
+
+                // Get the variable name path to this node
+                String tablePath = fullTablePath + "," + nodeName;
+
+                // Check if the data type is a table, that the node isn't in
+                // its own path (this prevents an infinite loop from
+                // occurring), and that the table has nodes to display
+                if (member != null
+                    && !pathNames.contains(nodeName)
+                    && isContentPresent(member, tablePath))
                 {
-                    // Step through the other tables
-                    for (TableMembers member : tableMembers)
+                    // Create the node for this table. The node name is in the
+                    // format 'dataType.variableName<[arrayIndex]>'. If a
+                    // specific description exists for the table then use it
+                    // for the tool tip text; otherwise use the prototype's
+                    // description
+                    TableNode childNode = new TableNode(nodeName,
+                                                        getTableDescription(tablePath,
+                                                                            thisMember.getDataTypes().get(index)),
+                                                        member,
+                                                        tablePath);
+
+                    // Add the table node to the current table's node
+                    tableNode.add(childNode);
+
+                    // Check if any excluded variable is in this table's path
+                    if (excludedPathSet.contains(tablePath))
                     {
-                        // Check if the table is a member of the target table
-                        if (thisMember.getDataTypes().get(index).equals(member.getTableName()))
+                        // A table with no child nodes is enabled
+                        boolean isEnabled = childNode.getChildCount() == 0;
+
+                        // Step through the table's child nodes (creating the
+                        // nodes)
+                        for (Enumeration<?> element = childNode.children(); element.hasMoreElements();)
+                        {
+                            // Check if the child node is enabled
+                            if (!element.nextElement().toString().contains(DISABLED_TEXT_COLOR))
+                            {
+                                // Set the flag to indicate a child of this
+                                // node is enabled and stop searching
+                                isEnabled = true;
+                                break;
+                            }
+                        }
+
+                        // Check if all of the table's children are disabled
+                        if (!isEnabled)
                         {
-                            // Build the node name from the prototype and
-                            // variable names
-                            String nodeName = thisMember.getDataTypes().get(index)
-                                              + "."
-                                              + thisMember.getVariableNames().get(index);
-
-                            // Get the variable name path to this node
-                            String tablePath = fullTablePath + "," + nodeName;
-
-                            // Add this table to the current table's node. The
-                            // node name is in the format
-                            // 'dataType.variableName<[arrayIndex]>'. If a
-                            // specific description exists for the table then
-                            // use it for the tool tip text; otherwise use the
-                            // prototype's description
-                            buildNodes(member,
-                                       childNode,
-                                       new ToolTipTreeNode(nodeName,
-                                                           getTableDescription(tablePath,
-                                                                               thisMember.getDataTypes().get(index))));
+                            // Gray out the table node's text
+                            childNode.setUserObject(DISABLED_TEXT_COLOR
+                                                    + nodeName);
                         }
                     }
                 }
             }
+        }
+    }
 
-            // Check if primitive variables are included in the tree and this
-            // node has no children (variables)
-            if ((treeType == PROTOTYPE_AND_INSTANCE_WITH_PRIMITIVES
-                 || treeType == INSTANCE_WITH_PRIMITIVES
-                 || treeType == INSTANCE_WITH_PRIMITIVES_AND_RATES)
-                && childNode.getChildCount() == 0)
+    /**************************************************************************
+     * Check if the specified variable is excluded
+     * 
+     * @param variablePath
+     *            variable path and name
+     * 
+     * @return true if the variable is in the exclusion list, or if the tree
+     *         displays unlinked variables and the variable is linked
+     *************************************************************************/
+    private boolean isVariableExcluded(String variablePath)
+    {
+        return excludedVariableSet.contains(variablePath)
+               || (isExcludeListApplied
+                   && isUnlinkedVariableTree()
+                   && linkedVariableSet.contains(variablePath));
+    }
+
+    /**************************************************************************
+     * Check if the instance node displays unlinked variables
+     * 
+     * @return true if the instance node displays unlinked variables
+     *************************************************************************/
+    private boolean isUnlinkedVariableTree()
+    {
+        return removeExtraText(instance.getUserObject().toString()).equals(UNLINKED_VARIABLES_NODE_NAME);
+    }
+
+    /**************************************************************************
+     * Update the sets used to look up the excluded variables and the paths
+     * that contain excluded variables
+     *************************************************************************/
+    private void updateExclusionSets()
+    {
+        excludedVariableSet = new HashSet<String>();
+        excludedPathSet = new HashSet<String>();
+
+        // Check if an exclusion list is in effect
+        if (excludedVariables != null)
+        {
+            // Add the excluded variables to the set
+            excludedVariableSet.addAll(excludedVariables);
+        }
+
+        List<String> pathLists = new ArrayList<String>(excludedVariableSet);
+
+        // Check if the exclusion list has been applied and the tree displays
+        // the unlinked variables
+        if (isExcludeListApplied && instance != null && isUnlinkedVariableTree())
+        {
+            // Linked variables are also excluded
+            pathLists.addAll(linkedVariableSet);
+        }
+
+        // Step through each excluded variable
+        for (String variablePath : pathLists)
+        {
+            // Add the variable's path
+            excludedPathSet.add(variablePath);
+
+            // Step through each separator in the path
+            for (int index = variablePath.indexOf(','); index != -1; index = variablePath.indexOf(',',
+                                                                                                 index + 1))
             {
-                // Remove the node
-                parentNode.remove(childNode);
+                // Add the path up to the separator, which is the path to a
+                // table containing the excluded variable
+                excludedPathSet.add(variablePath.substring(0, index));
             }
         }
     }
@@ -1232,7 +1805,7 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
         // Get the paths from the tree matching the search criteria
         tablePathList = getTableTreePathArray(searchName, startNode);
 
-        List<String> variablePaths = new ArrayList<String>();
+        Set<String> variablePaths = new LinkedHashSet<String>();
 
         // Step through each path
         for (Object[] path : tablePathList)
@@ -1242,16 +1815,15 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
             String variable = removeExtraText(createNameFromPath(path,
                                                                  getTableNodeLevel()));
 
-            // Check if the path is not already in the list and that the path
-            // isn't blank
-            if (!variablePaths.contains(variable) && !variable.isEmpty())
+            // Check that the path isn't blank
+            if (!variable.isEmpty())
             {
-                // Add the path to the list
+                // Add the path to the list (duplicate paths are ignored)
                 variablePaths.add(variable);
             }
         }
 
-        return variablePaths;
+        return new ArrayList<String>(variablePaths);
     }
 
     /**************************************************************************
@@ -1359,24 +1931,58 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
      *         exist in the tree
      *************************************************************************/
     protected ToolTipTreeNode getNodeFromNodeName(String nodeName)
+    {
+        return getNodeFromNodeName(nodeName, root);
+    }
+
+    /**************************************************************************
+     * Get the TreeNode for the node matching the specified node name (table
+     * name + variable name), starting at the specified node. The child nodes
+     * of a node are searched before the node itself. This is a recursive
+     * method
+     * 
+     * @param nodeName
+     *            name of the node to search for, in the form
+     *            tableName.variableName
+     * 
+     * @param startNode
+     *            node from which to begin the search
+     * 
+     * @return TreeNode for the specified node; null if the node name doesn't
+     *         exist in the tree
+     *************************************************************************/
+    private ToolTipTreeNode getNodeFromNodeName(String nodeName,
+                                                ToolTipTreeNode startNode)
     {
         ToolTipTreeNode node = null;
 
-        // Step through the root node's children, if any
-        for (Enumeration<?> element = root.depthFirstEnumeration(); element.hasMoreElements();)
+        // Check if the node's children should be searched. The child nodes of
+        // a table node all have names in the form dataType.variableName, so if
+        // the target name isn't in this form then the child nodes of a table
+        // node that haven't been created don't need to be created and searched
+        if (!(startNode instanceof TableNode)
+            || ((TableNode) startNode).isLoaded()
+            || nodeName.contains("."))
         {
-            // Get the referenced node
-            ToolTipTreeNode tableNode = (ToolTipTreeNode) element.nextElement();
-
-            // Check if the node matches the target node's name
-            if (removeExtraText(tableNode.getUserObject().toString()).equals(nodeName))
+            // Step through the node's children, if any
+            for (Enumeration<?> element = startNode.children(); element.hasMoreElements()
+                                                                && node == null;)
             {
-                // Store this node and stop searching
-                node = tableNode;
-                break;
+                // Search the child node and its children
+                node = getNodeFromNodeName(nodeName,
+                                           (ToolTipTreeNode) element.nextElement());
             }
         }
 
+        // Check if the node wasn't found in the child nodes and that this node
+        // matches the target node's name
+        if (node == null
+            && removeExtraText(startNode.getUserObject().toString()).equals(nodeName))
+        {
+            // Store this node
+            node = startNode;
+        }
+
         return node;
     }
 
@@ -1643,63 +2249,73 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
 
     /**************************************************************************
      * Update the text color for the nodes that represent a primitive variable
-     * based on the variable exclusion list
+     * based on the variable exclusion list. Only nodes that have been created
+     * are updated; nodes created subsequently apply the exclusion list when
+     * created. This is a recursive method
+     * 
+     * @param node
+     *            node from which to begin updating
      *************************************************************************/
-    private void setNodeEnableByExcludeList()
+    private void setNodeEnableByExcludeList(ToolTipTreeNode node)
     {
-        // Step through elements and children of this node
-        for (Enumeration<?> element = root.depthFirstEnumeration(); element.hasMoreElements();)
+        // Check if the node isn't a table node or if the table node's children
+        // have been created
+        if (!(node instanceof TableNode) || ((TableNode) node).isLoaded())
         {
-            // Get the node reference
-            ToolTipTreeNode node = (ToolTipTreeNode) element.nextElement();
-
-            // Check if this is node has no children, which indicates is may be
-            // a variable, and that the node is for a structure or variable
-            if (node.isLeaf() && node.getLevel() >= getTableNodeLevel())
+            // Step through the node's children
+            for (Enumeration<?> element = node.children(); element.hasMoreElements();)
             {
-                // Get the node name
-                String nodeName = node.getUserObject().toString();
+                // Update the child node and its children
+                setNodeEnableByExcludeList((ToolTipTreeNode) element.nextElement());
+            }
+        }
 
-                // Set to true if the variable in this path is not excluded (as
-                // evidenced by having a HTML tag)
-                boolean wasExcluded = nodeName.contains(DISABLED_TEXT_COLOR);
+        // Check if this is node has no children, which indicates is may be a
+        // variable, and that the node is for a structure or variable
+        if (node.isLeaf() && node.getLevel() >= getTableNodeLevel())
+        {
+            // Get the node name
+            String nodeName = node.getUserObject().toString();
 
-                // Get the path for this node as a string array
-                String[] nodes = CcddUtilities.convertObjectToString(node.getPath());
+            // Set to true if the variable in this path is not excluded (as
+            // evidenced by having a HTML tag)
+            boolean wasExcluded = nodeName.contains(DISABLED_TEXT_COLOR);
 
-                // Step through each node in the path
-                for (int index = 0; index < nodes.length; index++)
-                {
-                    // Remove the HTML tags from the node
-                    nodes[index] = removeExtraText(nodes[index]);
-                }
+            // Get the path for this node as a string array
+            String[] nodes = CcddUtilities.convertObjectToString(node.getPath());
 
-                // Get the variable path and name. Skip the link name node if
-                // present
-                String variablePath = getFullVariablePath(nodes,
-                                                          (nodes[1].equals(LINKED_VARIABLES_NODE_NAME)
-                                                                                                      ? 1
-                                                                                                      : 0));
-
-                // Set the flag indicating the variable is excluded if it's in
-                // the exclusion lists
-                boolean isExcluded = excludedVariables.contains(variablePath)
-                                     || (nodes[1].equals(UNLINKED_VARIABLES_NODE_NAME)
-                                     && linkedVariables.contains(variablePath));
-
-                // Check if the variable exclusion state has changed
-                if (wasExcluded != isExcluded)
-                {
-                    // Reset the node name to indicate its inclusion/exclusion
-                    // state. If excluded, prepend the HTML tag to gray out the
-                    // name. Indicate that the node changed so that the tree
-                    // redraws the name
-                    node.setUserObject((isExcluded
-                                                  ? DISABLED_TEXT_COLOR
-                                                  : "")
-                                       + nodes[nodes.length - 1]);
-                    ((DefaultTreeModel) getModel()).nodeChanged(node);
-                }
+            // Step through each node in the path
+            for (int index = 0; index < nodes.length; index++)
+            {
+                // Remove the HTML tags from the node
+                nodes[index] = removeExtraText(nodes[index]);
+            }
+
+            // Get the variable path and name. Skip the link name node if
+            // present
+            String variablePath = getFullVariablePath(nodes,
+                                                      (nodes[1].equals(LINKED_VARIABLES_NODE_NAME)
+                                                                                                  ? 1
+                                                                                                  : 0));
+
+            // Set the flag indicating the variable is excluded if it's in the
+            // exclusion lists
+            boolean isExcluded = excludedVariableSet.contains(variablePath)
+                                 || (nodes[1].equals(UNLINKED_VARIABLES_NODE_NAME)
+                                 && linkedVariableSet.contains(variablePath));
+
+            // Check if the variable exclusion state has changed
+            if (wasExcluded != isExcluded)
+            {
+                // Reset the node name to indicate its inclusion/exclusion
+                // state. If excluded, prepend the HTML tag to gray out the
+                // name. Indicate that the node changed so that the tree
+                // redraws the name
+                node.setUserObject((isExcluded
+                                              ? DISABLED_TEXT_COLOR
+                                              : "")
+                                   + nodes[nodes.length - 1]);
+                ((DefaultTreeModel) getModel()).nodeChanged(node);
             }
         }
     }
@@ -1707,7 +2323,9 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     /**************************************************************************
      * Set the node text color based on the enable state of its child nodes. If
      * all children are disabled then disable the parent, otherwise enable the
-     * parent. This is a recursive method
+     * parent. A table node with child nodes that haven't been created is
+     * enabled unless its path contains an excluded variable. This is a
+     * recursive method
      * 
      * @param node
      *            node for which to adjust the text and color
@@ -1718,8 +2336,17 @@ public class CcddTableTreeHandler extends CcddCommonTreeHandler
     {
         boolean isEnabled;
 
+        // Check if this is a table node with child nodes that haven't been
+        // created and that no excluded variable is in the table's path
+        if (node instanceof TableNode
+            && !((TableNode) node).isLoaded()
+            && !excludedPathSet.contains(((TableNode) node).getTablePath()))
+        {
+            // The table contains no excluded variables, so it's enabled
+            isEnabled = true;
+        }
         // Check if this node has any children
-        if (node.getChildCount() != 0)
+        else if (node.getChildCount() != 0)
         {
             isEnabled = false;
 
@@ -18,6 +18,9 @@ import java.util.regex.Pattern;
 import javax.swing.DefaultListModel;
 import javax.swing.JList;
 import javax.swing.JOptionPane;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import CCDD.CcddConstants.DialogOption;
 
@@ -1124,6 +1127,74 @@ public class CcddUtilities
         }
     }
 
+    /**************************************************************************
+     * Advance an XML stream reader from its current position to the next
+     * start or end element
+     * 
+     * @param reader
+     *            XML stream reader
+     * 
+     * @return XMLStreamConstants.START_ELEMENT or
+     *         XMLStreamConstants.END_ELEMENT if an element is found;
+     *         XMLStreamConstants.END_DOCUMENT if the end of the document is
+     *         reached
+     * 
+     * @throws XMLStreamException
+     *             If an error occurs reading the XML
+     *************************************************************************/
+    protected static int nextXMLTag(XMLStreamReader reader) throws XMLStreamException
+    {
+        // Continue to read until a start or end element, or the end of the
+        // document, is reached. The current event is checked first since
+        // unmarshalling an element leaves the reader positioned on the event
+        // following the element
+        while (!reader.isStartElement()
+               && !reader.isEndElement()
+               && reader.getEventType() != XMLStreamConstants.END_DOCUMENT)
+        {
+            reader.next();
+        }
+
+        return reader.getEventType();
+    }
+
+    /**************************************************************************
+     * Skip the XML element at which the stream reader is positioned, including
+     * all of its child elements. The reader is left positioned on the event
+     * following the element
+     * 
+     * @param reader
+     *            XML stream reader positioned on the element's start tag
+     * 
+     * @throws XMLStreamException
+     *             If an error occurs reading the XML
+     *************************************************************************/
+    protected static void skipXMLElement(XMLStreamReader reader) throws XMLStreamException
+    {
+        int depth = 1;
+
+        // Continue to read until the element's end tag is reached
+        while (depth != 0)
+        {
+            // Get the next event
+            int event = reader.next();
+
+            // Check if this is the start of a child element
+            if (event == XMLStreamConstants.START_ELEMENT)
+            {
+                depth++;
+            }
+            // Check if this is the end of an element
+            else if (event == XMLStreamConstants.END_ELEMENT)
+            {
+                depth--;
+            }
+        }
+
+        // Step past the element's end tag
+        reader.next();
+    }
+
     /**************************************************************************
      * Display a dialog for a generic exception, showing the cause and the
      * stack trace
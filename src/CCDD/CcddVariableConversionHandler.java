@@ -6,8 +6,11 @@
  */
 package CCDD;
 
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /******************************************************************************
  * CFS Command & Data Dictionary variable conversion handler class
@@ -16,11 +19,11 @@ public class CcddVariableConversionHandler
 {
     private final CcddMacroHandler macroHandler;
 
-    // Lists that show a variable's full name before and after converting any
-    // commas and brackets to underscores. Only variable's where the converted
-    // name matches another variable's are saved in the lists
-    private List<String> originalVariableNameList;
-    private List<String> convertedVariableNameList;
+    // Map of a variable's full name after converting any commas and brackets
+    // to underscores, keyed by the variable's full name before conversion.
+    // Only variable's where the converted name matches another variable's are
+    // saved in the map
+    private Map<String, String> convertedVariableNames;
 
     /**************************************************************************
      * Variable conversion handler class constructor
@@ -77,35 +80,28 @@ public class CcddVariableConversionHandler
             // name
             fullName = variablePath + "," + variableName;
 
-            int index = -1;
+            String convertedName = null;
 
             // Check if the separator character is an underscore
             if (separator.equals("_"))
             {
-                // Get the index of the variable name from the list of
-                // original names
-                index = originalVariableNameList.indexOf(fullName);
+                // Get the converted variable name for this variable, if it's
+                // in the map. This name has one or more underscores appended
+                // since it would otherwise duplicate another variable's name
+                convertedName = convertedVariableNames.get(fullName);
             }
 
-            // Check if the variable name was extracted from the list
-            if (index != -1)
+            // Check if the variable name was extracted from the map
+            if (convertedName != null)
             {
-                // Get the converted variable name for this variable. This
-                // name has one or more underscores appended since it would
-                // otherwise duplicate another variable's name
-                fullName = convertedVariableNameList.get(index);
+                fullName = convertedName;
             }
             // The separator character isn't an underscore or the variable
-            // name isn't in the list
+            // name isn't in the map
             else
             {
-                // Replace the commas in the path, which separate each
-                // structure variable in the path, with underscores.
-                // Replace any left brackets with underscores and right
-                // brackets with blanks (in case there are any array
-                // members in the path)
-                fullName = fullName.replaceAll("[,\\[]",
-                                               separator).replaceAll("\\]", "");
+                // Convert the full name using the specified separator
+                fullName = convertVariableName(fullName, separator);
             }
         }
 
@@ -113,21 +109,64 @@ public class CcddVariableConversionHandler
     }
 
     /**************************************************************************
-     * Create a pair of lists that show a variable's full name before and after
-     * converting any commas and brackets to underscores. Check if duplicate
-     * variable names result from the conversion; if a duplicate is found
-     * append an underscore to the duplicate's name. Once all variable names
-     * are processed trim the list to include only those variables that are
-     * modified to prevent a duplicate. These lists are used by
+     * Convert a variable's full name by replacing the commas in the path,
+     * which separate each structure variable in the path, and any left
+     * brackets with the specified separator, and by removing any right
+     * brackets (in case there are any array members in the path). The name is
+     * converted in a single pass
+     * 
+     * @param fullName
+     *            variable's full path and name
+     * 
+     * @param separator
+     *            character(s) to place between variables names
+     * 
+     * @return The variable's converted full name
+     *************************************************************************/
+    private String convertVariableName(String fullName, String separator)
+    {
+        StringBuilder convertedName = new StringBuilder(fullName.length()
+                                                        + 8);
+
+        // Step through each character in the full name
+        for (int index = 0; index < fullName.length(); index++)
+        {
+            char character = fullName.charAt(index);
+
+            // Check if the character is a comma or left bracket
+            if (character == ',' || character == '[')
+            {
+                // Replace the character with the separator
+                convertedName.append(separator);
+            }
+            // Check if the character isn't a right bracket
+            else if (character != ']')
+            {
+                // Copy the character
+                convertedName.append(character);
+            }
+        }
+
+        return convertedName.toString();
+    }
+
+    /**************************************************************************
+     * Create a map of variables' full names before and after converting any
+     * commas and brackets to underscores. Check if duplicate variable names
+     * result from the conversion; if a duplicate is found append an underscore
+     * to the duplicate's name. Only those variables that are modified to
+     * prevent a duplicate are stored in the map. The map is used by
      * getFullVariableName() so that it always returns a unique name
      *************************************************************************/
     private void createConvertedVariableNameList(List<String[]> variableInformation)
     {
-        // Check if the lists aren't already created
-        if (convertedVariableNameList == null)
+        // Check if the map isn't already created
+        if (convertedVariableNames == null)
         {
-            originalVariableNameList = new ArrayList<String>();
-            convertedVariableNameList = new ArrayList<String>();
+            convertedVariableNames = new HashMap<String, String>();
+
+            // Create storage for the converted names of all variables
+            Set<String> convertedNames = new HashSet<String>(variableInformation.size() * 2);
 
             // Step through each variable
             for (String[] variableInfo : variableInformation)
@@ -146,43 +185,35 @@ public class CcddVariableConversionHandler
                     // variable name
                     String fullName = variablePath + "," + variableName;
 
-                    // Add the full variable name to the original variable name
-                    // list
-                    originalVariableNameList.add(fullName);
-
                     // Replace the commas in the path, which separate each
                     // structure variable in the path, with underscores.
                     // Replace any left brackets with underscores and right
                     // brackets with blanks (in case there are any array
                     // members in the path)
-                    fullName = fullName.replaceAll("[,\\[]", "_").replaceAll("\\]", "");
+                    String convertedName = convertVariableName(fullName, "_");
 
                     // Compare the converted variable name to those already
-                    // added to the list
-                    while (convertedVariableNameList.contains(fullName))
+                    // converted
+                    while (convertedNames.contains(convertedName))
                     {
                         // A matching name already exists; append an underscore
                         // to this variable's name
-                        fullName += "_";
+                        convertedName += "_";
                     }
 
-                    // Add the variable name to the converted variable name
-                    // list
-                    convertedVariableNameList.add(fullName);
-                }
-            }
+                    // Add the variable name to the converted variable names
+                    convertedNames.add(convertedName);
 
-            // Step through the converted variable name list
-            for (int index = convertedVariableNameList.size() - 1; index >= 0; index--)
-            {
-                // Check if this variable isn't one that is modified
-                if (!convertedVariableNameList.get(index).endsWith("_"))
-                {
-                    // Remove the variable from the list. This shortens the
-                    // list and allows all other variables to have their full
-                    // name built "on-the-fly"
-                    originalVariableNameList.remove(index);
-                    convertedVariableNameList.remove(index);
+                    // Check if this variable is one that is modified and that
+                    // the full name isn't already in the map. This allows all
+                    // other variables to have their full name built
+                    // "on-the-fly"
+                    if (convertedName.endsWith("_")
+                        && !convertedVariableNames.containsKey(fullName))
+                    {
+                        // Add the variable to the map
+                        convertedVariableNames.put(fullName, convertedName);
+                    }
                 }
             }
         }
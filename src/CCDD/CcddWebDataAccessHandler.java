@@ -12,7 +12,9 @@ import static CCDD.CcddConstants.TYPE_DATA_FIELD_IDENT;
 import static CCDD.CcddConstants.TYPE_STRUCTURE;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.net.URLDecoder;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -43,12 +45,16 @@ import CCDD.CcddConstants.TableTreeType;
 import CCDD.CcddTableTypeHandler.TypeDefinition;
 
 /******************************************************************************
- * CFS Command & Data Dictionary web data access handler class
+ * CFS Command & Data Dictionary web data access handler class. The handler
+ * registered with the web server creates a separate instance of this class to
+ * process each request, so that requests executing concurrently don't share
+ * the request-specific information stored in the class
  *****************************************************************************/
 public class CcddWebDataAccessHandler extends AbstractHandler
 {
     // Class references
     private final CcddMain ccddMain;
+    private final CcddDbCommandHandler dbCommand;
     private final CcddDbTableCommandHandler dbTable;
     private final CcddEventLogDialog eventLog;
     private CcddRateParameterHandler rateHandler;
@@ -72,6 +78,166 @@ public class CcddWebDataAccessHandler extends AbstractHandler
     // List of table names belonging to a group (or application)
     private List<String> groupTables;
 
+    // Web server response to which the output of a request returning an array
+    // is streamed; null if the output isn't streamed
+    private HttpServletResponse streamResponse;
+
+    // Flag indicating that the request's output has been streamed to the web
+    // server response
+    private boolean isResponseStreamed;
+
+    // Number of tables loaded from the database at a time when streaming the
+    // information for multiple tables
+    private static final int TABLE_LOAD_BATCH_SIZE = 100;
+
+    /**************************************************************************
+     * JSON array output class. The members of the array are written to the web
+     * server response as each member is added, so that the entire array isn't
+     * stored in memory and the requester receives the first member without
+     * waiting for the array to be completed. If no web server response is
+     * available then the array is stored as a string
+     *************************************************************************/
+    private class JSONArrayOutput
+    {
+        private final StringBuilder arrayText;
+        private Writer writer;
+        private boolean isEmpty;
+
+        /**********************************************************************
+         * JSON array output class constructor
+         *********************************************************************/
+        JSONArrayOutput()
+        {
+            arrayText = streamResponse == null
+                                               ? new StringBuilder()
+                                               : null;
+            writer = null;
+            isEmpty = true;
+        }
+
+        /**********************************************************************
+         * Write the text to the output
+         * 
+         * @param text
+         *            text to write
+         * 
+         * @throws CCDDException
+         *             If the text cannot be written to the web server response
+         *********************************************************************/
+        private void write(String text) throws CCDDException
+        {
+            // Check if the output isn't streamed
+            if (arrayText != null)
+            {
+                // Add the text to the stored array
+                arrayText.append(text);
+            }
+            // The output is streamed
+            else
+            {
+                try
+                {
+                    // Check if nothing has been written to the response
+                    if (writer == null)
+                    {
+                        // Set the response status and type. No length is
+                        // set, so the response is sent in chunks as it's
+                        // written
+                        streamResponse.setStatus(HttpServletResponse.SC_OK);
+                        streamResponse.setContentType("text/json");
+                        writer = streamResponse.getWriter();
+                        isResponseStreamed = true;
+                    }
+
+                    // Write the text, removing the extraneous escape
+                    // characters the JSON encoder inserts
+                    writer.write(removeExtraEscapes(text));
+                }
+                catch (IOException ioe)
+                {
+                    throw new CCDDException("cannot write response; cause '"
+                                            + ioe.getMessage()
+                                            + "'");
+                }
+            }
+        }
+
+        /**********************************************************************
+         * Add a member to the array
+         * 
+         * @param member
+         *            JSON encoded string for the array member; ignored if null
+         * 
+         * @throws CCDDException
+         *             If the member cannot be written to the web server
+         *             response
+         *********************************************************************/
+        protected void add(String member) throws CCDDException
+        {
+            // Check if the member exists
+            if (member != null)
+            {
+                // Write the separator (or the array's opening bracket if this
+                // is the first member) and the member
+                write(isEmpty
+                             ? "["
+                             : ",");
+                write(member);
+                isEmpty = false;
+            }
+        }
+
+        /**********************************************************************
+         * Send the members written so far to the requester
+         * 
+         * @throws CCDDException
+         *             If the web server response cannot be flushed
+         *********************************************************************/
+        protected void flush() throws CCDDException
+        {
+            // Check if output has been written to the web server response
+            if (writer != null)
+            {
+                try
+                {
+                    // Send the output written so far
+                    writer.flush();
+                }
+                catch (IOException ioe)
+                {
+                    throw new CCDDException("cannot write response; cause '"
+                                            + ioe.getMessage()
+                                            + "'");
+                }
+            }
+        }
+
+        /**********************************************************************
+         * Complete the array
+         * 
+         * @return JSON encoded string for the array if the output isn't
+         *         streamed; blank if the array is streamed to the web server
+         *         response
+         * 
+         * @throws CCDDException
+         *             If the array cannot be written to the web server
+         *             response
+         *********************************************************************/
+        protected String complete() throws CCDDException
+        {
+            // Write the array's closing bracket, and the opening bracket if no
+            // member was added
+            write(isEmpty
+                         ? "[]"
+                         : "]");
+            flush();
+
+            return arrayText != null
+                                    ? arrayText.toString()
+                                    : "";
+        }
+    }
+
     /**************************************************************************
      * Web data access handler class constructor
      * 
@@ -81,6 +247,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
     protected CcddWebDataAccessHandler(CcddMain ccddMain)
     {
         this.ccddMain = ccddMain;
+        dbCommand = ccddMain.getDbCommandHandler();
         dbTable = ccddMain.getDbTableCommandHandler();
         eventLog = ccddMain.getSessionEventLog();
     }
@@ -122,10 +289,87 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             query = "";
         }
 
-        // Process the request and get the information encoded as a JSON
-        // string. The leading '/' is removed from the request path
-        String jsonResponse = getQueryResults(target.replaceFirst("^/", ""),
-                                              query);
+        String jsonResponse = null;
+
+        // Create a handler for this request so that the request-specific
+        // information isn't shared with any other request being processed.
+        // Provide the response so that large outputs can be streamed
+        CcddWebDataAccessHandler requestHandler = new CcddWebDataAccessHandler(ccddMain);
+        requestHandler.setHandlers();
+        requestHandler.streamResponse = response;
+
+        try
+        {
+            // Obtain a pooled database connection for this request so that
+            // its database commands can execute concurrently with those of
+            // other requests
+            dbCommand.obtainRequestConnection();
+
+            // Process the request and get the information encoded as a JSON
+            // string. The leading '/' is removed from the request path
+            jsonResponse = requestHandler.getQueryResults(target.replaceFirst("^/", ""),
+                                                          query);
+        }
+        catch (SQLException se)
+        {
+            // Inform the user that connecting to the database failed
+            eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                  "Web Server Error",
+                                  "Cannot connect to database for web server request; cause '"
+                                      + se.getMessage()
+                                      + "'",
+                                  "<html><b>Cannot connect to database for web server request");
+        }
+        finally
+        {
+            // Release the request's database connection
+            dbCommand.releaseRequestConnection();
+        }
+
+        // Check if the output was streamed to the response and the request
+        // completed successfully
+        if (requestHandler.isResponseStreamed && jsonResponse != null)
+        {
+            try
+            {
+                // Send any remaining output to the requester
+                response.flushBuffer();
+            }
+            catch (IOException ioe)
+            {
+                // Inform the user that processing the web server request
+                // failed
+                eventLog.logFailEvent(ccddMain.getMainFrame(),
+                                      "Web Server Error",
+                                      "Cannot respond to web server request; cause '"
+                                          + ioe.getMessage()
+                                          + "'",
+                                      "<html><b>Cannot respond to web server request");
+            }
+
+            return;
+        }
+        // Check if the request failed after part of the output was streamed
+        else if (requestHandler.isResponseStreamed)
+        {
+            // Check if none of the output has been sent to the requester
+            if (!response.isCommitted())
+            {
+                // Discard the output so that the failure is reported to the
+                // requester by the response status below
+                response.reset();
+            }
+            // Part of the output has been sent
+            else
+            {
+                // The response status can no longer be changed. Abort the
+                // connection so that the response isn't terminated normally;
+                // the requester then detects that the response is incomplete
+                // instead of receiving a truncated array
+                baseRequest.getHttpChannel().abort();
+                return;
+            }
+        }
 
         // Check if the specified content was loaded successfully
         if (jsonResponse != null)
@@ -489,13 +733,27 @@ public class CcddWebDataAccessHandler extends AbstractHandler
         {
             // Remove the extraneous escape (\) characters that the JSON
             // encoder inserts into the string
-            response = response.replaceAll("\\\\\\\\",
-                                           "\\\\").replaceAll("\\\\/", "/");
+            response = removeExtraEscapes(response);
         }
 
         return response;
     }
 
+    /**************************************************************************
+     * Remove the extraneous escape (\) characters that the JSON encoder
+     * inserts into a string
+     * 
+     * @param text
+     *            JSON encoded string
+     * 
+     * @return JSON encoded string with the extraneous escape characters
+     *         removed
+     *************************************************************************/
+    private static String removeExtraEscapes(String text)
+    {
+        return text.replace("\\\\", "\\").replace("\\/", "/");
+    }
+
     /**************************************************************************
      * Get a list containing the names and paths of every data table. The tree
      * type (prototype only or instances only) is determined by the command
@@ -546,30 +804,19 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             // Check that at least one table exists in the project database
             if (!tableNameList.isEmpty())
             {
-                JSONArray responseJA = new JSONArray();
-                JSONParser parser = new JSONParser();
-                response = "";
+                JSONArrayOutput responseJA = new JSONArrayOutput();
 
                 // Step through each table name
                 for (String name : tableNameList)
                 {
-                    try
-                    {
-                        // Get the data for this table as a JSON string, then
-                        // format it as a JSON object so that is can be added
-                        // to the response array. This is needed to get the
-                        // brackets and commas in the JSON formatted string
-                        // correct
-                        responseJA.add(parser.parse(getTableData(name, true)));
-                    }
-                    catch (ParseException pe)
-                    {
-                        throw new CCDDException("error parsing table data");
-                    }
+                    // Add the data for this table to the response array and
+                    // send it to the requester
+                    responseJA.add(getTableData(name, true));
+                    responseJA.flush();
                 }
 
-                // Convert the response array to a JSON string
-                response = responseJA.toString();
+                // Complete the response array
+                response = responseJA.complete();
             }
         }
         // A table name is provided
@@ -727,32 +974,19 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                     }
                 }
 
-                JSONArray responseJA = new JSONArray();
-                JSONParser parser = new JSONParser();
-                response = "";
+                JSONArrayOutput responseJA = new JSONArrayOutput();
 
                 // Step through the list of tables with data fields
                 for (String name : tableNames)
                 {
-                    try
-                    {
-                        // Get the fields for this table as a JSON string, then
-                        // format it as a JSON object so that is can be added
-                        // to the response array. This is needed to get the
-                        // brackets and commas in the JSON formatted string
-                        // correct
-                        responseJA.add(parser.parse(getTableFields(name,
-                                                                   false,
-                                                                   fieldHandler)));
-                    }
-                    catch (ParseException pe)
-                    {
-                        throw new CCDDException("error parsing table data fields");
-                    }
+                    // Add the fields for this table to the response array and
+                    // send them to the requester
+                    responseJA.add(getTableFields(name, false, fieldHandler));
+                    responseJA.flush();
                 }
 
-                // Add the table fields to the response
-                response = responseJA.toString();
+                // Complete the response array
+                response = responseJA.complete();
             }
         }
         // A table name is provided. Check if the table existence should be
@@ -986,8 +1220,6 @@ public class CcddWebDataAccessHandler extends AbstractHandler
     private String getTableInformation(String tableName,
                                        CcddFieldHandler fieldHandler) throws CCDDException
     {
-        JSONArray responseJA = new JSONArray();
-        JSONParser parser = new JSONParser();
         String response = null;
 
         // Check if no table name is provided (i.e., get the information for
@@ -1000,32 +1232,23 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             // Check that at least one table exists in the project database
             if (!tableNameList.isEmpty())
             {
-                response = "";
+                JSONArrayOutput responseJA = new JSONArrayOutput();
 
                 // Step through each table name
                 for (String name : tableNameList)
                 {
-                    try
-                    {
-                        // Get the fields for this table as a JSON string, then
-                        // format it as a JSON object so that is can be added
-                        // to the response array. This is needed to get the
-                        // brackets and commas in the JSON formatted string
-                        // correct
-                        responseJA.add(parser.parse(getTableInformation(name,
-                                                                        fieldHandler)));
-                    }
-                    catch (ParseException pe)
-                    {
-                        throw new CCDDException("error parsing table information");
-                    }
+                    // Add the information for this table to the response
+                    // array and send it to the requester
+                    responseJA.add(getTableInformation(name, fieldHandler));
+                    responseJA.flush();
                 }
 
-                // Convert the response array to a JSON string
-                response = responseJA.toString();
+                // Complete the response array
+                response = responseJA.complete();
             }
         }
         // A table name is provided
+        else
         {
             // Get the tables information
             JSONObject tableInfoJO = jsonHandler.getTableInformation(tableName,
@@ -1080,44 +1303,28 @@ public class CcddWebDataAccessHandler extends AbstractHandler
         // groups/applications)
         if (groupName.isEmpty())
         {
-            JSONArray responseJA = new JSONArray();
-            JSONParser parser = new JSONParser();
-
             // Get an array containing all group/application names
             String[] groupNames = groupHandler.getGroupNames(applicationOnly);
 
             // Check if any groups/applications exist
             if (groupNames.length != 0)
             {
-                response = "";
+                JSONArrayOutput responseJA = new JSONArrayOutput();
 
                 // Step through each group/application name
                 for (String name : groupNames)
                 {
-                    try
-                    {
-                        // Get the data for this group as a JSON string, then
-                        // format it as a JSON object so that is can be added
-                        // to the response array. This is needed to get the
-                        // brackets and commas in the JSON formatted string
-                        // correct
-                        responseJA.add(parser.parse(getGroupTables(name,
-                                                                   applicationOnly,
-                                                                   true,
-                                                                   groupHandler)));
-                    }
-                    catch (ParseException pe)
-                    {
-                        throw new CCDDException("error parsing "
-                                                + (applicationOnly
-                                                                  ? "application"
-                                                                  : "group")
-                                                + " tables");
-                    }
+                    // Add the tables for this group to the response array and
+                    // send them to the requester
+                    responseJA.add(getGroupTables(name,
+                                                  applicationOnly,
+                                                  true,
+                                                  groupHandler));
+                    responseJA.flush();
                 }
 
-                // Convert the response array to a JSON string
-                response = responseJA.toString();
+                // Complete the response array
+                response = responseJA.complete();
             }
         }
         // A group name is provided
@@ -1502,8 +1709,6 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                                        CcddGroupHandler groupHandler,
                                        CcddFieldHandler fieldHandler) throws CCDDException
     {
-        JSONArray responseJA = new JSONArray();
-        JSONParser parser = new JSONParser();
         String response = null;
         String groupType;
         String nameTag;
@@ -1540,33 +1745,22 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             // Check if any groups/applications exist
             if (groupNames.length != 0)
             {
-                response = "";
+                JSONArrayOutput responseJA = new JSONArrayOutput();
 
                 // Step though each group/application
                 for (String name : groupNames)
                 {
-                    try
-                    {
-                        // Get the fields for this group as a JSON string, then
-                        // format it as a JSON object so that is can be added
-                        // to the response array. This is needed to get the
-                        // brackets and commas in the JSON formatted string
-                        // correct
-                        responseJA.add(parser.parse(getGroupInformation(name,
-                                                                        applicationOnly,
-                                                                        groupHandler,
-                                                                        fieldHandler)));
-                    }
-                    catch (ParseException pe)
-                    {
-                        throw new CCDDException("error parsing "
-                                                + groupType
-                                                + " information");
-                    }
+                    // Add the information for this group to the response
+                    // array and send it to the requester
+                    responseJA.add(getGroupInformation(name,
+                                                       applicationOnly,
+                                                       groupHandler,
+                                                       fieldHandler));
+                    responseJA.flush();
                 }
 
-                // Convert the response array to a JSON string
-                response = responseJA.toString();
+                // Complete the response array
+                response = responseJA.complete();
             }
         }
         // A group name is provided
@@ -1591,6 +1785,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                 // Check if the group/application exists
                 if (tables != null)
                 {
+                    JSONParser parser = new JSONParser();
+
                     try
                     {
                         // Store the group's name, description, tables, and
@@ -1763,7 +1959,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
     @SuppressWarnings("unchecked")
     private String getTelemetryInformation(String telemetryFilter) throws CCDDException
     {
-        JSONArray telemetryJA = new JSONArray();
+        JSONArrayOutput telemetryJA = new JSONArrayOutput();
         TypeDefinition typeDefn = null;
         rateValues = new ArrayListMultiple();
         enumerationValues = new ArrayListMultiple();
@@ -1860,6 +2056,9 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                                                              ccddMain.getMainFrame()));
         }
 
+        // Create storage for the names of the structure tables to load
+        List<String> structureTables = new ArrayList<String>();
+
         // Step through each structure table
         for (String structureTable : dbTable.getTablesOfType(TYPE_STRUCTURE))
         {
@@ -1869,15 +2068,29 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             if (groupFilter.isEmpty()
                 || groupTables.contains(structureTable))
             {
-                // Get the information from the database for the specified
-                // table
-                TableInformation tableInfo = dbTable.loadTableData(structureTable,
-                                                                   false,
-                                                                   false,
-                                                                   false,
-                                                                   false,
-                                                                   ccddMain.getMainFrame());
+                // Add the table to the list of those to load
+                structureTables.add(structureTable);
+            }
+        }
 
+        // Step through the selected tables in batches so that only a portion
+        // of the tables are in memory at a time
+        for (int index = 0; index < structureTables.size(); index += TABLE_LOAD_BATCH_SIZE)
+        {
+            // Get the names of the tables in this batch
+            List<String> batchTables = structureTables.subList(index,
+                                                               Math.min(index + TABLE_LOAD_BATCH_SIZE,
+                                                                        structureTables.size()));
+
+            // Get the information from the database for the tables in the
+            // batch and step through each table
+            for (TableInformation tableInfo : dbTable.loadTableData(batchTables,
+                                                                    null,
+                                                                    false,
+                                                                    false,
+                                                                    false,
+                                                                    ccddMain.getMainFrame()))
+            {
                 // Check if the table loaded successfully
                 if (!tableInfo.isErrorFlag())
                 {
@@ -1942,7 +2155,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                         {
                             // Store the name of the structure table from which
                             // this variable is taken
-                            structureJO.put("Structure Table Name", structureTable);
+                            structureJO.put("Structure Table Name",
+                                            tableInfo.getTablePath());
 
                             // Store the variable name in the JSON output
                             structureJO.put(typeDefn.getColumnNamesUser()[variableNameIndex],
@@ -1984,13 +2198,17 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                         }
 
                         // Add the variable to the JSON array
-                        telemetryJA.add(structureJO);
+                        telemetryJA.add(structureJO.toString());
                     }
                 }
             }
+
+            // Send the variables from this batch of tables to the requester
+            telemetryJA.flush();
         }
 
-        return telemetryJA.toString();
+        // Complete the response array
+        return telemetryJA.complete();
     }
 
     /**************************************************************************
@@ -2008,7 +2226,7 @@ public class CcddWebDataAccessHandler extends AbstractHandler
     @SuppressWarnings("unchecked")
     private String getCommandInformation(String groupFilter) throws CCDDException
     {
-        JSONArray commandsJA = new JSONArray();
+        JSONArrayOutput commandsJA = new JSONArrayOutput();
         TypeDefinition typeDefn = null;
         int commandNameIndex = -1;
         int commandCodeIndex = -1;
@@ -2037,6 +2255,9 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             groupTables = groupInfo.getTables();
         }
 
+        // Create storage for the names of the command tables to load
+        List<String> commandTables = new ArrayList<String>();
+
         // Step through each command table
         for (String commandTable : dbTable.getTablesOfType(TYPE_COMMAND))
         {
@@ -2046,15 +2267,29 @@ public class CcddWebDataAccessHandler extends AbstractHandler
             if (groupFilter.isEmpty()
                 || groupTables.contains(commandTable))
             {
-                // Get the information from the database for the specified
-                // table
-                TableInformation tableInfo = dbTable.loadTableData(commandTable,
-                                                                   false,
-                                                                   false,
-                                                                   false,
-                                                                   false,
-                                                                   ccddMain.getMainFrame());
+                // Add the table to the list of those to load
+                commandTables.add(commandTable);
+            }
+        }
 
+        // Step through the selected tables in batches so that only a portion
+        // of the tables are in memory at a time
+        for (int index = 0; index < commandTables.size(); index += TABLE_LOAD_BATCH_SIZE)
+        {
+            // Get the names of the tables in this batch
+            List<String> batchTables = commandTables.subList(index,
+                                                             Math.min(index + TABLE_LOAD_BATCH_SIZE,
+                                                                      commandTables.size()));
+
+            // Get the information from the database for the tables in the
+            // batch and step through each table
+            for (TableInformation tableInfo : dbTable.loadTableData(batchTables,
+                                                                    null,
+                                                                    false,
+                                                                    false,
+                                                                    false,
+                                                                    ccddMain.getMainFrame()))
+            {
                 // Check if the table loaded successfully
                 if (!tableInfo.isErrorFlag())
                 {
@@ -2113,7 +2348,8 @@ public class CcddWebDataAccessHandler extends AbstractHandler
 
                             // Store the name of the command table from which
                             // this command is taken
-                            commandJO.put("Command Table Name", commandTable);
+                            commandJO.put("Command Table Name",
+                                          tableInfo.getTablePath());
 
                             // Store the command name in the JSON output
                             commandJO.put(typeDefn.getColumnNamesUser()[commandNameIndex],
@@ -2224,13 +2460,17 @@ public class CcddWebDataAccessHandler extends AbstractHandler
                         }
 
                         // Add the command to the JSON array
-                        commandsJA.add(commandJO);
+                        commandsJA.add(commandJO.toString());
                     }
                 }
             }
+
+            // Send the commands from this batch of tables to the requester
+            commandsJA.flush();
         }
 
-        return commandsJA.toString();
+        // Complete the response array
+        return commandsJA.complete();
     }
 
     /**************************************************************************
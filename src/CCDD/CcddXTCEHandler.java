@@ -15,21 +15,39 @@ import static CCDD.CcddConstants.TYPE_COMMAND;
 import static CCDD.CcddConstants.TYPE_STRUCTURE;
 
 import java.awt.Component;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigInteger;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 import javax.swing.JOptionPane;
+import javax.xml.XMLConstants;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 
 import org.omg.space.xtce.ArgumentTypeSetType;
 import org.omg.space.xtce.ArgumentTypeSetType.FloatArgumentType;
@@ -70,6 +88,7 @@ import CCDD.CcddClasses.AssociatedColumns;
 import CCDD.CcddClasses.CCDDException;
 import CCDD.CcddClasses.FieldInformation;
 import CCDD.CcddClasses.TableDefinition;
+import CCDD.CcddClasses.TableDefinitionQueue;
 import CCDD.CcddClasses.TableInformation;
 import CCDD.CcddClasses.TableTypeDefinition;
 import CCDD.CcddConstants.DefaultColumn;
@@ -106,12 +125,35 @@ public class CcddXTCEHandler implements CcddImportExportInterface
     // definitions
     private List<TableDefinition> tableDefinitions;
 
+    // Queue to which each table definition is handed off as it's read; null
+    // if the table definitions are stored in the list
+    private TableDefinitionQueue tableDefnQueue;
+
+    // Flags indicating if importing should continue after an input error is
+    // detected
+    private boolean continueOnColumnError;
+    private boolean continueOnDataFieldError;
+
     // JAXB and XTCE object references
     private JAXBElement<SpaceSystemType> project;
     private Marshaller marshaller;
+    private Marshaller fragmentMarshaller;
     private Unmarshaller unmarshaller;
     private ObjectFactory factory;
 
+    // Space systems added to the export, indexed by space system name
+    private Map<String, SpaceSystemType> spaceSystemIndex;
+
+    // Temporary files to which each system's table space systems are written
+    // as the tables are converted, indexed by system name; null if the export
+    // isn't streamed
+    private Map<String, SystemFragmentFile> systemFragmentFiles;
+
+    // Minimum number of exported tables for which the table space systems are
+    // written as each table is converted instead of building the entire
+    // document before it's output
+    private static final int STREAM_EXPORT_TABLE_COUNT = 100;
+
     // Name of the data field containing the system name
     private String systemFieldName;
 
@@ -135,6 +177,50 @@ public class CcddXTCEHandler implements CcddImportExportInterface
     private List<String> referencedDataTypes;
     private List<String> referencedMacros;
 
+    /**************************************************************************
+     * Temporary file containing the table space systems belonging to a system
+     * when the export is streamed
+     *************************************************************************/
+    private static class SystemFragmentFile
+    {
+        private final File file;
+        private final OutputStream outputStream;
+        private final XMLStreamWriter writer;
+
+        /**********************************************************************
+         * Temporary system fragment file class constructor
+         * 
+         * @throws IOException
+         *             If the temporary file can't be created
+         * 
+         * @throws XMLStreamException
+         *             If the XML writer can't be created
+         *********************************************************************/
+        SystemFragmentFile() throws IOException, XMLStreamException
+        {
+            file = File.createTempFile("ccdd", ".xml");
+            outputStream = new BufferedOutputStream(new FileOutputStream(file));
+            writer = XMLOutputFactory.newInstance().createXMLStreamWriter(outputStream,
+                                                                          "UTF-8");
+        }
+
+        /**********************************************************************
+         * Close the temporary file
+         *********************************************************************/
+        protected void close()
+        {
+            try
+            {
+                writer.close();
+                outputStream.close();
+            }
+            catch (XMLStreamException | IOException e)
+            {
+                // Ignore the error; the file is deleted once closed
+            }
+        }
+    }
+
     // XTCE data types
     private enum XTCEDataType
     {
@@ -258,6 +344,12 @@ public class CcddXTCEHandler implements CcddImportExportInterface
             marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT,
                                    new Boolean(true));
 
+            // Create the XML marshaller used to output the individual
+            // elements of a streamed export
+            fragmentMarshaller = context.createMarshaller();
+            fragmentMarshaller.setProperty(Marshaller.JAXB_FRAGMENT,
+                                           new Boolean(true));
+
             // Create the factory for building the space system objects
             factory = new ObjectFactory();
 
@@ -301,6 +393,19 @@ public class CcddXTCEHandler implements CcddImportExportInterface
         return tableDefinitions;
     }
 
+    /**************************************************************************
+     * Set the queue to which each table definition is handed off as it's read
+     * 
+     * @param tableDefnQueue
+     *            queue to receive the table definitions; null to store all of
+     *            the table definitions
+     *************************************************************************/
+    @Override
+    public void setTableDefinitionQueue(TableDefinitionQueue tableDefnQueue)
+    {
+        this.tableDefnQueue = tableDefnQueue;
+    }
+
     /**************************************************************************
      * Import the the table definitions from an XTCE XML formatted file
      * 
@@ -319,60 +424,58 @@ public class CcddXTCEHandler implements CcddImportExportInterface
                                                      IOException,
                                                      Exception
     {
+        InputStream inputStream = null;
+        XMLStreamReader reader = null;
+
         try
         {
-            // Import the XML from the specified file
-            JAXBElement<?> jaxbElement = (JAXBElement<?>) unmarshaller.unmarshal(importFile);
-
-            // Get the top-level space system
-            SpaceSystemType rootSystem = (SpaceSystemType) jaxbElement.getValue();
+            tableDefinitions = new ArrayList<TableDefinition>();
+            continueOnColumnError = false;
+            continueOnDataFieldError = false;
 
-            // Import the table type, if present
-            importTableTypeDefinitions(rootSystem, importFile.getAbsolutePath());
+            // Read the XML from the specified file as a stream so that the
+            // entire document isn't held in memory
+            inputStream = new BufferedInputStream(new FileInputStream(importFile));
+            reader = XMLInputFactory.newInstance().createXMLStreamReader(inputStream);
 
-            // Check if all definitions are to be loaded
-            if (importType == ImportType.IMPORT_ALL)
+            // Check if the file contains the top-level space system
+            if (CcddUtilities.nextXMLTag(reader) == XMLStreamConstants.START_ELEMENT)
             {
-                // Import the data type and macro definitions, if present
-                importDataTypeDefinitions(rootSystem, importFile.getAbsolutePath());
-                importMacroDefinitions(rootSystem, importFile.getAbsolutePath());
-                importReservedMsgIDDefinitions(rootSystem, importFile.getAbsolutePath());
+                // Recursively step through the XTCE-formatted data, beginning
+                // with the top-level space system, and extract the
+                // definitions and the telemetry and command information
+                importSpaceSystem(reader,
+                                  0,
+                                  importType,
+                                  importFile.getAbsolutePath());
+            }
+        }
+        catch (JAXBException | XMLStreamException xe)
+        {
+            // Re-throw the error so that the caller informs the user and
+            // discards any tables created before the parse error occurred
+            throw new CCDDException("Cannot import XTCE XML from file<br>'</b>"
+                                    + importFile.getAbsolutePath()
+                                    + "<b>'; cause '"
+                                    + xe.getMessage()
+                                    + "'");
+        }
+        finally
+        {
+            // Check if the XML stream reader was created
+            if (reader != null)
+            {
+                // Close the XML stream reader
+                reader.close();
             }
 
-            tableDefinitions = new ArrayList<TableDefinition>();
-
-            // Step through each system name (tables not assigned to a system
-            // should be placed under DefaultSystem)
-            for (SpaceSystemType spaceSystem : rootSystem.getSpaceSystem())
+            // Check if the file was opened
+            if (inputStream != null)
             {
-                // Recursively step through the XTCE-formatted data and extract
-                // the telemetry and command information
-                unbuildSpaceSystems(spaceSystem,
-                                    spaceSystem.getName(),
-                                    importType,
-                                    importFile.getAbsolutePath());
-
-                // Check if only the data from the first table is to be read
-                if (importType == ImportType.FIRST_DATA_ONLY)
-                {
-                    // Stop reading table definitions
-                    break;
-                }
+                // Close the file
+                inputStream.close();
             }
         }
-        catch (JAXBException je)
-        {
-            // Inform the user that the database import failed
-            new CcddDialogHandler().showMessageDialog(parent,
-                                                      "<html><b>Cannot import XTCE XML from file<br>'</b>" +
-                                                          importFile.getAbsolutePath()
-                                                          + "<b>'; cause '"
-                                                          + je.getMessage()
-                                                          + "'",
-                                                      "File Error",
-                                                      JOptionPane.ERROR_MESSAGE,
-                                                      DialogOption.OK_OPTION);
-        }
     }
 
     /**************************************************************************
@@ -412,10 +515,15 @@ public class CcddXTCEHandler implements CcddImportExportInterface
     {
         boolean errorFlag = false;
 
+        // Stream the export if the number of tables is large enough that
+        // holding the entire document in memory is impractical
+        boolean isStreamed = tableNames.length >= STREAM_EXPORT_TABLE_COUNT;
+
         try
         {
             // Convert the table data into XTCE XML format
             convertTablesToXTCE(tableNames,
+                                isStreamed,
                                 replaceMacros,
                                 includeReservedMsgIDs,
                                 extraInfo[0],
@@ -425,37 +533,51 @@ public class CcddXTCEHandler implements CcddImportExportInterface
                                 extraInfo[4],
                                 extraInfo[5]);
 
-            try
+            // Build the file creation information
+            String comment = " Created "
+                             + new Date().toString()
+                             + " : project = "
+                             + dbControl.getDatabase()
+                             + " : host = "
+                             + dbControl.getServer()
+                             + " : user = "
+                             + dbControl.getUser()
+                             + " ";
+
+            // Check if the export is streamed
+            if (isStreamed)
             {
-                // Output the file creation information
-                marshaller.setProperty("com.sun.xml.internal.bind.xmlHeaders",
-                                       "\n<!-- Created "
-                                           + new Date().toString()
-                                           + " : project = "
-                                           + dbControl.getDatabase()
-                                           + " : host = "
-                                           + dbControl.getServer()
-                                           + " : user = "
-                                           + dbControl.getUser()
-                                           + " -->");
+                // Output the XML to the specified file, copying in the table
+                // space systems already written to the temporary files
+                writeStreamedProject(exportFile, comment);
             }
-            catch (JAXBException je)
+            // The entire document is built in memory
+            else
             {
-                // Ignore the error if setting this property fails; the comment
-                // is not included
-            }
+                try
+                {
+                    // Output the file creation information
+                    marshaller.setProperty("com.sun.xml.internal.bind.xmlHeaders",
+                                           "\n<!--" + comment + "-->");
+                }
+                catch (JAXBException je)
+                {
+                    // Ignore the error if setting this property fails; the
+                    // comment is not included
+                }
 
-            // Output the XML to the specified file
-            marshaller.marshal(project, exportFile);
+                // Output the XML to the specified file
+                marshaller.marshal(project, exportFile);
+            }
         }
-        catch (JAXBException je)
+        catch (JAXBException | XMLStreamException | IOException e)
         {
             // Inform the user that the database export failed
             new CcddDialogHandler().showMessageDialog(parent,
                                                       "<html><b>Cannot export as XTCE XML to file<br>'</b>" +
                                                           exportFile.getAbsolutePath()
                                                           + "<b>'; cause '"
-                                                          + je.getMessage()
+                                                          + e.getMessage()
                                                           + "'",
                                                       "File Error",
                                                       JOptionPane.ERROR_MESSAGE,
@@ -468,16 +590,226 @@ public class CcddXTCEHandler implements CcddImportExportInterface
             CcddUtilities.displayException(e, parent);
             errorFlag = true;
         }
+        finally
+        {
+            // Check if the export was streamed
+            if (systemFragmentFiles != null)
+            {
+                // Step through each system's temporary file
+                for (SystemFragmentFile fragmentFile : systemFragmentFiles.values())
+                {
+                    // Close and remove the temporary file
+                    fragmentFile.close();
+                    fragmentFile.file.delete();
+                }
+
+                systemFragmentFiles = null;
+            }
+
+            // Release the space system references
+            spaceSystemIndex = null;
+        }
 
         return errorFlag;
     }
 
+    /**************************************************************************
+     * Output the converted project to the specified file when the export is
+     * streamed. The root and system space systems are written directly, and
+     * each system's table space systems are copied from the temporary file to
+     * which they were written as the tables were converted
+     * 
+     * @param exportFile
+     *            reference to the user-specified output file
+     * 
+     * @param comment
+     *            file creation information comment text
+     * 
+     * @throws JAXBException
+     *             If an error occurs marshalling a space system element
+     * 
+     * @throws XMLStreamException
+     *             If an error occurs writing the XML
+     * 
+     * @throws IOException
+     *             If an error occurs writing the file or copying a temporary
+     *             file
+     *************************************************************************/
+    private void writeStreamedProject(File exportFile,
+                                      String comment) throws JAXBException,
+                                                      XMLStreamException,
+                                                      IOException
+    {
+        OutputStream outputStream = null;
+        XMLStreamWriter writer = null;
+
+        try
+        {
+            // Create the XML writer for the output file
+            outputStream = new BufferedOutputStream(new FileOutputStream(exportFile));
+            writer = XMLOutputFactory.newInstance().createXMLStreamWriter(outputStream,
+                                                                          "UTF-8");
+
+            // Get the XTCE namespace
+            String namespace = project.getName().getNamespaceURI();
+
+            // Output the XML declaration and the file creation information
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.writeCharacters("\n");
+            writer.writeComment(comment);
+            writer.writeCharacters("\n");
+
+            // Output the root space system's start tag, attributes, ancillary
+            // data, and header
+            writer.setDefaultNamespace(namespace);
+            writeSpaceSystemStart(writer, project.getValue(), namespace);
+
+            // Step through each system space system
+            for (SpaceSystemType system : project.getValue().getSpaceSystem())
+            {
+                // Output the system space system's start tag, attributes, and
+                // header
+                writeSpaceSystemStart(writer, system, namespace);
+
+                // Get the temporary file containing this system's table space
+                // systems
+                SystemFragmentFile fragmentFile = systemFragmentFiles.get(system.getName());
+
+                // Check if any table space systems were written for this
+                // system
+                if (fragmentFile != null)
+                {
+                    // Complete the system's start tag and write any buffered
+                    // output so that the table space systems are copied
+                    // following it
+                    writer.writeCharacters("\n");
+                    writer.flush();
+
+                    // Close the temporary file and copy its contents to the
+                    // output file
+                    fragmentFile.close();
+                    Files.copy(fragmentFile.file.toPath(), outputStream);
+                }
+
+                // Step through any table space systems that weren't written to
+                // the temporary file
+                for (SpaceSystemType tableSystem : system.getSpaceSystem())
+                {
+                    // Output the table space system
+                    fragmentMarshaller.marshal(factory.createSpaceSystem(tableSystem),
+                                               writer);
+                }
+
+                // Output the system space system's end tag
+                writer.writeEndElement();
+            }
+
+            // Output the root space system's end tag
+            writer.writeEndElement();
+            writer.writeEndDocument();
+        }
+        finally
+        {
+            // Check if the XML writer was created
+            if (writer != null)
+            {
+                // Close the XML writer
+                writer.close();
+            }
+
+            // Check if the output file was opened
+            if (outputStream != null)
+            {
+                // Close the output file
+                outputStream.close();
+            }
+        }
+    }
+
+    /**************************************************************************
+     * Output the start tag, attributes, ancillary data, and header for the
+     * specified space system when the export is streamed. The namespace and
+     * schema location are included if this is the root space system
+     * 
+     * @param writer
+     *            XML stream writer for the output file
+     * 
+     * @param system
+     *            space system to output
+     * 
+     * @param namespace
+     *            XTCE namespace
+     * 
+     * @throws JAXBException
+     *             If an error occurs marshalling the ancillary data or header
+     * 
+     * @throws XMLStreamException
+     *             If an error occurs writing the XML
+     *************************************************************************/
+    private void writeSpaceSystemStart(XMLStreamWriter writer,
+                                       SpaceSystemType system,
+                                       String namespace) throws JAXBException,
+                                                         XMLStreamException
+    {
+        // Output the space system's start tag
+        writer.writeStartElement(namespace, "SpaceSystem");
+
+        // Check if this is the root space system
+        if (system == project.getValue())
+        {
+            // Output the namespace declarations and schema location
+            writer.writeDefaultNamespace(namespace);
+            writer.writeNamespace("xsi",
+                                  XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI);
+            writer.writeAttribute(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI,
+                                  "schemaLocation",
+                                  "http://www.omg.org/spec/XTCE/20061101/06-11-06.xsd");
+        }
+
+        // Output the space system name
+        writer.writeAttribute("name", system.getName());
+
+        // Check if the space system has a description
+        if (system.getShortDescription() != null)
+        {
+            // Output the space system description
+            writer.writeAttribute("shortDescription",
+                                  system.getShortDescription());
+        }
+
+        // Check if the space system has ancillary data
+        if (system.getAncillaryDataSet() != null)
+        {
+            // Output the ancillary data
+            fragmentMarshaller.marshal(new JAXBElement<AncillaryDataSet>(new QName(namespace,
+                                                                                   "AncillaryDataSet"),
+                                                                         AncillaryDataSet.class,
+                                                                         system.getAncillaryDataSet()),
+                                       writer);
+        }
+
+        // Check if the space system has a header
+        if (system.getHeader() != null)
+        {
+            // Output the header
+            fragmentMarshaller.marshal(new JAXBElement<HeaderType>(new QName(namespace,
+                                                                             "Header"),
+                                                                   HeaderType.class,
+                                                                   system.getHeader()),
+                                       writer);
+        }
+    }
+
     /**************************************************************************
      * Convert the project database contents to XTCE XML format
      * 
      * @param tableNames
      *            array of table names to convert
      * 
+     * @param isStreamed
+     *            true to write each table's space system to a temporary file
+     *            as it's converted instead of retaining it in memory
+     * 
      * @param replaceMacros
      *            true to replace any embedded macros with their corresponding
      *            values
@@ -503,8 +835,19 @@ public class CcddXTCEHandler implements CcddImportExportInterface
      * 
      * @param classification3
      *            third level classification attribute
+     * 
+     * @throws JAXBException
+     *             If an error occurs marshalling a table space system to its
+     *             temporary file
+     * 
+     * @throws XMLStreamException
+     *             If an error occurs writing a temporary file
+     * 
+     * @throws IOException
+     *             If a temporary file can't be created
      *************************************************************************/
     private void convertTablesToXTCE(String[] tableNames,
+                                     boolean isStreamed,
                                      boolean replaceMacros,
                                      boolean includeReservedMsgIDs,
                                      String system,
@@ -512,7 +855,9 @@ public class CcddXTCEHandler implements CcddImportExportInterface
                                      String validationStatus,
                                      String classification1,
                                      String classification2,
-                                     String classification3)
+                                     String classification3) throws JAXBException,
+                                                             XMLStreamException,
+                                                             IOException
     {
         referencedTableTypes = new ArrayList<String>();
         referencedDataTypes = new ArrayList<String>();
@@ -528,6 +873,14 @@ public class CcddXTCEHandler implements CcddImportExportInterface
         classification2Attr = classification2;
         classification3Attr = classification3;
 
+        // Create the space system index and, if the export is streamed, the
+        // map to contain the temporary files for each system's table space
+        // systems
+        spaceSystemIndex = new HashMap<String, SpaceSystemType>();
+        systemFragmentFiles = isStreamed
+                                        ? new LinkedHashMap<String, SystemFragmentFile>()
+                                        : null;
+
         // Create the root space system
         SpaceSystemType rootSystem = addSpaceSystem(null,
                                                     dbControl.getDatabase(),
@@ -569,904 +922,1087 @@ public class CcddXTCEHandler implements CcddImportExportInterface
     }
 
     /**************************************************************************
-     * Recursively step through the XTCE-formatted data and extract the
-     * telemetry and command information
+     * Recursively step through the XTCE-formatted data and extract the table
+     * type, data type, macro, reserved message ID, telemetry, and command
+     * information. Only the elements of each space system used by the import
+     * are unmarshalled, and the space system's child space systems are read
+     * one at a time, so that the entire document isn't held in memory
      * 
-     * @param parentSystem
-     *            parent space system nest level
+     * @param reader
+     *            XML stream reader positioned on the space system's start tag
      * 
-     * @param systemName
-     *            system name
+     * @param level
+     *            space system nest level: 0 for the root (project) space
+     *            system, 1 for the system space systems, and 2 or greater for
+     *            the table space systems
      * 
-     * @param importAll
-     *            ImportType.IMPORT_ALL to import the table data fields along
-     *            with the data from the table; ImportType.FIRST_DATA_ONLY to
-     *            load only the data for the table
+     * @param importType
+     *            ImportType.IMPORT_ALL to import the table type, data type,
+     *            and macro definitions, and the data from all the table
+     *            definitions; ImportType.FIRST_DATA_ONLY to load only the data
+     *            for the first table defined
      * 
      * @param importFileName
      *            import file name
+     * 
+     * @return true if the import should continue; false if the import is
+     *         complete (i.e., only the first table's data is read)
      *************************************************************************/
-    private void unbuildSpaceSystems(SpaceSystemType parentSystem,
-                                     String systemName,
-                                     ImportType importType,
-                                     String importFileName) throws CCDDException
+    private boolean importSpaceSystem(XMLStreamReader reader,
+                                      int level,
+                                      ImportType importType,
+                                      String importFileName) throws XMLStreamException,
+                                                             JAXBException,
+                                                             CCDDException,
+                                                             InterruptedException
     {
-        // Get the list of this parent system's child systems
-        List<SpaceSystemType> childSystems = parentSystem.getSpaceSystem();
+        boolean continueImport = true;
+        boolean isContentProcessed = false;
 
-        int numColumns = 0;
+        // Create a space system containing the space system's attributes. The
+        // child elements used by the import are added as these are read
+        SpaceSystemType spaceSystem = factory.createSpaceSystemType();
+        spaceSystem.setName(reader.getAttributeValue(null, "name"));
+        spaceSystem.setShortDescription(reader.getAttributeValue(null, "shortDescription"));
+
+        // Step past the space system's start tag
+        reader.next();
+
+        // Step through each of the space system's child elements
+        while (continueImport
+               && CcddUtilities.nextXMLTag(reader) == XMLStreamConstants.START_ELEMENT)
+        {
+            // Check if this is a child space system
+            if (reader.getLocalName().equals("SpaceSystem"))
+            {
+                // Check if the space system's content hasn't been processed.
+                // The child space systems follow the space system's other
+                // elements, so the content is complete
+                if (!isContentProcessed)
+                {
+                    // Process the space system's content
+                    isContentProcessed = true;
+                    continueImport = processSpaceSystem(spaceSystem,
+                                                        level,
+                                                        importType,
+                                                        importFileName);
+                }
 
-        // Flags indicating if importing should continue after an input
-        // error is detected
-        boolean continueOnColumnError = false;
-        boolean continueOnDataFieldError = false;
+                // Check if the import should continue
+                if (continueImport)
+                {
+                    // Process the child space system and its children, if any
+                    continueImport = importSpaceSystem(reader,
+                                                       level + 1,
+                                                       importType,
+                                                       importFileName);
+                }
+            }
+            // Check if this is the ancillary data, which contains the table
+            // type, data field, and other information
+            else if (reader.getLocalName().equals("AncillaryDataSet"))
+            {
+                // Read the ancillary data and add it to the space system
+                spaceSystem.setAncillaryDataSet(unmarshaller.unmarshal(reader,
+                                                                       AncillaryDataSet.class).getValue());
+            }
+            // Check if this is the telemetry information
+            else if (reader.getLocalName().equals("TelemetryMetaData"))
+            {
+                // Read the telemetry information and add it to the space
+                // system
+                spaceSystem.setTelemetryMetaData(unmarshaller.unmarshal(reader,
+                                                                        TelemetryMetaDataType.class).getValue());
+            }
+            // Check if this is the command information
+            else if (reader.getLocalName().equals("CommandMetaData"))
+            {
+                // Read the command information and add it to the space system
+                spaceSystem.setCommandMetaData(unmarshaller.unmarshal(reader,
+                                                                      CommandMetaDataType.class).getValue());
+            }
+            // The element isn't used by the import
+            else
+            {
+                // Skip the element and its children
+                CcddUtilities.skipXMLElement(reader);
+            }
+        }
+
+        // Check if the import should continue
+        if (continueImport)
+        {
+            // Check if the space system's content hasn't been processed (i.e.,
+            // the space system has no child space systems)
+            if (!isContentProcessed)
+            {
+                // Process the space system's content
+                continueImport = processSpaceSystem(spaceSystem,
+                                                    level,
+                                                    importType,
+                                                    importFileName);
+            }
+
+            // Step past the space system's end tag
+            reader.next();
+        }
+
+        return continueImport;
+    }
+
+    /**************************************************************************
+     * Extract the information from a space system read from the import file.
+     * The root space system contains the table type, data type, macro, and
+     * reserved message ID definitions; the space systems below the system
+     * level each contain a table's information
+     * 
+     * @param spaceSystem
+     *            space system, minus its child space systems
+     * 
+     * @param level
+     *            space system nest level: 0 for the root (project) space
+     *            system, 1 for the system space systems, and 2 or greater for
+     *            the table space systems
+     * 
+     * @param importType
+     *            ImportType.IMPORT_ALL to import the table type, data type,
+     *            and macro definitions, and the data from all the table
+     *            definitions; ImportType.FIRST_DATA_ONLY to load only the data
+     *            for the first table defined
+     * 
+     * @param importFileName
+     *            import file name
+     * 
+     * @return true if the import should continue; false if the import is
+     *         complete (i.e., only the first table's data is read)
+     *************************************************************************/
+    private boolean processSpaceSystem(SpaceSystemType spaceSystem,
+                                       int level,
+                                       ImportType importType,
+                                       String importFileName) throws CCDDException,
+                                                              InterruptedException
+    {
+        boolean continueImport = true;
 
-        // Step through each child system, if any. Only structure tables can
-        // have child tables, and all child tables are structure tables
-        for (SpaceSystemType childSystem : childSystems)
+        // Check if this is the root space system
+        if (level == 0)
         {
-            // Create a table definition for this table
-            TableDefinition tableDefn = new TableDefinition(childSystem.getName(),
-                                                            childSystem.getShortDescription());
+            // Import the table type, if present
+            importTableTypeDefinitions(spaceSystem, importFileName);
 
-            // Structure table description
-            if (childSystem.getShortDescription() != null
-                && !childSystem.getShortDescription().isEmpty())
+            // Check if all definitions are to be loaded
+            if (importType == ImportType.IMPORT_ALL)
+            {
+                // Import the data type and macro definitions, if present
+                importDataTypeDefinitions(spaceSystem, importFileName);
+                importMacroDefinitions(spaceSystem, importFileName);
+                importReservedMsgIDDefinitions(spaceSystem, importFileName);
+            }
+        }
+        // Check if this is a table's space system (the root's child space
+        // systems are the systems to which the tables belong)
+        else if (level > 1)
+        {
+            // Extract the table's telemetry and command information
+            TableDefinition tableDefn = unbuildSpaceSystem(spaceSystem,
+                                                           importType,
+                                                           importFileName);
+
+            // Check if a table definition queue is set and all of the table
+            // definitions are to be read
+            if (tableDefnQueue != null && importType == ImportType.IMPORT_ALL)
+            {
+                // Hand off the table's definition so that the table can be
+                // created while the remainder of the file is read
+                tableDefnQueue.put(tableDefn);
+            }
+            // The table definitions are stored
+            else
             {
-                tableDefn.setDescription(childSystem.getShortDescription());
+                // Add the table definition to the list
+                tableDefinitions.add(tableDefn);
             }
 
-            /******************************************************************
-             * Other data processing
-             * ***************************************************************/
-            // Get the table type and data fields for this table. Also, if this
-            // table's type isn't a structure or a command then get the table's
-            // column information
-            AncillaryDataSet ancillarySet = childSystem.getAncillaryDataSet();
+            // Stop reading the file if only the data from the first table is
+            // to be read
+            continueImport = importType == ImportType.IMPORT_ALL;
+        }
+
+        return continueImport;
+    }
+
+    /**************************************************************************
+     * Extract the telemetry and command information from a table's space
+     * system
+     * 
+     * @param tableSystem
+     *            table's space system, minus its child space systems
+     * 
+     * @param importType
+     *            ImportType.IMPORT_ALL to import the table data fields along
+     *            with the data from the table; ImportType.FIRST_DATA_ONLY to
+     *            load only the data for the table
+     * 
+     * @param importFileName
+     *            import file name
+     * 
+     * @return Table definition containing the table's information
+     *************************************************************************/
+    private TableDefinition unbuildSpaceSystem(SpaceSystemType tableSystem,
+                                               ImportType importType,
+                                               String importFileName) throws CCDDException
+    {
+        int numColumns = 0;
+        // Create a table definition for this table
+        TableDefinition tableDefn = new TableDefinition(tableSystem.getName(),
+                                                        tableSystem.getShortDescription());
+
+        // Structure table description
+        if (tableSystem.getShortDescription() != null
+            && !tableSystem.getShortDescription().isEmpty())
+        {
+            tableDefn.setDescription(tableSystem.getShortDescription());
+        }
+
+        /**********************************************************************
+         * Other data processing
+         * *******************************************************************/
+        // Get the table type and data fields for this table. Also, if this
+        // table's type isn't a structure or a command then get the table's
+        // column information
+        AncillaryDataSet ancillarySet = tableSystem.getAncillaryDataSet();
 
-            // Check if any extra data exists
-            if (ancillarySet != null)
+        // Check if any extra data exists
+        if (ancillarySet != null)
+        {
+            // Step through the extra data
+            for (AncillaryData ancillaryData : ancillarySet.getAncillaryData())
             {
-                // Step through the extra data
-                for (AncillaryData ancillaryData : ancillarySet.getAncillaryData())
+                // Check if this is the table type
+                if (ancillaryData.getName().equals(XTCETags.TABLE_TYPE.getTag()))
                 {
-                    // Check if this is the table type
-                    if (ancillaryData.getName().equals(XTCETags.TABLE_TYPE.getTag()))
-                    {
-                        // Store the table's type name
-                        tableDefn.setType(ancillaryData.getValue());
+                    // Store the table's type name
+                    tableDefn.setType(ancillaryData.getValue());
 
-                        // Get the table's type definition based on the type
-                        // name
-                        typeDefn = tableTypeHandler.getTypeDefinition(tableDefn.getType());
+                    // Get the table's type definition based on the type
+                    // name
+                    typeDefn = tableTypeHandler.getTypeDefinition(tableDefn.getType());
 
-                        // Check if the table type isn't recognized
-                        if (typeDefn == null)
-                        {
-                            throw new CCDDException("unknown table type '"
-                                                    + tableDefn.getType()
-                                                    + "'");
-                        }
+                    // Check if the table type isn't recognized
+                    if (typeDefn == null)
+                    {
+                        throw new CCDDException("unknown table type '"
+                                                + tableDefn.getType()
+                                                + "'");
+                    }
 
-                        // Get the number of columns defined in this table
-                        // type
-                        numColumns = typeDefn.getColumnCountVisible();
+                    // Get the number of columns defined in this table
+                    // type
+                    numColumns = typeDefn.getColumnCountVisible();
+                }
+                // Check if data fields are to be imported and this is a
+                // data field definition
+                else if (importType == ImportType.IMPORT_ALL
+                         && ancillaryData.getName().startsWith(XTCETags.DATA_FIELD.getTag()))
+                {
+                    // Get the data field inputs. If not present use a
+                    // blank to prevent an error when separating the inputs
+                    String inputs = ancillaryData.getValue() != null
+                                                                    ? ancillaryData.getValue()
+                                                                    : "";
+
+                    // Parse data field. The values are comma-separated;
+                    // however, commas within quotes are ignored - this
+                    // allows commas to be included in the data values
+                    String[] fieldDefn = CcddUtilities.splitAndRemoveQuotes("\""
+                                                                            + tableDefn.getName()
+                                                                            + "\","
+                                                                            + inputs);
+
+                    // Check if the expected number of inputs is present
+                    if (fieldDefn.length == FieldEditorColumnInfo.values().length + 1)
+                    {
+                        // Add the data field definition to the table
+                        tableDefn.addDataField(fieldDefn);
                     }
-                    // Check if data fields are to be imported and this is a
-                    // data field definition
-                    else if (importType == ImportType.IMPORT_ALL
-                             && ancillaryData.getName().startsWith(XTCETags.DATA_FIELD.getTag()))
+                    // Check that the user hasn't elected to ignore data
+                    // field errors
+                    else if (!continueOnDataFieldError)
                     {
-                        // Get the data field inputs. If not present use a
-                        // blank to prevent an error when separating the inputs
-                        String inputs = ancillaryData.getValue() != null
-                                                                        ? ancillaryData.getValue()
-                                                                        : "";
-
-                        // Parse data field. The values are comma-separated;
-                        // however, commas within quotes are ignored - this
-                        // allows commas to be included in the data values
-                        String[] fieldDefn = CcddUtilities.splitAndRemoveQuotes("\""
-                                                                                + tableDefn.getName()
-                                                                                + "\","
-                                                                                + inputs);
-
-                        // Check if the expected number of inputs is present
-                        if (fieldDefn.length == FieldEditorColumnInfo.values().length + 1)
+                        // Inform the user that the data field name inputs
+                        // are incorrect
+                        int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
+                                                                                            "<html><b>Table '</b>"
+                                                                                                + tableDefn.getName()
+                                                                                                + "<b>' has missing or extra data "
+                                                                                                + "field input(s) in import file '</b>"
+                                                                                                + importFileName
+                                                                                                + "<b>'; continue?",
+                                                                                            "Data Field Error",
+                                                                                            "Ignore this invalid data field",
+                                                                                            "Ignore this and any remaining invalid data fields",
+                                                                                            "Stop importing");
+
+                        // Check if the Ignore All button was pressed
+                        if (buttonSelected == IGNORE_BUTTON)
                         {
-                            // Add the data field definition to the table
-                            tableDefn.addDataField(fieldDefn);
+                            // Set the flag to ignore subsequent data field
+                            // errors
+                            continueOnDataFieldError = true;
                         }
-                        // Check that the user hasn't elected to ignore data
-                        // field errors
-                        else if (!continueOnDataFieldError)
+                        // Check if the Cancel button was pressed
+                        else if (buttonSelected == CANCEL_BUTTON)
                         {
-                            // Inform the user that the data field name inputs
-                            // are incorrect
-                            int buttonSelected = new CcddDialogHandler().showIgnoreCancelDialog(parent,
-                                                                                                "<html><b>Table '</b>"
-                                                                                                    + tableDefn.getName()
-                                                                                                    + "<b>' has missing or extra data "
-                                                                                                    + "field input(s) in import file '</b>"
-                                                                                                    + importFileName
-                                                                                                    + "<b>'; continue?",
-                                                                                                "Data Field Error",
-                                                                                                "Ignore this invalid data field",
-                                                                                                "Ignore this and any remaining invalid data fields",
-                                                                                                "Stop importing");
-
-                            // Check if the Ignore All button was pressed
-                            if (buttonSelected == IGNORE_BUTTON)
-                            {
-                                // Set the flag to ignore subsequent data field
-                                // errors
-                                continueOnDataFieldError = true;
-                            }
-                            // Check if the Cancel button was pressed
-                            else if (buttonSelected == CANCEL_BUTTON)
-                            {
-                                // No error message is provided since the user
-                                // chose this action
-                                throw new CCDDException();
-                            }
+                            // No error message is provided since the user
+                            // chose this action
+                            throw new CCDDException();
                         }
                     }
-                    // Check if this is a table column value. This is for
-                    // tables that aren't structure or command tables
-                    else if (ancillaryData.getName().startsWith(XTCETags.COLUMN.getTag()))
+                }
+                // Check if this is a table column value. This is for
+                // tables that aren't structure or command tables
+                else if (ancillaryData.getName().startsWith(XTCETags.COLUMN.getTag()))
+                {
+                    // Extract the column name and row number, and use the
+                    // column name to get the column index
+                    String[] parts = ancillaryData.getName().split(":");
+                    String columnName = parts[1].trim();
+                    int row = Integer.valueOf(parts[3].trim());
+                    int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
+
+                    // Check that the column exists in the table
+                    if (column != -1)
                     {
-                        // Extract the column name and row number, and use the
-                        // column name to get the column index
-                        String[] parts = ancillaryData.getName().split(":");
-                        String columnName = parts[1].trim();
-                        int row = Integer.valueOf(parts[3].trim());
-                        int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
-
-                        // Check that the column exists in the table
-                        if (column != -1)
-                        {
-                            // Add one or more rows until the row is created
-                            // containing this column value
-                            while (row * numColumns >= tableDefn.getData().size())
-                            {
-                                // Create a row with empty columns and add the
-                                // new row to the table data
-                                String[] newRow = new String[typeDefn.getColumnCountVisible()];
-                                Arrays.fill(newRow, "");
-                                tableDefn.addData(newRow);
-                            }
-
-                            // Replace the value for the specified column
-                            tableDefn.getData().set(row
-                                                    * numColumns
-                                                    + column,
-                                                    ancillaryData.getValue());
-                        }
-                        // The column doesn't exist
-                        else
+                        // Add one or more rows until the row is created
+                        // containing this column value
+                        while (row * numColumns >= tableDefn.getData().size())
                         {
-                            // Get user confirmation to continue or stop the
-                            // import
-                            continueOnColumnError = confirmContinue(continueOnColumnError,
-                                                                    columnName,
-                                                                    tableDefn.getName(),
-                                                                    importFileName);
+                            // Create a row with empty columns and add the
+                            // new row to the table data
+                            String[] newRow = new String[typeDefn.getColumnCountVisible()];
+                            Arrays.fill(newRow, "");
+                            tableDefn.addData(newRow);
                         }
+
+                        // Replace the value for the specified column
+                        tableDefn.getData().set(row
+                                                * numColumns
+                                                + column,
+                                                ancillaryData.getValue());
+                    }
+                    // The column doesn't exist
+                    else
+                    {
+                        // Get user confirmation to continue or stop the
+                        // import
+                        continueOnColumnError = confirmContinue(continueOnColumnError,
+                                                                columnName,
+                                                                tableDefn.getName(),
+                                                                importFileName);
                     }
                 }
             }
+        }
 
-            /******************************************************************
-             * Telemetry processing
-             * ***************************************************************/
-            // Get the child system's telemetry metadata information
-            TelemetryMetaDataType tlmMetaData = childSystem.getTelemetryMetaData();
+        /**********************************************************************
+         * Telemetry processing
+         * *******************************************************************/
+        // Get the child system's telemetry metadata information
+        TelemetryMetaDataType tlmMetaData = tableSystem.getTelemetryMetaData();
+
+        // Check if the telemetry metadata information exists and that the
+        // table type is recognized
+        if (tlmMetaData != null && typeDefn != null)
+        {
+            String descColName;
+            String unitsColName;
+
+            // Get variable name, data type, enumeration, description, and
+            // units column indices
+            int variableNameIndex = typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.VARIABLE));
+            int dataTypeIndex = typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.PRIM_AND_STRUCT));
+            int enumerationIndex = typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.ENUMERATION));
+            int descriptionIndex = -1;
+            int unitsIndex = -1;
+
+            // Get the description column name
+            if ((descColName = typeDefn.getColumnNameByInputType(InputDataType.DESCRIPTION)) != null)
+            {
+                // Get the description column index
+                descriptionIndex = typeDefn.getVisibleColumnIndexByUserName(descColName);
+            }
 
-            // Check if the telemetry metadata information exists and that the
-            // table type is recognized
-            if (tlmMetaData != null && typeDefn != null)
+            // Get the units column name
+            if ((unitsColName = typeDefn.getColumnNameByInputType(InputDataType.UNITS)) != null)
             {
-                String descColName;
-                String unitsColName;
-
-                // Get variable name, data type, enumeration, description, and
-                // units column indices
-                int variableNameIndex = typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.VARIABLE));
-                int dataTypeIndex = typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.PRIM_AND_STRUCT));
-                int enumerationIndex = typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.ENUMERATION));
-                int descriptionIndex = -1;
-                int unitsIndex = -1;
-
-                // Get the description column name
-                if ((descColName = typeDefn.getColumnNameByInputType(InputDataType.DESCRIPTION)) != null)
-                {
-                    // Get the description column index
-                    descriptionIndex = typeDefn.getVisibleColumnIndexByUserName(descColName);
-                }
+                // Get the units column index
+                unitsIndex = typeDefn.getVisibleColumnIndexByUserName(unitsColName);
+            }
 
-                // Get the units column name
-                if ((unitsColName = typeDefn.getColumnNameByInputType(InputDataType.UNITS)) != null)
-                {
-                    // Get the units column index
-                    unitsIndex = typeDefn.getVisibleColumnIndexByUserName(unitsColName);
-                }
+            // Get the telemetry information
+            ParameterSetType parmSetType = tlmMetaData.getParameterSet();
 
-                // Get the telemetry information
-                ParameterSetType parmSetType = tlmMetaData.getParameterSet();
+            // Check if the telemetry information exists
+            if (parmSetType != null)
+            {
+                // Get the list of telemetry parameters
+                List<Object> tlms = parmSetType.getParameterOrParameterRef();
 
-                // Check if the telemetry information exists
-                if (parmSetType != null)
+                // Step through each telemetry parameter
+                for (Object tlm : tlms)
                 {
-                    // Get the list of telemetry parameters
-                    List<Object> tlms = parmSetType.getParameterOrParameterRef();
+                    Parameter parm = (Parameter) tlm;
 
-                    // Step through each telemetry parameter
-                    for (Object tlm : tlms)
-                    {
-                        Parameter parm = (Parameter) tlm;
-
-                        // Create a new row of data in the table definition to
-                        // contain this structures's information. Initialize
-                        // all columns to blanks except for the variable name
-                        String[] newRow = new String[typeDefn.getColumnCountVisible()];
-                        Arrays.fill(newRow, "");
-                        newRow[variableNameIndex] = parm.getName();
+                    // Create a new row of data in the table definition to
+                    // contain this structures's information. Initialize
+                    // all columns to blanks except for the variable name
+                    String[] newRow = new String[typeDefn.getColumnCountVisible()];
+                    Arrays.fill(newRow, "");
+                    newRow[variableNameIndex] = parm.getName();
 
-                        // Get a reference to any extra data for this parameter
-                        ancillarySet = parm.getAncillaryDataSet();
+                    // Get a reference to any extra data for this parameter
+                    ancillarySet = parm.getAncillaryDataSet();
 
-                        // Check if the parameter set ancillary data exists
-                        if (ancillarySet != null)
+                    // Check if the parameter set ancillary data exists
+                    if (ancillarySet != null)
+                    {
+                        // Step through each ancillary data entry
+                        for (AncillaryData ancillaryData : ancillarySet.getAncillaryData())
                         {
-                            // Step through each ancillary data entry
-                            for (AncillaryData ancillaryData : ancillarySet.getAncillaryData())
+                            // Split the ancillary data into the column
+                            // name and row number (each with an
+                            // identifier, which are ignored)
+                            String[] parts = ancillaryData.getName().split(":");
+                            String columnName = parts[XTCETags.getColumnNameIndex()].trim();
+
+                            // Get the column index for the column
+                            // described in the ancillary data
+                            int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
+
+                            // Check if the column exists in the table type
+                            // definition
+                            if (column != -1)
                             {
-                                // Split the ancillary data into the column
-                                // name and row number (each with an
-                                // identifier, which are ignored)
-                                String[] parts = ancillaryData.getName().split(":");
-                                String columnName = parts[XTCETags.getColumnNameIndex()].trim();
-
-                                // Get the column index for the column
-                                // described in the ancillary data
-                                int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
-
-                                // Check if the column exists in the table type
-                                // definition
-                                if (column != -1)
-                                {
-                                    newRow[column] = ancillaryData.getValue();
-                                }
-                                // The column doesn't exist
-                                else
-                                {
-                                    // Get user confirmation to continue or
-                                    // stop the import
-                                    continueOnColumnError = confirmContinue(continueOnColumnError,
-                                                                            columnName,
-                                                                            tableDefn.getName(),
-                                                                            importFileName);
-                                }
+                                newRow[column] = ancillaryData.getValue();
+                            }
+                            // The column doesn't exist
+                            else
+                            {
+                                // Get user confirmation to continue or
+                                // stop the import
+                                continueOnColumnError = confirmContinue(continueOnColumnError,
+                                                                        columnName,
+                                                                        tableDefn.getName(),
+                                                                        importFileName);
                             }
                         }
-
-                        // Add the new row to the table definition
-                        tableDefn.addData(newRow);
                     }
+
+                    // Add the new row to the table definition
+                    tableDefn.addData(newRow);
                 }
+            }
 
-                ParameterTypeSetType parmTypeSetType = tlmMetaData.getParameterTypeSet();
+            ParameterTypeSetType parmTypeSetType = tlmMetaData.getParameterTypeSet();
+
+            // Check if the telemetry information exists
+            if (parmTypeSetType != null)
+            {
+                // Get the list of telemetry parameters
+                List<NameDescriptionType> tlms = parmTypeSetType.getStringParameterTypeOrEnumeratedParameterTypeOrIntegerParameterType();
 
-                // Check if the telemetry information exists
-                if (parmTypeSetType != null)
+                // Step through each telemetry parameter
+                for (NameDescriptionType tlm : tlms)
                 {
-                    // Get the list of telemetry parameters
-                    List<NameDescriptionType> tlms = parmTypeSetType.getStringParameterTypeOrEnumeratedParameterTypeOrIntegerParameterType();
-
-                    // Step through each telemetry parameter
-                    for (NameDescriptionType tlm : tlms)
+                    String dataType = "";
+                    String sizeInBits = null;
+                    String enumeration = null;
+                    UnitSet unitSet = null;
+
+                    // Based on the parameter data type get the size in
+                    // bits and unit attributes, and reconstruct the
+                    // original data type from the parameter type, encoding
+                    // type, and/or bit size or width. If the ancillary
+                    // data contains the data type then it overwrites the
+                    // data type constructed here
+
+                    // Integer data type
+                    if (tlm instanceof IntegerParameterType)
                     {
-                        String dataType = "";
-                        String sizeInBits = null;
-                        String enumeration = null;
-                        UnitSet unitSet = null;
+                        IntegerParameterType itlm = (IntegerParameterType) tlm;
+                        sizeInBits = itlm.getSizeInBits().toString();
+                        unitSet = itlm.getUnitSet();
 
-                        // Based on the parameter data type get the size in
-                        // bits and unit attributes, and reconstruct the
-                        // original data type from the parameter type, encoding
-                        // type, and/or bit size or width. If the ancillary
-                        // data contains the data type then it overwrites the
-                        // data type constructed here
-
-                        // Integer data type
-                        if (tlm instanceof IntegerParameterType)
+                        // Check if integer encoding is set to 'unsigned'
+                        if (itlm.getIntegerDataEncoding().getEncoding().equalsIgnoreCase("unsigned"))
                         {
-                            IntegerParameterType itlm = (IntegerParameterType) tlm;
-                            sizeInBits = itlm.getSizeInBits().toString();
-                            unitSet = itlm.getUnitSet();
-
-                            // Check if integer encoding is set to 'unsigned'
-                            if (itlm.getIntegerDataEncoding().getEncoding().equalsIgnoreCase("unsigned"))
-                            {
-                                dataType = "u";
-                            }
-
-                            dataType += "int" + sizeInBits;
+                            dataType = "u";
                         }
-                        // Floating point data type
-                        else if (tlm instanceof FloatParameterType)
+
+                        dataType += "int" + sizeInBits;
+                    }
+                    // Floating point data type
+                    else if (tlm instanceof FloatParameterType)
+                    {
+                        FloatParameterType ftlm = (FloatParameterType) tlm;
+                        BigInteger size = ftlm.getSizeInBits();
+                        sizeInBits = size.toString();
+                        unitSet = ftlm.getUnitSet();
+                        dataType = "float";
+                    }
+                    // String data type
+                    else if (tlm instanceof StringParameterType)
+                    {
+                        StringParameterType stlm = (StringParameterType) tlm;
+                        BigInteger size = stlm.getCharacterWidth();
+                        sizeInBits = size.toString();
+                        unitSet = stlm.getUnitSet();
+
+                        // Use the character width to determine character
+                        // versus string
+                        if (size.intValue() == 1)
                         {
-                            FloatParameterType ftlm = (FloatParameterType) tlm;
-                            BigInteger size = ftlm.getSizeInBits();
-                            sizeInBits = size.toString();
-                            unitSet = ftlm.getUnitSet();
-                            dataType = "float";
+                            dataType = DefaultPrimitiveTypeInfo.CHAR.getUserName();
                         }
-                        // String data type
-                        else if (tlm instanceof StringParameterType)
+                        else
                         {
-                            StringParameterType stlm = (StringParameterType) tlm;
-                            BigInteger size = stlm.getCharacterWidth();
-                            sizeInBits = size.toString();
-                            unitSet = stlm.getUnitSet();
-
-                            // Use the character width to determine character
-                            // versus string
-                            if (size.intValue() == 1)
-                            {
-                                dataType = DefaultPrimitiveTypeInfo.CHAR.getUserName();
-                            }
-                            else
-                            {
-                                dataType = DefaultPrimitiveTypeInfo.STRING.getUserName();
-                            }
+                            dataType = DefaultPrimitiveTypeInfo.STRING.getUserName();
                         }
-                        // Enumerated data type
-                        else if (tlm instanceof EnumeratedParameterType)
+                    }
+                    // Enumerated data type
+                    else if (tlm instanceof EnumeratedParameterType)
+                    {
+                        // Get the enumeration parameters
+                        EnumeratedParameterType etlm = (EnumeratedParameterType) tlm;
+                        EnumerationList enumList = etlm.getEnumerationList();
+
+                        // Check if any enumeration parameters are defined
+                        if (enumList != null)
                         {
-                            // Get the enumeration parameters
-                            EnumeratedParameterType etlm = (EnumeratedParameterType) tlm;
-                            EnumerationList enumList = etlm.getEnumerationList();
+                            ancillarySet = etlm.getAncillaryDataSet();
 
-                            // Check if any enumeration parameters are defined
-                            if (enumList != null)
+                            // Step through each enumeration parameter
+                            for (ValueEnumerationType enumType : enumList.getEnumeration())
                             {
-                                ancillarySet = etlm.getAncillaryDataSet();
-
-                                // Step through each enumeration parameter
-                                for (ValueEnumerationType enumType : enumList.getEnumeration())
+                                // Check if this is the first parameter
+                                if (enumeration == null)
                                 {
-                                    // Check if this is the first parameter
-                                    if (enumeration == null)
-                                    {
-                                        // Initialize the enumeration string
-                                        enumeration = "";
-                                    }
-                                    // Not the first parameter
-                                    else
-                                    {
-                                        // Add the separator for the
-                                        // enumerations
-                                        enumeration += ",";
-                                    }
-
-                                    // Begin building this enumeration
-                                    enumeration += enumType.getValue()
-                                                   + " | "
-                                                   + enumType.getLabel();
+                                    // Initialize the enumeration string
+                                    enumeration = "";
                                 }
-
-                                sizeInBits = etlm.getIntegerDataEncoding().getSizeInBits().toString();
-                                unitSet = etlm.getUnitSet();
-
-                                // Check if integer encoding is set to
-                                // 'unsigned'
-                                if (etlm.getIntegerDataEncoding().getEncoding().equalsIgnoreCase("unsigned"))
+                                // Not the first parameter
+                                else
                                 {
-                                    dataType = "u";
+                                    // Add the separator for the
+                                    // enumerations
+                                    enumeration += ",";
                                 }
 
-                                dataType += "int" + sizeInBits;
+                                // Begin building this enumeration
+                                enumeration += enumType.getValue()
+                                               + " | "
+                                               + enumType.getLabel();
                             }
-                        }
 
-                        // Get the row index that refers to this variable
-                        int row = typeDefn.getRowIndexByColumnValue(tableDefn.getData(),
-                                                                    numColumns,
-                                                                    tlm.getName(),
-                                                                    variableNameIndex);
+                            sizeInBits = etlm.getIntegerDataEncoding().getSizeInBits().toString();
+                            unitSet = etlm.getUnitSet();
 
-                        // Check if the variable exists
-                        if (row != -1)
-                        {
-                            // Check if a data type exists and isn't already
-                            // extracted from the ancillary data
-                            if (dataTypeIndex != -1
-                                && !dataType.isEmpty()
-                                && tableDefn.getData().get(row
-                                                           * numColumns
-                                                           + dataTypeIndex).isEmpty())
+                            // Check if integer encoding is set to
+                            // 'unsigned'
+                            if (etlm.getIntegerDataEncoding().getEncoding().equalsIgnoreCase("unsigned"))
                             {
-                                // Store the data type
-                                tableDefn.getData().set(row
-                                                        * numColumns
-                                                        + dataTypeIndex,
-                                                        dataType);
+                                dataType = "u";
                             }
 
-                            // Check if a description exists and isn't already
-                            // extracted from the ancillary data
-                            if (descriptionIndex != -1
-                                && tlm.getShortDescription() != null
-                                && tableDefn.getData().get(row
-                                                           * numColumns
-                                                           + descriptionIndex).isEmpty())
-                            {
-                                // Store the description
-                                tableDefn.getData().set(row
-                                                        * numColumns
-                                                        + descriptionIndex,
-                                                        tlm.getShortDescription());
-                            }
+                            dataType += "int" + sizeInBits;
+                        }
+                    }
 
-                            // Check if a units exists and isn't already
-                            // extracted from the ancillary data
-                            if (unitsIndex != -1
-                                && unitSet != null
-                                && tableDefn.getData().get(row
-                                                           * numColumns
-                                                           + unitsIndex).isEmpty())
-                            {
-                                List<UnitType> unitType = unitSet.getUnit();
+                    // Get the row index that refers to this variable
+                    int row = typeDefn.getRowIndexByColumnValue(tableDefn.getData(),
+                                                                numColumns,
+                                                                tlm.getName(),
+                                                                variableNameIndex);
 
-                                // Check if the units exist
-                                if (!unitType.isEmpty())
-                                {
-                                    // Store the units for this variable
-                                    tableDefn.getData().set(row
-                                                            * numColumns
-                                                            + unitsIndex,
-                                                            unitType.get(0).getContent());
-                                }
-                            }
+                    // Check if the variable exists
+                    if (row != -1)
+                    {
+                        // Check if a data type exists and isn't already
+                        // extracted from the ancillary data
+                        if (dataTypeIndex != -1
+                            && !dataType.isEmpty()
+                            && tableDefn.getData().get(row
+                                                       * numColumns
+                                                       + dataTypeIndex).isEmpty())
+                        {
+                            // Store the data type
+                            tableDefn.getData().set(row
+                                                    * numColumns
+                                                    + dataTypeIndex,
+                                                    dataType);
+                        }
+
+                        // Check if a description exists and isn't already
+                        // extracted from the ancillary data
+                        if (descriptionIndex != -1
+                            && tlm.getShortDescription() != null
+                            && tableDefn.getData().get(row
+                                                       * numColumns
+                                                       + descriptionIndex).isEmpty())
+                        {
+                            // Store the description
+                            tableDefn.getData().set(row
+                                                    * numColumns
+                                                    + descriptionIndex,
+                                                    tlm.getShortDescription());
+                        }
+
+                        // Check if a units exists and isn't already
+                        // extracted from the ancillary data
+                        if (unitsIndex != -1
+                            && unitSet != null
+                            && tableDefn.getData().get(row
+                                                       * numColumns
+                                                       + unitsIndex).isEmpty())
+                        {
+                            List<UnitType> unitType = unitSet.getUnit();
 
-                            // Check if an enumeration exists and isn't already
-                            // extracted from the ancillary data
-                            if (enumerationIndex != -1
-                                && enumeration != null
-                                && tableDefn.getData().get(row
-                                                           * numColumns
-                                                           + enumerationIndex).isEmpty())
+                            // Check if the units exist
+                            if (!unitType.isEmpty())
                             {
-                                // Store the enumeration parameters. This
-                                // accounts only for the first enumeration for
-                                // a variable. If the variable has more than
-                                // one enumeration column then the ancillary
-                                // data contains the other enumeration
-                                // column(s) parameters
+                                // Store the units for this variable
                                 tableDefn.getData().set(row
                                                         * numColumns
-                                                        + enumerationIndex,
-                                                        enumeration);
+                                                        + unitsIndex,
+                                                        unitType.get(0).getContent());
                             }
                         }
+
+                        // Check if an enumeration exists and isn't already
+                        // extracted from the ancillary data
+                        if (enumerationIndex != -1
+                            && enumeration != null
+                            && tableDefn.getData().get(row
+                                                       * numColumns
+                                                       + enumerationIndex).isEmpty())
+                        {
+                            // Store the enumeration parameters. This
+                            // accounts only for the first enumeration for
+                            // a variable. If the variable has more than
+                            // one enumeration column then the ancillary
+                            // data contains the other enumeration
+                            // column(s) parameters
+                            tableDefn.getData().set(row
+                                                    * numColumns
+                                                    + enumerationIndex,
+                                                    enumeration);
+                        }
                     }
                 }
             }
+        }
 
-            /******************************************************************
-             * Command processing
-             * ***************************************************************/
-            // Get the child system's command metadata information
-            CommandMetaDataType cmdMetaData = childSystem.getCommandMetaData();
+        /**********************************************************************
+         * Command processing
+         * *******************************************************************/
+        // Get the child system's command metadata information
+        CommandMetaDataType cmdMetaData = tableSystem.getCommandMetaData();
+
+        // Check if the command metadata information exists and that the
+        // table type is recognized
+        if (cmdMetaData != null && typeDefn != null)
+        {
+            String descColName;
+            int cmdDescriptionIndex = -1;
 
-            // Check if the command metadata information exists and that the
-            // table type is recognized
-            if (cmdMetaData != null && typeDefn != null)
-            {
-                String descColName;
-                int cmdDescriptionIndex = -1;
+            // Get the command name column
+            int commandNameIndex = typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.COMMAND_NAME));
 
-                // Get the command name column
-                int commandNameIndex = typeDefn.getVisibleColumnIndexByUserName(typeDefn.getColumnNameByInputType(InputDataType.COMMAND_NAME));
+            // Get the list containing command argument name, data type,
+            // enumeration, minimum, maximum, and other associated column
+            // indices for each argument grouping
+            List<AssociatedColumns> commandArguments = typeDefn.getAssociatedCommandColumns(true);
 
-                // Get the list containing command argument name, data type,
-                // enumeration, minimum, maximum, and other associated column
-                // indices for each argument grouping
-                List<AssociatedColumns> commandArguments = typeDefn.getAssociatedCommandColumns(true);
+            // Get the description column name
+            if ((descColName = typeDefn.getColumnNameByInputType(InputDataType.DESCRIPTION)) != null)
+            {
+                // Get the description column index
+                cmdDescriptionIndex = typeDefn.getVisibleColumnIndexByUserName(descColName);
+            }
 
-                // Get the description column name
-                if ((descColName = typeDefn.getColumnNameByInputType(InputDataType.DESCRIPTION)) != null)
-                {
-                    // Get the description column index
-                    cmdDescriptionIndex = typeDefn.getVisibleColumnIndexByUserName(descColName);
-                }
+            // Get the command set information
+            MetaCommandSet metaCmdSet = cmdMetaData.getMetaCommandSet();
 
-                // Get the command set information
-                MetaCommandSet metaCmdSet = cmdMetaData.getMetaCommandSet();
+            // Check if the command set information exists
+            if (metaCmdSet != null)
+            {
+                // Get the list of command sets
+                List<Object> cmds = metaCmdSet.getMetaCommandOrMetaCommandRefOrBlockMetaCommand();
 
-                // Check if the command set information exists
-                if (metaCmdSet != null)
+                // Step through each command set
+                for (Object cmd : cmds)
                 {
-                    // Get the list of command sets
-                    List<Object> cmds = metaCmdSet.getMetaCommandOrMetaCommandRefOrBlockMetaCommand();
-
-                    // Step through each command set
-                    for (Object cmd : cmds)
+                    MetaCommandType cmdType = (MetaCommandType) cmd;
+
+                    // Create a new row of data in the table definition to
+                    // contain this command's information. Initialize all
+                    // columns to blanks except for the command name
+                    String[] newRow = new String[typeDefn.getColumnCountVisible()];
+                    Arrays.fill(newRow, "");
+                    newRow[commandNameIndex] = cmdType.getName();
+
+                    // Check if the command description is present and the
+                    // description column exists in the table type
+                    // definition
+                    if (cmdType.getShortDescription() != null
+                        && cmdDescriptionIndex != -1)
                     {
-                        MetaCommandType cmdType = (MetaCommandType) cmd;
-
-                        // Create a new row of data in the table definition to
-                        // contain this command's information. Initialize all
-                        // columns to blanks except for the command name
-                        String[] newRow = new String[typeDefn.getColumnCountVisible()];
-                        Arrays.fill(newRow, "");
-                        newRow[commandNameIndex] = cmdType.getName();
-
-                        // Check if the command description is present and the
-                        // description column exists in the table type
-                        // definition
-                        if (cmdType.getShortDescription() != null
-                            && cmdDescriptionIndex != -1)
-                        {
-                            // Store the command description in the row's
-                            // description column
-                            newRow[cmdDescriptionIndex] = cmdType.getShortDescription();
-                        }
+                        // Store the command description in the row's
+                        // description column
+                        newRow[cmdDescriptionIndex] = cmdType.getShortDescription();
+                    }
 
-                        // Add the new row to the table definition
-                        tableDefn.addData(newRow);
+                    // Add the new row to the table definition
+                    tableDefn.addData(newRow);
 
-                        // Get a reference to the command metadata ancillary
-                        // data
-                        ancillarySet = cmdType.getAncillaryDataSet();
+                    // Get a reference to the command metadata ancillary
+                    // data
+                    ancillarySet = cmdType.getAncillaryDataSet();
 
-                        // Check if the command metadata ancillary data exists
-                        if (ancillarySet != null)
+                    // Check if the command metadata ancillary data exists
+                    if (ancillarySet != null)
+                    {
+                        // Step through each ancillary data entry
+                        for (AncillaryData ancillaryData : ancillarySet.getAncillaryData())
                         {
-                            // Step through each ancillary data entry
-                            for (AncillaryData ancillaryData : ancillarySet.getAncillaryData())
+                            // Split the ancillary data into the column
+                            // name and row number (each with an
+                            // identifier, which are ignored)
+                            String[] parts = ancillaryData.getName().split(":");
+                            String columnName = parts[XTCETags.getColumnNameIndex()].trim();
+                            int row = Integer.valueOf(parts[XTCETags.getRowIndex()].trim());
+
+                            // Get the column index for the column
+                            // described in the ancillary data
+                            int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
+
+                            // Check if the column exists in the table type
+                            // definition
+                            if (column != -1)
                             {
-                                // Split the ancillary data into the column
-                                // name and row number (each with an
-                                // identifier, which are ignored)
-                                String[] parts = ancillaryData.getName().split(":");
-                                String columnName = parts[XTCETags.getColumnNameIndex()].trim();
-                                int row = Integer.valueOf(parts[XTCETags.getRowIndex()].trim());
-
-                                // Get the column index for the column
-                                // described in the ancillary data
-                                int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
-
-                                // Check if the column exists in the table type
-                                // definition
-                                if (column != -1)
-                                {
-                                    // Check if the cell hasn't already been
-                                    // populated by other command metadata
-                                    if (tableDefn.getData().get(row
-                                                                * numColumns
-                                                                + column).isEmpty())
-                                    {
-                                        // Update the table data at the row and
-                                        // column specified with the value from
-                                        // the ancillary data
-                                        tableDefn.getData().set(row
-                                                                * numColumns
-                                                                + column,
-                                                                ancillaryData.getValue());
-                                    }
-                                }
-                                // The column doesn't exist
-                                else
+                                // Check if the cell hasn't already been
+                                // populated by other command metadata
+                                if (tableDefn.getData().get(row
+                                                            * numColumns
+                                                            + column).isEmpty())
                                 {
-                                    // Get user confirmation to continue or
-                                    // stop the import
-                                    continueOnColumnError = confirmContinue(continueOnColumnError,
-                                                                            columnName,
-                                                                            tableDefn.getName(),
-                                                                            importFileName);
+                                    // Update the table data at the row and
+                                    // column specified with the value from
+                                    // the ancillary data
+                                    tableDefn.getData().set(row
+                                                            * numColumns
+                                                            + column,
+                                                            ancillaryData.getValue());
                                 }
                             }
+                            // The column doesn't exist
+                            else
+                            {
+                                // Get user confirmation to continue or
+                                // stop the import
+                                continueOnColumnError = confirmContinue(continueOnColumnError,
+                                                                        columnName,
+                                                                        tableDefn.getName(),
+                                                                        importFileName);
+                            }
                         }
                     }
                 }
+            }
 
-                // Get the command argument information
-                ArgumentTypeSetType argSetType = cmdMetaData.getArgumentTypeSet();
+            // Get the command argument information
+            ArgumentTypeSetType argSetType = cmdMetaData.getArgumentTypeSet();
 
-                // Check if the command argument information exists
-                if (argSetType != null)
-                {
-                    // Get the list of command arguments
-                    List<NameDescriptionType> cmds = argSetType.getStringArgumentTypeOrEnumeratedArgumentTypeOrIntegerArgumentType();
+            // Check if the command argument information exists
+            if (argSetType != null)
+            {
+                // Get the list of command arguments
+                List<NameDescriptionType> cmds = argSetType.getStringArgumentTypeOrEnumeratedArgumentTypeOrIntegerArgumentType();
 
-                    int cmdArgIndex = -1;
-                    String command = "";
+                int cmdArgIndex = -1;
+                String command = "";
 
-                    // Step through each command argument
-                    for (NameDescriptionType cmd : cmds)
+                // Step through each command argument
+                for (NameDescriptionType cmd : cmds)
+                {
+                    String dataType = "";
+                    String sizeInBits = null;
+                    String description = null;
+                    String enumeration = null;
+                    String units = null;
+                    UnitSet unitSet = null;
+
+                    // Check if the command name changed
+                    if (!((BaseDataType) cmd).getBaseType().equals(command))
                     {
-                        String dataType = "";
-                        String sizeInBits = null;
-                        String description = null;
-                        String enumeration = null;
-                        String units = null;
-                        UnitSet unitSet = null;
+                        // Reset the argument index
+                        cmdArgIndex = -1;
+                    }
 
-                        // Check if the command name changed
-                        if (!((BaseDataType) cmd).getBaseType().equals(command))
-                        {
-                            // Reset the argument index
-                            cmdArgIndex = -1;
-                        }
+                    // Increment the argument index and store the command
+                    // name for which this argument is a member
+                    cmdArgIndex++;
+                    command = ((BaseDataType) cmd).getBaseType();
+
+                    // Based on the command argument data type get the size
+                    // in bits and unit attributes, and reconstruct the
+                    // original data type from the parameter type, encoding
+                    // type, and/or bit size or width
+                    // Integer data type
+                    if (cmd instanceof IntegerArgumentType)
+                    {
+                        IntegerArgumentType icmd = (IntegerArgumentType) cmd;
+                        sizeInBits = icmd.getSizeInBits().toString();
+                        unitSet = icmd.getUnitSet();
 
-                        // Increment the argument index and store the command
-                        // name for which this argument is a member
-                        cmdArgIndex++;
-                        command = ((BaseDataType) cmd).getBaseType();
-
-                        // Based on the command argument data type get the size
-                        // in bits and unit attributes, and reconstruct the
-                        // original data type from the parameter type, encoding
-                        // type, and/or bit size or width
-                        // Integer data type
-                        if (cmd instanceof IntegerArgumentType)
+                        // Check if integer encoding is set to 'unsigned'
+                        if (icmd.getIntegerDataEncoding().getEncoding().equalsIgnoreCase("unsigned"))
                         {
-                            IntegerArgumentType icmd = (IntegerArgumentType) cmd;
-                            sizeInBits = icmd.getSizeInBits().toString();
-                            unitSet = icmd.getUnitSet();
-
-                            // Check if integer encoding is set to 'unsigned'
-                            if (icmd.getIntegerDataEncoding().getEncoding().equalsIgnoreCase("unsigned"))
-                            {
-                                dataType = "u";
-                            }
-
-                            dataType += "int" + sizeInBits;
+                            dataType = "u";
                         }
-                        // Floating point data type
-                        else if (cmd instanceof FloatArgumentType)
+
+                        dataType += "int" + sizeInBits;
+                    }
+                    // Floating point data type
+                    else if (cmd instanceof FloatArgumentType)
+                    {
+                        FloatArgumentType fcmd = (FloatArgumentType) cmd;
+                        BigInteger size = fcmd.getSizeInBits();
+                        sizeInBits = size.toString();
+                        unitSet = fcmd.getUnitSet();
+                        dataType = "float";
+                    }
+                    // String data type
+                    else if (cmd instanceof StringDataType)
+                    {
+                        StringDataType scmd = (StringDataType) cmd;
+                        BigInteger size = scmd.getCharacterWidth();
+                        sizeInBits = size.toString();
+                        unitSet = scmd.getUnitSet();
+
+                        // Use the character width to determine character
+                        // versus string
+                        if (size.intValue() == 1)
                         {
-                            FloatArgumentType fcmd = (FloatArgumentType) cmd;
-                            BigInteger size = fcmd.getSizeInBits();
-                            sizeInBits = size.toString();
-                            unitSet = fcmd.getUnitSet();
-                            dataType = "float";
+                            dataType = DefaultPrimitiveTypeInfo.CHAR.getUserName();
                         }
-                        // String data type
-                        else if (cmd instanceof StringDataType)
+                        else
                         {
-                            StringDataType scmd = (StringDataType) cmd;
-                            BigInteger size = scmd.getCharacterWidth();
-                            sizeInBits = size.toString();
-                            unitSet = scmd.getUnitSet();
-
-                            // Use the character width to determine character
-                            // versus string
-                            if (size.intValue() == 1)
-                            {
-                                dataType = DefaultPrimitiveTypeInfo.CHAR.getUserName();
-                            }
-                            else
-                            {
-                                dataType = DefaultPrimitiveTypeInfo.STRING.getUserName();
-                            }
+                            dataType = DefaultPrimitiveTypeInfo.STRING.getUserName();
                         }
-                        // Enumerated data type
-                        else if (cmd instanceof EnumeratedDataType)
+                    }
+                    // Enumerated data type
+                    else if (cmd instanceof EnumeratedDataType)
+                    {
+                        EnumeratedDataType ecmd = (EnumeratedDataType) cmd;
+                        EnumerationList enumList = ecmd.getEnumerationList();
+
+                        // Check if any enumeration parameters are defined
+                        if (enumList != null)
                         {
-                            EnumeratedDataType ecmd = (EnumeratedDataType) cmd;
-                            EnumerationList enumList = ecmd.getEnumerationList();
+                            ancillarySet = ecmd.getAncillaryDataSet();
 
-                            // Check if any enumeration parameters are defined
-                            if (enumList != null)
+                            // Step through each enumeration parameter
+                            for (ValueEnumerationType enumType : enumList.getEnumeration())
                             {
-                                ancillarySet = ecmd.getAncillaryDataSet();
-
-                                // Step through each enumeration parameter
-                                for (ValueEnumerationType enumType : enumList.getEnumeration())
+                                // Check if this is the first parameter
+                                if (enumeration == null)
                                 {
-                                    // Check if this is the first parameter
-                                    if (enumeration == null)
-                                    {
-                                        // Initialize the enumeration string
-                                        enumeration = "";
-                                    }
-                                    // Not the first parameter
-                                    else
-                                    {
-                                        // Add the separator for the
-                                        // enumerations
-                                        enumeration += ", ";
-                                    }
-
-                                    // Begin building this enumeration
-                                    enumeration += enumType.getValue()
-                                                   + " | "
-                                                   + enumType.getLabel();
+                                    // Initialize the enumeration string
+                                    enumeration = "";
                                 }
-
-                                sizeInBits = ecmd.getIntegerDataEncoding().getSizeInBits().toString();
-                                unitSet = ecmd.getUnitSet();
-
-                                // Check if integer encoding is set to
-                                // 'unsigned'
-                                if (ecmd.getIntegerDataEncoding().getEncoding().equalsIgnoreCase("unsigned"))
+                                // Not the first parameter
+                                else
                                 {
-                                    dataType = "u";
+                                    // Add the separator for the
+                                    // enumerations
+                                    enumeration += ", ";
                                 }
 
-                                dataType += "int" + sizeInBits;
+                                // Begin building this enumeration
+                                enumeration += enumType.getValue()
+                                               + " | "
+                                               + enumType.getLabel();
+                            }
+
+                            sizeInBits = ecmd.getIntegerDataEncoding().getSizeInBits().toString();
+                            unitSet = ecmd.getUnitSet();
+
+                            // Check if integer encoding is set to
+                            // 'unsigned'
+                            if (ecmd.getIntegerDataEncoding().getEncoding().equalsIgnoreCase("unsigned"))
+                            {
+                                dataType = "u";
                             }
+
+                            dataType += "int" + sizeInBits;
                         }
+                    }
+
+                    // Check if the description exists
+                    if (cmd.getShortDescription() != null)
+                    {
+                        // Store the description
+                        description = cmd.getShortDescription();
+                    }
+
+                    // Check if the units exists
+                    if (unitSet != null)
+                    {
+                        List<UnitType> unitType = unitSet.getUnit();
 
-                        // Check if the description exists
-                        if (cmd.getShortDescription() != null)
+                        // Check if the units is set
+                        if (!unitType.isEmpty())
                         {
-                            // Store the description
-                            description = cmd.getShortDescription();
+                            // Store the units
+                            units = unitType.get(0).getContent();
                         }
+                    }
 
-                        // Check if the units exists
-                        if (unitSet != null)
+                    // Step through each row of table data
+                    for (int row = 0; row < tableDefn.getData().size(); row += numColumns)
+                    {
+                        // Check if the command name matches the one in the
+                        // table data for this row
+                        if (tableDefn.getData().get(row + commandNameIndex) != null
+                            && tableDefn.getData().get(row + commandNameIndex).equals(command)
+                            && cmdArgIndex < commandArguments.size())
                         {
-                            List<UnitType> unitType = unitSet.getUnit();
+                            // Get the command argument reference
+                            AssociatedColumns cmdArg = commandArguments.get(cmdArgIndex);
 
-                            // Check if the units is set
-                            if (!unitType.isEmpty())
+                            // Check if the command argument name is
+                            // present
+                            if (cmdArg.getName() != -1
+                                && !cmd.getName().isEmpty())
                             {
-                                // Store the units
-                                units = unitType.get(0).getContent();
+                                // Store the command argument name
+                                tableDefn.getData().set(row
+                                                        + cmdArg.getName(),
+                                                        cmd.getName());
                             }
-                        }
 
-                        // Step through each row of table data
-                        for (int row = 0; row < tableDefn.getData().size(); row += numColumns)
-                        {
-                            // Check if the command name matches the one in the
-                            // table data for this row
-                            if (tableDefn.getData().get(row + commandNameIndex) != null
-                                && tableDefn.getData().get(row + commandNameIndex).equals(command)
-                                && cmdArgIndex < commandArguments.size())
+                            // Check if the command argument data type is
+                            // present
+                            if (cmdArg.getDataType() != -1
+                                && !dataType.isEmpty())
                             {
-                                // Get the command argument reference
-                                AssociatedColumns cmdArg = commandArguments.get(cmdArgIndex);
+                                // Store the command argument data type
+                                tableDefn.getData().set(row
+                                                        + cmdArg.getDataType(),
+                                                        dataType);
+                            }
 
-                                // Check if the command argument name is
-                                // present
-                                if (cmdArg.getName() != -1
-                                    && !cmd.getName().isEmpty())
-                                {
-                                    // Store the command argument name
-                                    tableDefn.getData().set(row
-                                                            + cmdArg.getName(),
-                                                            cmd.getName());
-                                }
+                            // Check if the command argument enumeration is
+                            // present
+                            if (cmdArg.getEnumeration() != -1
+                                && enumeration != null)
+                            {
+                                // Store the command argument enumeration
+                                tableDefn.getData().set(row
+                                                        + cmdArg.getEnumeration(),
+                                                        enumeration);
+                            }
 
-                                // Check if the command argument data type is
-                                // present
-                                if (cmdArg.getDataType() != -1
-                                    && !dataType.isEmpty())
+                            // Step through the other command argument
+                            // columns for this command
+                            for (Integer cmdArgCol : cmdArg.getOther())
+                            {
+                                // Check if a command argument description
+                                // exists and the column name references
+                                // the description
+                                if (description != null
+                                    && typeDefn.getColumnNamesVisible()[cmdArgCol].matches(CONTAINS_DESCRIPTION))
                                 {
-                                    // Store the command argument data type
+                                    // Store the command argument
+                                    // description
                                     tableDefn.getData().set(row
-                                                            + cmdArg.getDataType(),
-                                                            dataType);
+                                                            + cmdArgCol,
+                                                            description);
                                 }
-
-                                // Check if the command argument enumeration is
-                                // present
-                                if (cmdArg.getEnumeration() != -1
-                                    && enumeration != null)
+                                // Check if a command argument units exists
+                                // and the column name references the units
+                                else if (units != null
+                                         && typeDefn.getColumnNamesVisible()[cmdArgCol].matches(CONTAINS_UNITS))
                                 {
-                                    // Store the command argument enumeration
+                                    // Store the command argument units
                                     tableDefn.getData().set(row
-                                                            + cmdArg.getEnumeration(),
-                                                            enumeration);
-                                }
-
-                                // Step through the other command argument
-                                // columns for this command
-                                for (Integer cmdArgCol : cmdArg.getOther())
-                                {
-                                    // Check if a command argument description
-                                    // exists and the column name references
-                                    // the description
-                                    if (description != null
-                                        && typeDefn.getColumnNamesVisible()[cmdArgCol].matches(CONTAINS_DESCRIPTION))
-                                    {
-                                        // Store the command argument
-                                        // description
-                                        tableDefn.getData().set(row
-                                                                + cmdArgCol,
-                                                                description);
-                                    }
-                                    // Check if a command argument units exists
-                                    // and the column name references the units
-                                    else if (units != null
-                                             && typeDefn.getColumnNamesVisible()[cmdArgCol].matches(CONTAINS_UNITS))
-                                    {
-                                        // Store the command argument units
-                                        tableDefn.getData().set(row
-                                                                + cmdArgCol,
-                                                                units);
-                                    }
+                                                            + cmdArgCol,
+                                                            units);
                                 }
                             }
                         }
+                    }
 
-                        // Get the other command argument columns
-                        ancillarySet = cmd.getAncillaryDataSet();
+                    // Get the other command argument columns
+                    ancillarySet = cmd.getAncillaryDataSet();
 
-                        // Check if there are any command argument columns
-                        if (ancillarySet != null)
+                    // Check if there are any command argument columns
+                    if (ancillarySet != null)
+                    {
+                        // Step though the command argument columns stored
+                        // in the ancillary data
+                        for (AncillaryData ancillaryData : ancillarySet.getAncillaryData())
                         {
-                            // Step though the command argument columns stored
-                            // in the ancillary data
-                            for (AncillaryData ancillaryData : ancillarySet.getAncillaryData())
+                            // Split the ancillary data into the column
+                            // name and row number (each with an
+                            // identifier, which are ignored)
+                            String[] parts = ancillaryData.getName().split(":");
+                            String columnName = parts[1].trim();
+                            int row = Integer.valueOf(parts[3].trim());
+
+                            // Get the column index for the column
+                            // described in the ancillary data
+                            int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
+
+                            // Check if the column exists in the table type
+                            // definition
+                            if (column != -1)
                             {
-                                // Split the ancillary data into the column
-                                // name and row number (each with an
-                                // identifier, which are ignored)
-                                String[] parts = ancillaryData.getName().split(":");
-                                String columnName = parts[1].trim();
-                                int row = Integer.valueOf(parts[3].trim());
-
-                                // Get the column index for the column
-                                // described in the ancillary data
-                                int column = typeDefn.getVisibleColumnIndexByUserName(columnName);
-
-                                // Check if the column exists in the table type
-                                // definition
-                                if (column != -1)
-                                {
-                                    // Check if the cell hasn't already been
-                                    // populated by other command metadata
-                                    // (except for the data type)
-                                    if (tableDefn.getData().get(row
-                                                                * numColumns
-                                                                + column).isEmpty()
-                                        || column == commandArguments.get(cmdArgIndex).getDataType())
-                                    {
-                                        // Update the table data at the row and
-                                        // column specified with the value from
-                                        // the ancillary data
-                                        tableDefn.getData().set(row
-                                                                * numColumns
-                                                                + column,
-                                                                ancillaryData.getValue());
-                                    }
-                                }
-                                // The column doesn't exist
-                                else
+                                // Check if the cell hasn't already been
+                                // populated by other command metadata
+                                // (except for the data type)
+                                if (tableDefn.getData().get(row
+                                                            * numColumns
+                                                            + column).isEmpty()
+                                    || column == commandArguments.get(cmdArgIndex).getDataType())
                                 {
-                                    // Get user confirmation to continue or
-                                    // stop the import
-                                    continueOnColumnError = confirmContinue(continueOnColumnError,
-                                                                            columnName,
-                                                                            tableDefn.getName(),
-                                                                            importFileName);
+                                    // Update the table data at the row and
+                                    // column specified with the value from
+                                    // the ancillary data
+                                    tableDefn.getData().set(row
+                                                            * numColumns
+                                                            + column,
+                                                            ancillaryData.getValue());
                                 }
                             }
+                            // The column doesn't exist
+                            else
+                            {
+                                // Get user confirmation to continue or
+                                // stop the import
+                                continueOnColumnError = confirmContinue(continueOnColumnError,
+                                                                        columnName,
+                                                                        tableDefn.getName(),
+                                                                        importFileName);
+                            }
                         }
                     }
                 }
             }
-
-            // Add the table definition to the list
-            tableDefinitions.add(tableDefn);
-
-            // Check if the data from all tables is to be read
-            if (importType == ImportType.IMPORT_ALL)
-            {
-                // Process this child system's children, if any
-                unbuildSpaceSystems(childSystem,
-                                    systemName,
-                                    importType,
-                                    importFileName);
-            }
         }
+
+        return tableDefn;
     }
 
     /**************************************************************************
@@ -2070,6 +2606,16 @@ public class CcddXTCEHandler implements CcddImportExportInterface
      * 
      * @param descColumn
      *            description column index; -1 if none exists
+     * 
+     * @throws JAXBException
+     *             If an error occurs marshalling a table space system to its
+     *             temporary file
+     * 
+     * @throws XMLStreamException
+     *             If an error occurs writing a temporary file
+     * 
+     * @throws IOException
+     *             If a temporary file can't be created
      *************************************************************************/
     private void buildSpaceSystems(String[] tableNames,
                                    SpaceSystemType parentSystem,
@@ -2080,7 +2626,9 @@ public class CcddXTCEHandler implements CcddImportExportInterface
                                    int bitColumn,
                                    int enumColumn,
                                    int unitsColumn,
-                                   int descColumn)
+                                   int descColumn) throws JAXBException,
+                                                   XMLStreamException,
+                                                   IOException
     {
         // Step through each table name
         for (String tableName : tableNames)
@@ -2176,20 +2724,25 @@ public class CcddXTCEHandler implements CcddImportExportInterface
                     }
 
                     // Search the existing space systems for one with this name
-                    SpaceSystemType existingSystem = getSpaceSystemByName(systemName);
-
-                    // Set the parent system to the existing system if found,
-                    // else create a new space system using the system name
-                    // from the table's data field
-                    parentSystem = (existingSystem == null)
-                                                           ? addSpaceSystem(parentSystem,
-                                                                            systemName,
-                                                                            null,
-                                                                            classification2Attr,
-                                                                            validationStatusAttr,
-                                                                            versionAttr,
-                                                                            null)
-                                                           : existingSystem;
+                    SpaceSystemType systemSpace = getSpaceSystemByName(systemName);
+
+                    // Check if no space system exists with this name
+                    if (systemSpace == null)
+                    {
+                        // Create a new space system using the system name from
+                        // the table's data field. The system space systems are
+                        // children of the root space system
+                        systemSpace = addSpaceSystem(project.getValue(),
+                                                     systemName,
+                                                     null,
+                                                     classification2Attr,
+                                                     validationStatusAttr,
+                                                     versionAttr,
+                                                     null);
+                    }
+
+                    // Set the parent system to the system's space system
+                    parentSystem = systemSpace;
 
                     // Create a list to contain the additional table
                     // information; e.g., the table's type and data field names
@@ -2304,11 +2857,70 @@ public class CcddXTCEHandler implements CcddImportExportInterface
                                                           otherData);
                         }
                     }
+
+                    // Check if the export is streamed
+                    if (systemFragmentFiles != null)
+                    {
+                        // Output the table's space system to the system's
+                        // temporary file and release it
+                        writeTableSpaceSystem(systemSpace, parentSystem);
+                    }
                 }
             }
         }
     }
 
+    /**************************************************************************
+     * Write the specified table space system to its system's temporary file
+     * and remove it from the system and the space system index so that the
+     * memory used by the table's space system is released
+     * 
+     * @param systemSpace
+     *            system space system to which the table belongs
+     * 
+     * @param tableSystem
+     *            table space system to output
+     * 
+     * @throws JAXBException
+     *             If an error occurs marshalling the table space system
+     * 
+     * @throws XMLStreamException
+     *             If the temporary file's XML writer can't be created
+     * 
+     * @throws IOException
+     *             If the temporary file can't be created
+     *************************************************************************/
+    private void writeTableSpaceSystem(SpaceSystemType systemSpace,
+                                       SpaceSystemType tableSystem) throws JAXBException,
+                                                                    XMLStreamException,
+                                                                    IOException
+    {
+        // Get the temporary file for the system's table space systems
+        SystemFragmentFile fragmentFile = systemFragmentFiles.get(systemSpace.getName());
+
+        // Check if this is the first table space system for the system
+        if (fragmentFile == null)
+        {
+            // Create the temporary file and add it to the map
+            fragmentFile = new SystemFragmentFile();
+            systemFragmentFiles.put(systemSpace.getName(), fragmentFile);
+        }
+
+        // Output the table space system to the temporary file
+        fragmentMarshaller.marshal(factory.createSpaceSystem(tableSystem),
+                                   fragmentFile.writer);
+
+        // Remove the table space system from its system
+        systemSpace.getSpaceSystem().remove(tableSystem);
+
+        // Check if the index references this table space system
+        if (spaceSystemIndex.get(tableSystem.getName()) == tableSystem)
+        {
+            // Remove the table space system from the index
+            spaceSystemIndex.remove(tableSystem.getName());
+        }
+    }
+
     /**************************************************************************
      * Store the specified table's data field names and values into the
      * supplied list
@@ -2421,78 +3033,30 @@ public class CcddXTCEHandler implements CcddImportExportInterface
             subsystem.setAncillaryDataSet(storeOtherAttributes(otherAttrs));
         }
 
+        // Check if no space system with this name has been added
+        if (!spaceSystemIndex.containsKey(subsystemName))
+        {
+            // Add the space system to the index so that it can be located by
+            // name
+            spaceSystemIndex.put(subsystemName, subsystem);
+        }
+
         return subsystem;
     }
 
     /**************************************************************************
-     * Get the reference to the space system with the specified name, starting
-     * at the root space system
+     * Get the reference to the space system with the specified name. If more
+     * than one space system has the name then the first one added is returned
      * 
      * @param systemName
-     *            name to search for within the space system hierarchy
+     *            name of the space system to locate
      * 
      * @return Reference to the space system with the same name as the search
      *         name; null if no space system name matches the search name
      *************************************************************************/
     private SpaceSystemType getSpaceSystemByName(String systemName)
     {
-        // Search the space system hierarchy, beginning at the root system
-        return searchSpaceSystemsForName(systemName,
-                                         project.getValue(),
-                                         null);
-    }
-
-    /**************************************************************************
-     * Recursively search through the space system tree for the space system
-     * with the same name as the search name
-     * 
-     * @param systemName
-     *            name to search for within the space system hierarchy
-     * 
-     * @param system
-     *            current space system to check
-     * 
-     * @param foundSystem
-     *            space system that matches the search name; null if no match
-     *            has been found
-     * 
-     * @return Reference to the space system with the same name as the search
-     *         name; null if no space system name matches the search name
-     *************************************************************************/
-    private SpaceSystemType searchSpaceSystemsForName(String systemName,
-                                                      SpaceSystemType system,
-                                                      SpaceSystemType foundSystem)
-    {
-        // Check if the space system hasn't been found
-        if (foundSystem == null)
-        {
-            // Check if the current system's name matches the search name
-            if (system.getName().equals(systemName))
-            {
-                // Store the reference to the matching system
-                foundSystem = system;
-            }
-            // Check if the space system has subsystems
-            else if (!system.getSpaceSystem().isEmpty())
-            {
-                // Step through each subsystem
-                for (SpaceSystemType sys : system.getSpaceSystem())
-                {
-                    // Search the subsystem (and its subsystems, if any) for a
-                    // match
-                    foundSystem = searchSpaceSystemsForName(systemName, sys, null);
-
-                    // Check if a system with a matching name was found
-                    if (foundSystem != null)
-                    {
-                        // Stop searching
-                        break;
-                    }
-                }
-            }
-        }
-
-        return foundSystem;
+        return spaceSystemIndex.get(systemName);
     }
 
     /**************************************************************************